@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2016 IBM Corporation and others.
+ * Copyright (c) 2006, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -17,6 +17,7 @@
 
 package org.eclipse.core.databinding.observable;
 
+import org.eclipse.core.internal.databinding.observable.ComputedScheduler;
 import org.eclipse.core.runtime.Assert;
 import org.eclipse.core.runtime.ListenerList;
 
@@ -111,11 +112,35 @@ import org.eclipse.core.runtime.ListenerList;
 	}
 
 	protected void fireEvent(ObservableEvent event) {
+		ComputedScheduler scheduler = ComputedScheduler.getCurrent();
+		ChangeTransaction transaction = realm.transaction;
+		if (transaction != null && !scheduler.isInvalidation(event) && transaction.defer(this, event)) {
+			return;
+		}
+		scheduler.beginChange();
+		try {
+			dispatch(event);
+		} finally {
+			scheduler.endChange();
+		}
+	}
+
+	/**
+	 * Notifies the listeners of the event.
+	 *
+	 * @param event the event
+	 */
+	/* package */void dispatch(ObservableEvent event) {
 		Object listenerType = event.getListenerType();
 		int listenerTypeIndex = findListenerTypeIndex(listenerType);
 		if (listenerTypeIndex != -1) {
+			// change events of computed observables reach the dependent
+			// computed observables before the other listeners
+			ComputedScheduler scheduler = listenerType == ChangeEvent.TYPE ? ComputedScheduler.getCurrent() : null;
 			for (IObservablesListener listener : listenerLists[listenerTypeIndex]) {
-				event.dispatch(listener);
+				if (scheduler == null || scheduler.isNotified(event, listener)) {
+					event.dispatch(listener);
+				}
 			}
 		}
 	}
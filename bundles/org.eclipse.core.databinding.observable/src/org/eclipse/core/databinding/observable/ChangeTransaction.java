@@ -0,0 +1,310 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.core.databinding.observable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import org.eclipse.core.databinding.observable.list.IObservableList;
+import org.eclipse.core.databinding.observable.list.ListChangeEvent;
+import org.eclipse.core.databinding.observable.list.ListDiffEntry;
+import org.eclipse.core.databinding.observable.map.IObservableMap;
+import org.eclipse.core.databinding.observable.map.MapChangeEvent;
+import org.eclipse.core.databinding.observable.map.MapDiff;
+import org.eclipse.core.databinding.observable.set.IObservableSet;
+import org.eclipse.core.databinding.observable.set.SetChangeEvent;
+import org.eclipse.core.databinding.observable.value.IObservableValue;
+import org.eclipse.core.databinding.observable.value.ValueChangeEvent;
+import org.eclipse.core.internal.databinding.observable.ComputedScheduler;
+
+/**
+ * The events deferred by a transaction of a {@link Realm}, see
+ * {@link Realm#runTransaction(Runnable)}.
+ * <p>
+ * The events of one observable and listener type are merged into one event:
+ * list diffs are concatenated, set and map diffs are composed into the net
+ * change, value diffs keep the first old and the last new value, and change and
+ * stale events are only fired once. Events of other classes, like vetoable
+ * value changing events and dispose events, are not deferred.
+ */
+/* package */final class ChangeTransaction {
+
+	/**
+	 * Compares the manager by identity, observable collections are equal to
+	 * other collections with the same content.
+	 */
+	private record Key(ChangeManager manager, Object listenerType) {
+		@Override
+		public boolean equals(Object obj) {
+			return obj instanceof Key other && manager == other.manager && listenerType == other.listenerType;
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * System.identityHashCode(manager) + System.identityHashCode(listenerType);
+		}
+	}
+
+	/**
+	 * The thread running the transaction. Observables of the realm may fire
+	 * events on other threads if the realm is based on holding a lock.
+	 */
+	private final Thread thread = Thread.currentThread();
+
+	private final Map<Key, ObservableEvent> events = new LinkedHashMap<>();
+
+	/** The events merged from several events, which may describe no change */
+	private final Set<ObservableEvent> mergedEvents = new HashSet<>();
+
+	/* package */boolean isOwner() {
+		return thread == Thread.currentThread();
+	}
+
+	/**
+	 * Defers the given event until the transaction ends.
+	 *
+	 * @param manager the change manager firing the event
+	 * @param event   the event
+	 * @return <code>true</code> if the event was deferred, <code>false</code> if
+	 *         it has to be fired now
+	 */
+	/* package */boolean defer(ChangeManager manager, ObservableEvent event) {
+		if (!isOwner() || !isMergeable(event)) {
+			return false;
+		}
+		Key key = new Key(manager, event.getListenerType());
+		ObservableEvent previous = events.get(key);
+		if (previous == null) {
+			events.put(key, event);
+		} else {
+			ObservableEvent merged = merge(previous, event);
+			events.put(key, merged);
+			mergedEvents.add(merged);
+		}
+		return true;
+	}
+
+	private static boolean isMergeable(ObservableEvent event) {
+		Class<?> eventClass = event.getClass();
+		return eventClass == ChangeEvent.class || eventClass == StaleEvent.class
+				|| eventClass == ListChangeEvent.class || eventClass == SetChangeEvent.class
+				|| eventClass == MapChangeEvent.class || eventClass == ValueChangeEvent.class;
+	}
+
+	/**
+	 * Fires the deferred events.
+	 */
+	/* package */void commit() {
+		// computed observables are notified after all events
+		ComputedScheduler scheduler = ComputedScheduler.getCurrent();
+		scheduler.beginChange();
+		try {
+			Set<ChangeManager> unchanged = getUnchangedManagers();
+			for (Map.Entry<Key, ObservableEvent> entry : events.entrySet()) {
+				ChangeManager manager = entry.getKey().manager();
+				ObservableEvent event = entry.getValue();
+				if (isCancelled(event)) {
+					continue;
+				}
+				if (unchanged.contains(manager)) {
+					// the untyped events of an observable that did not change
+					Class<?> eventClass = event.getClass();
+					if (eventClass == ChangeEvent.class
+							|| eventClass == StaleEvent.class && !event.getObservable().isStale()) {
+						continue;
+					}
+				}
+				manager.dispatch(event);
+			}
+		} finally {
+			scheduler.endChange();
+		}
+	}
+
+	/**
+	 * Returns the change managers whose typed events all cancel each other out.
+	 */
+	private Set<ChangeManager> getUnchangedManagers() {
+		// observable collections are equal to other collections with the same
+		// content
+		Set<ChangeManager> unchanged = Collections.newSetFromMap(new IdentityHashMap<>());
+		Set<ChangeManager> changed = Collections.newSetFromMap(new IdentityHashMap<>());
+		for (Map.Entry<Key, ObservableEvent> entry : events.entrySet()) {
+			ObservableEvent event = entry.getValue();
+			Class<?> eventClass = event.getClass();
+			if (eventClass == ChangeEvent.class || eventClass == StaleEvent.class) {
+				continue;
+			}
+			if (isCancelled(event)) {
+				unchanged.add(entry.getKey().manager());
+			} else {
+				changed.add(entry.getKey().manager());
+			}
+		}
+		unchanged.removeAll(changed);
+		return unchanged;
+	}
+
+	private boolean isCancelled(ObservableEvent event) {
+		return mergedEvents.contains(event) && isEmpty(event);
+	}
+
+	private static ObservableEvent merge(ObservableEvent first, ObservableEvent second) {
+		if (first instanceof ListChangeEvent) {
+			return mergeList((ListChangeEvent<?>) first, (ListChangeEvent<?>) second);
+		} else if (first instanceof SetChangeEvent) {
+			return mergeSet((SetChangeEvent<?>) first, (SetChangeEvent<?>) second);
+		} else if (first instanceof MapChangeEvent) {
+			return mergeMap((MapChangeEvent<?, ?>) first, (MapChangeEvent<?, ?>) second);
+		} else if (first instanceof ValueChangeEvent) {
+			return mergeValue((ValueChangeEvent<?>) first, (ValueChangeEvent<?>) second);
+		}
+		// change and stale events carry no information but their source
+		return first;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <E> ListChangeEvent<E> mergeList(ListChangeEvent<E> first, ListChangeEvent<?> second) {
+		List<ListDiffEntry<E>> differences = new ArrayList<>(Arrays.asList(first.diff.getDifferences()));
+		differences.addAll(Arrays.asList(((ListChangeEvent<E>) second).diff.getDifferences()));
+		return new ListChangeEvent<>((IObservableList<E>) first.getObservableList(),
+				Diffs.createListDiff(differences));
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <E> SetChangeEvent<E> mergeSet(SetChangeEvent<E> first, SetChangeEvent<?> second) {
+		SetChangeEvent<E> last = (SetChangeEvent<E>) second;
+		Set<E> additions = new HashSet<>(first.diff.getAdditions());
+		Set<E> removals = new HashSet<>(first.diff.getRemovals());
+		for (E element : last.diff.getRemovals()) {
+			// an element added and removed again was never there
+			if (!additions.remove(element)) {
+				removals.add(element);
+			}
+		}
+		for (E element : last.diff.getAdditions()) {
+			// an element removed and added again is still there
+			if (!removals.remove(element)) {
+				additions.add(element);
+			}
+		}
+		return new SetChangeEvent<>((IObservableSet<E>) first.getObservableSet(),
+				Diffs.createSetDiff(additions, removals));
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <K, V> MapChangeEvent<K, V> mergeMap(MapChangeEvent<K, V> first, MapChangeEvent<?, ?> second) {
+		MapDiff<K, V> firstDiff = first.diff;
+		MapDiff<K, V> lastDiff = ((MapChangeEvent<K, V>) second).diff;
+		// the state of every key before the first and after the last diff
+		Map<K, V> oldValues = new LinkedHashMap<>();
+		Map<K, V> newValues = new LinkedHashMap<>();
+		Set<K> oldKeys = new HashSet<>();
+		Set<K> newKeys = new HashSet<>();
+		collectStates(firstDiff, oldValues, newValues, oldKeys, newKeys);
+		Map<K, V> lastOldValues = new LinkedHashMap<>();
+		Map<K, V> lastNewValues = new LinkedHashMap<>();
+		Set<K> lastOldKeys = new HashSet<>();
+		Set<K> lastNewKeys = new HashSet<>();
+		collectStates(lastDiff, lastOldValues, lastNewValues, lastOldKeys, lastNewKeys);
+		for (K key : lastOldValues.keySet()) {
+			if (!oldValues.containsKey(key)) {
+				oldValues.put(key, lastOldValues.get(key));
+				if (lastOldKeys.contains(key)) {
+					oldKeys.add(key);
+				}
+			}
+			newValues.put(key, lastNewValues.get(key));
+			if (lastNewKeys.contains(key)) {
+				newKeys.add(key);
+			} else {
+				newKeys.remove(key);
+			}
+		}
+
+		Set<K> addedKeys = new HashSet<>();
+		Set<K> removedKeys = new HashSet<>();
+		Set<K> changedKeys = new HashSet<>();
+		for (K key : oldValues.keySet()) {
+			boolean wasThere = oldKeys.contains(key);
+			boolean isThere = newKeys.contains(key);
+			if (!wasThere && isThere) {
+				addedKeys.add(key);
+			} else if (wasThere && !isThere) {
+				removedKeys.add(key);
+			} else if (wasThere && !Objects.equals(oldValues.get(key), newValues.get(key))) {
+				changedKeys.add(key);
+			}
+		}
+		return new MapChangeEvent<>((IObservableMap<K, V>) first.getObservableMap(),
+				Diffs.createMapDiff(addedKeys, removedKeys, changedKeys, oldValues, newValues));
+	}
+
+	/**
+	 * Collects for every key of the diff its value before and after the diff,
+	 * and whether it was in the map before and after the diff.
+	 */
+	private static <K, V> void collectStates(MapDiff<K, V> diff, Map<K, V> oldValues, Map<K, V> newValues,
+			Set<K> oldKeys, Set<K> newKeys) {
+		for (K key : diff.getAddedKeys()) {
+			oldValues.put(key, null);
+			newValues.put(key, diff.getNewValue(key));
+			newKeys.add(key);
+		}
+		for (K key : diff.getRemovedKeys()) {
+			oldValues.put(key, diff.getOldValue(key));
+			newValues.put(key, null);
+			oldKeys.add(key);
+		}
+		for (K key : diff.getChangedKeys()) {
+			oldValues.put(key, diff.getOldValue(key));
+			newValues.put(key, diff.getNewValue(key));
+			oldKeys.add(key);
+			newKeys.add(key);
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T> ValueChangeEvent<T> mergeValue(ValueChangeEvent<T> first, ValueChangeEvent<?> second) {
+		ValueChangeEvent<T> last = (ValueChangeEvent<T>) second;
+		return new ValueChangeEvent<>((IObservableValue<T>) first.getObservableValue(),
+				Diffs.createValueDiff(first.diff.getOldValue(), last.diff.getNewValue()));
+	}
+
+	/**
+	 * Returns whether the changes of a merged event cancel each other out.
+	 */
+	private static boolean isEmpty(ObservableEvent event) {
+		if (event instanceof ListChangeEvent) {
+			return ((ListChangeEvent<?>) event).diff.isEmpty();
+		} else if (event instanceof SetChangeEvent) {
+			return ((SetChangeEvent<?>) event).diff.isEmpty();
+		} else if (event instanceof MapChangeEvent) {
+			return ((MapChangeEvent<?, ?>) event).diff.isEmpty();
+		} else if (event instanceof ValueChangeEvent) {
+			ValueChangeEvent<?> valueEvent = (ValueChangeEvent<?>) event;
+			return Objects.equals(valueEvent.diff.getOldValue(), valueEvent.diff.getNewValue());
+		}
+		return false;
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2015 IBM Corporation and others.
+ * Copyright (c) 2006, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -32,6 +32,7 @@ import org.eclipse.core.databinding.observable.list.ListDiffEntry;
 import org.eclipse.core.databinding.observable.map.MapDiff;
 import org.eclipse.core.databinding.observable.set.SetDiff;
 import org.eclipse.core.databinding.observable.value.ValueDiff;
+import org.eclipse.core.internal.databinding.observable.MyersListDiff;
 
 /**
  * @since 1.0
@@ -262,6 +263,29 @@ public class Diffs {
 		};
 	}
 
+	/**
+	 * Returns a {@link ListDiff} with the minimal number of additions and
+	 * removals that transform the specified old list state into the new one.
+	 * <p>
+	 * {@link #computeListDiff(List, List)} searches the lists for every element
+	 * that differs, which is slow on long lists with many changes. This method
+	 * skips the common prefix and suffix and uses Myers' difference algorithm on
+	 * the rest, which takes time proportional to the size of the lists times the
+	 * number of changed elements. The returned diff does not describe moves, a
+	 * moved element is removed from its old position and added at the new one.
+	 * </p>
+	 *
+	 * @param <E>     the list element type
+	 *
+	 * @param oldList the old list state
+	 * @param newList the new list state
+	 * @return the differences between oldList and newList
+	 * @since 1.14
+	 */
+	public static <E> ListDiff<E> computeMinimalListDiff(List<? extends E> oldList, List<? extends E> newList) {
+		return createListDiff(MyersListDiff.computeDifferences(oldList, newList));
+	}
+
 	/**
 	 * adapted from EMF's ListDifferenceAnalyzer
 	 */
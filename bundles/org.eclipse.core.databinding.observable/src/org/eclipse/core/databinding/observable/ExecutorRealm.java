@@ -0,0 +1,154 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.core.databinding.observable;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A realm whose runnables are run one after another by a single thread that
+ * is not the UI thread. Observables in this realm can do expensive work, like
+ * conversions, validations and computed values, without blocking the UI.
+ * <p>
+ * The realm is the default realm of its thread. Use
+ * {@link Observables#bridgeValue(Realm, org.eclipse.core.databinding.observable.value.IObservableValue)}
+ * and
+ * {@link Observables#bridgeList(Realm, org.eclipse.core.databinding.observable.list.IObservableList)}
+ * to observe the results in the UI realm.
+ * </p>
+ * <p>
+ * The thread is created by the given thread factory when the first runnable
+ * is executed, and is replaced by a new one if it terminates. On Java 21 and
+ * later, a factory of virtual threads like
+ * <code>Thread.ofVirtual().factory()</code> can be passed. Call
+ * {@link #dispose()} to stop the thread.
+ * </p>
+ *
+ * @since 1.14
+ */
+public class ExecutorRealm extends Realm {
+
+	private final ScheduledExecutorService executor;
+
+	private volatile Thread thread;
+
+	/**
+	 * Creates a realm running on a daemon platform thread with the given name.
+	 *
+	 * @param name
+	 *            the name of the thread
+	 */
+	public ExecutorRealm(String name) {
+		this(runnable -> {
+			Thread newThread = new Thread(runnable, name);
+			newThread.setDaemon(true);
+			return newThread;
+		});
+	}
+
+	/**
+	 * Creates a realm running on a thread created by the given factory.
+	 *
+	 * @param threadFactory
+	 *            the factory of the thread
+	 */
+	public ExecutorRealm(ThreadFactory threadFactory) {
+		executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread newThread = threadFactory.newThread(() -> runWithDefault(this, runnable));
+			thread = newThread;
+			return newThread;
+		});
+	}
+
+	@Override
+	public boolean isCurrent() {
+		return Thread.currentThread() == thread;
+	}
+
+	@Override
+	public void asyncExec(Runnable runnable) {
+		try {
+			executor.execute(() -> safeRun(runnable));
+		} catch (RejectedExecutionException e) {
+			// the realm is disposed
+		}
+	}
+
+	@Override
+	public void timerExec(int milliseconds, Runnable runnable) {
+		if (milliseconds < 0) {
+			return;
+		}
+		try {
+			executor.schedule(() -> safeRun(runnable), milliseconds, TimeUnit.MILLISECONDS);
+		} catch (RejectedExecutionException e) {
+			// the realm is disposed
+		}
+	}
+
+	/**
+	 * Runs the given runnable in this realm and waits until it has completed.
+	 * The runnable is run immediately if this realm is current.
+	 */
+	@Override
+	protected void syncExec(Runnable runnable) {
+		if (isCurrent()) {
+			safeRun(runnable);
+			return;
+		}
+		Future<?> future;
+		try {
+			future = executor.submit(() -> safeRun(runnable));
+		} catch (RejectedExecutionException e) {
+			// the realm is disposed
+			return;
+		}
+		boolean interrupted = false;
+		while (true) {
+			try {
+				future.get();
+				break;
+			} catch (InterruptedException e) {
+				interrupted = true;
+			} catch (ExecutionException e) {
+				// cannot happen, the runnable is run safely
+				break;
+			}
+		}
+		if (interrupted) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * Stops the thread of this realm after the runnables already executed in
+	 * it have completed. Runnables executed later are ignored.
+	 */
+	public void dispose() {
+		executor.shutdown();
+	}
+
+	/**
+	 * @return whether {@link #dispose()} has been called
+	 */
+	public boolean isDisposed() {
+		return executor.isShutdown();
+	}
+}
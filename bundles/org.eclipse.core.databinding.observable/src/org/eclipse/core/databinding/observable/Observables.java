@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2019 Cerner Corporation and others.
+ * Copyright (c) 2006, 2026 Cerner Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -39,6 +39,8 @@ import org.eclipse.core.databinding.observable.value.DecoratingObservableValue;
 import org.eclipse.core.databinding.observable.value.IObservableValue;
 import org.eclipse.core.databinding.observable.value.IVetoableValue;
 import org.eclipse.core.databinding.observable.value.ValueChangingEvent;
+import org.eclipse.core.internal.databinding.observable.BridgedObservableList;
+import org.eclipse.core.internal.databinding.observable.BridgedObservableValue;
 import org.eclipse.core.internal.databinding.observable.ConstantObservableValue;
 import org.eclipse.core.internal.databinding.observable.DelayedObservableValue;
 import org.eclipse.core.internal.databinding.observable.EmptyObservableList;
@@ -783,4 +785,53 @@ public class Observables {
 		destination.setValue(source.getValue());
 		source.addValueChangeListener(event -> destination.setValue(event.diff.getNewValue()));
 	}
+
+	/**
+	 * Returns an observable value in the given realm that follows the given
+	 * observable value of another realm, like an {@link ExecutorRealm}. The
+	 * changes of the source are marshalled into the given realm in batches: all
+	 * changes made before the realm runs the update are fired as one value
+	 * change event with the latest value.
+	 * <p>
+	 * The returned observable is stale until the value of the source has
+	 * arrived. Setting its value sets the value of the source asynchronously
+	 * in the realm of the source. It must be disposed to stop listening to the
+	 * source.
+	 *
+	 * @param <T>
+	 *            the value type
+	 * @param realm
+	 *            the realm of the returned observable
+	 * @param source
+	 *            the observable value to follow
+	 * @return an observable value in the given realm following the source
+	 * @since 1.14
+	 */
+	public static <T> IObservableValue<T> bridgeValue(Realm realm, IObservableValue<T> source) {
+		return new BridgedObservableValue<>(realm, source);
+	}
+
+	/**
+	 * Returns an unmodifiable observable list in the given realm that follows
+	 * the given observable list of another realm, like an
+	 * {@link ExecutorRealm}. The diffs of the source are marshalled into the
+	 * given realm in batches: all diffs made before the realm runs the update
+	 * are fired as one list change event.
+	 * <p>
+	 * The returned observable is empty and stale until the elements of the
+	 * source have arrived. It must be disposed to stop listening to the
+	 * source.
+	 *
+	 * @param <E>
+	 *            the element type
+	 * @param realm
+	 *            the realm of the returned observable
+	 * @param source
+	 *            the observable list to follow
+	 * @return an observable list in the given realm following the source
+	 * @since 1.14
+	 */
+	public static <E> IObservableList<E> bridgeList(Realm realm, IObservableList<E> source) {
+		return new BridgedObservableList<>(realm, source);
+	}
 }
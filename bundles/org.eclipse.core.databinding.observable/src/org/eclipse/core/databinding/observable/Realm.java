@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2015 IBM Corporation and others.
+ * Copyright (c) 2006, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -128,6 +128,9 @@ public abstract class Realm {
 
 	Queue workQueue = new Queue();
 
+	/** The running transaction, see {@link #runTransaction(Runnable)} */
+	ChangeTransaction transaction;
+
 	/**
 	 * Runs the given runnable. If an exception occurs within the runnable, it is
 	 * logged and not re-thrown. If the runnable implements {@link ISafeRunnable},
@@ -324,6 +327,50 @@ public abstract class Realm {
 		}
 	}
 
+	/**
+	 * Runs the given runnable as a transaction of this realm. The observables of
+	 * this realm do not notify their listeners while the runnable runs. When it
+	 * has completed, every observable that changed fires one event of each type,
+	 * with the changes of the whole transaction merged into one diff. Listeners,
+	 * computed observables and side effects therefore react once to a bulk
+	 * update instead of once for every single change.
+	 * <p>
+	 * As a consequence, code depending on these events sees stale state until
+	 * the transaction commits: computed observables keep returning the value
+	 * they computed before the transaction, and listeners, bindings and
+	 * observables derived from changed observables are not updated before the
+	 * runnable has completed. The runnable itself must therefore only read
+	 * the observables it changes, not values computed from them.
+	 * </p>
+	 * <p>
+	 * Events of vetoable values and dispose events are not deferred. A
+	 * transaction started within a transaction is part of the outer
+	 * transaction, the events are fired when the outer transaction completes.
+	 * The events are fired even if the runnable throws an exception.
+	 * </p>
+	 * <p>
+	 * This method must be called from within this realm.
+	 * </p>
+	 *
+	 * @param runnable {@link Runnable} to execute
+	 * @since 1.14
+	 */
+	public void runTransaction(Runnable runnable) {
+		ChangeTransaction outer = transaction;
+		if (outer != null && outer.isOwner()) {
+			runnable.run();
+			return;
+		}
+		ChangeTransaction current = new ChangeTransaction();
+		transaction = current;
+		try {
+			runnable.run();
+		} finally {
+			transaction = outer;
+			current.commit();
+		}
+	}
+
 	/**
 	 * Sets the provided <code>realm</code> as the default for the duration of
 	 * {@link Runnable#run()} and resets the previous realm after completion.
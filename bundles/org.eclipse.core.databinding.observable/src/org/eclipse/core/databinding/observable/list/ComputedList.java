@@ -1,5 +1,5 @@
 /************************************************************************************************************
- * Copyright (c) 2007, 2017 Matthew Hall and others.
+ * Copyright (c) 2007, 2026 Matthew Hall and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -32,6 +32,7 @@ import org.eclipse.core.databinding.observable.ObservableTracker;
 import org.eclipse.core.databinding.observable.Realm;
 import org.eclipse.core.databinding.observable.StaleEvent;
 import org.eclipse.core.databinding.observable.value.IObservableValue;
+import org.eclipse.core.internal.databinding.observable.ComputedScheduler;
 
 /**
  * A lazily calculated list that automatically computes and registers listeners
@@ -85,6 +86,9 @@ import org.eclipse.core.databinding.observable.value.IObservableValue;
 public abstract class ComputedList<E> extends AbstractObservableList<E> {
 	private List<E> cachedList = new ArrayList<>();
 
+	/** The list before the change the listeners have not been notified of */
+	private List<E> oldList;
+
 	private boolean dirty = true;
 	private boolean stale = false;
 
@@ -178,8 +182,8 @@ public abstract class ComputedList<E> extends AbstractObservableList<E> {
 	 * The IChangeListener is attached to every dependency.
 	 * </p>
 	 */
-	private class PrivateInterface implements Runnable, IChangeListener,
-			IStaleListener {
+	private class PrivateInterface extends ComputedScheduler.Node
+			implements Runnable, IChangeListener, IStaleListener {
 		@Override
 		public void run() {
 			cachedList = calculate();
@@ -197,6 +201,21 @@ public abstract class ComputedList<E> extends AbstractObservableList<E> {
 		public void handleChange(ChangeEvent event) {
 			makeDirty();
 		}
+
+		@Override
+		protected IObservable getObservable() {
+			return ComputedList.this;
+		}
+
+		@Override
+		protected void fireChange() {
+			ComputedList.this.fireChange();
+		}
+
+		@Override
+		protected void fire() {
+			fireDirty();
+		}
 	}
 
 	private PrivateInterface privateInterface = new PrivateInterface();
@@ -271,26 +290,41 @@ public abstract class ComputedList<E> extends AbstractObservableList<E> {
 		if (!dirty) {
 			dirty = true;
 
+			// copy the old list, unless the listeners have not been notified of
+			// the previous change yet
+			if (!privateInterface.isScheduled()) {
+				oldList = new ArrayList<>(cachedList);
+			}
+
 			makeStale();
 
 			stopListening();
 
-			// copy the old list
-			final List<E> oldList = new ArrayList<>(cachedList);
-			// Fire the "dirty" event. This implementation recomputes the new
-			// list lazily.
-			fireListChange(new ListDiff<E>() {
-				ListDiffEntry<E>[] differences;
-
-				@Override
-				public ListDiffEntry<E>[] getDifferences() {
-					if (differences == null) {
-						differences = Diffs.computeListDiff(oldList, getList()).getDifferences();
-					}
-					return differences;
-				}
-			});
+			// Invalidate the dependent computed observables now and notify
+			// the listeners once all of them are dirty
+			ComputedScheduler.getCurrent().invalidate(privateInterface);
+		}
+	}
+
+	private void fireDirty() {
+		if (isDisposed()) {
+			return;
 		}
+		final List<E> oldList = this.oldList;
+		this.oldList = null;
+		// Fire the "dirty" event. This implementation recomputes the new
+		// list lazily.
+		fireListChange(new ListDiff<E>() {
+			ListDiffEntry<E>[] differences;
+
+			@Override
+			public ListDiffEntry<E>[] getDifferences() {
+				if (differences == null) {
+					differences = Diffs.computeListDiff(oldList, getList()).getDifferences();
+				}
+				return differences;
+			}
+		});
 	}
 
 	private void stopListening() {
@@ -0,0 +1,106 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.core.databinding.observable.list;
+
+import org.eclipse.core.databinding.observable.Realm;
+
+/**
+ * An observable list of <code>boolean</code> elements, which can be read and
+ * modified without boxing.
+ * <p>
+ * The element type is {@link Boolean#TYPE}. The methods inherited from
+ * {@link IObservableList} box the elements, and do not accept
+ * <code>null</code>. Like all observable list methods, the methods of this
+ * interface must be invoked in the {@link Realm} of the observable.
+ * </p>
+ * <p>
+ * Change events carry boxed values, so the changed elements are boxed on
+ * every change while the observable has listeners. Bindings always listen to the observables they
+ * bind, so boxing is only avoided completely when the primitive methods are
+ * used on an observable without listeners.
+ * </p>
+ *
+ * @noimplement This interface is not intended to be implemented by clients.
+ *              Clients should instead subclass one of the classes that
+ *              implement this interface.
+ *
+ * @see WritableBooleanList
+ *
+ * @since 1.14
+ */
+public interface IObservableBooleanList extends IObservableList<Boolean> {
+
+	/**
+	 * @param index
+	 *            the index of the element to return
+	 * @return the element at the given index
+	 * @throws IndexOutOfBoundsException
+	 *             if the index is out of range
+	 *
+	 * @TrackedGetter
+	 */
+	public boolean getBoolean(int index);
+
+	/**
+	 * Replaces the element at the given index.
+	 *
+	 * @param index
+	 *            the index of the element to replace
+	 * @param element
+	 *            the new element
+	 * @return the element previously at the given index
+	 * @throws IndexOutOfBoundsException
+	 *             if the index is out of range
+	 */
+	public boolean setBoolean(int index, boolean element);
+
+	/**
+	 * Appends an element to the end of the list.
+	 *
+	 * @param element
+	 *            the element to add
+	 */
+	public void addBoolean(boolean element);
+
+	/**
+	 * Inserts an element at the given index.
+	 *
+	 * @param index
+	 *            the index at which to insert the element
+	 * @param element
+	 *            the element to add
+	 * @throws IndexOutOfBoundsException
+	 *             if the index is out of range
+	 */
+	public void addBoolean(int index, boolean element);
+
+	/**
+	 * Removes the element at the given index.
+	 *
+	 * @param index
+	 *            the index of the element to remove
+	 * @return the removed element
+	 * @throws IndexOutOfBoundsException
+	 *             if the index is out of range
+	 */
+	public boolean removeBoolean(int index);
+
+	/**
+	 * @return a new array containing the elements of the list
+	 *
+	 * @TrackedGetter
+	 */
+	public boolean[] toBooleanArray();
+}
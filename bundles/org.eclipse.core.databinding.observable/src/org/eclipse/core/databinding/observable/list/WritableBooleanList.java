@@ -0,0 +1,273 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.core.databinding.observable.list;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import org.eclipse.core.databinding.observable.Diffs;
+import org.eclipse.core.databinding.observable.ObservableTracker;
+import org.eclipse.core.databinding.observable.Realm;
+
+/**
+ * Mutable observable list of <code>boolean</code> elements backed by a
+ * <code>boolean</code> array. Elements are only boxed when they are accessed
+ * through the {@link java.util.List} methods or when a change event is fired
+ * to listeners.
+ *
+ * <p>
+ * This class is thread safe. All state accessing methods must be invoked from
+ * the {@link Realm#isCurrent() current realm}. Methods for adding and removing
+ * listeners may be invoked from any thread.
+ * </p>
+ *
+ * @since 1.14
+ */
+public class WritableBooleanList extends AbstractObservableList<Boolean> implements IObservableBooleanList {
+
+	private static final boolean[] EMPTY = new boolean[0];
+
+	private boolean[] elements;
+	private int size;
+
+	/**
+	 * Creates an empty writable list in the default realm.
+	 */
+	public WritableBooleanList() {
+		this(Realm.getDefault());
+	}
+
+	/**
+	 * Creates an empty writable list.
+	 *
+	 * @param realm
+	 *            the observable's realm
+	 */
+	public WritableBooleanList(Realm realm) {
+		this(realm, EMPTY);
+	}
+
+	/**
+	 * Creates a writable list containing a copy of the given elements.
+	 *
+	 * @param realm
+	 *            the observable's realm
+	 * @param elements
+	 *            the initial elements
+	 */
+	public WritableBooleanList(Realm realm, boolean[] elements) {
+		super(realm);
+		this.elements = elements.clone();
+		this.size = elements.length;
+	}
+
+	private void getterCalled() {
+		ObservableTracker.getterCalled(this);
+	}
+
+	@Override
+	protected int doGetSize() {
+		return size;
+	}
+
+	@Override
+	public Object getElementType() {
+		return Boolean.TYPE;
+	}
+
+	@Override
+	public boolean getBoolean(int index) {
+		getterCalled();
+		checkElementIndex(index);
+		return elements[index];
+	}
+
+	/**
+	 * @TrackedGetter
+	 */
+	@Override
+	public Boolean get(int index) {
+		return Boolean.valueOf(getBoolean(index));
+	}
+
+	@Override
+	public boolean[] toBooleanArray() {
+		getterCalled();
+		return Arrays.copyOf(elements, size);
+	}
+
+	@Override
+	public boolean setBoolean(int index, boolean element) {
+		checkRealm();
+		checkElementIndex(index);
+		boolean oldElement = elements[index];
+		elements[index] = element;
+		if (hasListeners()) {
+			fireListChange(Diffs.createListDiff(
+					Diffs.createListDiffEntry(index, false, Boolean.valueOf(oldElement)),
+					Diffs.createListDiffEntry(index, true, Boolean.valueOf(element))));
+		}
+		return oldElement;
+	}
+
+	@Override
+	public Boolean set(int index, Boolean element) {
+		return Boolean.valueOf(setBoolean(index, element.booleanValue()));
+	}
+
+	@Override
+	public void addBoolean(boolean element) {
+		addBoolean(size, element);
+	}
+
+	@Override
+	public void addBoolean(int index, boolean element) {
+		checkRealm();
+		checkPositionIndex(index);
+		ensureCapacity(size + 1);
+		System.arraycopy(elements, index, elements, index + 1, size - index);
+		elements[index] = element;
+		size++;
+		modCount++;
+		if (hasListeners()) {
+			fireListChange(Diffs.createListDiff(Diffs.createListDiffEntry(index, true, Boolean.valueOf(element))));
+		}
+	}
+
+	@Override
+	public boolean add(Boolean element) {
+		addBoolean(size, element.booleanValue());
+		return true;
+	}
+
+	@Override
+	public void add(int index, Boolean element) {
+		addBoolean(index, element.booleanValue());
+	}
+
+	@Override
+	public boolean addAll(Collection<? extends Boolean> c) {
+		return addAll(size, c);
+	}
+
+	@Override
+	public boolean addAll(int index, Collection<? extends Boolean> c) {
+		checkRealm();
+		checkPositionIndex(index);
+		int count = c.size();
+		if (count == 0) {
+			return false;
+		}
+		boolean[] added = new boolean[count];
+		int i = 0;
+		for (Boolean element : c) {
+			added[i++] = element.booleanValue();
+		}
+		ensureCapacity(size + count);
+		System.arraycopy(elements, index, elements, index + count, size - index);
+		System.arraycopy(added, 0, elements, index, count);
+		size += count;
+		modCount++;
+		if (hasListeners()) {
+			List<ListDiffEntry<Boolean>> entries = new ArrayList<>(count);
+			for (i = 0; i < count; i++) {
+				entries.add(Diffs.createListDiffEntry(index + i, true, Boolean.valueOf(added[i])));
+			}
+			fireListChange(Diffs.createListDiff(entries));
+		}
+		return true;
+	}
+
+	@Override
+	public boolean removeBoolean(int index) {
+		checkRealm();
+		checkElementIndex(index);
+		boolean oldElement = elements[index];
+		System.arraycopy(elements, index + 1, elements, index, size - index - 1);
+		size--;
+		modCount++;
+		if (hasListeners()) {
+			fireListChange(Diffs.createListDiff(Diffs.createListDiffEntry(index, false, Boolean.valueOf(oldElement))));
+		}
+		return oldElement;
+	}
+
+	@Override
+	public Boolean remove(int index) {
+		return Boolean.valueOf(removeBoolean(index));
+	}
+
+	@Override
+	public Boolean move(int oldIndex, int newIndex) {
+		checkRealm();
+		if (oldIndex < 0 || oldIndex >= size)
+			throw new IndexOutOfBoundsException(
+					"oldIndex: " + oldIndex + ", size:" + size); //$NON-NLS-1$ //$NON-NLS-2$
+		if (newIndex < 0 || newIndex >= size)
+			throw new IndexOutOfBoundsException(
+					"newIndex: " + newIndex + ", size:" + size); //$NON-NLS-1$ //$NON-NLS-2$
+		boolean element = elements[oldIndex];
+		if (oldIndex < newIndex) {
+			System.arraycopy(elements, oldIndex + 1, elements, oldIndex, newIndex - oldIndex);
+		} else if (oldIndex > newIndex) {
+			System.arraycopy(elements, newIndex, elements, newIndex + 1, oldIndex - newIndex);
+		}
+		elements[newIndex] = element;
+		Boolean boxed = Boolean.valueOf(element);
+		if (oldIndex != newIndex && hasListeners()) {
+			fireListChange(Diffs.createListDiff(
+					Diffs.createListDiffEntry(oldIndex, false, boxed),
+					Diffs.createListDiffEntry(newIndex, true, boxed)));
+		}
+		return boxed;
+	}
+
+	@Override
+	public void clear() {
+		checkRealm();
+		if (size == 0) {
+			return;
+		}
+		int oldSize = size;
+		size = 0;
+		modCount++;
+		if (hasListeners()) {
+			// removed from back to front, like WritableList does
+			List<ListDiffEntry<Boolean>> entries = new ArrayList<>(oldSize);
+			for (int i = oldSize - 1; i >= 0; i--) {
+				entries.add(Diffs.createListDiffEntry(i, false, Boolean.valueOf(elements[i])));
+			}
+			fireListChange(Diffs.createListDiff(entries));
+		}
+	}
+
+	private void ensureCapacity(int capacity) {
+		if (capacity > elements.length) {
+			elements = Arrays.copyOf(elements, Math.max(capacity, elements.length * 2));
+		}
+	}
+
+	private void checkElementIndex(int index) {
+		if (index < 0 || index >= size)
+			throw new IndexOutOfBoundsException("index: " + index + ", size:" + size); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	private void checkPositionIndex(int index) {
+		if (index < 0 || index > size)
+			throw new IndexOutOfBoundsException("index: " + index + ", size:" + size); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+}
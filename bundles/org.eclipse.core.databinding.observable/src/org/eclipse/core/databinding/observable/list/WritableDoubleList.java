@@ -0,0 +1,273 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.core.databinding.observable.list;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import org.eclipse.core.databinding.observable.Diffs;
+import org.eclipse.core.databinding.observable.ObservableTracker;
+import org.eclipse.core.databinding.observable.Realm;
+
+/**
+ * Mutable observable list of <code>double</code> elements backed by a
+ * <code>double</code> array. Elements are only boxed when they are accessed
+ * through the {@link java.util.List} methods or when a change event is fired
+ * to listeners.
+ *
+ * <p>
+ * This class is thread safe. All state accessing methods must be invoked from
+ * the {@link Realm#isCurrent() current realm}. Methods for adding and removing
+ * listeners may be invoked from any thread.
+ * </p>
+ *
+ * @since 1.14
+ */
+public class WritableDoubleList extends AbstractObservableList<Double> implements IObservableDoubleList {
+
+	private static final double[] EMPTY = new double[0];
+
+	private double[] elements;
+	private int size;
+
+	/**
+	 * Creates an empty writable list in the default realm.
+	 */
+	public WritableDoubleList() {
+		this(Realm.getDefault());
+	}
+
+	/**
+	 * Creates an empty writable list.
+	 *
+	 * @param realm
+	 *            the observable's realm
+	 */
+	public WritableDoubleList(Realm realm) {
+		this(realm, EMPTY);
+	}
+
+	/**
+	 * Creates a writable list containing a copy of the given elements.
+	 *
+	 * @param realm
+	 *            the observable's realm
+	 * @param elements
+	 *            the initial elements
+	 */
+	public WritableDoubleList(Realm realm, double[] elements) {
+		super(realm);
+		this.elements = elements.clone();
+		this.size = elements.length;
+	}
+
+	private void getterCalled() {
+		ObservableTracker.getterCalled(this);
+	}
+
+	@Override
+	protected int doGetSize() {
+		return size;
+	}
+
+	@Override
+	public Object getElementType() {
+		return Double.TYPE;
+	}
+
+	@Override
+	public double getDouble(int index) {
+		getterCalled();
+		checkElementIndex(index);
+		return elements[index];
+	}
+
+	/**
+	 * @TrackedGetter
+	 */
+	@Override
+	public Double get(int index) {
+		return Double.valueOf(getDouble(index));
+	}
+
+	@Override
+	public double[] toDoubleArray() {
+		getterCalled();
+		return Arrays.copyOf(elements, size);
+	}
+
+	@Override
+	public double setDouble(int index, double element) {
+		checkRealm();
+		checkElementIndex(index);
+		double oldElement = elements[index];
+		elements[index] = element;
+		if (hasListeners()) {
+			fireListChange(Diffs.createListDiff(
+					Diffs.createListDiffEntry(index, false, Double.valueOf(oldElement)),
+					Diffs.createListDiffEntry(index, true, Double.valueOf(element))));
+		}
+		return oldElement;
+	}
+
+	@Override
+	public Double set(int index, Double element) {
+		return Double.valueOf(setDouble(index, element.doubleValue()));
+	}
+
+	@Override
+	public void addDouble(double element) {
+		addDouble(size, element);
+	}
+
+	@Override
+	public void addDouble(int index, double element) {
+		checkRealm();
+		checkPositionIndex(index);
+		ensureCapacity(size + 1);
+		System.arraycopy(elements, index, elements, index + 1, size - index);
+		elements[index] = element;
+		size++;
+		modCount++;
+		if (hasListeners()) {
+			fireListChange(Diffs.createListDiff(Diffs.createListDiffEntry(index, true, Double.valueOf(element))));
+		}
+	}
+
+	@Override
+	public boolean add(Double element) {
+		addDouble(size, element.doubleValue());
+		return true;
+	}
+
+	@Override
+	public void add(int index, Double element) {
+		addDouble(index, element.doubleValue());
+	}
+
+	@Override
+	public boolean addAll(Collection<? extends Double> c) {
+		return addAll(size, c);
+	}
+
+	@Override
+	public boolean addAll(int index, Collection<? extends Double> c) {
+		checkRealm();
+		checkPositionIndex(index);
+		int count = c.size();
+		if (count == 0) {
+			return false;
+		}
+		double[] added = new double[count];
+		int i = 0;
+		for (Double element : c) {
+			added[i++] = element.doubleValue();
+		}
+		ensureCapacity(size + count);
+		System.arraycopy(elements, index, elements, index + count, size - index);
+		System.arraycopy(added, 0, elements, index, count);
+		size += count;
+		modCount++;
+		if (hasListeners()) {
+			List<ListDiffEntry<Double>> entries = new ArrayList<>(count);
+			for (i = 0; i < count; i++) {
+				entries.add(Diffs.createListDiffEntry(index + i, true, Double.valueOf(added[i])));
+			}
+			fireListChange(Diffs.createListDiff(entries));
+		}
+		return true;
+	}
+
+	@Override
+	public double removeDouble(int index) {
+		checkRealm();
+		checkElementIndex(index);
+		double oldElement = elements[index];
+		System.arraycopy(elements, index + 1, elements, index, size - index - 1);
+		size--;
+		modCount++;
+		if (hasListeners()) {
+			fireListChange(Diffs.createListDiff(Diffs.createListDiffEntry(index, false, Double.valueOf(oldElement))));
+		}
+		return oldElement;
+	}
+
+	@Override
+	public Double remove(int index) {
+		return Double.valueOf(removeDouble(index));
+	}
+
+	@Override
+	public Double move(int oldIndex, int newIndex) {
+		checkRealm();
+		if (oldIndex < 0 || oldIndex >= size)
+			throw new IndexOutOfBoundsException(
+					"oldIndex: " + oldIndex + ", size:" + size); //$NON-NLS-1$ //$NON-NLS-2$
+		if (newIndex < 0 || newIndex >= size)
+			throw new IndexOutOfBoundsException(
+					"newIndex: " + newIndex + ", size:" + size); //$NON-NLS-1$ //$NON-NLS-2$
+		double element = elements[oldIndex];
+		if (oldIndex < newIndex) {
+			System.arraycopy(elements, oldIndex + 1, elements, oldIndex, newIndex - oldIndex);
+		} else if (oldIndex > newIndex) {
+			System.arraycopy(elements, newIndex, elements, newIndex + 1, oldIndex - newIndex);
+		}
+		elements[newIndex] = element;
+		Double boxed = Double.valueOf(element);
+		if (oldIndex != newIndex && hasListeners()) {
+			fireListChange(Diffs.createListDiff(
+					Diffs.createListDiffEntry(oldIndex, false, boxed),
+					Diffs.createListDiffEntry(newIndex, true, boxed)));
+		}
+		return boxed;
+	}
+
+	@Override
+	public void clear() {
+		checkRealm();
+		if (size == 0) {
+			return;
+		}
+		int oldSize = size;
+		size = 0;
+		modCount++;
+		if (hasListeners()) {
+			// removed from back to front, like WritableList does
+			List<ListDiffEntry<Double>> entries = new ArrayList<>(oldSize);
+			for (int i = oldSize - 1; i >= 0; i--) {
+				entries.add(Diffs.createListDiffEntry(i, false, Double.valueOf(elements[i])));
+			}
+			fireListChange(Diffs.createListDiff(entries));
+		}
+	}
+
+	private void ensureCapacity(int capacity) {
+		if (capacity > elements.length) {
+			elements = Arrays.copyOf(elements, Math.max(capacity, elements.length * 2));
+		}
+	}
+
+	private void checkElementIndex(int index) {
+		if (index < 0 || index >= size)
+			throw new IndexOutOfBoundsException("index: " + index + ", size:" + size); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	private void checkPositionIndex(int index) {
+		if (index < 0 || index > size)
+			throw new IndexOutOfBoundsException("index: " + index + ", size:" + size); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+}
@@ -0,0 +1,273 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.core.databinding.observable.list;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import org.eclipse.core.databinding.observable.Diffs;
+import org.eclipse.core.databinding.observable.ObservableTracker;
+import org.eclipse.core.databinding.observable.Realm;
+
+/**
+ * Mutable observable list of <code>int</code> elements backed by an
+ * <code>int</code> array. Elements are only boxed when they are accessed
+ * through the {@link java.util.List} methods or when a change event is fired
+ * to listeners.
+ *
+ * <p>
+ * This class is thread safe. All state accessing methods must be invoked from
+ * the {@link Realm#isCurrent() current realm}. Methods for adding and removing
+ * listeners may be invoked from any thread.
+ * </p>
+ *
+ * @since 1.14
+ */
+public class WritableIntList extends AbstractObservableList<Integer> implements IObservableIntList {
+
+	private static final int[] EMPTY = new int[0];
+
+	private int[] elements;
+	private int size;
+
+	/**
+	 * Creates an empty writable list in the default realm.
+	 */
+	public WritableIntList() {
+		this(Realm.getDefault());
+	}
+
+	/**
+	 * Creates an empty writable list.
+	 *
+	 * @param realm
+	 *            the observable's realm
+	 */
+	public WritableIntList(Realm realm) {
+		this(realm, EMPTY);
+	}
+
+	/**
+	 * Creates a writable list containing a copy of the given elements.
+	 *
+	 * @param realm
+	 *            the observable's realm
+	 * @param elements
+	 *            the initial elements
+	 */
+	public WritableIntList(Realm realm, int[] elements) {
+		super(realm);
+		this.elements = elements.clone();
+		this.size = elements.length;
+	}
+
+	private void getterCalled() {
+		ObservableTracker.getterCalled(this);
+	}
+
+	@Override
+	protected int doGetSize() {
+		return size;
+	}
+
+	@Override
+	public Object getElementType() {
+		return Integer.TYPE;
+	}
+
+	@Override
+	public int getInt(int index) {
+		getterCalled();
+		checkElementIndex(index);
+		return elements[index];
+	}
+
+	/**
+	 * @TrackedGetter
+	 */
+	@Override
+	public Integer get(int index) {
+		return Integer.valueOf(getInt(index));
+	}
+
+	@Override
+	public int[] toIntArray() {
+		getterCalled();
+		return Arrays.copyOf(elements, size);
+	}
+
+	@Override
+	public int setInt(int index, int element) {
+		checkRealm();
+		checkElementIndex(index);
+		int oldElement = elements[index];
+		elements[index] = element;
+		if (hasListeners()) {
+			fireListChange(Diffs.createListDiff(
+					Diffs.createListDiffEntry(index, false, Integer.valueOf(oldElement)),
+					Diffs.createListDiffEntry(index, true, Integer.valueOf(element))));
+		}
+		return oldElement;
+	}
+
+	@Override
+	public Integer set(int index, Integer element) {
+		return Integer.valueOf(setInt(index, element.intValue()));
+	}
+
+	@Override
+	public void addInt(int element) {
+		addInt(size, element);
+	}
+
+	@Override
+	public void addInt(int index, int element) {
+		checkRealm();
+		checkPositionIndex(index);
+		ensureCapacity(size + 1);
+		System.arraycopy(elements, index, elements, index + 1, size - index);
+		elements[index] = element;
+		size++;
+		modCount++;
+		if (hasListeners()) {
+			fireListChange(Diffs.createListDiff(Diffs.createListDiffEntry(index, true, Integer.valueOf(element))));
+		}
+	}
+
+	@Override
+	public boolean add(Integer element) {
+		addInt(size, element.intValue());
+		return true;
+	}
+
+	@Override
+	public void add(int index, Integer element) {
+		addInt(index, element.intValue());
+	}
+
+	@Override
+	public boolean addAll(Collection<? extends Integer> c) {
+		return addAll(size, c);
+	}
+
+	@Override
+	public boolean addAll(int index, Collection<? extends Integer> c) {
+		checkRealm();
+		checkPositionIndex(index);
+		int count = c.size();
+		if (count == 0) {
+			return false;
+		}
+		int[] added = new int[count];
+		int i = 0;
+		for (Integer element : c) {
+			added[i++] = element.intValue();
+		}
+		ensureCapacity(size + count);
+		System.arraycopy(elements, index, elements, index + count, size - index);
+		System.arraycopy(added, 0, elements, index, count);
+		size += count;
+		modCount++;
+		if (hasListeners()) {
+			List<ListDiffEntry<Integer>> entries = new ArrayList<>(count);
+			for (i = 0; i < count; i++) {
+				entries.add(Diffs.createListDiffEntry(index + i, true, Integer.valueOf(added[i])));
+			}
+			fireListChange(Diffs.createListDiff(entries));
+		}
+		return true;
+	}
+
+	@Override
+	public int removeInt(int index) {
+		checkRealm();
+		checkElementIndex(index);
+		int oldElement = elements[index];
+		System.arraycopy(elements, index + 1, elements, index, size - index - 1);
+		size--;
+		modCount++;
+		if (hasListeners()) {
+			fireListChange(Diffs.createListDiff(Diffs.createListDiffEntry(index, false, Integer.valueOf(oldElement))));
+		}
+		return oldElement;
+	}
+
+	@Override
+	public Integer remove(int index) {
+		return Integer.valueOf(removeInt(index));
+	}
+
+	@Override
+	public Integer move(int oldIndex, int newIndex) {
+		checkRealm();
+		if (oldIndex < 0 || oldIndex >= size)
+			throw new IndexOutOfBoundsException(
+					"oldIndex: " + oldIndex + ", size:" + size); //$NON-NLS-1$ //$NON-NLS-2$
+		if (newIndex < 0 || newIndex >= size)
+			throw new IndexOutOfBoundsException(
+					"newIndex: " + newIndex + ", size:" + size); //$NON-NLS-1$ //$NON-NLS-2$
+		int element = elements[oldIndex];
+		if (oldIndex < newIndex) {
+			System.arraycopy(elements, oldIndex + 1, elements, oldIndex, newIndex - oldIndex);
+		} else if (oldIndex > newIndex) {
+			System.arraycopy(elements, newIndex, elements, newIndex + 1, oldIndex - newIndex);
+		}
+		elements[newIndex] = element;
+		Integer boxed = Integer.valueOf(element);
+		if (oldIndex != newIndex && hasListeners()) {
+			fireListChange(Diffs.createListDiff(
+					Diffs.createListDiffEntry(oldIndex, false, boxed),
+					Diffs.createListDiffEntry(newIndex, true, boxed)));
+		}
+		return boxed;
+	}
+
+	@Override
+	public void clear() {
+		checkRealm();
+		if (size == 0) {
+			return;
+		}
+		int oldSize = size;
+		size = 0;
+		modCount++;
+		if (hasListeners()) {
+			// removed from back to front, like WritableList does
+			List<ListDiffEntry<Integer>> entries = new ArrayList<>(oldSize);
+			for (int i = oldSize - 1; i >= 0; i--) {
+				entries.add(Diffs.createListDiffEntry(i, false, Integer.valueOf(elements[i])));
+			}
+			fireListChange(Diffs.createListDiff(entries));
+		}
+	}
+
+	private void ensureCapacity(int capacity) {
+		if (capacity > elements.length) {
+			elements = Arrays.copyOf(elements, Math.max(capacity, elements.length * 2));
+		}
+	}
+
+	private void checkElementIndex(int index) {
+		if (index < 0 || index >= size)
+			throw new IndexOutOfBoundsException("index: " + index + ", size:" + size); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	private void checkPositionIndex(int index) {
+		if (index < 0 || index > size)
+			throw new IndexOutOfBoundsException("index: " + index + ", size:" + size); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2017 Matthew Hall and others.
+ * Copyright (c) 2008, 2026 Matthew Hall and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -31,6 +31,7 @@ import org.eclipse.core.databinding.observable.ObservableTracker;
 import org.eclipse.core.databinding.observable.Realm;
 import org.eclipse.core.databinding.observable.StaleEvent;
 import org.eclipse.core.databinding.observable.value.IObservableValue;
+import org.eclipse.core.internal.databinding.observable.ComputedScheduler;
 
 /**
  * A lazily calculated set that automatically computes and registers listeners
@@ -81,6 +82,9 @@ import org.eclipse.core.databinding.observable.value.IObservableValue;
 public abstract class ComputedSet<E> extends AbstractObservableSet<E> {
 	private Set<E> cachedSet = new HashSet<>();
 
+	/** The set before the change the listeners have not been notified of */
+	private Set<E> oldSet;
+
 	private boolean dirty = true;
 	private boolean stale = false;
 
@@ -174,8 +178,8 @@ public abstract class ComputedSet<E> extends AbstractObservableSet<E> {
 	 * The IChangeListener is attached to every dependency.
 	 * </p>
 	 */
-	private class PrivateInterface implements Runnable, IChangeListener,
-			IStaleListener {
+	private class PrivateInterface extends ComputedScheduler.Node
+			implements Runnable, IChangeListener, IStaleListener {
 		@Override
 		public void run() {
 			cachedSet = calculate();
@@ -193,6 +197,21 @@ public abstract class ComputedSet<E> extends AbstractObservableSet<E> {
 		public void handleChange(ChangeEvent event) {
 			makeDirty();
 		}
+
+		@Override
+		protected IObservable getObservable() {
+			return ComputedSet.this;
+		}
+
+		@Override
+		protected void fireChange() {
+			fireEvent(new ChangeEvent(ComputedSet.this));
+		}
+
+		@Override
+		protected void fire() {
+			fireDirty();
+		}
 	}
 
 	private PrivateInterface privateInterface = new PrivateInterface();
@@ -261,37 +280,51 @@ privateInterface, privateInterface, null);
 		if (!dirty) {
 			dirty = true;
 
-			// copy the old set
+			// copy the old set, unless the listeners have not been notified of
+			// the previous change yet
 			// bug 414297: moved before makeStale(), as cachedSet may be
 			// overwritten
 			// in makeStale() if a listener calls isStale()
-			final Set<E> oldSet = new HashSet<>(cachedSet);
+			if (!privateInterface.isScheduled()) {
+				oldSet = new HashSet<>(cachedSet);
+			}
 			makeStale();
 
 			stopListening();
 
-			// Fire the "dirty" event. This implementation recomputes the new
-			// set lazily.
-			fireSetChange(new SetDiff<E>() {
-				SetDiff<E> delegate;
+			// Invalidate the dependent computed observables now and notify
+			// the listeners once all of them are dirty
+			ComputedScheduler.getCurrent().invalidate(privateInterface);
+		}
+	}
 
-				private SetDiff<E> getDelegate() {
-					if (delegate == null)
-						delegate = Diffs.computeSetDiff(oldSet, getSet());
-					return delegate;
-				}
+	private void fireDirty() {
+		if (isDisposed()) {
+			return;
+		}
+		final Set<E> oldSet = this.oldSet;
+		this.oldSet = null;
+		// Fire the "dirty" event. This implementation recomputes the new
+		// set lazily.
+		fireSetChange(new SetDiff<E>() {
+			SetDiff<E> delegate;
+
+			private SetDiff<E> getDelegate() {
+				if (delegate == null)
+					delegate = Diffs.computeSetDiff(oldSet, getSet());
+				return delegate;
+			}
 
-				@Override
-				public Set<E> getAdditions() {
-					return getDelegate().getAdditions();
-				}
+			@Override
+			public Set<E> getAdditions() {
+				return getDelegate().getAdditions();
+			}
 
-				@Override
-				public Set<E> getRemovals() {
-					return getDelegate().getRemovals();
-				}
-			});
-		}
+			@Override
+			public Set<E> getRemovals() {
+				return getDelegate().getRemovals();
+			}
+		});
 	}
 
 	private void stopListening() {
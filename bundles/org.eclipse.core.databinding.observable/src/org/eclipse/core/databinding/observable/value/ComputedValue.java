@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2017 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -28,6 +28,7 @@ import org.eclipse.core.databinding.observable.ObservableTracker;
 import org.eclipse.core.databinding.observable.Realm;
 import org.eclipse.core.databinding.observable.StaleEvent;
 import org.eclipse.core.databinding.observable.list.IObservableList;
+import org.eclipse.core.internal.databinding.observable.ComputedScheduler;
 
 /**
  * A Lazily calculated value that automatically computes and registers listeners
@@ -80,6 +81,9 @@ public abstract class ComputedValue<T> extends AbstractObservableValue<T> {
 
 	private T cachedValue = null;
 
+	/** The value before the change the listeners have not been notified of */
+	private T oldValue = null;
+
 	/**
 	 * Array of observables this computed value depends on. This field has a
 	 * value of <code>null</code> if we are not currently listening.
@@ -161,8 +165,8 @@ public abstract class ComputedValue<T> extends AbstractObservableValue<T> {
 	 * The IChangeListener is attached to every dependency.
 	 * </p>
 	 */
-	private class PrivateInterface implements Runnable, IChangeListener,
-			IStaleListener {
+	private class PrivateInterface extends ComputedScheduler.Node
+			implements Runnable, IChangeListener, IStaleListener {
 		@Override
 		public void run() {
 			cachedValue = calculate();
@@ -180,6 +184,21 @@ public abstract class ComputedValue<T> extends AbstractObservableValue<T> {
 		public void handleChange(ChangeEvent event) {
 			makeDirty();
 		}
+
+		@Override
+		protected IObservable getObservable() {
+			return ComputedValue.this;
+		}
+
+		@Override
+		protected void fireChange() {
+			fireEvent(new ChangeEvent(ComputedValue.this));
+		}
+
+		@Override
+		protected void fire() {
+			fireDirty();
+		}
 	}
 
 	private PrivateInterface privateInterface = new PrivateInterface();
@@ -230,23 +249,37 @@ public abstract class ComputedValue<T> extends AbstractObservableValue<T> {
 
 			stopListening();
 
-			// copy the old value
-			final T oldValue = cachedValue;
-			// Fire the "dirty" event. This implementation recomputes the new
-			// value lazily.
-			fireValueChange(new ValueDiff<T>() {
-
-				@Override
-				public T getOldValue() {
-					return oldValue;
-				}
+			// copy the old value, unless the listeners have not been notified
+			// of the previous change yet
+			if (!privateInterface.isScheduled()) {
+				oldValue = cachedValue;
+			}
+			// Invalidate the dependent computed observables now and notify
+			// the listeners once all of them are dirty
+			ComputedScheduler.getCurrent().invalidate(privateInterface);
+		}
+	}
 
-				@Override
-				public T getNewValue() {
-					return getValue();
-				}
-			});
+	private void fireDirty() {
+		if (isDisposed()) {
+			return;
 		}
+		final T oldValue = this.oldValue;
+		this.oldValue = null;
+		// Fire the "dirty" event. This implementation recomputes the new
+		// value lazily.
+		fireValueChange(new ValueDiff<T>() {
+
+			@Override
+			public T getOldValue() {
+				return oldValue;
+			}
+
+			@Override
+			public T getNewValue() {
+				return getValue();
+			}
+		});
 	}
 
 	private void stopListening() {
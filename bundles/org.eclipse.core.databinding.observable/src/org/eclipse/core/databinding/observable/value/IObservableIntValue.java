@@ -0,0 +1,63 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.core.databinding.observable.value;
+
+import org.eclipse.core.databinding.observable.Realm;
+
+/**
+ * An observable value of type <code>int</code>, which can be read and written
+ * without boxing.
+ * <p>
+ * The value type is {@link Integer#TYPE}, so bindings convert and validate values
+ * of the observable like those of any other primitive typed observable value.
+ * {@link #getValue()} returns the boxed value, which is never
+ * <code>null</code>.
+ * </p>
+ * <p>
+ * Change events carry boxed values, so the value is boxed on every change while the
+ * observable has listeners. Bindings always listen to the observables they
+ * bind, so boxing is only avoided completely when the primitive methods are
+ * used on an observable without listeners.
+ * </p>
+ *
+ * @noimplement This interface is not intended to be implemented by clients.
+ *              Clients should instead subclass one of the classes that
+ *              implement this interface.
+ *
+ * @see WritableIntValue
+ *
+ * @since 1.14
+ */
+public interface IObservableIntValue extends IObservableValue<Integer> {
+
+	/**
+	 * Returns the value. Must be invoked in the {@link Realm} of the
+	 * observable.
+	 *
+	 * @return the current value
+	 * @TrackedGetter
+	 */
+	public int getIntValue();
+
+	/**
+	 * Sets the value. Must be invoked in the {@link Realm} of the observable.
+	 *
+	 * @param value
+	 *            the value to set
+	 * @throws UnsupportedOperationException
+	 *             if this observable value cannot be set.
+	 */
+	public void setIntValue(int value);
+}
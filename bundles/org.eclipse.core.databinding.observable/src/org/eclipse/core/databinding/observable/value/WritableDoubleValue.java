@@ -0,0 +1,116 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.core.databinding.observable.value;
+
+import org.eclipse.core.databinding.observable.Diffs;
+import org.eclipse.core.databinding.observable.ObservableTracker;
+import org.eclipse.core.databinding.observable.Realm;
+
+/**
+ * Mutable (writable) implementation of {@link IObservableDoubleValue} that stores
+ * its value as a <code>double</code>. The value is only boxed when it is read
+ * through {@link #getValue()} or when a change event is fired to listeners.
+ * <p>
+ * This class is thread safe. All state accessing methods must be invoked from
+ * the {@link Realm#isCurrent() current realm}. Methods for adding and removing
+ * listeners may be invoked from any thread.
+ * </p>
+ *
+ * @since 1.14
+ */
+public class WritableDoubleValue extends AbstractObservableValue<Double> implements IObservableDoubleValue {
+
+	private double value;
+
+	/**
+	 * Constructs a new instance with the default realm and a value of
+	 * <code>0</code>.
+	 */
+	public WritableDoubleValue() {
+		this(Realm.getDefault(), 0);
+	}
+
+	/**
+	 * Constructs a new instance with the default realm.
+	 *
+	 * @param initialValue
+	 *            the initial value
+	 */
+	public WritableDoubleValue(double initialValue) {
+		this(Realm.getDefault(), initialValue);
+	}
+
+	/**
+	 * Constructs a new instance with the provided <code>realm</code> and a
+	 * value of <code>0</code>.
+	 *
+	 * @param realm
+	 *            the realm
+	 */
+	public WritableDoubleValue(Realm realm) {
+		this(realm, 0);
+	}
+
+	/**
+	 * Constructs a new instance.
+	 *
+	 * @param realm
+	 *            the realm
+	 * @param initialValue
+	 *            the initial value
+	 */
+	public WritableDoubleValue(Realm realm, double initialValue) {
+		super(realm);
+		this.value = initialValue;
+	}
+
+	@Override
+	public double getDoubleValue() {
+		ObservableTracker.getterCalled(this);
+		return value;
+	}
+
+	@Override
+	public void setDoubleValue(double value) {
+		checkRealm();
+		double oldValue = this.value;
+		if (Double.doubleToLongBits(oldValue) != Double.doubleToLongBits(value)) {
+			this.value = value;
+			// the diff holds boxed values, so only create it if it is fired
+			if (hasListeners()) {
+				fireValueChange(Diffs.createValueDiff(Double.valueOf(oldValue), Double.valueOf(value)));
+			}
+		}
+	}
+
+	@Override
+	protected Double doGetValue() {
+		return Double.valueOf(value);
+	}
+
+	/**
+	 * @param value
+	 *            The value to set, not <code>null</code>.
+	 */
+	@Override
+	protected void doSetValue(Double value) {
+		setDoubleValue(value.doubleValue());
+	}
+
+	@Override
+	public Object getValueType() {
+		return Double.TYPE;
+	}
+}
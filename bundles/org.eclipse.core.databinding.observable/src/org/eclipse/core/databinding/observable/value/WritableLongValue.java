@@ -0,0 +1,116 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.core.databinding.observable.value;
+
+import org.eclipse.core.databinding.observable.Diffs;
+import org.eclipse.core.databinding.observable.ObservableTracker;
+import org.eclipse.core.databinding.observable.Realm;
+
+/**
+ * Mutable (writable) implementation of {@link IObservableLongValue} that stores
+ * its value as a <code>long</code>. The value is only boxed when it is read
+ * through {@link #getValue()} or when a change event is fired to listeners.
+ * <p>
+ * This class is thread safe. All state accessing methods must be invoked from
+ * the {@link Realm#isCurrent() current realm}. Methods for adding and removing
+ * listeners may be invoked from any thread.
+ * </p>
+ *
+ * @since 1.14
+ */
+public class WritableLongValue extends AbstractObservableValue<Long> implements IObservableLongValue {
+
+	private long value;
+
+	/**
+	 * Constructs a new instance with the default realm and a value of
+	 * <code>0</code>.
+	 */
+	public WritableLongValue() {
+		this(Realm.getDefault(), 0);
+	}
+
+	/**
+	 * Constructs a new instance with the default realm.
+	 *
+	 * @param initialValue
+	 *            the initial value
+	 */
+	public WritableLongValue(long initialValue) {
+		this(Realm.getDefault(), initialValue);
+	}
+
+	/**
+	 * Constructs a new instance with the provided <code>realm</code> and a
+	 * value of <code>0</code>.
+	 *
+	 * @param realm
+	 *            the realm
+	 */
+	public WritableLongValue(Realm realm) {
+		this(realm, 0);
+	}
+
+	/**
+	 * Constructs a new instance.
+	 *
+	 * @param realm
+	 *            the realm
+	 * @param initialValue
+	 *            the initial value
+	 */
+	public WritableLongValue(Realm realm, long initialValue) {
+		super(realm);
+		this.value = initialValue;
+	}
+
+	@Override
+	public long getLongValue() {
+		ObservableTracker.getterCalled(this);
+		return value;
+	}
+
+	@Override
+	public void setLongValue(long value) {
+		checkRealm();
+		long oldValue = this.value;
+		if (oldValue != value) {
+			this.value = value;
+			// the diff holds boxed values, so only create it if it is fired
+			if (hasListeners()) {
+				fireValueChange(Diffs.createValueDiff(Long.valueOf(oldValue), Long.valueOf(value)));
+			}
+		}
+	}
+
+	@Override
+	protected Long doGetValue() {
+		return Long.valueOf(value);
+	}
+
+	/**
+	 * @param value
+	 *            The value to set, not <code>null</code>.
+	 */
+	@Override
+	protected void doSetValue(Long value) {
+		setLongValue(value.longValue());
+	}
+
+	@Override
+	public Object getValueType() {
+		return Long.TYPE;
+	}
+}
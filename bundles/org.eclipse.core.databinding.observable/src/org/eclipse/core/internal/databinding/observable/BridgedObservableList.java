@@ -0,0 +1,152 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.core.internal.databinding.observable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.core.databinding.observable.Diffs;
+import org.eclipse.core.databinding.observable.Realm;
+import org.eclipse.core.databinding.observable.list.IListChangeListener;
+import org.eclipse.core.databinding.observable.list.IObservableList;
+import org.eclipse.core.databinding.observable.list.ListChangeEvent;
+import org.eclipse.core.databinding.observable.list.ListDiff;
+import org.eclipse.core.databinding.observable.list.ListDiffEntry;
+import org.eclipse.core.databinding.observable.list.ObservableList;
+
+/**
+ * An unmodifiable observable list in one realm that follows an observable list
+ * of another realm. The diffs of the source are collected in the source realm
+ * and fired in the realm of this observable by a single runnable, so a burst
+ * of changes results in one list change event.
+ * <p>
+ * The list is empty and stale until the elements of the source have arrived.
+ * </p>
+ *
+ * @param <E>
+ *            the type of the elements
+ *
+ * @since 1.14
+ */
+public class BridgedObservableList<E> extends ObservableList<E> {
+
+	private final IObservableList<E> source;
+
+	private final IListChangeListener<E> sourceListener = this::handleListChange;
+
+	/** Guards the fields accessed in both realms */
+	private final Object lock = new Object();
+	private boolean detached;
+	private boolean pending;
+	private List<E> pendingElements;
+	private List<ListDiffEntry<E>> pendingEntries = new ArrayList<>();
+
+	private boolean initialized;
+
+	/**
+	 * @param realm
+	 *            the realm of this observable
+	 * @param source
+	 *            the observed list of another realm
+	 */
+	public BridgedObservableList(Realm realm, IObservableList<E> source) {
+		super(realm, new ArrayList<>(), source.getElementType());
+		this.source = source;
+		source.getRealm().exec(() -> {
+			synchronized (lock) {
+				if (detached) {
+					return;
+				}
+				source.addListChangeListener(sourceListener);
+			}
+			update(new ArrayList<>(source), null);
+		});
+	}
+
+	@SuppressWarnings("unchecked")
+	private void handleListChange(ListChangeEvent<? extends E> event) {
+		// diff entries are immutable, so their element type can be widened
+		update(null, Arrays.asList((ListDiffEntry<E>[]) event.diff.getDifferences()));
+	}
+
+	/**
+	 * Called in the source realm with either all elements of the source or
+	 * the entries of a diff.
+	 */
+	private void update(List<E> elements, List<ListDiffEntry<E>> entries) {
+		synchronized (lock) {
+			if (elements != null) {
+				pendingElements = elements;
+				pendingEntries.clear();
+			} else {
+				pendingEntries.addAll(entries);
+			}
+			if (pending) {
+				return;
+			}
+			pending = true;
+		}
+		getRealm().asyncExec(this::flush);
+	}
+
+	private void flush() {
+		List<E> elements;
+		List<ListDiffEntry<E>> entries;
+		synchronized (lock) {
+			elements = pendingElements;
+			entries = pendingEntries;
+			pendingElements = null;
+			pendingEntries = new ArrayList<>();
+			pending = false;
+		}
+		if (isDisposed()) {
+			return;
+		}
+		List<E> newList = new ArrayList<>(elements != null ? elements : wrappedList);
+		ListDiff<E> diff = Diffs.createListDiff(entries);
+		diff.applyTo(newList);
+		if (elements != null || entries.size() > newList.size()) {
+			// fire the net change instead of a new list or many entries
+			diff = Diffs.computeMinimalListDiff(wrappedList, newList);
+		}
+		wrappedList = newList;
+		boolean wasStale = !initialized;
+		initialized = true;
+		if (wasStale || !diff.isEmpty()) {
+			fireListChange(diff);
+		}
+	}
+
+	@Override
+	public boolean isStale() {
+		getterCalled();
+		return !initialized || super.isStale();
+	}
+
+	@Override
+	public synchronized void dispose() {
+		boolean detach;
+		synchronized (lock) {
+			detach = !detached;
+			detached = true;
+		}
+		if (detach) {
+			// the listeners of the source may only be changed in its realm
+			source.getRealm().exec(() -> source.removeListChangeListener(sourceListener));
+		}
+		super.dispose();
+	}
+}
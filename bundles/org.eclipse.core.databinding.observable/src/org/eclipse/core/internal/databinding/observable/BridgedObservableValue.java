@@ -0,0 +1,142 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.core.internal.databinding.observable;
+
+import java.util.Objects;
+
+import org.eclipse.core.databinding.observable.Diffs;
+import org.eclipse.core.databinding.observable.ObservableTracker;
+import org.eclipse.core.databinding.observable.Realm;
+import org.eclipse.core.databinding.observable.value.AbstractObservableValue;
+import org.eclipse.core.databinding.observable.value.IObservableValue;
+import org.eclipse.core.databinding.observable.value.IValueChangeListener;
+
+/**
+ * An observable value in one realm that follows an observable value of
+ * another realm. The changes of the source are collected in the source realm
+ * and fired in the realm of this observable by a single runnable, so a burst
+ * of changes results in one value change event with the latest value.
+ * <p>
+ * The observable is stale until the value of the source has arrived. Setting
+ * the value sets the value of the source asynchronously in the source realm.
+ * </p>
+ *
+ * @param <T>
+ *            the type of the value
+ *
+ * @since 1.14
+ */
+public class BridgedObservableValue<T> extends AbstractObservableValue<T> {
+
+	private final IObservableValue<T> source;
+
+	private final IValueChangeListener<T> sourceListener = event -> update(event.diff.getNewValue());
+
+	/** Guards the fields accessed in both realms */
+	private final Object lock = new Object();
+	private boolean detached;
+	private boolean pending;
+	private T pendingValue;
+
+	private T value;
+	private boolean stale = true;
+
+	/**
+	 * @param realm
+	 *            the realm of this observable
+	 * @param source
+	 *            the observed value of another realm
+	 */
+	public BridgedObservableValue(Realm realm, IObservableValue<T> source) {
+		super(realm);
+		this.source = source;
+		source.getRealm().exec(() -> {
+			synchronized (lock) {
+				if (detached) {
+					return;
+				}
+				source.addValueChangeListener(sourceListener);
+			}
+			update(source.getValue());
+		});
+	}
+
+	/**
+	 * Called in the source realm.
+	 */
+	private void update(T newValue) {
+		synchronized (lock) {
+			pendingValue = newValue;
+			if (pending) {
+				return;
+			}
+			pending = true;
+		}
+		getRealm().asyncExec(this::flush);
+	}
+
+	private void flush() {
+		T newValue;
+		synchronized (lock) {
+			newValue = pendingValue;
+			pendingValue = null;
+			pending = false;
+		}
+		if (isDisposed()) {
+			return;
+		}
+		T oldValue = value;
+		value = newValue;
+		if (stale || !Objects.equals(oldValue, newValue)) {
+			stale = false;
+			fireValueChange(Diffs.createValueDiff(oldValue, newValue));
+		}
+	}
+
+	@Override
+	protected T doGetValue() {
+		return value;
+	}
+
+	@Override
+	protected void doSetValue(T value) {
+		source.getRealm().exec(() -> source.setValue(value));
+	}
+
+	@Override
+	public Object getValueType() {
+		return source.getValueType();
+	}
+
+	@Override
+	public boolean isStale() {
+		ObservableTracker.getterCalled(this);
+		return stale;
+	}
+
+	@Override
+	public synchronized void dispose() {
+		boolean detach;
+		synchronized (lock) {
+			detach = !detached;
+			detached = true;
+		}
+		if (detach) {
+			// the listeners of the source may only be changed in its realm
+			source.getRealm().exec(() -> source.removeValueChangeListener(sourceListener));
+		}
+		super.dispose();
+	}
+}
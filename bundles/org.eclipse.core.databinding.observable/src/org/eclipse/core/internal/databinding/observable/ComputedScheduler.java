@@ -0,0 +1,212 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.core.internal.databinding.observable;
+
+import java.util.Comparator;
+import java.util.PriorityQueue;
+
+import org.eclipse.core.databinding.observable.IObservable;
+import org.eclipse.core.databinding.observable.ObservableEvent;
+
+/**
+ * Propagates the changes of computed observables in two phases, so that their
+ * listeners never see a value computed from a mix of old and new values.
+ * <p>
+ * When a dependency of a computed observable changes, the computed observable
+ * becomes dirty and fires a change event that only reaches the computed
+ * observables depending on it. They become dirty too, so every computed
+ * observable affected by the change is dirty before any other listener runs.
+ * </p>
+ * <p>
+ * The computed observables are then notified when the outermost event
+ * dispatch on the current thread has completed, ordered by their depth in the
+ * dependency graph, which is one more than the largest depth of the computed
+ * observables they were invalidated by. Their events now reach all listeners
+ * except the computed observables, which already know about the change. In
+ * diamond-shaped graphs every computed observable is therefore notified and
+ * recomputed once per change, instead of once per path.
+ * </p>
+ *
+ * @since 1.14
+ */
+public final class ComputedScheduler {
+
+	/**
+	 * The listener a computed observable adds to its dependencies.
+	 */
+	public abstract static class Node {
+		private int depth;
+		private long sequence;
+		private boolean scheduled;
+
+		/**
+		 * @return whether the listeners of the computed observable have not
+		 *         been notified of its last change yet
+		 */
+		public final boolean isScheduled() {
+			return scheduled;
+		}
+
+		/**
+		 * @return the computed observable
+		 */
+		protected abstract IObservable getObservable();
+
+		/**
+		 * Fires a change event of the computed observable. While it is
+		 * invalidated, the event only reaches the dependent computed
+		 * observables.
+		 */
+		protected abstract void fireChange();
+
+		/**
+		 * Notifies the listeners of the computed observable that it changed.
+		 */
+		protected abstract void fire();
+	}
+
+	private static final ThreadLocal<ComputedScheduler> CURRENT = ThreadLocal.withInitial(ComputedScheduler::new);
+
+	private static final Comparator<Node> ORDER = Comparator.<Node>comparingInt(node -> node.depth)
+			.thenComparingLong(node -> node.sequence);
+
+	private final PriorityQueue<Node> queue = new PriorityQueue<>(ORDER);
+
+	/** The nesting level of event dispatches */
+	private int changeLevel;
+
+	private boolean flushing;
+
+	/** The observable being invalidated and its depth */
+	private Object invalidated;
+	private int invalidatedDepth;
+
+	/** The observable whose listeners are being notified */
+	private Object notified;
+
+	private long sequence;
+
+	private ComputedScheduler() {
+	}
+
+	/**
+	 * @return the scheduler of the current thread
+	 */
+	public static ComputedScheduler getCurrent() {
+		return CURRENT.get();
+	}
+
+	/**
+	 * Called before an observable notifies its listeners.
+	 */
+	public void beginChange() {
+		changeLevel++;
+	}
+
+	/**
+	 * Called after an observable has notified its listeners. Notifies the
+	 * scheduled computed observables if this was the outermost event dispatch.
+	 */
+	public void endChange() {
+		if (--changeLevel == 0 && !flushing) {
+			flush();
+		}
+	}
+
+	/**
+	 * Returns whether the given event invalidates the computed observables
+	 * depending on its source.
+	 *
+	 * @param event an event
+	 * @return whether the event is only dispatched to computed observables
+	 */
+	public boolean isInvalidation(ObservableEvent event) {
+		return invalidated != null && event.getSource() == invalidated;
+	}
+
+	/**
+	 * Returns whether the given listener is notified of the given change event.
+	 *
+	 * @param event    a change event
+	 * @param listener a change listener
+	 * @return whether the listener is notified
+	 */
+	public boolean isNotified(ObservableEvent event, Object listener) {
+		Object source = event.getSource();
+		if (source == invalidated) {
+			return listener instanceof Node;
+		} else if (source == notified) {
+			return !(listener instanceof Node);
+		}
+		return true;
+	}
+
+	/**
+	 * Invalidates the computed observables depending on the given one and
+	 * schedules the notification of its listeners. The listeners are notified
+	 * immediately if no event is being dispatched.
+	 *
+	 * @param node the node of a computed observable that became dirty
+	 */
+	public void invalidate(Node node) {
+		int sourceDepth = invalidated != null ? invalidatedDepth : 0;
+		int depth = Math.max(node.depth, sourceDepth + 1);
+		if (!node.scheduled) {
+			node.depth = depth;
+			node.sequence = sequence++;
+			node.scheduled = true;
+			queue.add(node);
+		} else if (depth > node.depth) {
+			queue.remove(node);
+			node.depth = depth;
+			node.sequence = sequence++;
+			queue.add(node);
+		}
+
+		Object outerInvalidated = invalidated;
+		int outerInvalidatedDepth = invalidatedDepth;
+		invalidated = node.getObservable();
+		invalidatedDepth = node.depth;
+		try {
+			node.fireChange();
+		} finally {
+			invalidated = outerInvalidated;
+			invalidatedDepth = outerInvalidatedDepth;
+		}
+
+		if (changeLevel == 0 && !flushing) {
+			flush();
+		}
+	}
+
+	private void flush() {
+		flushing = true;
+		try {
+			Node node;
+			while ((node = queue.poll()) != null) {
+				node.scheduled = false;
+				Object outerNotified = notified;
+				notified = node.getObservable();
+				try {
+					node.fire();
+				} finally {
+					notified = outerNotified;
+				}
+			}
+		} finally {
+			flushing = false;
+		}
+	}
+}
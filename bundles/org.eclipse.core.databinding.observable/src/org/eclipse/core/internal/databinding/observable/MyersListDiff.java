@@ -0,0 +1,317 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.core.internal.databinding.observable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.core.databinding.observable.Diffs;
+import org.eclipse.core.databinding.observable.list.ListDiffEntry;
+
+/**
+ * Computes the shortest sequence of additions and removals that transforms
+ * one list into another, using the linear space variant of Eugene W. Myers'
+ * "An O(ND) Difference Algorithm and Its Variations".
+ * <p>
+ * The common prefix and suffix of the lists are skipped first. The remaining
+ * elements are mapped to integers by their hash code and equality, so the
+ * algorithm itself only compares integers. Elements that occur in only one of
+ * the lists cannot be matched and are not passed to the algorithm, like GNU
+ * diff does; in particular, replaced elements then cost no search at all. It
+ * takes O((N+M)D) time for lists of N and M elements that differ in D
+ * elements, and O(N+M) space.
+ * </p>
+ *
+ * @param <E> the list element type
+ * @since 1.14
+ */
+public final class MyersListDiff<E> {
+
+	private final List<? extends E> oldList;
+	private final List<? extends E> newList;
+
+	/**
+	 * The elements of the old and the new list that occur in both lists,
+	 * mapped to integers
+	 */
+	private int[] oldIds;
+	private int[] newIds;
+
+	/** The indices of these elements in the compared part of the lists */
+	private int[] oldIndices;
+	private int[] newIndices;
+
+	/** Whether an element of the old list is removed */
+	private boolean[] removed;
+	/** Whether an element of the new list is added */
+	private boolean[] added;
+
+	/** The furthest reaching forward and backward paths, by diagonal */
+	private int[] forward;
+	private int[] backward;
+	private int diagonalOffset;
+
+	private MyersListDiff(List<? extends E> oldList, List<? extends E> newList) {
+		this.oldList = oldList;
+		this.newList = newList;
+	}
+
+	/**
+	 * Returns the differences between the given lists. Applying the entries in
+	 * order to the old list yields the new list.
+	 *
+	 * @param oldList the old list state
+	 * @param newList the new list state
+	 * @return the additions and removals that transform oldList into newList
+	 */
+	public static <E> List<ListDiffEntry<E>> computeDifferences(List<? extends E> oldList,
+			List<? extends E> newList) {
+		return new MyersListDiff<E>(oldList, newList).compute();
+	}
+
+	private List<ListDiffEntry<E>> compute() {
+		int oldSize = oldList.size();
+		int newSize = newList.size();
+		int start = 0;
+		while (start < oldSize && start < newSize && same(oldList.get(start), newList.get(start))) {
+			start++;
+		}
+		int oldEnd = oldSize;
+		int newEnd = newSize;
+		while (oldEnd > start && newEnd > start && same(oldList.get(oldEnd - 1), newList.get(newEnd - 1))) {
+			oldEnd--;
+			newEnd--;
+		}
+
+		int n = oldEnd - start;
+		int m = newEnd - start;
+		removed = new boolean[n];
+		added = new boolean[m];
+		if (n == 0) {
+			fill(added, 0, m);
+		} else if (m == 0) {
+			fill(removed, 0, n);
+		} else {
+			mapToIds(start, oldEnd, newEnd);
+			int oldCount = oldIds.length;
+			int newCount = newIds.length;
+			if (oldCount > 0 && newCount > 0) {
+				forward = new int[oldCount + newCount + 3];
+				backward = new int[oldCount + newCount + 3];
+				diagonalOffset = newCount + 1;
+			}
+			compare(0, oldCount, 0, newCount);
+		}
+		return createEntries(start, n, m);
+	}
+
+	private static boolean same(Object oldElement, Object newElement) {
+		return oldElement == newElement || oldElement != null && oldElement.equals(newElement);
+	}
+
+	private void mapToIds(int start, int oldEnd, int newEnd) {
+		Map<Object, Integer> ids = new HashMap<>();
+		int[] allOldIds = new int[oldEnd - start];
+		BitSet inOld = new BitSet();
+		for (int i = start; i < oldEnd; i++) {
+			int id = getId(ids, oldList.get(i));
+			allOldIds[i - start] = id;
+			inOld.set(id);
+		}
+		int[] allNewIds = new int[newEnd - start];
+		BitSet inNew = new BitSet();
+		for (int i = start; i < newEnd; i++) {
+			int id = getId(ids, newList.get(i));
+			allNewIds[i - start] = id;
+			inNew.set(id);
+		}
+
+		oldIndices = new int[allOldIds.length];
+		oldIds = new int[allOldIds.length];
+		int oldCount = 0;
+		for (int i = 0; i < allOldIds.length; i++) {
+			if (inNew.get(allOldIds[i])) {
+				oldIndices[oldCount] = i;
+				oldIds[oldCount++] = allOldIds[i];
+			} else {
+				removed[i] = true;
+			}
+		}
+		newIndices = new int[allNewIds.length];
+		newIds = new int[allNewIds.length];
+		int newCount = 0;
+		for (int i = 0; i < allNewIds.length; i++) {
+			if (inOld.get(allNewIds[i])) {
+				newIndices[newCount] = i;
+				newIds[newCount++] = allNewIds[i];
+			} else {
+				added[i] = true;
+			}
+		}
+		oldIds = Arrays.copyOf(oldIds, oldCount);
+		newIds = Arrays.copyOf(newIds, newCount);
+	}
+
+	private static int getId(Map<Object, Integer> ids, Object element) {
+		Integer id = ids.get(element);
+		if (id == null) {
+			id = ids.size();
+			ids.put(element, id);
+		}
+		return id;
+	}
+
+	/**
+	 * Marks the removed and added elements between the given bounds of the old
+	 * and the new list.
+	 */
+	private void compare(int oldStart, int oldEnd, int newStart, int newEnd) {
+		while (oldStart < oldEnd && newStart < newEnd && oldIds[oldStart] == newIds[newStart]) {
+			oldStart++;
+			newStart++;
+		}
+		while (oldEnd > oldStart && newEnd > newStart && oldIds[oldEnd - 1] == newIds[newEnd - 1]) {
+			oldEnd--;
+			newEnd--;
+		}
+		if (oldStart == oldEnd) {
+			mark(added, newIndices, newStart, newEnd);
+		} else if (newStart == newEnd) {
+			mark(removed, oldIndices, oldStart, oldEnd);
+		} else {
+			long middle = findMiddleSnake(oldStart, oldEnd, newStart, newEnd);
+			int oldMiddle = (int) (middle >>> 32);
+			int newMiddle = (int) middle;
+			compare(oldStart, oldMiddle, newStart, newMiddle);
+			compare(oldMiddle, oldEnd, newMiddle, newEnd);
+		}
+	}
+
+	/**
+	 * Searches the shortest edit path from both ends at once and returns the
+	 * point where the paths meet, encoded as the old index in the upper and the
+	 * new index in the lower 32 bits.
+	 */
+	private long findMiddleSnake(int oldStart, int oldEnd, int newStart, int newEnd) {
+		int[] fd = forward;
+		int[] bd = backward;
+		int off = diagonalOffset;
+		int minDiagonal = oldStart - newEnd;
+		int maxDiagonal = oldEnd - newStart;
+		int forwardMid = oldStart - newStart;
+		int backwardMid = oldEnd - newEnd;
+		int forwardMin = forwardMid;
+		int forwardMax = forwardMid;
+		int backwardMin = backwardMid;
+		int backwardMax = backwardMid;
+		boolean odd = ((forwardMid - backwardMid) & 1) != 0;
+		fd[off + forwardMid] = oldStart;
+		bd[off + backwardMid] = oldEnd;
+
+		while (true) {
+			// extend the forward paths by one edit
+			if (forwardMin > minDiagonal) {
+				fd[off + --forwardMin - 1] = -1;
+			} else {
+				forwardMin++;
+			}
+			if (forwardMax < maxDiagonal) {
+				fd[off + ++forwardMax + 1] = -1;
+			} else {
+				forwardMax--;
+			}
+			for (int d = forwardMax; d >= forwardMin; d -= 2) {
+				int low = fd[off + d - 1];
+				int high = fd[off + d + 1];
+				int x = low >= high ? low + 1 : high;
+				int y = x - d;
+				while (x < oldEnd && y < newEnd && oldIds[x] == newIds[y]) {
+					x++;
+					y++;
+				}
+				fd[off + d] = x;
+				if (odd && backwardMin <= d && d <= backwardMax && bd[off + d] <= x) {
+					return ((long) x << 32) | y;
+				}
+			}
+
+			// extend the backward paths by one edit
+			if (backwardMin > minDiagonal) {
+				bd[off + --backwardMin - 1] = Integer.MAX_VALUE;
+			} else {
+				backwardMin++;
+			}
+			if (backwardMax < maxDiagonal) {
+				bd[off + ++backwardMax + 1] = Integer.MAX_VALUE;
+			} else {
+				backwardMax--;
+			}
+			for (int d = backwardMax; d >= backwardMin; d -= 2) {
+				int low = bd[off + d - 1];
+				int high = bd[off + d + 1];
+				int x = low < high ? low : high - 1;
+				int y = x - d;
+				while (x > oldStart && y > newStart && oldIds[x - 1] == newIds[y - 1]) {
+					x--;
+					y--;
+				}
+				bd[off + d] = x;
+				if (!odd && forwardMin <= d && d <= forwardMax && x <= fd[off + d]) {
+					return ((long) x << 32) | y;
+				}
+			}
+		}
+	}
+
+	private static void fill(boolean[] array, int from, int to) {
+		for (int i = from; i < to; i++) {
+			array[i] = true;
+		}
+	}
+
+	private static void mark(boolean[] array, int[] indices, int from, int to) {
+		for (int i = from; i < to; i++) {
+			array[indices[i]] = true;
+		}
+	}
+
+	/**
+	 * Converts the marked elements into diff entries, removing the elements of
+	 * a changed region before adding the new ones.
+	 */
+	private List<ListDiffEntry<E>> createEntries(int start, int n, int m) {
+		List<ListDiffEntry<E>> entries = new ArrayList<>();
+		int oldIndex = 0;
+		int newIndex = 0;
+		while (oldIndex < n || newIndex < m) {
+			int position = start + newIndex;
+			if (oldIndex < n && removed[oldIndex]) {
+				entries.add(Diffs.createListDiffEntry(position, false, oldList.get(start + oldIndex)));
+				oldIndex++;
+			} else if (newIndex < m && added[newIndex]) {
+				entries.add(Diffs.createListDiffEntry(position, true, newList.get(start + newIndex)));
+				newIndex++;
+			} else {
+				oldIndex++;
+				newIndex++;
+			}
+		}
+		return entries;
+	}
+}
@@ -0,0 +1,122 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.core.databinding.property.value;
+
+import org.eclipse.core.databinding.observable.Realm;
+import org.eclipse.core.databinding.observable.value.IObservableBooleanValue;
+import org.eclipse.core.internal.databinding.property.value.SimplePropertyObservableBooleanValue;
+
+/**
+ * Simplified abstract implementation of a <code>boolean</code> valued
+ * IValueProperty, whose observables implement {@link IObservableBooleanValue} and
+ * read and write the property without boxing.
+ * <p>
+ * Subclasses must implement these methods:
+ * <ul>
+ * <li>{@link #doGetBooleanValue(Object)}
+ * <li>{@link #doSetBooleanValue(Object, boolean)}
+ * <li>{@link #adaptListener(org.eclipse.core.databinding.property.ISimplePropertyListener)}
+ * </ul>
+ * <p>
+ * The value type is {@link Boolean#TYPE}. The value of the property on a
+ * <code>null</code> source is <code>false</code>.
+ *
+ * @param <S>
+ *            type of the source object
+ * @since 1.11
+ */
+public abstract class SimpleBooleanValueProperty<S> extends SimpleValueProperty<S, Boolean> {
+
+	/**
+	 * Returns the value of the property on the specified source object
+	 *
+	 * @param source
+	 *            the property source, not <code>null</code>
+	 * @return the current value of the source's value property
+	 * @noreference This method is not intended to be referenced by clients.
+	 */
+	protected abstract boolean doGetBooleanValue(S source);
+
+	/**
+	 * Sets the source's value property to the specified value
+	 *
+	 * @param source
+	 *            the property source, not <code>null</code>
+	 * @param value
+	 *            the new value
+	 * @noreference This method is not intended to be referenced by clients.
+	 */
+	protected abstract void doSetBooleanValue(S source, boolean value);
+
+	/**
+	 * Returns the value of the property on the specified source object
+	 *
+	 * @param source
+	 *            the property source (may be null)
+	 * @return the current value of the source's value property, or
+	 *         <code>false</code> if the source is <code>null</code>
+	 */
+	public boolean getBooleanValue(S source) {
+		if (source == null) {
+			return false;
+		}
+		return doGetBooleanValue(source);
+	}
+
+	/**
+	 * Sets the source's value property to the specified value. Does nothing if
+	 * the source is <code>null</code>.
+	 *
+	 * @param source
+	 *            the property source (may be null)
+	 * @param value
+	 *            the new value
+	 */
+	public void setBooleanValue(S source, boolean value) {
+		if (source != null) {
+			doSetBooleanValue(source, value);
+		}
+	}
+
+	@Override
+	public Object getValueType() {
+		return Boolean.TYPE;
+	}
+
+	@Override
+	public Boolean getValue(S source) {
+		return Boolean.valueOf(getBooleanValue(source));
+	}
+
+	@Override
+	protected Boolean doGetValue(S source) {
+		return Boolean.valueOf(doGetBooleanValue(source));
+	}
+
+	@Override
+	protected void doSetValue(S source, Boolean value) {
+		doSetBooleanValue(source, value.booleanValue());
+	}
+
+	@Override
+	public IObservableBooleanValue observe(S source) {
+		return observe(Realm.getDefault(), source);
+	}
+
+	@Override
+	public IObservableBooleanValue observe(Realm realm, S source) {
+		return new SimplePropertyObservableBooleanValue<>(realm, source, this);
+	}
+}
@@ -0,0 +1,122 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.core.databinding.property.value;
+
+import org.eclipse.core.databinding.observable.Realm;
+import org.eclipse.core.databinding.observable.value.IObservableDoubleValue;
+import org.eclipse.core.internal.databinding.property.value.SimplePropertyObservableDoubleValue;
+
+/**
+ * Simplified abstract implementation of a <code>double</code> valued
+ * IValueProperty, whose observables implement {@link IObservableDoubleValue} and
+ * read and write the property without boxing.
+ * <p>
+ * Subclasses must implement these methods:
+ * <ul>
+ * <li>{@link #doGetDoubleValue(Object)}
+ * <li>{@link #doSetDoubleValue(Object, double)}
+ * <li>{@link #adaptListener(org.eclipse.core.databinding.property.ISimplePropertyListener)}
+ * </ul>
+ * <p>
+ * The value type is {@link Double#TYPE}. The value of the property on a
+ * <code>null</code> source is <code>0</code>.
+ *
+ * @param <S>
+ *            type of the source object
+ * @since 1.11
+ */
+public abstract class SimpleDoubleValueProperty<S> extends SimpleValueProperty<S, Double> {
+
+	/**
+	 * Returns the value of the property on the specified source object
+	 *
+	 * @param source
+	 *            the property source, not <code>null</code>
+	 * @return the current value of the source's value property
+	 * @noreference This method is not intended to be referenced by clients.
+	 */
+	protected abstract double doGetDoubleValue(S source);
+
+	/**
+	 * Sets the source's value property to the specified value
+	 *
+	 * @param source
+	 *            the property source, not <code>null</code>
+	 * @param value
+	 *            the new value
+	 * @noreference This method is not intended to be referenced by clients.
+	 */
+	protected abstract void doSetDoubleValue(S source, double value);
+
+	/**
+	 * Returns the value of the property on the specified source object
+	 *
+	 * @param source
+	 *            the property source (may be null)
+	 * @return the current value of the source's value property, or
+	 *         <code>0</code> if the source is <code>null</code>
+	 */
+	public double getDoubleValue(S source) {
+		if (source == null) {
+			return 0;
+		}
+		return doGetDoubleValue(source);
+	}
+
+	/**
+	 * Sets the source's value property to the specified value. Does nothing if
+	 * the source is <code>null</code>.
+	 *
+	 * @param source
+	 *            the property source (may be null)
+	 * @param value
+	 *            the new value
+	 */
+	public void setDoubleValue(S source, double value) {
+		if (source != null) {
+			doSetDoubleValue(source, value);
+		}
+	}
+
+	@Override
+	public Object getValueType() {
+		return Double.TYPE;
+	}
+
+	@Override
+	public Double getValue(S source) {
+		return Double.valueOf(getDoubleValue(source));
+	}
+
+	@Override
+	protected Double doGetValue(S source) {
+		return Double.valueOf(doGetDoubleValue(source));
+	}
+
+	@Override
+	protected void doSetValue(S source, Double value) {
+		doSetDoubleValue(source, value.doubleValue());
+	}
+
+	@Override
+	public IObservableDoubleValue observe(S source) {
+		return observe(Realm.getDefault(), source);
+	}
+
+	@Override
+	public IObservableDoubleValue observe(Realm realm, S source) {
+		return new SimplePropertyObservableDoubleValue<>(realm, source, this);
+	}
+}
@@ -0,0 +1,122 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.core.databinding.property.value;
+
+import org.eclipse.core.databinding.observable.Realm;
+import org.eclipse.core.databinding.observable.value.IObservableIntValue;
+import org.eclipse.core.internal.databinding.property.value.SimplePropertyObservableIntValue;
+
+/**
+ * Simplified abstract implementation of an <code>int</code> valued
+ * IValueProperty, whose observables implement {@link IObservableIntValue} and
+ * read and write the property without boxing.
+ * <p>
+ * Subclasses must implement these methods:
+ * <ul>
+ * <li>{@link #doGetIntValue(Object)}
+ * <li>{@link #doSetIntValue(Object, int)}
+ * <li>{@link #adaptListener(org.eclipse.core.databinding.property.ISimplePropertyListener)}
+ * </ul>
+ * <p>
+ * The value type is {@link Integer#TYPE}. The value of the property on a
+ * <code>null</code> source is <code>0</code>.
+ *
+ * @param <S>
+ *            type of the source object
+ * @since 1.11
+ */
+public abstract class SimpleIntValueProperty<S> extends SimpleValueProperty<S, Integer> {
+
+	/**
+	 * Returns the value of the property on the specified source object
+	 *
+	 * @param source
+	 *            the property source, not <code>null</code>
+	 * @return the current value of the source's value property
+	 * @noreference This method is not intended to be referenced by clients.
+	 */
+	protected abstract int doGetIntValue(S source);
+
+	/**
+	 * Sets the source's value property to the specified value
+	 *
+	 * @param source
+	 *            the property source, not <code>null</code>
+	 * @param value
+	 *            the new value
+	 * @noreference This method is not intended to be referenced by clients.
+	 */
+	protected abstract void doSetIntValue(S source, int value);
+
+	/**
+	 * Returns the value of the property on the specified source object
+	 *
+	 * @param source
+	 *            the property source (may be null)
+	 * @return the current value of the source's value property, or
+	 *         <code>0</code> if the source is <code>null</code>
+	 */
+	public int getIntValue(S source) {
+		if (source == null) {
+			return 0;
+		}
+		return doGetIntValue(source);
+	}
+
+	/**
+	 * Sets the source's value property to the specified value. Does nothing if
+	 * the source is <code>null</code>.
+	 *
+	 * @param source
+	 *            the property source (may be null)
+	 * @param value
+	 *            the new value
+	 */
+	public void setIntValue(S source, int value) {
+		if (source != null) {
+			doSetIntValue(source, value);
+		}
+	}
+
+	@Override
+	public Object getValueType() {
+		return Integer.TYPE;
+	}
+
+	@Override
+	public Integer getValue(S source) {
+		return Integer.valueOf(getIntValue(source));
+	}
+
+	@Override
+	protected Integer doGetValue(S source) {
+		return Integer.valueOf(doGetIntValue(source));
+	}
+
+	@Override
+	protected void doSetValue(S source, Integer value) {
+		doSetIntValue(source, value.intValue());
+	}
+
+	@Override
+	public IObservableIntValue observe(S source) {
+		return observe(Realm.getDefault(), source);
+	}
+
+	@Override
+	public IObservableIntValue observe(Realm realm, S source) {
+		return new SimplePropertyObservableIntValue<>(realm, source, this);
+	}
+}
@@ -0,0 +1,165 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.core.internal.databinding.property.value;
+
+import org.eclipse.core.databinding.observable.Diffs;
+import org.eclipse.core.databinding.observable.ObservableTracker;
+import org.eclipse.core.databinding.observable.Realm;
+import org.eclipse.core.databinding.observable.value.AbstractObservableValue;
+import org.eclipse.core.databinding.observable.value.IObservableBooleanValue;
+import org.eclipse.core.databinding.observable.value.ValueDiff;
+import org.eclipse.core.databinding.property.INativePropertyListener;
+import org.eclipse.core.databinding.property.IPropertyObservable;
+import org.eclipse.core.databinding.property.SimplePropertyEvent;
+import org.eclipse.core.databinding.property.value.SimpleBooleanValueProperty;
+
+/**
+ * The observable of a {@link SimpleBooleanValueProperty}, which caches the value
+ * as a <code>boolean</code> and only boxes it for change events.
+ *
+ * @param <S>
+ *            type of the source object
+ * @since 1.11
+ */
+public class SimplePropertyObservableBooleanValue<S> extends AbstractObservableValue<Boolean>
+		implements IObservableBooleanValue, IPropertyObservable<SimpleBooleanValueProperty<S>> {
+	private S source;
+	private SimpleBooleanValueProperty<S> property;
+
+	private boolean updating = false;
+	private boolean cachedValue;
+	private boolean stale;
+
+	private INativePropertyListener<S> listener;
+
+	public SimplePropertyObservableBooleanValue(Realm realm, S source, SimpleBooleanValueProperty<S> property) {
+		super(realm);
+		this.source = source;
+		this.property = property;
+	}
+
+	@Override
+	protected void firstListenerAdded() {
+		if (!isDisposed() && listener == null) {
+			listener = property.adaptListener(event -> {
+				if (!isDisposed() && !updating) {
+					getRealm().exec(() -> {
+						if (event.type == SimplePropertyEvent.CHANGE) {
+							notifyIfChanged(event.diff);
+						} else if (event.type == SimplePropertyEvent.STALE && !stale) {
+							stale = true;
+							fireStale();
+						}
+					});
+				}
+			});
+		}
+		getRealm().exec(() -> {
+			cachedValue = property.getBooleanValue(source);
+			stale = false;
+			if (listener != null)
+				listener.addTo(source);
+		});
+	}
+
+	@Override
+	protected void lastListenerRemoved() {
+		if (listener != null)
+			listener.removeFrom(source);
+		cachedValue = false;
+		stale = false;
+	}
+
+	@Override
+	public boolean getBooleanValue() {
+		ObservableTracker.getterCalled(this);
+		return doGetBooleanValue();
+	}
+
+	private boolean doGetBooleanValue() {
+		notifyIfChanged(null);
+		return property.getBooleanValue(source);
+	}
+
+	@Override
+	protected Boolean doGetValue() {
+		return Boolean.valueOf(doGetBooleanValue());
+	}
+
+	@Override
+	public void setBooleanValue(boolean value) {
+		checkRealm();
+		updating = true;
+		try {
+			property.setBooleanValue(source, value);
+		} finally {
+			updating = false;
+		}
+
+		notifyIfChanged(null);
+	}
+
+	@Override
+	protected void doSetValue(Boolean value) {
+		setBooleanValue(value.booleanValue());
+	}
+
+	private void notifyIfChanged(ValueDiff<? extends Boolean> diff) {
+		if (hasListeners()) {
+			boolean oldValue = cachedValue;
+			boolean newValue = cachedValue = property.getBooleanValue(source);
+			if (oldValue != newValue || stale) {
+				stale = false;
+				if (diff == null)
+					diff = Diffs.createValueDiff(Boolean.valueOf(oldValue), Boolean.valueOf(newValue));
+				fireValueChange(Diffs.unmodifiableDiff(diff));
+			}
+		}
+	}
+
+	@Override
+	public Object getValueType() {
+		return Boolean.TYPE;
+	}
+
+	@Override
+	public Object getObserved() {
+		return source;
+	}
+
+	@Override
+	public SimpleBooleanValueProperty<S> getProperty() {
+		return property;
+	}
+
+	@Override
+	public boolean isStale() {
+		ObservableTracker.getterCalled(this);
+		return stale;
+	}
+
+	@Override
+	public synchronized void dispose() {
+		if (!isDisposed()) {
+			if (listener != null)
+				listener.removeFrom(source);
+			source = null;
+			property = null;
+			listener = null;
+			stale = false;
+		}
+		super.dispose();
+	}
+}
@@ -0,0 +1,165 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.core.internal.databinding.property.value;
+
+import org.eclipse.core.databinding.observable.Diffs;
+import org.eclipse.core.databinding.observable.ObservableTracker;
+import org.eclipse.core.databinding.observable.Realm;
+import org.eclipse.core.databinding.observable.value.AbstractObservableValue;
+import org.eclipse.core.databinding.observable.value.IObservableDoubleValue;
+import org.eclipse.core.databinding.observable.value.ValueDiff;
+import org.eclipse.core.databinding.property.INativePropertyListener;
+import org.eclipse.core.databinding.property.IPropertyObservable;
+import org.eclipse.core.databinding.property.SimplePropertyEvent;
+import org.eclipse.core.databinding.property.value.SimpleDoubleValueProperty;
+
+/**
+ * The observable of a {@link SimpleDoubleValueProperty}, which caches the value
+ * as a <code>double</code> and only boxes it for change events.
+ *
+ * @param <S>
+ *            type of the source object
+ * @since 1.11
+ */
+public class SimplePropertyObservableDoubleValue<S> extends AbstractObservableValue<Double>
+		implements IObservableDoubleValue, IPropertyObservable<SimpleDoubleValueProperty<S>> {
+	private S source;
+	private SimpleDoubleValueProperty<S> property;
+
+	private boolean updating = false;
+	private double cachedValue;
+	private boolean stale;
+
+	private INativePropertyListener<S> listener;
+
+	public SimplePropertyObservableDoubleValue(Realm realm, S source, SimpleDoubleValueProperty<S> property) {
+		super(realm);
+		this.source = source;
+		this.property = property;
+	}
+
+	@Override
+	protected void firstListenerAdded() {
+		if (!isDisposed() && listener == null) {
+			listener = property.adaptListener(event -> {
+				if (!isDisposed() && !updating) {
+					getRealm().exec(() -> {
+						if (event.type == SimplePropertyEvent.CHANGE) {
+							notifyIfChanged(event.diff);
+						} else if (event.type == SimplePropertyEvent.STALE && !stale) {
+							stale = true;
+							fireStale();
+						}
+					});
+				}
+			});
+		}
+		getRealm().exec(() -> {
+			cachedValue = property.getDoubleValue(source);
+			stale = false;
+			if (listener != null)
+				listener.addTo(source);
+		});
+	}
+
+	@Override
+	protected void lastListenerRemoved() {
+		if (listener != null)
+			listener.removeFrom(source);
+		cachedValue = 0;
+		stale = false;
+	}
+
+	@Override
+	public double getDoubleValue() {
+		ObservableTracker.getterCalled(this);
+		return doGetDoubleValue();
+	}
+
+	private double doGetDoubleValue() {
+		notifyIfChanged(null);
+		return property.getDoubleValue(source);
+	}
+
+	@Override
+	protected Double doGetValue() {
+		return Double.valueOf(doGetDoubleValue());
+	}
+
+	@Override
+	public void setDoubleValue(double value) {
+		checkRealm();
+		updating = true;
+		try {
+			property.setDoubleValue(source, value);
+		} finally {
+			updating = false;
+		}
+
+		notifyIfChanged(null);
+	}
+
+	@Override
+	protected void doSetValue(Double value) {
+		setDoubleValue(value.doubleValue());
+	}
+
+	private void notifyIfChanged(ValueDiff<? extends Double> diff) {
+		if (hasListeners()) {
+			double oldValue = cachedValue;
+			double newValue = cachedValue = property.getDoubleValue(source);
+			if (Double.doubleToLongBits(oldValue) != Double.doubleToLongBits(newValue) || stale) {
+				stale = false;
+				if (diff == null)
+					diff = Diffs.createValueDiff(Double.valueOf(oldValue), Double.valueOf(newValue));
+				fireValueChange(Diffs.unmodifiableDiff(diff));
+			}
+		}
+	}
+
+	@Override
+	public Object getValueType() {
+		return Double.TYPE;
+	}
+
+	@Override
+	public Object getObserved() {
+		return source;
+	}
+
+	@Override
+	public SimpleDoubleValueProperty<S> getProperty() {
+		return property;
+	}
+
+	@Override
+	public boolean isStale() {
+		ObservableTracker.getterCalled(this);
+		return stale;
+	}
+
+	@Override
+	public synchronized void dispose() {
+		if (!isDisposed()) {
+			if (listener != null)
+				listener.removeFrom(source);
+			source = null;
+			property = null;
+			listener = null;
+			stale = false;
+		}
+		super.dispose();
+	}
+}
@@ -0,0 +1,165 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.core.internal.databinding.property.value;
+
+import org.eclipse.core.databinding.observable.Diffs;
+import org.eclipse.core.databinding.observable.ObservableTracker;
+import org.eclipse.core.databinding.observable.Realm;
+import org.eclipse.core.databinding.observable.value.AbstractObservableValue;
+import org.eclipse.core.databinding.observable.value.IObservableIntValue;
+import org.eclipse.core.databinding.observable.value.ValueDiff;
+import org.eclipse.core.databinding.property.INativePropertyListener;
+import org.eclipse.core.databinding.property.IPropertyObservable;
+import org.eclipse.core.databinding.property.SimplePropertyEvent;
+import org.eclipse.core.databinding.property.value.SimpleIntValueProperty;
+
+/**
+ * The observable of a {@link SimpleIntValueProperty}, which caches the value
+ * as an <code>int</code> and only boxes it for change events.
+ *
+ * @param <S>
+ *            type of the source object
+ * @since 1.11
+ */
+public class SimplePropertyObservableIntValue<S> extends AbstractObservableValue<Integer>
+		implements IObservableIntValue, IPropertyObservable<SimpleIntValueProperty<S>> {
+	private S source;
+	private SimpleIntValueProperty<S> property;
+
+	private boolean updating = false;
+	private int cachedValue;
+	private boolean stale;
+
+	private INativePropertyListener<S> listener;
+
+	public SimplePropertyObservableIntValue(Realm realm, S source, SimpleIntValueProperty<S> property) {
+		super(realm);
+		this.source = source;
+		this.property = property;
+	}
+
+	@Override
+	protected void firstListenerAdded() {
+		if (!isDisposed() && listener == null) {
+			listener = property.adaptListener(event -> {
+				if (!isDisposed() && !updating) {
+					getRealm().exec(() -> {
+						if (event.type == SimplePropertyEvent.CHANGE) {
+							notifyIfChanged(event.diff);
+						} else if (event.type == SimplePropertyEvent.STALE && !stale) {
+							stale = true;
+							fireStale();
+						}
+					});
+				}
+			});
+		}
+		getRealm().exec(() -> {
+			cachedValue = property.getIntValue(source);
+			stale = false;
+			if (listener != null)
+				listener.addTo(source);
+		});
+	}
+
+	@Override
+	protected void lastListenerRemoved() {
+		if (listener != null)
+			listener.removeFrom(source);
+		cachedValue = 0;
+		stale = false;
+	}
+
+	@Override
+	public int getIntValue() {
+		ObservableTracker.getterCalled(this);
+		return doGetIntValue();
+	}
+
+	private int doGetIntValue() {
+		notifyIfChanged(null);
+		return property.getIntValue(source);
+	}
+
+	@Override
+	protected Integer doGetValue() {
+		return Integer.valueOf(doGetIntValue());
+	}
+
+	@Override
+	public void setIntValue(int value) {
+		checkRealm();
+		updating = true;
+		try {
+			property.setIntValue(source, value);
+		} finally {
+			updating = false;
+		}
+
+		notifyIfChanged(null);
+	}
+
+	@Override
+	protected void doSetValue(Integer value) {
+		setIntValue(value.intValue());
+	}
+
+	private void notifyIfChanged(ValueDiff<? extends Integer> diff) {
+		if (hasListeners()) {
+			int oldValue = cachedValue;
+			int newValue = cachedValue = property.getIntValue(source);
+			if (oldValue != newValue || stale) {
+				stale = false;
+				if (diff == null)
+					diff = Diffs.createValueDiff(Integer.valueOf(oldValue), Integer.valueOf(newValue));
+				fireValueChange(Diffs.unmodifiableDiff(diff));
+			}
+		}
+	}
+
+	@Override
+	public Object getValueType() {
+		return Integer.TYPE;
+	}
+
+	@Override
+	public Object getObserved() {
+		return source;
+	}
+
+	@Override
+	public SimpleIntValueProperty<S> getProperty() {
+		return property;
+	}
+
+	@Override
+	public boolean isStale() {
+		ObservableTracker.getterCalled(this);
+		return stale;
+	}
+
+	@Override
+	public synchronized void dispose() {
+		if (!isDisposed()) {
+			if (listener != null)
+				listener.removeFrom(source);
+			source = null;
+			property = null;
+			listener = null;
+			stale = false;
+		}
+		super.dispose();
+	}
+}
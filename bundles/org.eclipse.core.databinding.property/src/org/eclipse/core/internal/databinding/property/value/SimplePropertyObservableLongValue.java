@@ -0,0 +1,165 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.core.internal.databinding.property.value;
+
+import org.eclipse.core.databinding.observable.Diffs;
+import org.eclipse.core.databinding.observable.ObservableTracker;
+import org.eclipse.core.databinding.observable.Realm;
+import org.eclipse.core.databinding.observable.value.AbstractObservableValue;
+import org.eclipse.core.databinding.observable.value.IObservableLongValue;
+import org.eclipse.core.databinding.observable.value.ValueDiff;
+import org.eclipse.core.databinding.property.INativePropertyListener;
+import org.eclipse.core.databinding.property.IPropertyObservable;
+import org.eclipse.core.databinding.property.SimplePropertyEvent;
+import org.eclipse.core.databinding.property.value.SimpleLongValueProperty;
+
+/**
+ * The observable of a {@link SimpleLongValueProperty}, which caches the value
+ * as a <code>long</code> and only boxes it for change events.
+ *
+ * @param <S>
+ *            type of the source object
+ * @since 1.11
+ */
+public class SimplePropertyObservableLongValue<S> extends AbstractObservableValue<Long>
+		implements IObservableLongValue, IPropertyObservable<SimpleLongValueProperty<S>> {
+	private S source;
+	private SimpleLongValueProperty<S> property;
+
+	private boolean updating = false;
+	private long cachedValue;
+	private boolean stale;
+
+	private INativePropertyListener<S> listener;
+
+	public SimplePropertyObservableLongValue(Realm realm, S source, SimpleLongValueProperty<S> property) {
+		super(realm);
+		this.source = source;
+		this.property = property;
+	}
+
+	@Override
+	protected void firstListenerAdded() {
+		if (!isDisposed() && listener == null) {
+			listener = property.adaptListener(event -> {
+				if (!isDisposed() && !updating) {
+					getRealm().exec(() -> {
+						if (event.type == SimplePropertyEvent.CHANGE) {
+							notifyIfChanged(event.diff);
+						} else if (event.type == SimplePropertyEvent.STALE && !stale) {
+							stale = true;
+							fireStale();
+						}
+					});
+				}
+			});
+		}
+		getRealm().exec(() -> {
+			cachedValue = property.getLongValue(source);
+			stale = false;
+			if (listener != null)
+				listener.addTo(source);
+		});
+	}
+
+	@Override
+	protected void lastListenerRemoved() {
+		if (listener != null)
+			listener.removeFrom(source);
+		cachedValue = 0;
+		stale = false;
+	}
+
+	@Override
+	public long getLongValue() {
+		ObservableTracker.getterCalled(this);
+		return doGetLongValue();
+	}
+
+	private long doGetLongValue() {
+		notifyIfChanged(null);
+		return property.getLongValue(source);
+	}
+
+	@Override
+	protected Long doGetValue() {
+		return Long.valueOf(doGetLongValue());
+	}
+
+	@Override
+	public void setLongValue(long value) {
+		checkRealm();
+		updating = true;
+		try {
+			property.setLongValue(source, value);
+		} finally {
+			updating = false;
+		}
+
+		notifyIfChanged(null);
+	}
+
+	@Override
+	protected void doSetValue(Long value) {
+		setLongValue(value.longValue());
+	}
+
+	private void notifyIfChanged(ValueDiff<? extends Long> diff) {
+		if (hasListeners()) {
+			long oldValue = cachedValue;
+			long newValue = cachedValue = property.getLongValue(source);
+			if (oldValue != newValue || stale) {
+				stale = false;
+				if (diff == null)
+					diff = Diffs.createValueDiff(Long.valueOf(oldValue), Long.valueOf(newValue));
+				fireValueChange(Diffs.unmodifiableDiff(diff));
+			}
+		}
+	}
+
+	@Override
+	public Object getValueType() {
+		return Long.TYPE;
+	}
+
+	@Override
+	public Object getObserved() {
+		return source;
+	}
+
+	@Override
+	public SimpleLongValueProperty<S> getProperty() {
+		return property;
+	}
+
+	@Override
+	public boolean isStale() {
+		ObservableTracker.getterCalled(this);
+		return stale;
+	}
+
+	@Override
+	public synchronized void dispose() {
+		if (!isDisposed()) {
+			if (listener != null)
+				listener.removeFrom(source);
+			source = null;
+			property = null;
+			listener = null;
+			stale = false;
+		}
+		super.dispose();
+	}
+}
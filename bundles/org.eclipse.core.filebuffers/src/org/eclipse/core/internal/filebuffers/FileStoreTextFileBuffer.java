@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2023 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -205,6 +205,11 @@ public class FileStoreTextFileBuffer extends FileStoreFileBuffer implements ITex
 		if (isDisconnected())
 			return;
 
+		if (fDocument instanceof MappedFileDocument) {
+			revertMappedDocument();
+			return;
+		}
+
 		IDocument original= null;
 		fStatus= null;
 
@@ -264,6 +269,45 @@ public class FileStoreTextFileBuffer extends FileStoreFileBuffer implements ITex
 		}
 	}
 
+	/**
+	 * Maps the file again instead of reading it into a new document, which is not possible for
+	 * the files that are mapped, see {@link MappedFileDocument}.
+	 */
+	private void revertMappedDocument() {
+		fStatus= null;
+		fManager.fireStateChanging(this);
+		try {
+			fManager.fireBufferContentAboutToBeReplaced(this);
+			IFileInfo info= fFileStore.fetchInfo();
+			if (info.exists())
+				fSynchronizationStamp= info.getLastModified();
+			try {
+				((MappedFileDocument) fDocument).remap(fSynchronizationStamp);
+			} catch (IOException x) {
+				fStatus= new Status(IStatus.ERROR, FileBuffersPlugin.PLUGIN_ID, IStatus.OK, x.getLocalizedMessage(), x);
+			}
+			fManager.fireBufferContentReplaced(this);
+
+			if (fAnnotationModel instanceof IPersistableAnnotationModel) {
+				IPersistableAnnotationModel persistableModel= (IPersistableAnnotationModel) fAnnotationModel;
+				try {
+					persistableModel.revert(fDocument);
+				} catch (CoreException x) {
+					fStatus= x.getStatus();
+				}
+			}
+		} catch (RuntimeException x) {
+			fManager.fireStateChangeFailed(this);
+			throw x;
+		}
+	}
+
+	@Override
+	public boolean isCommitable() {
+		// a mapped document cannot be modified
+		return !(fDocument instanceof MappedFileDocument) && super.isCommitable();
+	}
+
 	/*
 	 * @see org.eclipse.core.filebuffers.IFileBuffer#getContentType()
 	 * @since 3.1
@@ -305,9 +349,13 @@ public class FileStoreTextFileBuffer extends FileStoreFileBuffer implements ITex
 	@Override
 	protected void initializeFileBufferContent(IProgressMonitor monitor) throws CoreException {
 		try {
-			fDocument= fManager.createEmptyDocument(getLocationOrName(), LocationKind.LOCATION);
 			cacheEncodingState();
-			setDocumentContent(fDocument, fFileStore, fEncoding, fHasBOM, monitor);
+			int bomLength= fHasBOM && StandardCharsets.UTF_8.name().equals(fEncoding) ? IContentDescription.BOM_UTF_8.length : 0;
+			fDocument= fManager.createMappedDocument(fFileStore.toLocalFile(EFS.NONE, null), fEncoding, bomLength);
+			if (fDocument == null) {
+				fDocument= fManager.createEmptyDocument(getLocationOrName(), LocationKind.LOCATION);
+				setDocumentContent(fDocument, fFileStore, fEncoding, fHasBOM, monitor);
+			}
 		} catch (CoreException x) {
 			fDocument= fManager.createEmptyDocument(getLocationOrName(), LocationKind.LOCATION);
 			fStatus= x.getStatus();
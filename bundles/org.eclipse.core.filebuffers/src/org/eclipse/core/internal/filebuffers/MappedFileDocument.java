@@ -0,0 +1,170 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.core.internal.filebuffers;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+
+import org.eclipse.jface.text.AbstractDocument;
+import org.eclipse.jface.text.BadLocationException;
+import org.eclipse.jface.text.BadPositionCategoryException;
+import org.eclipse.jface.text.DocumentEvent;
+import org.eclipse.jface.text.Position;
+
+
+/**
+ * A read-only document for very large files. The content is backed by a memory-mapped file that
+ * is decoded on demand, so the heap footprint does not depend on the file size.
+ * <p>
+ * All attempts to modify the document throw an <code>UnsupportedOperationException</code>. When
+ * the file changes, {@link #remap(long)} replaces the content with the new content of the file.
+ * </p>
+ *
+ * @see MappedFileTextStore
+ * @since 3.9
+ */
+public class MappedFileDocument extends AbstractDocument {
+
+	/** The mapped file */
+	private final Path fFile;
+	/** The charset of the file */
+	private final Charset fCharset;
+	/** The number of bytes to skip at the start of the file */
+	private final long fContentStart;
+	/** The modification stamp, which only changes when the file is mapped again */
+	private long fModificationStamp;
+
+	/**
+	 * Creates a new document for the given file.
+	 *
+	 * @param file the file
+	 * @param charset the charset of the file, must be
+	 *            {@linkplain MappedFileTextStore#isSupported(Charset) supported}
+	 * @param contentStart the number of bytes to skip at the start of the file, e.g. for a BOM
+	 * @throws IOException if the file cannot be mapped
+	 */
+	public MappedFileDocument(Path file, Charset charset, long contentStart) throws IOException {
+		super();
+		fFile= file;
+		fCharset= charset;
+		fContentStart= contentStart;
+		MappedFileTextStore store= new MappedFileTextStore(file, charset, contentStart);
+		setTextStore(store);
+		setLineTracker(new MappedFileLineTracker(store));
+		completeInitialization();
+		fModificationStamp= super.getModificationStamp();
+	}
+
+	/**
+	 * Maps the file again and replaces the content of this document with its current content.
+	 * The previous mapping is dropped, so that a file that has been changed or truncated is no
+	 * longer read through a stale mapping.
+	 * <p>
+	 * The document event does not carry the new content in its {@link DocumentEvent#fText} field,
+	 * which is <code>null</code>. The content is only read into a string if a listener asks for
+	 * the {@link DocumentEvent#getText() text} of the event. The positions of this document are
+	 * updated without the text: positions that cover the whole content are adapted to the new
+	 * length and all other positions are deleted, as the position updaters would do for the
+	 * replacement of the whole content.
+	 * </p>
+	 *
+	 * @param modificationStamp the new modification stamp of this document
+	 * @throws IOException if the file cannot be mapped, the content is not changed in that case
+	 */
+	public void remap(long modificationStamp) throws IOException {
+		MappedFileTextStore store= new MappedFileTextStore(fFile, fCharset, fContentStart);
+		DocumentEvent event= new RemapEvent(this, getLength(), store);
+		fireDocumentAboutToBeChanged(event);
+
+		setTextStore(store);
+		setLineTracker(new MappedFileLineTracker(store));
+
+		fModificationStamp= modificationStamp;
+		event.fModificationStamp= modificationStamp;
+
+		fireDocumentChanged(event);
+	}
+
+	@Override
+	protected void updatePositions(DocumentEvent event) {
+		if (!(event instanceof RemapEvent)) {
+			super.updatePositions(event);
+			return;
+		}
+		int length= getLength();
+		for (String category : getPositionCategories()) {
+			try {
+				for (Position position : getPositions(category)) {
+					removePosition(category, position);
+					if (position.offset == 0 && position.length == event.fLength && event.fLength > 0) {
+						position.length= length;
+						addPosition(category, position);
+					} else {
+						position.delete();
+					}
+				}
+			} catch (BadPositionCategoryException | BadLocationException e) {
+				// cannot happen, the categories and the new length are those of this document
+			}
+		}
+	}
+
+	@Override
+	public long getModificationStamp() {
+		return fModificationStamp;
+	}
+
+	@Override
+	public void replace(int pos, int length, String text, long modificationStamp) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void set(String text, long modificationStamp) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void repairLineInformation() {
+		// the line information is derived from the file and never needs repair
+	}
+
+	/**
+	 * The event replacing the whole content of a document with the content of a new mapping.
+	 * Its text is only read from the mapping when it is asked for.
+	 */
+	private static class RemapEvent extends DocumentEvent {
+
+		/** The new mapping */
+		private final MappedFileTextStore fStore;
+
+		RemapEvent(MappedFileDocument document, int length, MappedFileTextStore store) {
+			fDocument= document;
+			fOffset= 0;
+			fLength= length;
+			fText= null;
+			fModificationStamp= document.getModificationStamp();
+			fStore= store;
+		}
+
+		@Override
+		public String getText() {
+			if (fText == null) {
+				fText= fStore.get(0, fStore.getLength());
+			}
+			return fText;
+		}
+	}
+}
@@ -0,0 +1,151 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.core.internal.filebuffers;
+
+import org.eclipse.jface.text.BadLocationException;
+import org.eclipse.jface.text.ILineTracker;
+import org.eclipse.jface.text.IRegion;
+import org.eclipse.jface.text.Region;
+import org.eclipse.jface.text.TextUtilities;
+
+
+/**
+ * A read-only line tracker that answers queries from the sparse line index of a
+ * {@link MappedFileTextStore}. The recognized line delimiters are the same as the ones of the
+ * {@link org.eclipse.jface.text.DefaultLineTracker}.
+ *
+ * @since 3.9
+ */
+public class MappedFileLineTracker implements ILineTracker {
+
+	/** The legal line delimiters */
+	private static final String[] DELIMITERS= { "\r", "\n", "\r\n" }; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+
+	/** The text store providing the line index */
+	private final MappedFileTextStore fStore;
+
+	/**
+	 * Creates a new line tracker for the given text store.
+	 *
+	 * @param store the text store
+	 */
+	public MappedFileLineTracker(MappedFileTextStore store) {
+		fStore= store;
+	}
+
+	@Override
+	public String[] getLegalLineDelimiters() {
+		return TextUtilities.copy(DELIMITERS);
+	}
+
+	@Override
+	public String getLineDelimiter(int line) throws BadLocationException {
+		checkLine(line);
+		if (line == fStore.getDelimiterCount())
+			return null;
+		int end= fStore.getLineOffset(line + 1);
+		if (fStore.get(end - 1) == '\n' && end - 2 >= fStore.getLineOffset(line) && fStore.get(end - 2) == '\r')
+			return DELIMITERS[2];
+		return fStore.get(end - 1) == '\n' ? DELIMITERS[1] : DELIMITERS[0];
+	}
+
+	@Override
+	public int computeNumberOfLines(String text) {
+		int count= 0;
+		int length= text.length();
+		for (int i= 0; i < length; i++) {
+			char c= text.charAt(i);
+			if (c == '\n' || c == '\r' && (i + 1 == length || text.charAt(i + 1) != '\n'))
+				count++;
+		}
+		return count;
+	}
+
+	@Override
+	public int getNumberOfLines() {
+		return fStore.getDelimiterCount() + 1;
+	}
+
+	@Override
+	public int getNumberOfLines(int offset, int length) throws BadLocationException {
+		if (length == 0)
+			return 1;
+		return getLineNumberOfOffset(offset + length) - getLineNumberOfOffset(offset) + 1;
+	}
+
+	@Override
+	public int getLineOffset(int line) throws BadLocationException {
+		checkLine(line);
+		return fStore.getLineOffset(line);
+	}
+
+	@Override
+	public int getLineLength(int line) throws BadLocationException {
+		checkLine(line);
+		return getLineEnd(line) - fStore.getLineOffset(line);
+	}
+
+	@Override
+	public int getLineNumberOfOffset(int offset) throws BadLocationException {
+		checkOffset(offset);
+		return fStore.getLineNumberOfOffset(offset);
+	}
+
+	@Override
+	public IRegion getLineInformationOfOffset(int offset) throws BadLocationException {
+		return getLineInformation(getLineNumberOfOffset(offset));
+	}
+
+	@Override
+	public IRegion getLineInformation(int line) throws BadLocationException {
+		if (line > 0 && line == getNumberOfLines()) {
+			// compatibility with TreeLineTracker, see LineTrackerTest3#testFunnyLastLineCompatibility()
+			int offset= fStore.getLineOffset(line - 1);
+			int length= fStore.getLength() - offset;
+			if (length > 0)
+				return new Region(offset + length, 0);
+		}
+		checkLine(line);
+		int offset= fStore.getLineOffset(line);
+		String delimiter= getLineDelimiter(line);
+		int length= getLineEnd(line) - offset - (delimiter == null ? 0 : delimiter.length());
+		return new Region(offset, length);
+	}
+
+	@Override
+	public void replace(int offset, int length, String text) throws BadLocationException {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void set(String text) {
+		throw new UnsupportedOperationException();
+	}
+
+	private int getLineEnd(int line) {
+		if (line == fStore.getDelimiterCount())
+			return fStore.getLength();
+		return fStore.getLineOffset(line + 1);
+	}
+
+	private void checkLine(int line) throws BadLocationException {
+		if (line < 0 || line > fStore.getDelimiterCount())
+			throw new BadLocationException(Integer.toString(line));
+	}
+
+	private void checkOffset(int offset) throws BadLocationException {
+		if (offset < 0 || offset > fStore.getLength())
+			throw new BadLocationException(Integer.toString(offset));
+	}
+}
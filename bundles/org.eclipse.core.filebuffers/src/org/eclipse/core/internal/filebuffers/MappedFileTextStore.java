@@ -0,0 +1,498 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.core.internal.filebuffers;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+import org.eclipse.jface.text.ITextStore;
+
+
+/**
+ * A read-only text store backed by a memory-mapped file.
+ * <p>
+ * The file is split into blocks of about {@link #BLOCK_SIZE} bytes which are decoded on demand;
+ * only a few decoded blocks are cached at any time. A sparse index holding the character offset
+ * and the number of preceding line delimiters of each block is built by scanning the blocks in
+ * parallel when the store is created.
+ * </p>
+ * <p>
+ * The mapping does not follow changes of the file. If the file is truncated, the bytes that are
+ * no longer available are decoded to <code>U+FFFD</code> until a new store is created.
+ * </p>
+ * <p>
+ * Only UTF-8 and single-byte encodings in which <code>'\r'</code> and <code>'\n'</code> are
+ * encoded as in ASCII are supported, see {@link #isSupported(Charset)}. Malformed UTF-8 input
+ * is decoded to <code>U+FFFD</code>.
+ * </p>
+ *
+ * @since 3.9
+ */
+public class MappedFileTextStore implements ITextStore {
+
+	/** The nominal size of a block in bytes */
+	private static final int BLOCK_SIZE= 64 * 1024;
+
+	/** The maximum size of a mapped region is <code>1 &lt;&lt; REGION_SHIFT</code> */
+	private static final int REGION_SHIFT= 30;
+	private static final long REGION_SIZE= 1L << REGION_SHIFT;
+
+	/** The number of decoded blocks which are cached */
+	private static final int CACHE_SIZE= 8;
+
+	/** The line delimiters recognized by this store */
+	private static final byte CR= '\r';
+	private static final byte LF= '\n';
+
+	/**
+	 * A decoded block.
+	 */
+	static final class Block {
+		/** The decoded characters, possibly longer than the block */
+		final char[] fChars;
+		/** The number of decoded characters */
+		int fLength;
+		/** The block relative offsets of the last characters of the line delimiters in this block */
+		int[] fDelimiterEnds= new int[16];
+		/** The number of valid entries in {@link #fDelimiterEnds} */
+		int fDelimiterCount;
+
+		Block(int capacity) {
+			fChars= new char[capacity];
+		}
+	}
+
+	/** The mapped regions of the file */
+	private final ByteBuffer[] fRegions;
+	/** The byte offset at which the content starts, i.e. after a byte order mark */
+	private final long fContentStart;
+	/** The byte offset at which the content ends */
+	private final long fContentEnd;
+	/** The decoding table for single-byte encodings, <code>null</code> for UTF-8 */
+	private final char[] fSingleByteTable;
+
+	/** The byte offset of each block, with a sentinel at the end */
+	private long[] fBlockByteStart;
+	/** The character offset of each block, with a sentinel at the end */
+	private int[] fBlockCharStart;
+	/** The number of line delimiters before each block, with a sentinel at the end */
+	private int[] fBlockLineStart;
+
+	/** The cached block indices, -1 for unused cache slots */
+	private final int[] fCachedIndices= new int[CACHE_SIZE];
+	/** The cached blocks */
+	private final Block[] fCachedBlocks= new Block[CACHE_SIZE];
+	/** The next cache slot to reuse */
+	private int fNextSlot;
+
+	/**
+	 * Maps the given file and builds the index.
+	 *
+	 * @param file the file to map
+	 * @param charset the charset of the file, must be {@linkplain #isSupported(Charset) supported}
+	 * @param contentStart the number of bytes to skip at the start of the file, e.g. for a BOM
+	 * @throws IOException if the file cannot be mapped or is too large
+	 */
+	public MappedFileTextStore(Path file, Charset charset, long contentStart) throws IOException {
+		if (!isSupported(charset))
+			throw new IOException("Unsupported encoding: " + charset.name()); //$NON-NLS-1$
+		try (FileChannel channel= FileChannel.open(file, StandardOpenOption.READ)) {
+			long size= channel.size();
+			if (size - contentStart > Integer.MAX_VALUE)
+				throw new IOException("File too large: " + file); //$NON-NLS-1$
+			int regionCount= (int) ((size + REGION_SIZE - 1) / REGION_SIZE);
+			fRegions= new ByteBuffer[regionCount];
+			for (int i= 0; i < regionCount; i++) {
+				long start= i * REGION_SIZE;
+				fRegions[i]= channel.map(MapMode.READ_ONLY, start, Math.min(REGION_SIZE, size - start));
+			}
+			fContentStart= Math.min(contentStart, size);
+			fContentEnd= size;
+		}
+		fSingleByteTable= StandardCharsets.UTF_8.equals(charset) ? null : createSingleByteTable(charset);
+		Arrays.fill(fCachedIndices, -1);
+		try {
+			buildIndex();
+		} catch (InternalError x) {
+			// the file has been truncated while it was scanned
+			throw new IOException("File changed while mapping: " + file, x); //$NON-NLS-1$
+		}
+	}
+
+	/**
+	 * Tells whether the given charset is supported by this text store.
+	 *
+	 * @param charset the charset to check
+	 * @return <code>true</code> if the charset is supported
+	 */
+	public static boolean isSupported(Charset charset) {
+		if (StandardCharsets.UTF_8.equals(charset))
+			return true;
+		if (!charset.canEncode() || charset.newEncoder().maxBytesPerChar() != 1)
+			return false;
+		char[] table= createSingleByteTable(charset);
+		for (int i= 0; i < table.length; i++) {
+			if ((table[i] == '\r') != (i == CR) || (table[i] == '\n') != (i == LF))
+				return false;
+		}
+		return true;
+	}
+
+	private static char[] createSingleByteTable(Charset charset) {
+		byte[] bytes= new byte[256];
+		for (int i= 0; i < bytes.length; i++)
+			bytes[i]= (byte) i;
+		CharsetDecoder decoder= charset.newDecoder()
+				.onMalformedInput(CodingErrorAction.REPLACE)
+				.onUnmappableCharacter(CodingErrorAction.REPLACE);
+		char[] table= new char[256];
+		CharBuffer out= CharBuffer.wrap(table);
+		decoder.decode(ByteBuffer.wrap(bytes), out, true);
+		decoder.flush(out);
+		return table;
+	}
+
+	/**
+	 * Builds the sparse block index. Block boundaries are aligned to character boundaries so that
+	 * each block can be scanned and decoded independently.
+	 */
+	private void buildIndex() {
+		long contentLength= fContentEnd - fContentStart;
+		int blockCount= (int) ((contentLength + BLOCK_SIZE - 1) / BLOCK_SIZE);
+		long[] byteStart= new long[blockCount + 1];
+		for (int i= 0; i < blockCount; i++)
+			byteStart[i]= alignToCharacter(fContentStart + (long) i * BLOCK_SIZE);
+		byteStart[blockCount]= fContentEnd;
+
+		int[] charCounts= new int[blockCount];
+		int[] lineCounts= new int[blockCount];
+		IntStream.range(0, blockCount).parallel().forEach(i -> {
+			long counts= scanBlock(byteStart[i], byteStart[i + 1]);
+			charCounts[i]= (int) (counts >>> 32);
+			lineCounts[i]= (int) counts;
+		});
+
+		int[] charStart= new int[blockCount + 1];
+		int[] lineStart= new int[blockCount + 1];
+		for (int i= 0; i < blockCount; i++) {
+			charStart[i + 1]= charStart[i] + charCounts[i];
+			lineStart[i + 1]= lineStart[i] + lineCounts[i];
+		}
+		fBlockByteStart= byteStart;
+		fBlockCharStart= charStart;
+		fBlockLineStart= lineStart;
+	}
+
+	/**
+	 * Returns the first character boundary at or after the given byte offset.
+	 *
+	 * @param offset the byte offset
+	 * @return the aligned byte offset
+	 */
+	private long alignToCharacter(long offset) {
+		if (fSingleByteTable == null) {
+			while (offset < fContentEnd && (byteAt(offset) & 0xC0) == 0x80)
+				offset++;
+		}
+		return offset;
+	}
+
+	/**
+	 * Scans the given byte range and counts characters and line delimiters.
+	 *
+	 * @param start the start byte offset
+	 * @param end the end byte offset
+	 * @return the number of characters in the upper and the number of line delimiters in the
+	 *         lower 32 bits
+	 */
+	private long scanBlock(long start, long end) {
+		int chars= 0;
+		int lines= 0;
+		long offset= start;
+		while (offset < end) {
+			int b= byteAt(offset) & 0xFF;
+			if (b == LF || b == CR && (offset + 1 == fContentEnd || byteAt(offset + 1) != LF))
+				lines++;
+			if (b < 0x80 || fSingleByteTable != null) {
+				chars++;
+				offset++;
+			} else {
+				int length= sequenceLength(offset, b);
+				chars+= length == 4 ? 2 : 1;
+				offset+= length;
+			}
+		}
+		return (long) chars << 32 | lines;
+	}
+
+	/**
+	 * Returns the length of the UTF-8 sequence starting at the given offset, or 1 if the
+	 * sequence is malformed.
+	 *
+	 * @param offset the byte offset of the sequence
+	 * @param lead the first byte of the sequence
+	 * @return the number of bytes of the sequence
+	 */
+	private int sequenceLength(long offset, int lead) {
+		int length;
+		if (lead >= 0xF0 && lead < 0xF8)
+			length= 4;
+		else if (lead >= 0xE0 && lead < 0xF0)
+			length= 3;
+		else if (lead >= 0xC0 && lead < 0xE0)
+			length= 2;
+		else
+			return 1;
+		if (offset + length > fContentEnd)
+			return 1;
+		for (int i= 1; i < length; i++) {
+			if ((byteAt(offset + i) & 0xC0) != 0x80)
+				return 1;
+		}
+		return length;
+	}
+
+	private byte byteAt(long offset) {
+		return fRegions[(int) (offset >>> REGION_SHIFT)].get((int) (offset & (REGION_SIZE - 1)));
+	}
+
+	/**
+	 * Returns the index of the block containing the given character offset.
+	 *
+	 * @param offset the character offset, may be equal to the length
+	 * @return the block index
+	 */
+	private int blockOfOffset(int offset) {
+		return floorIndex(fBlockCharStart, fBlockCharStart.length - 1, offset);
+	}
+
+	/**
+	 * Returns the largest index <code>i &lt; count</code> with <code>values[i] &lt;= key</code>.
+	 *
+	 * @param values the values, sorted in ascending order
+	 * @param count the number of values to consider
+	 * @param key the key to search for
+	 * @return the index, or 0 if there is none
+	 */
+	private static int floorIndex(int[] values, int count, int key) {
+		int low= 0;
+		int high= count - 1;
+		while (low < high) {
+			int mid= (low + high + 1) >>> 1;
+			if (values[mid] <= key)
+				low= mid;
+			else
+				high= mid - 1;
+		}
+		return low;
+	}
+
+	/**
+	 * Returns the decoded block with the given index.
+	 *
+	 * @param index the block index
+	 * @return the decoded block, only valid while holding the lock on this store
+	 */
+	private Block getBlock(int index) {
+		for (int i= 0; i < CACHE_SIZE; i++) {
+			if (fCachedIndices[i] == index)
+				return fCachedBlocks[i];
+		}
+		int slot= fNextSlot;
+		fNextSlot= (slot + 1) % CACHE_SIZE;
+		Block block= fCachedBlocks[slot];
+		int length= fBlockCharStart[index + 1] - fBlockCharStart[index];
+		if (block == null || block.fChars.length < length)
+			block= new Block(Math.max(length, BLOCK_SIZE));
+		try {
+			decodeBlock(index, block);
+		} catch (InternalError x) {
+			// the mapped file has been truncated
+			fillUnavailableBlock(index, block);
+		}
+		fCachedBlocks[slot]= block;
+		fCachedIndices[slot]= index;
+		return block;
+	}
+
+	/**
+	 * Decodes the given block and records its line delimiters.
+	 *
+	 * @param index the block index
+	 * @param block the block to decode into
+	 */
+	private void decodeBlock(int index, Block block) {
+		long offset= fBlockByteStart[index];
+		long end= fBlockByteStart[index + 1];
+		char[] chars= block.fChars;
+		int length= 0;
+		int delimiters= 0;
+		while (offset < end) {
+			int b= byteAt(offset) & 0xFF;
+			if (b == LF || b == CR && (offset + 1 == fContentEnd || byteAt(offset + 1) != LF)) {
+				if (delimiters == block.fDelimiterEnds.length)
+					block.fDelimiterEnds= Arrays.copyOf(block.fDelimiterEnds, delimiters * 2);
+				block.fDelimiterEnds[delimiters++]= length;
+			}
+			if (fSingleByteTable != null) {
+				chars[length++]= fSingleByteTable[b];
+				offset++;
+			} else if (b < 0x80) {
+				chars[length++]= (char) b;
+				offset++;
+			} else {
+				int sequenceLength= sequenceLength(offset, b);
+				switch (sequenceLength) {
+					case 2:
+						chars[length++]= (char) ((b & 0x1F) << 6 | byteAt(offset + 1) & 0x3F);
+						break;
+					case 3:
+						chars[length++]= (char) ((b & 0x0F) << 12 | (byteAt(offset + 1) & 0x3F) << 6 | byteAt(offset + 2) & 0x3F);
+						break;
+					case 4:
+						int codePoint= (b & 0x07) << 18 | (byteAt(offset + 1) & 0x3F) << 12 | (byteAt(offset + 2) & 0x3F) << 6 | byteAt(offset + 3) & 0x3F;
+						if (Character.isSupplementaryCodePoint(codePoint)) {
+							chars[length++]= Character.highSurrogate(codePoint);
+							chars[length++]= Character.lowSurrogate(codePoint);
+						} else {
+							chars[length++]= '\uFFFD';
+							chars[length++]= '\uFFFD';
+						}
+						break;
+					default:
+						chars[length++]= '\uFFFD';
+				}
+				offset+= sequenceLength;
+			}
+		}
+		block.fLength= length;
+		block.fDelimiterCount= delimiters;
+	}
+
+	/**
+	 * Fills a block whose bytes are no longer available with <code>U+FFFD</code>, keeping the
+	 * number of characters and line delimiters of the index.
+	 *
+	 * @param index the block index
+	 * @param block the block to fill
+	 */
+	private void fillUnavailableBlock(int index, Block block) {
+		int length= fBlockCharStart[index + 1] - fBlockCharStart[index];
+		int delimiters= fBlockLineStart[index + 1] - fBlockLineStart[index];
+		if (block.fDelimiterEnds.length < delimiters)
+			block.fDelimiterEnds= new int[delimiters];
+		Arrays.fill(block.fChars, 0, length - delimiters, '\uFFFD');
+		for (int i= 0; i < delimiters; i++) {
+			block.fChars[length - delimiters + i]= '\n';
+			block.fDelimiterEnds[i]= length - delimiters + i;
+		}
+		block.fLength= length;
+		block.fDelimiterCount= delimiters;
+	}
+
+	@Override
+	public synchronized char get(int offset) {
+		if (offset < 0 || offset >= getLength())
+			throw new IndexOutOfBoundsException(offset);
+		int index= blockOfOffset(offset);
+		return getBlock(index).fChars[offset - fBlockCharStart[index]];
+	}
+
+	@Override
+	public synchronized String get(int offset, int length) {
+		if (offset < 0 || length < 0 || offset + length > getLength())
+			throw new IndexOutOfBoundsException(offset);
+		char[] result= new char[length];
+		int copied= 0;
+		int index= blockOfOffset(offset);
+		while (copied < length) {
+			Block block= getBlock(index);
+			int from= offset + copied - fBlockCharStart[index];
+			int count= Math.min(length - copied, block.fLength - from);
+			System.arraycopy(block.fChars, from, result, copied, count);
+			copied+= count;
+			index++;
+		}
+		return new String(result);
+	}
+
+	@Override
+	public int getLength() {
+		return fBlockCharStart[fBlockCharStart.length - 1];
+	}
+
+	@Override
+	public void replace(int offset, int length, String text) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void set(String text) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * Returns the number of line delimiters in this store.
+	 *
+	 * @return the number of line delimiters
+	 */
+	int getDelimiterCount() {
+		return fBlockLineStart[fBlockLineStart.length - 1];
+	}
+
+	/**
+	 * Returns the offset of the line with the given number.
+	 *
+	 * @param line the line number, <code>0 &lt;= line &lt;= getDelimiterCount()</code>
+	 * @return the offset of the first character of the line
+	 */
+	synchronized int getLineOffset(int line) {
+		if (line == 0)
+			return 0;
+		int[] lineStart= fBlockLineStart;
+		// the block containing the end of the delimiter preceding the line
+		int index= floorIndex(lineStart, lineStart.length - 1, line - 1);
+		Block block= getBlock(index);
+		return fBlockCharStart[index] + block.fDelimiterEnds[line - lineStart[index] - 1] + 1;
+	}
+
+	/**
+	 * Returns the number of the line containing the given offset.
+	 *
+	 * @param offset the offset, <code>0 &lt;= offset &lt;= getLength()</code>
+	 * @return the line number
+	 */
+	synchronized int getLineNumberOfOffset(int offset) {
+		if (offset == 0 || fBlockCharStart.length == 1)
+			return 0;
+		// the line of an offset is determined by the delimiters ending before it
+		int index= blockOfOffset(offset - 1);
+		Block block= getBlock(index);
+		int key= offset - 1 - fBlockCharStart[index];
+		int position= Arrays.binarySearch(block.fDelimiterEnds, 0, block.fDelimiterCount, key);
+		int before= position < 0 ? -position - 1 : position + 1;
+		return fBlockLineStart[index] + before;
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2023 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -37,6 +37,7 @@ import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IResourceStatus;
 import org.eclipse.core.runtime.Assert;
 import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Platform;
@@ -232,8 +233,13 @@ public class ResourceTextFileBuffer extends ResourceFileBuffer implements ITextF
 			}
 
 
-			fDocument= getManager().createEmptyDocument(fFile);
-			setDocumentContent(fDocument, fFile, fEncoding);
+			IPath location= fFile.getLocation();
+			int bomLength= fBOM != null && StandardCharsets.UTF_8.name().equals(fEncoding) ? fBOM.length : 0;
+			fDocument= getManager().createMappedDocument(location != null ? location.toFile() : null, fEncoding, bomLength);
+			if (fDocument == null) {
+				fDocument= getManager().createEmptyDocument(fFile);
+				setDocumentContent(fDocument, fFile, fEncoding);
+			}
 
 		} catch (CoreException x) {
 			fDocument= getManager().createEmptyDocument(fFile);
@@ -419,6 +425,10 @@ public class ResourceTextFileBuffer extends ResourceFileBuffer implements ITextF
 
 	@Override
 	protected void handleFileContentChanged(boolean revert, boolean updateModificationStamp) throws CoreException {
+		if (fDocument instanceof MappedFileDocument) {
+			handleMappedFileContentChanged(revert);
+			return;
+		}
 
 		IDocument document= getManager().createEmptyDocument(fFile);
 		IStatus status= null;
@@ -466,6 +476,47 @@ public class ResourceTextFileBuffer extends ResourceFileBuffer implements ITextF
 		fManager.fireDirtyStateChanged(this, fCanBeSaved);
 	}
 
+	/**
+	 * Maps the changed file again instead of reading it into a new document, which is not
+	 * possible for the files that are mapped, see {@link MappedFileDocument}.
+	 *
+	 * @param revert <code>true</code> if the buffer is reverted
+	 */
+	private void handleMappedFileContentChanged(boolean revert) {
+		fManager.fireBufferContentAboutToBeReplaced(this);
+		removeFileBufferContentListeners();
+		fSynchronizationStamp= fFile.getModificationStamp();
+		fStatus= null;
+		try {
+			((MappedFileDocument) fDocument).remap(fSynchronizationStamp);
+		} catch (IOException x) {
+			fStatus= new Status(IStatus.ERROR, FileBuffersPlugin.PLUGIN_ID, IStatus.OK, x.getLocalizedMessage(), x);
+		}
+		fCanBeSaved= false;
+		addFileBufferContentListeners();
+		fManager.fireBufferContentReplaced(this);
+
+		if (fAnnotationModel instanceof IPersistableAnnotationModel) {
+			IPersistableAnnotationModel persistableModel= (IPersistableAnnotationModel) fAnnotationModel;
+			try {
+				if (revert)
+					persistableModel.revert(fDocument);
+				else
+					persistableModel.reinitialize(fDocument);
+			} catch (CoreException x) {
+				fStatus= x.getStatus();
+			}
+		}
+
+		fManager.fireDirtyStateChanged(this, fCanBeSaved);
+	}
+
+	@Override
+	public boolean isCommitable() {
+		// a mapped document cannot be modified
+		return !(fDocument instanceof MappedFileDocument) && super.isCommitable();
+	}
+
 	/**
 	 * Initializes the given document with the given stream using the given encoding.
 	 *
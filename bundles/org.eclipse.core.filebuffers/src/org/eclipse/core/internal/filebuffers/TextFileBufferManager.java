@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2012 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,8 +14,10 @@
  *******************************************************************************/
 package org.eclipse.core.internal.filebuffers;
 
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.charset.Charset;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
@@ -72,6 +74,19 @@ public class TextFileBufferManager implements ITextFileBufferManager {
 
 	protected static final IContentType TEXT_CONTENT_TYPE= Platform.getContentTypeManager().getContentType(IContentTypeManager.CT_TEXT);
 
+	/**
+	 * The system property with the number of bytes above which files are loaded into a read-only
+	 * {@link MappedFileDocument}. It is read whenever a document is created.
+	 * @since 3.9
+	 */
+	private static final String MAPPED_DOCUMENT_THRESHOLD_PROPERTY= "org.eclipse.core.filebuffers.mappedDocumentThreshold"; //$NON-NLS-1$
+
+	/**
+	 * The default number of bytes above which files are loaded into a read-only {@link MappedFileDocument}.
+	 * @since 3.9
+	 */
+	private static final long DEFAULT_MAPPED_DOCUMENT_THRESHOLD= 512L * 1024 * 1024;
+
 	private Map<IPath, AbstractFileBuffer> fFilesBuffers= new HashMap<>();
 	private Map<IFileStore, FileStoreFileBuffer> fFileStoreFileBuffers= new HashMap<>();
 	private List<IFileBufferListener> fFileBufferListeners= new ArrayList<>();
@@ -480,6 +495,31 @@ public class TextFileBufferManager implements ITextFileBufferManager {
 		return document;
 	}
 
+	/**
+	 * Creates a read-only memory-mapped document for the given file if it is larger than the
+	 * {@link #MAPPED_DOCUMENT_THRESHOLD_PROPERTY threshold} and its encoding is supported. No document setup
+	 * participants are run for such documents since they would have to scan the whole content.
+	 *
+	 * @param file the local file, may be <code>null</code>
+	 * @param encoding the encoding of the file
+	 * @param bomLength the length of the byte order mark to skip
+	 * @return the document or <code>null</code> if the file should be read into a normal document
+	 * @since 3.9
+	 */
+	IDocument createMappedDocument(File file, String encoding, int bomLength) {
+		long threshold= Long.getLong(MAPPED_DOCUMENT_THRESHOLD_PROPERTY, DEFAULT_MAPPED_DOCUMENT_THRESHOLD).longValue();
+		if (file == null || !file.isFile() || file.length() <= threshold)
+			return null;
+		try {
+			Charset charset= Charset.forName(encoding);
+			if (!MappedFileTextStore.isSupported(charset))
+				return null;
+			return new MappedFileDocument(file.toPath(), charset, bomLength);
+		} catch (IllegalArgumentException | IOException x) {
+			return null;
+		}
+	}
+
 	/**
 	 * Helper to get rid of deprecation warnings.
 	 *
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2010, 2014 IBM Corporation and others.
+ * Copyright (c) 2010, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -127,9 +127,10 @@ public class BindingTable {
 	private ArrayList<Binding> bindings = new ArrayList<>();
 	private Map<TriggerSequence, Binding> bindingsByTrigger = new HashMap<>();
 	private Map<ParameterizedCommand, ArrayList<Binding>> bindingsByCommand = new HashMap<>();
-	private Map<TriggerSequence, ArrayList<Binding>> bindingsByPrefix = new HashMap<>();
 	private Map<TriggerSequence, ArrayList<Binding>> conflicts = new HashMap<>();
 	private Map<TriggerSequence, ArrayList<Binding>> orderedBindingsByTrigger = new HashMap<>();
+	// the trie of the bindings, built when a partial match is looked up
+	private BindingTrie trie;
 
 	public BindingTable(Context context) {
 		tableId = context;
@@ -200,16 +201,7 @@ public class BindingTable {
 		}
 		sequences.add(binding);
 		sequences.sort(BEST_SEQUENCE);
-
-		TriggerSequence[] prefs = binding.getTriggerSequence().getPrefixes();
-		for (int i = 1; i < prefs.length; i++) {
-			ArrayList<Binding> bindings = bindingsByPrefix.get(prefs[i]);
-			if (bindings == null) {
-				bindings = new ArrayList<>();
-				bindingsByPrefix.put(prefs[i], bindings);
-			}
-			bindings.add(binding);
-		}
+		trie = null;
 	}
 
 	private void removeBindingSimple(Binding binding) {
@@ -220,13 +212,7 @@ public class BindingTable {
 		if (sequences != null) {
 			sequences.remove(binding);
 		}
-		TriggerSequence[] prefs = binding.getTriggerSequence().getPrefixes();
-		for (int i = 1; i < prefs.length; i++) {
-			ArrayList<Binding> bindings = bindingsByPrefix.get(prefs[i]);
-			if (bindings != null) {
-				bindings.remove(binding);
-			}
-		}
+		trie = null;
 	}
 
 	public void removeBinding(Binding binding) {
@@ -327,12 +313,22 @@ public class BindingTable {
 	}
 
 	public Collection<Binding> getPartialMatches(TriggerSequence sequence) {
-		return bindingsByPrefix.get(sequence);
+		return getTrie().getPartialMatches(sequence);
 	}
 
 	public boolean isPartialMatch(TriggerSequence seq) {
-		ArrayList<Binding> values = bindingsByPrefix.get(seq);
-		return values != null && !values.isEmpty();
+		return getTrie().isPartialMatch(seq);
+	}
+
+	/**
+	 * @return the trie of the bindings of this table, which is replaced by a
+	 *         new one when the bindings change
+	 */
+	BindingTrie getTrie() {
+		if (trie == null) {
+			trie = BindingTrie.build(bindings);
+		}
+		return trie;
 	}
 
 	public Collection<Binding> getBindings() {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2010, 2015 IBM Corporation and others.
+ * Copyright (c) 2010, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -16,9 +16,13 @@ package org.eclipse.e4.ui.bindings.internal;
 
 import jakarta.inject.Inject;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.ListIterator;
+import java.util.Map;
 import org.eclipse.core.commands.ParameterizedCommand;
 import org.eclipse.core.commands.contexts.Context;
 import org.eclipse.e4.core.contexts.IEclipseContext;
@@ -31,6 +35,22 @@ import org.eclipse.jface.bindings.TriggerSequence;
 public class BindingTableManager {
 	private static final String BINDING_TABLE_PREFIX = "bindingTable:"; //$NON-NLS-1$
 
+	private static final int MAX_MERGED_TRIES = 32;
+
+	/**
+	 * A trie merged from the binding tables of a context set, and the tries of
+	 * the tables it was merged from.
+	 */
+	private static class MergedTrie {
+		final BindingTrie[] tableTries;
+		final BindingTrie trie;
+
+		MergedTrie(BindingTrie[] tableTries, BindingTrie trie) {
+			this.tableTries = tableTries;
+			this.trie = trie;
+		}
+	}
+
 	@Inject
 	private IEclipseContext eclipseContext;
 
@@ -38,6 +58,20 @@ public class BindingTableManager {
 
 	private String[] activeSchemeIds;
 
+	/**
+	 * The merged tries of the most recently used context sets, keyed by their
+	 * contexts. The active contexts create a new ContextSet on every change, so
+	 * the tries are not cached in the sets themselves.
+	 */
+	private final Map<List<Context>, MergedTrie> mergedTries = new LinkedHashMap<>(16, 0.75f, true) {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<List<Context>, MergedTrie> eldest) {
+			return size() > MAX_MERGED_TRIES;
+		}
+	};
+
 	public void addTable(BindingTable table) {
 		String contextId = getTableId(table.getId());
 		if (eclipseContext.containsKey(contextId)) {
@@ -45,6 +79,7 @@ public class BindingTableManager {
 			//			throw new IllegalArgumentException("Already contains table " + contextId); //$NON-NLS-1$
 		}
 		eclipseContext.set(contextId, table);
+		mergedTries.clear();
 		final List<Context> contexts = definedTables.getContexts();
 		if (!contexts.contains(table.getTableId())) {
 			// this is only valid because I'm throwing away the old definedTables contextSet
@@ -63,6 +98,7 @@ public class BindingTableManager {
 			throw new IllegalArgumentException("Does not contains table " + contextId); //$NON-NLS-1$
 		}
 		eclipseContext.remove(contextId);
+		mergedTries.clear();
 		final List<Context> contexts = definedTables.getContexts();
 		if (contexts.contains(table.getTableId())) {
 			// this is only valid because I'm throwing away the old definedTables contextSet
@@ -122,6 +158,43 @@ public class BindingTableManager {
 	}
 
 	public Binding getPerfectMatch(ContextSet contextSet, TriggerSequence triggerSequence) {
+		return getTrie(contextSet).getPerfectMatch(triggerSequence);
+	}
+
+	/**
+	 * Returns the trie of the perfect matches of the context set, which is
+	 * cached for the contexts of the set until a binding table or the active
+	 * schemes change. Key events are dispatched with one lookup in this trie
+	 * instead of one lookup per context.
+	 */
+	private BindingTrie getTrie(ContextSet contextSet) {
+		List<Context> contexts = contextSet.getContexts();
+		BindingTable[] tables = new BindingTable[contexts.size()];
+		BindingTrie[] tries = new BindingTrie[tables.length];
+		for (int i = 0; i < tables.length; i++) {
+			tables[i] = getTable(contexts.get(i).getId());
+			if (tables[i] != null) {
+				tries[i] = tables[i].getTrie();
+			}
+		}
+		MergedTrie merged = mergedTries.get(contexts);
+		if (merged == null || !Arrays.equals(merged.tableTries, tries)) {
+			Map<TriggerSequence, Binding> matches = new HashMap<>();
+			for (BindingTable table : tables) {
+				if (table != null) {
+					for (Binding binding : table.getBindings()) {
+						matches.computeIfAbsent(binding.getTriggerSequence(),
+								sequence -> findPerfectMatch(contextSet, sequence));
+					}
+				}
+			}
+			merged = new MergedTrie(tries, BindingTrie.build(matches.values()));
+			mergedTries.put(List.copyOf(contexts), merged);
+		}
+		return merged.trie;
+	}
+
+	private Binding findPerfectMatch(ContextSet contextSet, TriggerSequence triggerSequence) {
 		Binding result = null;
 		Binding currentResult = null;
 		List<Context> contexts = contextSet.getContexts();
@@ -201,18 +274,7 @@ public class BindingTableManager {
 	}
 
 	public boolean isPartialMatch(ContextSet contextSet, TriggerSequence sequence) {
-		List<Context> contexts = contextSet.getContexts();
-		ListIterator<Context> it = contexts.listIterator(contexts.size());
-		while (it.hasPrevious()) {
-			Context c = it.previous();
-			BindingTable table = getTable(c.getId());
-			if (table != null) {
-				if (table.isPartialMatch(sequence)) {
-					return true;
-				}
-			}
-		}
-		return false;
+		return getTrie(contextSet).isPartialMatch(sequence);
 	}
 
 	public Collection<Binding> getPartialMatches(ContextSet contextSet, TriggerSequence sequence) {
@@ -234,6 +296,7 @@ public class BindingTableManager {
 
 	public void setActiveSchemes(String[] activeSchemeIds) {
 		this.activeSchemeIds = activeSchemeIds;
+		mergedTries.clear();
 		BindingTable.BEST_SEQUENCE.setActiveSchemes(activeSchemeIds);
 	}
 
@@ -0,0 +1,160 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.e4.ui.bindings.internal;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import org.eclipse.jface.bindings.Binding;
+import org.eclipse.jface.bindings.Trigger;
+import org.eclipse.jface.bindings.TriggerSequence;
+
+/**
+ * An immutable trie of bindings keyed by the triggers of their sequences.
+ * Looking up a sequence walks one node per trigger, instead of hashing the
+ * sequence and keeping every prefix of every sequence in a map.
+ */
+final class BindingTrie {
+
+	static final BindingTrie EMPTY = new BindingTrie(null, new Trigger[0], new int[0], new BindingTrie[0]);
+
+	private static final Comparator<Map.Entry<Trigger, Builder>> BY_HASH = Comparator
+			.comparingInt(entry -> entry.getKey().hashCode());
+
+	/** The binding whose sequence ends at this node, or <code>null</code> */
+	private final Binding binding;
+
+	/** The triggers of the children ordered by their hash codes */
+	private final Trigger[] triggers;
+	private final int[] hashes;
+	private final BindingTrie[] children;
+
+	private BindingTrie(Binding binding, Trigger[] triggers, int[] hashes, BindingTrie[] children) {
+		this.binding = binding;
+		this.triggers = triggers;
+		this.hashes = hashes;
+		this.children = children;
+	}
+
+	/**
+	 * Creates a trie of the given bindings. Their trigger sequences must be
+	 * distinct.
+	 */
+	static BindingTrie build(Collection<Binding> bindings) {
+		if (bindings.isEmpty()) {
+			return EMPTY;
+		}
+		Builder root = new Builder();
+		for (Binding b : bindings) {
+			Builder node = root;
+			for (Trigger trigger : b.getTriggerSequence().getTriggers()) {
+				node = node.children.computeIfAbsent(trigger, t -> new Builder());
+			}
+			node.binding = b;
+		}
+		return root.build();
+	}
+
+	public Binding getPerfectMatch(TriggerSequence sequence) {
+		BindingTrie node = find(sequence.getTriggers());
+		return node == null ? null : node.binding;
+	}
+
+	public boolean isPartialMatch(TriggerSequence sequence) {
+		Trigger[] sequenceTriggers = sequence.getTriggers();
+		if (sequenceTriggers.length == 0) {
+			return false;
+		}
+		BindingTrie node = find(sequenceTriggers);
+		return node != null && node.children.length > 0;
+	}
+
+	/**
+	 * @return the bindings whose sequences start with the given sequence and
+	 *         are longer, or <code>null</code> if there are none
+	 */
+	public ArrayList<Binding> getPartialMatches(TriggerSequence sequence) {
+		Trigger[] sequenceTriggers = sequence.getTriggers();
+		if (sequenceTriggers.length == 0) {
+			return null;
+		}
+		BindingTrie node = find(sequenceTriggers);
+		if (node == null || node.children.length == 0) {
+			return null;
+		}
+		ArrayList<Binding> matches = new ArrayList<>();
+		for (BindingTrie child : node.children) {
+			child.collect(matches);
+		}
+		return matches;
+	}
+
+	private void collect(Collection<Binding> matches) {
+		if (binding != null) {
+			matches.add(binding);
+		}
+		for (BindingTrie child : children) {
+			child.collect(matches);
+		}
+	}
+
+	private BindingTrie find(Trigger[] sequenceTriggers) {
+		BindingTrie node = this;
+		for (int i = 0; i < sequenceTriggers.length && node != null; i++) {
+			node = node.getChild(sequenceTriggers[i]);
+		}
+		return node;
+	}
+
+	private BindingTrie getChild(Trigger trigger) {
+		int hash = trigger.hashCode();
+		int i = Arrays.binarySearch(hashes, hash);
+		if (i < 0) {
+			return null;
+		}
+		while (i > 0 && hashes[i - 1] == hash) {
+			i--;
+		}
+		for (; i < hashes.length && hashes[i] == hash; i++) {
+			if (triggers[i].equals(trigger)) {
+				return children[i];
+			}
+		}
+		return null;
+	}
+
+	private static final class Builder {
+		Binding binding;
+		final Map<Trigger, Builder> children = new HashMap<>(4);
+
+		@SuppressWarnings("unchecked")
+		BindingTrie build() {
+			Map.Entry<Trigger, Builder>[] entries = children.entrySet().toArray(new Map.Entry[children.size()]);
+			Arrays.sort(entries, BY_HASH);
+			Trigger[] triggers = new Trigger[entries.length];
+			int[] hashes = new int[entries.length];
+			BindingTrie[] nodes = new BindingTrie[entries.length];
+			for (int i = 0; i < entries.length; i++) {
+				triggers[i] = entries[i].getKey();
+				hashes[i] = triggers[i].hashCode();
+				nodes[i] = entries[i].getValue().build();
+			}
+			return new BindingTrie(binding, triggers, hashes, nodes);
+		}
+	}
+}
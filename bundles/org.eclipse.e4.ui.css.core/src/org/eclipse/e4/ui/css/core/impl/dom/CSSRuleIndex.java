@@ -0,0 +1,345 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.e4.ui.css.core.impl.dom;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.eclipse.e4.ui.css.core.dom.CSSStylableElement;
+import org.eclipse.e4.ui.css.core.dom.ExtendedCSSRule;
+import org.eclipse.e4.ui.css.core.impl.sac.CSSClassConditionImpl;
+import org.eclipse.e4.ui.css.core.impl.sac.CSSElementSelectorImpl;
+import org.eclipse.e4.ui.css.core.impl.sac.CSSIdConditionImpl;
+import org.eclipse.e4.ui.css.core.impl.sac.ExtendedSelector;
+import org.w3c.css.sac.AttributeCondition;
+import org.w3c.css.sac.CombinatorCondition;
+import org.w3c.css.sac.Condition;
+import org.w3c.css.sac.ConditionalSelector;
+import org.w3c.css.sac.DescendantSelector;
+import org.w3c.css.sac.NegativeCondition;
+import org.w3c.css.sac.Selector;
+import org.w3c.css.sac.SelectorList;
+import org.w3c.css.sac.SiblingSelector;
+import org.w3c.dom.Element;
+import org.w3c.dom.css.CSSRule;
+import org.w3c.dom.css.CSSStyleDeclaration;
+import org.w3c.dom.css.CSSStyleRule;
+import org.w3c.dom.css.CSSValue;
+
+/**
+ * An index of the selectors of a list of style rules, used to find the
+ * selectors that can match an element without testing all of them.
+ * <p>
+ * Like the rule hash of a browser, every selector is filed under one key of its
+ * rightmost compound selector, the one that has to match the element itself:
+ * its id, else one of its classes, else its element name. Selectors without
+ * such a key, like <code>*</code> or <code>:selected</code>, are candidates
+ * for every element. The candidates of an element only depend on its name, id
+ * and classes, so they are cached for each such style signature.
+ * <p>
+ * The index also knows the classes and ids that selectors test on other
+ * elements than the one they style, which tells whether a change of the
+ * classes or id of an element can change the style of its descendants or
+ * siblings. A rule with an <code>inherit</code> value makes any such change
+ * affect the descendants, as they may inherit the changed style.
+ */
+final class CSSRuleIndex {
+
+	/**
+	 * A selector of a style rule, with its position among all selectors.
+	 */
+	record IndexedSelector(ExtendedSelector selector, CSSStyleDeclaration style, int order) {
+	}
+
+	/**
+	 * The part of an element that decides which selectors are candidates.
+	 */
+	private record Signature(String name, String id, String cssClass) {
+	}
+
+	private static final IndexedSelector[] NO_CANDIDATES = new IndexedSelector[0];
+
+	/** The context key of conditions on the class or id attribute */
+	private static final String ANY_KEY = "*";
+
+	/**
+	 * Upper bound of cached signatures, elements with generated ids must not
+	 * grow the cache forever.
+	 */
+	private static final int MAX_CACHED_SIGNATURES = 4096;
+
+	private final Map<String, List<IndexedSelector>> idSelectors = new HashMap<>();
+	private final Map<String, List<IndexedSelector>> classSelectors = new HashMap<>();
+	private final Map<String, List<IndexedSelector>> elementSelectors = new HashMap<>();
+	private final List<IndexedSelector> universalSelectors = new ArrayList<>();
+	private final Map<Signature, IndexedSelector[]> candidates = new HashMap<>();
+	/** Classes as <code>.class</code> and ids as <code>#id</code> tested on ancestors */
+	private final Set<String> ancestorKeys = new HashSet<>();
+	/** Classes as <code>.class</code> and ids as <code>#id</code> tested on preceding siblings */
+	private final Set<String> siblingKeys = new HashSet<>();
+
+	/**
+	 * Creates the index of the style rules in the given list.
+	 */
+	CSSRuleIndex(List<CSSRule> rules) {
+		int order = 0;
+		for (CSSRule rule : rules) {
+			if (rule.getType() != CSSRule.STYLE_RULE || (!(rule instanceof ExtendedCSSRule))) {
+				continue; // we only handle the CSSRule.STYLE_RULE and ExtendedCSSRule case
+			}
+			CSSStyleDeclaration style = ((CSSStyleRule) rule).getStyle();
+			if (hasInheritedValue(style)) {
+				ancestorKeys.add(ANY_KEY);
+			}
+			SelectorList selectorList = ((ExtendedCSSRule) rule).getSelectorList();
+			int l = selectorList.getLength();
+			for (int j = 0; j < l; j++) {
+				if (selectorList.item(j) instanceof ExtendedSelector selector) {
+					add(new IndexedSelector(selector, style, order++));
+				}
+			}
+		}
+	}
+
+	private static boolean hasInheritedValue(CSSStyleDeclaration style) {
+		int length = style.getLength();
+		for (int i = 0; i < length; i++) {
+			CSSValue value = style.getPropertyCSSValue(style.item(i));
+			if (value != null && "inherit".equals(value.getCssText())) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private void add(IndexedSelector indexed) {
+		collectContextKeys(indexed.selector(), null);
+		Selector subject = getSubject(indexed.selector());
+		String[] key = new String[2];
+		String name;
+		if (subject.getSelectorType() == Selector.SAC_CONDITIONAL_SELECTOR) {
+			ConditionalSelector conditional = (ConditionalSelector) subject;
+			name = getElementName(conditional.getSimpleSelector());
+			collectKeys(conditional.getCondition(), key);
+		} else {
+			name = getElementName(subject);
+		}
+		if (key[0] != null) {
+			idSelectors.computeIfAbsent(key[0], k -> new ArrayList<>()).add(indexed);
+		} else if (key[1] != null) {
+			classSelectors.computeIfAbsent(key[1], k -> new ArrayList<>()).add(indexed);
+		} else if (name != null) {
+			elementSelectors.computeIfAbsent(name, k -> new ArrayList<>()).add(indexed);
+		} else {
+			universalSelectors.add(indexed);
+		}
+	}
+
+	/**
+	 * Returns the part of the selector that has to match the element itself.
+	 */
+	private static Selector getSubject(Selector selector) {
+		switch (selector.getSelectorType()) {
+		case Selector.SAC_DESCENDANT_SELECTOR:
+		case Selector.SAC_CHILD_SELECTOR:
+			return ((DescendantSelector) selector).getSimpleSelector();
+		case Selector.SAC_DIRECT_ADJACENT_SELECTOR:
+			return ((SiblingSelector) selector).getSiblingSelector();
+		default:
+			return selector;
+		}
+	}
+
+	private static String getElementName(Selector selector) {
+		if (selector instanceof CSSElementSelectorImpl elementSelector) {
+			return elementSelector.getLocalName();
+		}
+		return null;
+	}
+
+	/**
+	 * Collects an id and a class the element must have to match the condition.
+	 */
+	private static void collectKeys(Condition condition, String[] key) {
+		if (condition instanceof CSSIdConditionImpl idCondition) {
+			key[0] = idCondition.getValue();
+		} else if (condition instanceof CSSClassConditionImpl classCondition) {
+			String value = classCondition.getValue();
+			if (key[1] == null && value != null && !value.isEmpty() && value.chars().noneMatch(Character::isSpaceChar)) {
+				key[1] = value;
+			}
+		} else if (condition.getConditionType() == Condition.SAC_AND_CONDITION) {
+			CombinatorCondition and = (CombinatorCondition) condition;
+			collectKeys(and.getFirstCondition(), key);
+			collectKeys(and.getSecondCondition(), key);
+		}
+	}
+
+	/**
+	 * Collects the classes and ids the selector tests on other elements than
+	 * the one it styles.
+	 *
+	 * @param keys
+	 *            the keys of the tested element, or <code>null</code> if the
+	 *            selector tests the styled element
+	 */
+	private void collectContextKeys(Selector selector, Set<String> keys) {
+		switch (selector.getSelectorType()) {
+		case Selector.SAC_DESCENDANT_SELECTOR:
+		case Selector.SAC_CHILD_SELECTOR:
+			DescendantSelector descendant = (DescendantSelector) selector;
+			collectContextKeys(descendant.getAncestorSelector(), keys == null ? ancestorKeys : keys);
+			collectContextKeys(descendant.getSimpleSelector(), keys);
+			break;
+		case Selector.SAC_DIRECT_ADJACENT_SELECTOR:
+			SiblingSelector sibling = (SiblingSelector) selector;
+			// an element is restyled with the children of its parent
+			collectContextKeys(sibling.getSelector(), siblingKeys);
+			collectContextKeys(sibling.getSiblingSelector(), keys);
+			break;
+		case Selector.SAC_CONDITIONAL_SELECTOR:
+			if (keys != null) {
+				collectContextKeys(((ConditionalSelector) selector).getCondition(), keys);
+			}
+			break;
+		default:
+			break;
+		}
+	}
+
+	private static void collectContextKeys(Condition condition, Set<String> keys) {
+		if (condition instanceof CSSIdConditionImpl idCondition) {
+			keys.add('#' + idCondition.getValue());
+		} else if (condition instanceof CSSClassConditionImpl classCondition) {
+			keys.add('.' + classCondition.getValue());
+		} else if (condition instanceof AttributeCondition attributeCondition) {
+			String name = attributeCondition.getLocalName();
+			if ("class".equals(name) || "id".equals(name)) {
+				keys.add(ANY_KEY);
+			}
+		} else if (condition instanceof CombinatorCondition combinator) {
+			collectContextKeys(combinator.getFirstCondition(), keys);
+			collectContextKeys(combinator.getSecondCondition(), keys);
+		} else if (condition instanceof NegativeCondition negative) {
+			collectContextKeys(negative.getCondition(), keys);
+		}
+	}
+
+	/**
+	 * Returns whether adding or removing the given classes or ids on an
+	 * element can change the style of its descendants.
+	 */
+	boolean affectsDescendants(Collection<String> classes, Collection<String> ids) {
+		return containsAny(ancestorKeys, classes, ids);
+	}
+
+	/**
+	 * Returns whether adding or removing the given classes or ids on an
+	 * element can change the style of its siblings and their descendants.
+	 */
+	boolean affectsSiblings(Collection<String> classes, Collection<String> ids) {
+		return containsAny(siblingKeys, classes, ids);
+	}
+
+	private static boolean containsAny(Set<String> keys, Collection<String> classes, Collection<String> ids) {
+		if (keys.isEmpty() || (classes.isEmpty() && ids.isEmpty())) {
+			return false;
+		}
+		if (keys.contains(ANY_KEY)) {
+			return true;
+		}
+		for (String cssClass : classes) {
+			if (keys.contains('.' + cssClass)) {
+				return true;
+			}
+		}
+		for (String id : ids) {
+			if (keys.contains('#' + id)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Returns the selectors that can match the given element, in the order of
+	 * the style rules.
+	 */
+	IndexedSelector[] getCandidates(Element element) {
+		String name = element.getPrefix() == null ? element.getNodeName() : element.getLocalName();
+		String id;
+		String cssClass;
+		if (element instanceof CSSStylableElement stylableElement) {
+			id = stylableElement.getCSSId();
+			cssClass = stylableElement.getCSSClass();
+		} else {
+			id = element.getAttribute("id");
+			cssClass = element.getAttribute("class");
+		}
+		Signature signature = new Signature(name, id, cssClass);
+		IndexedSelector[] result = candidates.get(signature);
+		if (result == null) {
+			result = computeCandidates(signature);
+			if (candidates.size() >= MAX_CACHED_SIGNATURES) {
+				candidates.clear();
+			}
+			candidates.put(signature, result);
+		}
+		return result;
+	}
+
+	private IndexedSelector[] computeCandidates(Signature signature) {
+		List<IndexedSelector> result = new ArrayList<>(universalSelectors);
+		if (signature.name() != null) {
+			addAll(result, elementSelectors.get(signature.name()));
+		}
+		if (signature.id() != null) {
+			addAll(result, idSelectors.get(signature.id()));
+		}
+		String cssClass = signature.cssClass();
+		if (cssClass != null && !classSelectors.isEmpty()) {
+			List<String> classes = new ArrayList<>();
+			int length = cssClass.length();
+			int start = 0;
+			for (int i = 0; i <= length; i++) {
+				if (i == length || Character.isSpaceChar(cssClass.charAt(i))) {
+					if (i > start) {
+						String value = cssClass.substring(start, i);
+						if (!classes.contains(value)) {
+							classes.add(value);
+							addAll(result, classSelectors.get(value));
+						}
+					}
+					start = i + 1;
+				}
+			}
+		}
+		if (result.isEmpty()) {
+			return NO_CANDIDATES;
+		}
+		result.sort(Comparator.comparingInt(IndexedSelector::order));
+		return result.toArray(new IndexedSelector[result.size()]);
+	}
+
+	private static void addAll(List<IndexedSelector> result, List<IndexedSelector> selectors) {
+		if (selectors != null) {
+			result.addAll(selectors);
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2018 Angelo Zerr and others.
+ * Copyright (c) 2008, 2026 Angelo Zerr and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -18,18 +18,15 @@
 package org.eclipse.e4.ui.css.core.impl.dom;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
-import org.eclipse.e4.ui.css.core.dom.ExtendedCSSRule;
 import org.eclipse.e4.ui.css.core.dom.ExtendedDocumentCSS;
-import org.eclipse.e4.ui.css.core.impl.sac.ExtendedSelector;
-import org.w3c.css.sac.Selector;
-import org.w3c.css.sac.SelectorList;
+import org.eclipse.e4.ui.css.core.impl.dom.CSSRuleIndex.IndexedSelector;
 import org.w3c.dom.Element;
 import org.w3c.dom.Node;
 import org.w3c.dom.css.CSSRule;
 import org.w3c.dom.css.CSSRuleList;
 import org.w3c.dom.css.CSSStyleDeclaration;
-import org.w3c.dom.css.CSSStyleRule;
 import org.w3c.dom.css.CSSStyleSheet;
 import org.w3c.dom.css.DocumentCSS;
 import org.w3c.dom.css.ViewCSS;
@@ -47,6 +44,8 @@ public class ViewCSSImpl implements ViewCSS, ExtendedDocumentCSS.StyleSheetChang
 	private boolean ruleCachingEnabled;
 	/** Cached state of combined CSS rules for the current stylesheets */
 	private List<CSSRule> currentCombinedRules;
+	/** Cached index of the combined CSS rules */
+	private CSSRuleIndex currentRuleIndex;
 
 	/**
 	 * Creates a new ViewCSS.
@@ -73,7 +72,50 @@ public class ViewCSSImpl implements ViewCSS, ExtendedDocumentCSS.StyleSheetChang
 	 */
 	@Override
 	public CSSStyleDeclaration getComputedStyle(Element elt, String pseudoElt) {
-		return getComputedStyle(getCombinedRules(), elt, pseudoElt);
+		return getComputedStyle(getRuleIndex(), elt, pseudoElt);
+	}
+
+	/**
+	 * Returns whether adding or removing the given CSS classes or ids on an
+	 * element can change the computed style of its descendants, because a
+	 * selector tests them on an ancestor.
+	 *
+	 * @param classes the added or removed classes
+	 * @param ids     the old and the new id, if the id changed
+	 * @return <code>true</code> if the descendants have to be restyled
+	 */
+	public boolean affectsDescendants(Collection<String> classes, Collection<String> ids) {
+		return getRuleIndex().affectsDescendants(classes, ids);
+	}
+
+	/**
+	 * Returns whether adding or removing the given CSS classes or ids on an
+	 * element can change the computed style of its siblings, because a
+	 * selector tests them on a preceding sibling.
+	 *
+	 * @param classes the added or removed classes
+	 * @param ids     the old and the new id, if the id changed
+	 * @return <code>true</code> if the siblings have to be restyled
+	 */
+	public boolean affectsSiblings(Collection<String> classes, Collection<String> ids) {
+		return getRuleIndex().affectsSiblings(classes, ids);
+	}
+
+	/**
+	 * Retrieves the index of the combined CSS rules, which is cached like the
+	 * rules themselves.
+	 *
+	 * @return index of the CSS rules for all style sheets
+	 */
+	private CSSRuleIndex getRuleIndex() {
+		if (this.ruleCachingEnabled && this.currentRuleIndex != null) {
+			return this.currentRuleIndex;
+		}
+		CSSRuleIndex ruleIndex = new CSSRuleIndex(getCombinedRules());
+		if (this.ruleCachingEnabled) {
+			this.currentRuleIndex = ruleIndex;
+		}
+		return ruleIndex;
 	}
 
 	/**
@@ -111,7 +153,7 @@ public class ViewCSSImpl implements ViewCSS, ExtendedDocumentCSS.StyleSheetChang
 		return cssRules;
 	}
 
-	private CSSStyleDeclaration getComputedStyle(List<CSSRule> ruleList, Element elt, String pseudoElt) {
+	private CSSStyleDeclaration getComputedStyle(CSSRuleIndex ruleIndex, Element elt, String pseudoElt) {
 		Node parent = elt.getParentNode();
 
 		Node[] hierarchy = null;
@@ -126,35 +168,21 @@ public class ViewCSSImpl implements ViewCSS, ExtendedDocumentCSS.StyleSheetChang
 		List<StyleWrapper> styleDeclarations = null;
 		StyleWrapper firstStyleDeclaration = null;
 		int position = 0;
-		for (CSSRule rule : ruleList) {
-			if (rule.getType() != CSSRule.STYLE_RULE || (!(rule instanceof ExtendedCSSRule)) ) {
-				continue; // we only handle the CSSRule.STYLE_RULE and ExtendedCSSRule case
-			}
-			CSSStyleRule styleRule = (CSSStyleRule) rule;
-			ExtendedCSSRule r = (ExtendedCSSRule) rule;
-			SelectorList selectorList = r.getSelectorList();
-			// Loop for SelectorList
-			int l = selectorList.getLength();
-			for (int j = 0; j < l; j++) {
-				Selector selector = selectorList.item(j);
-				if (selector instanceof ExtendedSelector) {
-					ExtendedSelector extendedSelector = (ExtendedSelector) selector;
-					if (extendedSelector.match(elt, hierarchy, 0, pseudoElt)) {
-						CSSStyleDeclaration style = styleRule.getStyle();
-						int specificity = extendedSelector.getSpecificity();
-						StyleWrapper wrapper = new StyleWrapper(style, specificity, position++);
-						if (firstStyleDeclaration == null) {
-							firstStyleDeclaration = wrapper;
-						} else {
-							// There is several Style Declarations which
-							// match the current element
-							if (styleDeclarations == null) {
-								styleDeclarations = new ArrayList<>();
-								styleDeclarations.add(firstStyleDeclaration);
-							}
-							styleDeclarations.add(wrapper);
-						}
+		// Only the selectors filed under the name, id or classes of the element can match
+		for (IndexedSelector candidate : ruleIndex.getCandidates(elt)) {
+			if (candidate.selector().match(elt, hierarchy, 0, pseudoElt)) {
+				int specificity = candidate.selector().getSpecificity();
+				StyleWrapper wrapper = new StyleWrapper(candidate.style(), specificity, position++);
+				if (firstStyleDeclaration == null) {
+					firstStyleDeclaration = wrapper;
+				} else {
+					// There is several Style Declarations which
+					// match the current element
+					if (styleDeclarations == null) {
+						styleDeclarations = new ArrayList<>();
+						styleDeclarations.add(firstStyleDeclaration);
 					}
+					styleDeclarations.add(wrapper);
 				}
 			}
 		}
@@ -172,10 +200,12 @@ public class ViewCSSImpl implements ViewCSS, ExtendedDocumentCSS.StyleSheetChang
 	@Override
 	public void styleSheetAdded(StyleSheet styleSheet) {
 		currentCombinedRules = null;
+		currentRuleIndex = null;
 	}
 
 	@Override
 	public void styleSheetRemoved(StyleSheet styleSheet) {
 		currentCombinedRules = null;
+		currentRuleIndex = null;
 	}
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2020 Angelo Zerr and others.
+ * Copyright (c) 2008, 2026 Angelo Zerr and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -441,6 +441,38 @@ public abstract class AbstractCSSEngine implements CSSEngine {
 		}
 	}
 
+	/**
+	 * Returns whether adding or removing the given CSS classes or ids on an
+	 * element can change the styles of its descendants. Restyling the element
+	 * alone is enough otherwise.
+	 *
+	 * @param classes the added or removed classes
+	 * @param ids     the old and the new id, if the id changed
+	 * @return <code>true</code> if the descendants have to be restyled
+	 */
+	public boolean affectsDescendants(Collection<String> classes, Collection<String> ids) {
+		if (viewCSS instanceof ViewCSSImpl) {
+			return ((ViewCSSImpl) viewCSS).affectsDescendants(classes, ids);
+		}
+		return true;
+	}
+
+	/**
+	 * Returns whether adding or removing the given CSS classes or ids on an
+	 * element can change the styles of its siblings and their descendants.
+	 *
+	 * @param classes the added or removed classes
+	 * @param ids     the old and the new id, if the id changed
+	 * @return <code>true</code> if the children of the parent have to be
+	 *         restyled
+	 */
+	public boolean affectsSiblings(Collection<String> classes, Collection<String> ids) {
+		if (viewCSS instanceof ViewCSSImpl) {
+			return ((ViewCSSImpl) viewCSS).affectsSiblings(classes, ids);
+		}
+		return true;
+	}
+
 	/**
 	 * Allow the CSS engine to skip particular elements if they are not visible.
 	 * Elements need to be restyled when they become visible.
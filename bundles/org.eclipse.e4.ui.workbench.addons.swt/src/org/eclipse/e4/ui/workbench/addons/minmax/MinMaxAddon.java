@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2020 IBM Corporation and others.
+ * Copyright (c) 2011, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -404,10 +404,12 @@ public class MinMaxAddon {
 				maximize(changedElement);
 			}
 		} else if (UIEvents.isREMOVE(event)) {
+			// a batched removal can remove both tags, see UIEventPublisher.runBatched
+			if (UIEvents.contains(event, UIEvents.EventTags.OLD_VALUE, MAXIMIZED)) {
+				unzoom(changedElement);
+			}
 			if (UIEvents.contains(event, UIEvents.EventTags.OLD_VALUE, MINIMIZED)) {
 				restore(changedElement);
-			} else if (UIEvents.contains(event, UIEvents.EventTags.OLD_VALUE, MAXIMIZED)) {
-				unzoom(changedElement);
 			}
 		}
 	}
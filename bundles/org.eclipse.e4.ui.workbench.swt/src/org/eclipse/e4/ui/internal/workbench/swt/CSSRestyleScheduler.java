@@ -0,0 +1,194 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.e4.ui.internal.workbench.swt;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import org.eclipse.e4.ui.css.core.engine.CSSEngine;
+import org.eclipse.e4.ui.css.core.impl.engine.AbstractCSSEngine;
+import org.eclipse.e4.ui.css.swt.dom.WidgetElement;
+import org.eclipse.swt.custom.CTabItem;
+import org.eclipse.swt.widgets.Control;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.ToolItem;
+import org.eclipse.swt.widgets.Widget;
+
+/**
+ * Re-styles the widgets whose CSS class or id changed once per iteration of the
+ * event loop, instead of re-styling the whole subtree of a widget on every
+ * change.
+ * <p>
+ * A changed widget is marked dirty and the scheduler re-styles all dirty
+ * widgets in one asynchronous runnable. The children of a widget are only
+ * re-styled if a selector tests one of the added or removed classes, or the
+ * id, on an ancestor; its siblings only if a selector tests them on a preceding
+ * sibling. A dirty widget whose ancestor has to be re-styled with its children
+ * is not styled on its own.
+ * <p>
+ * Widgets that get their first class or id are styled immediately, so new
+ * widgets are never shown without their styles.
+ */
+final class CSSRestyleScheduler {
+
+	private final Display display;
+	private final BiConsumer<Object, Boolean> applyStyles;
+
+	/**
+	 * The widgets to re-style, mapped to whether their children have to be
+	 * re-styled too
+	 */
+	private final Map<Widget, Boolean> dirtyWidgets = new LinkedHashMap<>();
+	private boolean scheduled;
+
+	/**
+	 * @param display     the display of the styled widgets
+	 * @param applyStyles applies the styles to a widget, and to its children if
+	 *                    the second argument is <code>true</code>
+	 */
+	CSSRestyleScheduler(Display display, BiConsumer<Object, Boolean> applyStyles) {
+		this.display = display;
+		this.applyStyles = applyStyles;
+	}
+
+	/**
+	 * Sets the CSS class and id of a widget and schedules the widgets whose
+	 * styles may have changed for re-styling.
+	 */
+	void setClassnameAndId(Widget widget, String classname, String id) {
+		String oldClassname = WidgetElement.getCSSClass(widget);
+		String oldId = WidgetElement.getID(widget);
+		WidgetElement.setCSSClass(widget, classname);
+		WidgetElement.setID(widget, id);
+		if (oldClassname == null && oldId == null) {
+			applyStyles.accept(widget, Boolean.TRUE);
+			return;
+		}
+
+		List<String> classes = getChangedClasses(oldClassname, classname);
+		List<String> ids = new ArrayList<>(2);
+		if (!Objects.equals(oldId, id)) {
+			addIfNotNull(ids, oldId);
+			addIfNotNull(ids, id);
+		}
+		boolean descendants = true;
+		boolean siblings = true;
+		CSSEngine engine = WidgetElement.getEngine(widget);
+		if (engine instanceof AbstractCSSEngine) {
+			descendants = ((AbstractCSSEngine) engine).affectsDescendants(classes, ids);
+			siblings = ((AbstractCSSEngine) engine).affectsSiblings(classes, ids);
+		}
+		Widget parent = siblings ? getParent(widget) : null;
+		if (parent != null) {
+			markDirty(parent, true);
+		} else {
+			markDirty(widget, descendants);
+		}
+	}
+
+	private void markDirty(Widget widget, boolean children) {
+		dirtyWidgets.merge(widget, Boolean.valueOf(children), Boolean::logicalOr);
+		if (!scheduled) {
+			scheduled = true;
+			display.asyncExec(this::restyle);
+		}
+	}
+
+	/**
+	 * Re-styles all dirty widgets.
+	 */
+	private void restyle() {
+		scheduled = false;
+		if (dirtyWidgets.isEmpty()) {
+			return;
+		}
+		Map<Widget, Boolean> widgets = new LinkedHashMap<>(dirtyWidgets);
+		dirtyWidgets.clear();
+		for (Entry<Widget, Boolean> entry : widgets.entrySet()) {
+			Widget widget = entry.getKey();
+			if (!widget.isDisposed() && !isRestyledWithAncestor(widget, widgets)) {
+				applyStyles.accept(widget, entry.getValue());
+			}
+		}
+	}
+
+	private static boolean isRestyledWithAncestor(Widget widget, Map<Widget, Boolean> widgets) {
+		for (Widget ancestor = getParent(widget); ancestor != null; ancestor = getParent(ancestor)) {
+			if (Boolean.TRUE.equals(widgets.get(ancestor))) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static Widget getParent(Widget widget) {
+		if (widget instanceof Control) {
+			return ((Control) widget).getParent();
+		} else if (widget instanceof CTabItem) {
+			return ((CTabItem) widget).getParent();
+		} else if (widget instanceof ToolItem) {
+			return ((ToolItem) widget).getParent();
+		}
+		return null;
+	}
+
+	/**
+	 * Returns the classes that are only in one of the given class attributes.
+	 */
+	private static List<String> getChangedClasses(String oldClassname, String classname) {
+		List<String> oldClasses = split(oldClassname);
+		List<String> classes = split(classname);
+		List<String> changed = new ArrayList<>();
+		for (String oldClass : oldClasses) {
+			if (!classes.contains(oldClass)) {
+				changed.add(oldClass);
+			}
+		}
+		for (String newClass : classes) {
+			if (!oldClasses.contains(newClass)) {
+				changed.add(newClass);
+			}
+		}
+		return changed;
+	}
+
+	private static List<String> split(String classname) {
+		List<String> classes = new ArrayList<>();
+		if (classname == null) {
+			return classes;
+		}
+		int length = classname.length();
+		int start = 0;
+		for (int i = 0; i <= length; i++) {
+			if (i == length || Character.isSpaceChar(classname.charAt(i))) {
+				if (i > start) {
+					classes.add(classname.substring(start, i));
+				}
+				start = i + 1;
+			}
+		}
+		return classes;
+	}
+
+	private static void addIfNotNull(Collection<String> collection, String value) {
+		if (value != null) {
+			collection.add(value);
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2019 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -1286,17 +1286,16 @@ public class PartRenderingEngine implements IPresentationEngine {
 				themeEngine.registerResourceLocator(new OSGiResourceLocator(cssResourcesURI));
 			}
 
+			final CSSRestyleScheduler restyleScheduler = new CSSRestyleScheduler(display, themeEngine::applyStyles);
 			appContext.set(IStylingEngine.class, new IStylingEngine() {
 				@Override
 				public void setClassname(Object widget, String classname) {
-					WidgetElement.setCSSClass((Widget) widget, classname);
-					themeEngine.applyStyles(widget, true);
+					restyleScheduler.setClassnameAndId((Widget) widget, classname, WidgetElement.getID((Widget) widget));
 				}
 
 				@Override
 				public void setId(Object widget, String id) {
-					WidgetElement.setID((Widget) widget, id);
-					themeEngine.applyStyles(widget, true);
+					restyleScheduler.setClassnameAndId((Widget) widget, WidgetElement.getCSSClass((Widget) widget), id);
 				}
 
 				@Override
@@ -1311,9 +1310,7 @@ public class PartRenderingEngine implements IPresentationEngine {
 
 				@Override
 				public void setClassnameAndId(Object widget, String classname, String id) {
-					WidgetElement.setCSSClass((Widget) widget, classname);
-					WidgetElement.setID((Widget) widget, id);
-					themeEngine.applyStyles(widget, true);
+					restyleScheduler.setClassnameAndId((Widget) widget, classname, id);
 				}
 			});
 
@@ -1329,17 +1326,16 @@ public class PartRenderingEngine implements IPresentationEngine {
 			}
 			// FIXME: is this needed?
 			display.setData("org.eclipse.e4.ui.css.context", appContext); //$NON-NLS-1$
+			final CSSRestyleScheduler restyleScheduler = new CSSRestyleScheduler(display, cssEngine::applyStyles);
 			appContext.set(IStylingEngine.class, new IStylingEngine() {
 				@Override
 				public void setClassname(Object widget, String classname) {
-					WidgetElement.setCSSClass((Widget) widget, classname);
-					cssEngine.applyStyles(widget, true);
+					restyleScheduler.setClassnameAndId((Widget) widget, classname, WidgetElement.getID((Widget) widget));
 				}
 
 				@Override
 				public void setId(Object widget, String id) {
-					WidgetElement.setID((Widget) widget, id);
-					cssEngine.applyStyles(widget, true);
+					restyleScheduler.setClassnameAndId((Widget) widget, WidgetElement.getCSSClass((Widget) widget), id);
 				}
 
 				@Override
@@ -1358,9 +1354,7 @@ public class PartRenderingEngine implements IPresentationEngine {
 
 				@Override
 				public void setClassnameAndId(Object widget, String classname, String id) {
-					WidgetElement.setCSSClass((Widget) widget, classname);
-					WidgetElement.setID((Widget) widget, id);
-					cssEngine.applyStyles(widget, true);
+					restyleScheduler.setClassnameAndId((Widget) widget, classname, id);
 				}
 			});
 
@@ -0,0 +1,239 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.e4.ui.internal.workbench;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+import org.eclipse.emf.common.util.TreeIterator;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.BinaryResourceImpl;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.emf.ecore.util.EcoreUtil.Copier;
+import org.eclipse.emf.ecore.util.InternalEList;
+
+/**
+ * An {@link E4XMIResource} that is saved in the binary format of EMF instead of
+ * XMI, which is much faster to load. The contents are followed by the ids of
+ * their elements, so that the ids survive a save and load as they do in XMI.
+ * <p>
+ * The file starts with a magic number, the format version, and the length and
+ * CRC-32 checksum of the rest of the file. A file that was truncated or
+ * corrupted therefore fails to load with an {@link IOException} instead of
+ * producing a broken model.
+ * </p>
+ */
+public class E4BinaryResource extends E4XMIResource {
+
+	/** "E4MB" */
+	private static final int MAGIC = 0x45344D42;
+
+	private static final int VERSION = 1;
+
+	public E4BinaryResource(URI uri) {
+		super(uri);
+	}
+
+	@Override
+	public void doSave(OutputStream outputStream, Map<?, ?> options) throws IOException {
+		// like in XMI, every saved element gets an id
+		for (TreeIterator<EObject> it = getAllContents(); it.hasNext();) {
+			getID(it.next());
+		}
+		save(this, outputStream, options);
+	}
+
+	/**
+	 * Saves the contents of the given resource in the binary format,
+	 * for example those of a resource loaded from XMI. Only the existing ids
+	 * of the elements are saved, the resource is not changed.
+	 *
+	 * @param resource
+	 *            the resource to save
+	 * @param outputStream
+	 *            the stream to save to
+	 * @param options
+	 *            the save options, may be <code>null</code>
+	 * @throws IOException
+	 *             if the resource cannot be saved
+	 */
+	static void save(E4XMIResource resource, OutputStream outputStream, Map<?, ?> options) throws IOException {
+		// save a copy, so that filtered elements can be removed without
+		// changing the model
+		Copier copier = new Copier();
+		Collection<EObject> copies = copier.copyAll(resource.getContents());
+		copier.copyReferences();
+		Map<EObject, EObject> originals = new IdentityHashMap<>();
+		for (Map.Entry<EObject, EObject> entry : copier.entrySet()) {
+			originals.put(entry.getValue(), entry.getKey());
+		}
+		BinaryResourceImpl binary = createBinaryResource(resource);
+		binary.getContents().addAll(copies);
+		if (options != null && Boolean.TRUE.equals(options.get(OPTION_FILTER_PERSIST_STATE))) {
+			removeFiltered(binary);
+		}
+
+		ByteArrayOutputStream contents = new ByteArrayOutputStream();
+		binary.save(contents, null);
+		List<EObject> objects = getAllContents(binary);
+
+		ByteArrayOutputStream payload = new ByteArrayOutputStream(contents.size() + 64 * objects.size());
+		DataOutputStream data = new DataOutputStream(payload);
+		data.writeInt(contents.size());
+		contents.writeTo(data);
+		data.writeInt(objects.size());
+		for (EObject object : objects) {
+			String id = resource.getExistingID(originals.get(object));
+			data.writeUTF(id == null ? "" : id); //$NON-NLS-1$
+		}
+		data.flush();
+		byte[] bytes = payload.toByteArray();
+		CRC32 checksum = new CRC32();
+		checksum.update(bytes);
+
+		// the file is only written once it is complete
+		DataOutputStream out = new DataOutputStream(outputStream);
+		out.writeInt(MAGIC);
+		out.writeInt(VERSION);
+		out.writeInt(bytes.length);
+		out.writeLong(checksum.getValue());
+		out.write(bytes);
+		out.flush();
+	}
+
+	@Override
+	public void doLoad(InputStream inputStream, Map<?, ?> options) throws IOException {
+		DataInputStream in = new DataInputStream(inputStream);
+		if (in.readInt() != MAGIC) {
+			throw new IOException("Not a binary workbench model: " + getURI()); //$NON-NLS-1$
+		}
+		int version = in.readInt();
+		if (version != VERSION) {
+			throw new IOException("Unsupported version " + version + " of binary workbench model: " + getURI()); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		int length = in.readInt();
+		long expectedChecksum = in.readLong();
+		if (length < 0) {
+			throw new IOException("Corrupted binary workbench model: " + getURI()); //$NON-NLS-1$
+		}
+		byte[] bytes = new byte[length];
+		in.readFully(bytes);
+		CRC32 checksum = new CRC32();
+		checksum.update(bytes);
+		if (checksum.getValue() != expectedChecksum) {
+			throw new IOException("Checksum mismatch in binary workbench model: " + getURI()); //$NON-NLS-1$
+		}
+
+		DataInputStream data = new DataInputStream(new ByteArrayInputStream(bytes));
+		byte[] contents = new byte[data.readInt()];
+		data.readFully(contents);
+		BinaryResourceImpl binary = createBinaryResource(this);
+		binary.load(new ByteArrayInputStream(contents), null);
+		List<EObject> objects = getAllContents(binary);
+		if (data.readInt() != objects.size()) {
+			throw new IOException("Corrupted binary workbench model: " + getURI()); //$NON-NLS-1$
+		}
+		getContents().addAll(new ArrayList<>(binary.getContents()));
+		for (EObject object : objects) {
+			String id = data.readUTF();
+			if (!id.isEmpty()) {
+				setID(object, id);
+			}
+		}
+	}
+
+	/**
+	 * Creates a binary resource that resolves the packages of the model like
+	 * the resource set of the given resource.
+	 */
+	private static BinaryResourceImpl createBinaryResource(Resource resource) {
+		BinaryResourceImpl binary = new BinaryResourceImpl(resource.getURI());
+		ResourceSet resourceSet = resource.getResourceSet();
+		if (resourceSet != null) {
+			ResourceSetImpl binaryResourceSet = new ResourceSetImpl();
+			binaryResourceSet.setPackageRegistry(resourceSet.getPackageRegistry());
+			binaryResourceSet.getResources().add(binary);
+		}
+		return binary;
+	}
+
+	private static List<EObject> getAllContents(Resource resource) {
+		List<EObject> objects = new ArrayList<>();
+		for (TreeIterator<EObject> it = resource.getAllContents(); it.hasNext();) {
+			objects.add(it.next());
+		}
+		return objects;
+	}
+
+	/**
+	 * Removes the elements that {@link E4XMISave} does not save, and the
+	 * references to them.
+	 */
+	private static void removeFiltered(Resource resource) {
+		List<EObject> filtered = new ArrayList<>();
+		for (TreeIterator<EObject> it = resource.getAllContents(); it.hasNext();) {
+			EObject object = it.next();
+			if (!E4XMISave.isPersisted(object)) {
+				filtered.add(object);
+				it.prune();
+			}
+		}
+		if (filtered.isEmpty()) {
+			return;
+		}
+		for (EObject object : filtered) {
+			EcoreUtil.remove(object);
+		}
+
+		for (TreeIterator<EObject> it = resource.getAllContents(); it.hasNext();) {
+			EObject object = it.next();
+			for (EReference reference : object.eClass().getEAllReferences()) {
+				if (reference.isContainment() || reference.isContainer() || reference.isTransient()
+						|| reference.isDerived() || !reference.isChangeable()) {
+					continue;
+				}
+				if (reference.isMany()) {
+					InternalEList<?> values = (InternalEList<?>) object.eGet(reference);
+					for (int i = values.size() - 1; i >= 0; i--) {
+						if (isRemoved(values.basicGet(i))) {
+							values.remove(i);
+						}
+					}
+				} else if (isRemoved(object.eGet(reference, false))) {
+					object.eUnset(reference);
+				}
+			}
+		}
+	}
+
+	private static boolean isRemoved(Object value) {
+		return value instanceof EObject && !((EObject) value).eIsProxy() && ((EObject) value).eResource() == null;
+	}
+}
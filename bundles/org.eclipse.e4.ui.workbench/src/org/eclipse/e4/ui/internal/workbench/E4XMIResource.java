@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2015 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -101,6 +101,21 @@ public class E4XMIResource extends XMIResourceImpl {
 		return id;
 	}
 
+	/**
+	 * Returns the id of the given object without assigning a new one.
+	 *
+	 * @param eObject
+	 *            the object
+	 * @return the id, or <code>null</code> if the object has no id
+	 */
+	String getExistingID(EObject eObject) {
+		if (eObject instanceof Entry<?, ?>) {
+			return null;
+		}
+		String id = super.getID(eObject);
+		return id != null ? id : objectMap.get(eObject);
+	}
+
 	/*
 	 * Create custom XML save to allow filtering of volatile UI elements.
 	 */
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2018, 2019 Christian Pontesegger and others.
+ * Copyright (c) 2018, 2026 Christian Pontesegger and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -17,6 +17,7 @@ package org.eclipse.e4.ui.internal.workbench;
 import org.eclipse.e4.ui.model.application.MApplicationElement;
 import org.eclipse.e4.ui.model.application.ui.MUIElement;
 import org.eclipse.e4.ui.workbench.IWorkbench;
+import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.EStructuralFeature;
 import org.eclipse.emf.ecore.InternalEObject;
 import org.eclipse.emf.ecore.xmi.XMLHelper;
@@ -37,20 +38,34 @@ public class E4XMISave extends XMISaveImpl {
 	 */
 	@Override
 	protected void saveElement(InternalEObject o, EStructuralFeature f) {
+		if (isPersisted(o)) {
+			super.saveElement(o, f);
+		}
+	}
+
+	/**
+	 * Returns whether the given element is saved with
+	 * {@link E4XMIResource#OPTION_FILTER_PERSIST_STATE}. The children of an
+	 * element that is not saved are not saved either.
+	 *
+	 * @param o
+	 *            an element of the model
+	 * @return whether the element is saved
+	 */
+	static boolean isPersisted(EObject o) {
 		if (o instanceof MApplicationElement) {
 			MApplicationElement appElement = (MApplicationElement) o;
 			String persists = appElement.getPersistedState().get(IWorkbench.PERSIST_STATE);
 			if (persists != null && !Boolean.parseBoolean(persists)) {
-				return;
+				return false;
 			}
 		}
 		if (o instanceof MUIElement) {
 			MUIElement uiElement = (MUIElement) o;
 			if (OpaqueElementUtil.isOpaqueElement(uiElement) || RenderedElementUtil.isRenderedElement(uiElement)) {
-				return;
+				return false;
 			}
 		}
-
-		super.saveElement(o, f);
+		return true;
 	}
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2010, 2021 BestSolution.at and others.
+ * Copyright (c) 2010, 2026 BestSolution.at and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -21,6 +21,8 @@ package org.eclipse.e4.ui.internal.workbench;
 
 import jakarta.annotation.PostConstruct;
 import jakarta.annotation.PreDestroy;
+import java.io.File;
+import java.io.IOException;
 import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -126,7 +128,7 @@ public class ModelAssembler {
 				// we skip direct processing in case the startup model processing is not done
 				// yet
 				if (processModelExecuted) {
-					uiSync.asyncExec(() -> processFragmentWrappers(wrappers));
+					uiSync.asyncExec(() -> processAddedFragmentWrappers(wrappers));
 				}
 
 				return mappings;
@@ -205,6 +207,7 @@ public class ModelAssembler {
 
 	private static final String EXTENSION_POINT_ID = "org.eclipse.e4.workbench.model"; //$NON-NLS-1$
 	private static final String MODEL_FRAGMENT_HEADER = "Model-Fragment"; //$NON-NLS-1$
+	private static final String FRAGMENT_CACHE_FILE = "modelFragments.bin"; //$NON-NLS-1$
 
 	private static final String ALWAYS = "always"; //$NON-NLS-1$
 	private static final String INITIAL = "initial"; //$NON-NLS-1$
@@ -223,6 +226,9 @@ public class ModelAssembler {
 
 	private boolean processModelExecuted = false;
 
+	/** The cache of the fragment files while the model is processed */
+	private ModelFragmentCache fragmentCache;
+
 	@Activate
 	void activate(BundleContext bundleContext) {
 		this.bundleContext = bundleContext;
@@ -320,8 +326,20 @@ public class ModelAssembler {
 
 			// run processors which are marked to run before fragments
 			runProcessors(extensions, initial, false);
-			// process fragments (and resolve imports)
-			processFragments(extensions, initial);
+			// process fragments (and resolve imports), the fragment files of
+			// unchanged bundles are read from the cache instead of parsed
+			File cacheFile = bundleContext != null ? bundleContext.getDataFile(FRAGMENT_CACHE_FILE) : null;
+			fragmentCache = cacheFile != null ? new ModelFragmentCache(cacheFile) : null;
+			try {
+				processFragments(extensions, initial);
+				if (fragmentCache != null) {
+					fragmentCache.save();
+				}
+			} catch (IOException e) {
+				log(LogLevel.DEBUG, "Unable to write the model fragment cache {}", cacheFile, e); //$NON-NLS-1$
+			} finally {
+				fragmentCache = null;
+			}
 			// run processors which are marked to run after fragments
 			runProcessors(extensions, initial, true);
 		}
@@ -451,6 +469,23 @@ public class ModelAssembler {
 		processFragments(createUnifiedFragmentList(elementIdToBucket));
 	}
 
+	/**
+	 * Processes the fragments of a bundle that was added while the application
+	 * is running. The events of the merged elements are published once all
+	 * fragments are merged, which coalesces e.g. the additions of many commands
+	 * and handlers to the application.
+	 *
+	 * @param wrappers the list of fragments
+	 */
+	private void processAddedFragmentWrappers(Collection<ModelFragmentWrapper> wrappers) {
+		UIEventPublisher publisher = context != null ? context.get(UIEventPublisher.class) : null;
+		if (publisher != null) {
+			publisher.runBatched(() -> processFragmentWrappers(wrappers));
+		} else {
+			processFragmentWrappers(wrappers);
+		}
+	}
+
 	private List<ModelFragmentWrapper> createUnifiedFragmentList(Map<String, Bucket> elementIdToBucket) {
 		List<ModelFragmentWrapper> fragmentList = new ArrayList<>();
 		Set<String> checkedElementIds = new LinkedHashSet<>();
@@ -556,7 +591,8 @@ public class ModelAssembler {
 
 		Resource resource;
 		try {
-			resource = resourceSet.getResource(uri, true);
+			ModelFragmentCache cache = fragmentCache;
+			resource = cache != null ? cache.getResource(resourceSet, uri) : resourceSet.getResource(uri, true);
 		} catch (RuntimeException e) {
 			log(LogLevel.WARN, "Unable to read model extension from {} of {}", uri, bundleName); //$NON-NLS-1$
 			return null;
@@ -0,0 +1,264 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.e4.ui.internal.workbench;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.eclipse.e4.ui.model.application.MApplication;
+import org.eclipse.e4.ui.model.application.MApplicationElement;
+import org.eclipse.e4.ui.model.application.impl.ApplicationPackageImpl;
+import org.eclipse.e4.ui.model.application.ui.MUIElement;
+import org.eclipse.e4.ui.model.application.ui.advanced.MPlaceholder;
+import org.eclipse.e4.ui.model.application.ui.advanced.impl.AdvancedPackageImpl;
+import org.eclipse.emf.common.notify.Adapter;
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.util.EContentAdapter;
+
+/**
+ * An index of the elements of an application model by their element id, their
+ * tags and their class, which is kept up to date as the model changes. It also
+ * knows the placeholders referencing an element, so that
+ * {@link ModelServiceImpl} can restrict a search to the elements on the way to
+ * the indexed candidates instead of walking the whole model.
+ */
+final class ModelElementIndex extends EContentAdapter {
+
+	private final Map<String, Set<MApplicationElement>> byId = new HashMap<>();
+	private final Map<String, Set<MApplicationElement>> byTag = new HashMap<>();
+	private final Map<EClass, Set<MApplicationElement>> byClass = new HashMap<>();
+	private final Map<MUIElement, Set<MPlaceholder>> placeholdersByRef = new IdentityHashMap<>();
+
+	private int size;
+
+	/**
+	 * Returns the index of the application model containing the given element,
+	 * which is created when it is first requested.
+	 *
+	 * @return the index, or <code>null</code> if the element is not contained
+	 *         in an application model
+	 */
+	static ModelElementIndex getIndex(MApplicationElement element) {
+		if (!(element instanceof EObject)) {
+			return null;
+		}
+		EObject root = (EObject) element;
+		for (EObject container = root.eContainer(); container != null; container = container.eContainer()) {
+			root = container;
+		}
+		if (!(root instanceof MApplication)) {
+			return null;
+		}
+		for (Adapter adapter : root.eAdapters()) {
+			if (adapter instanceof ModelElementIndex) {
+				return (ModelElementIndex) adapter;
+			}
+		}
+		ModelElementIndex index = new ModelElementIndex();
+		root.eAdapters().add(index);
+		return index;
+	}
+
+	/**
+	 * Returns the elements that a search for the given criteria would have to
+	 * pass to find all matching elements. These are the matching elements, the
+	 * elements containing them, and the placeholders referencing any of these
+	 * together with the elements containing them in turn.
+	 *
+	 * @return the elements to search, or <code>null</code> if the criteria do
+	 *         not narrow the search or if some elements cannot be found through
+	 *         the index
+	 */
+	Set<EObject> getSearchPath(String id, Class<?> clazz, List<String> tagsToMatch) {
+		Collection<MApplicationElement> candidates = getCandidates(id, clazz, tagsToMatch);
+		if (candidates == null || hasForeignReferences()) {
+			return null;
+		}
+		Set<EObject> path = Collections.newSetFromMap(new IdentityHashMap<>());
+		Deque<EObject> queue = new ArrayDeque<>();
+		for (MApplicationElement candidate : candidates) {
+			queue.add((EObject) candidate);
+		}
+		while (!queue.isEmpty()) {
+			for (EObject o = queue.poll(); o != null && path.add(o); o = o.eContainer()) {
+				Set<MPlaceholder> placeholders = placeholdersByRef.get(o);
+				if (placeholders != null) {
+					for (MPlaceholder placeholder : placeholders) {
+						queue.add((EObject) placeholder);
+					}
+				}
+			}
+		}
+		return path;
+	}
+
+	private Collection<MApplicationElement> getCandidates(String id, Class<?> clazz, List<String> tagsToMatch) {
+		if (id != null) {
+			return byId.getOrDefault(id, Collections.emptySet());
+		}
+		if (tagsToMatch != null && !tagsToMatch.isEmpty()) {
+			Set<MApplicationElement> smallest = null;
+			for (String tag : tagsToMatch) {
+				Set<MApplicationElement> tagged = byTag.getOrDefault(tag, Collections.emptySet());
+				if (smallest == null || tagged.size() < smallest.size()) {
+					smallest = tagged;
+				}
+			}
+			return smallest;
+		}
+		if (clazz != null) {
+			List<MApplicationElement> instances = new ArrayList<>();
+			for (Map.Entry<EClass, Set<MApplicationElement>> entry : byClass.entrySet()) {
+				Class<?> instanceClass = entry.getKey().getInstanceClass();
+				if (instanceClass != null && clazz.isAssignableFrom(instanceClass)) {
+					instances.addAll(entry.getValue());
+				}
+			}
+			// walking the model is cheaper than collecting most of it
+			if (instances.size() * 2 > size) {
+				return null;
+			}
+			return instances;
+		}
+		return null;
+	}
+
+	/**
+	 * @return whether a placeholder references an element outside of the
+	 *         application model, whose contents are not indexed
+	 */
+	private boolean hasForeignReferences() {
+		for (MUIElement ref : placeholdersByRef.keySet()) {
+			if (!((EObject) ref).eAdapters().contains(this)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	@Override
+	public void notifyChanged(Notification notification) {
+		super.notifyChanged(notification);
+
+		if (notification.isTouch() || !(notification.getNotifier() instanceof MApplicationElement)) {
+			return;
+		}
+		MApplicationElement element = (MApplicationElement) notification.getNotifier();
+		Object feature = notification.getFeature();
+		if (feature == ApplicationPackageImpl.Literals.APPLICATION_ELEMENT__ELEMENT_ID) {
+			remove(byId, (String) notification.getOldValue(), element);
+			add(byId, (String) notification.getNewValue(), element);
+		} else if (feature == ApplicationPackageImpl.Literals.APPLICATION_ELEMENT__TAGS) {
+			updateTags(element, notification);
+		} else if (feature == AdvancedPackageImpl.Literals.PLACEHOLDER__REF) {
+			remove(placeholdersByRef, (MUIElement) notification.getOldValue(), (MPlaceholder) element);
+			add(placeholdersByRef, (MUIElement) notification.getNewValue(), (MPlaceholder) element);
+		}
+	}
+
+	private void updateTags(MApplicationElement element, Notification notification) {
+		switch (notification.getEventType()) {
+		case Notification.ADD:
+			add(byTag, (String) notification.getNewValue(), element);
+			break;
+		case Notification.ADD_MANY:
+			for (Object tag : (Collection<?>) notification.getNewValue()) {
+				add(byTag, (String) tag, element);
+			}
+			break;
+		case Notification.REMOVE:
+			removeTag(element, (String) notification.getOldValue());
+			break;
+		case Notification.REMOVE_MANY:
+			for (Object tag : (Collection<?>) notification.getOldValue()) {
+				removeTag(element, (String) tag);
+			}
+			break;
+		case Notification.SET:
+			removeTag(element, (String) notification.getOldValue());
+			add(byTag, (String) notification.getNewValue(), element);
+			break;
+		default:
+			break;
+		}
+	}
+
+	private void removeTag(MApplicationElement element, String tag) {
+		// the tag may still be there if the element had it more than once
+		if (!element.getTags().contains(tag)) {
+			remove(byTag, tag, element);
+		}
+	}
+
+	@Override
+	protected void setTarget(EObject target) {
+		if (target instanceof MApplicationElement) {
+			MApplicationElement element = (MApplicationElement) target;
+			add(byId, element.getElementId(), element);
+			for (String tag : element.getTags()) {
+				add(byTag, tag, element);
+			}
+			add(byClass, target.eClass(), element);
+			if (target instanceof MPlaceholder) {
+				add(placeholdersByRef, ((MPlaceholder) target).getRef(), (MPlaceholder) target);
+			}
+			size++;
+		}
+		super.setTarget(target);
+	}
+
+	@Override
+	protected void unsetTarget(EObject target) {
+		if (target instanceof MApplicationElement) {
+			MApplicationElement element = (MApplicationElement) target;
+			remove(byId, element.getElementId(), element);
+			for (String tag : element.getTags()) {
+				remove(byTag, tag, element);
+			}
+			remove(byClass, target.eClass(), element);
+			if (target instanceof MPlaceholder) {
+				remove(placeholdersByRef, ((MPlaceholder) target).getRef(), (MPlaceholder) target);
+			}
+			size--;
+		}
+		super.unsetTarget(target);
+	}
+
+	private static <K, V> void add(Map<K, Set<V>> map, K key, V value) {
+		if (key != null) {
+			map.computeIfAbsent(key, k -> new LinkedHashSet<>()).add(value);
+		}
+	}
+
+	private static <K, V> void remove(Map<K, Set<V>> map, K key, V value) {
+		if (key == null) {
+			return;
+		}
+		Set<V> values = map.get(key);
+		if (values != null && values.remove(value) && values.isEmpty()) {
+			map.remove(key);
+		}
+	}
+}
@@ -0,0 +1,228 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.e4.ui.internal.workbench;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.net.URL;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.eclipse.core.runtime.Platform;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.osgi.framework.Bundle;
+
+/**
+ * A cache of the parsed model fragment files, so that the fragments of an
+ * unchanged installation are not parsed from XMI on every start. A fragment
+ * file is stored in the format of {@link E4BinaryResource} together with its
+ * fingerprint, which consists of the version and modification time of its
+ * bundle and the modification time of the file itself. A file whose
+ * fingerprint changed is parsed again.
+ * <p>
+ * Only fragment files with <code>platform:/plugin</code> URIs are cached. The
+ * cache is read when the first fragment file is requested, and
+ * {@link #save()} writes the files requested since then if any of them was
+ * parsed or a cached file was not requested.
+ * </p>
+ */
+final class ModelFragmentCache {
+
+	/** "E4FC" */
+	private static final int MAGIC = 0x45344643;
+
+	private static final int VERSION = 1;
+
+	private static final class Entry {
+		final String fingerprint;
+		final byte[] bytes;
+
+		Entry(String fingerprint, byte[] bytes) {
+			this.fingerprint = fingerprint;
+			this.bytes = bytes;
+		}
+	}
+
+	private final File file;
+
+	/** The entries read from the file, or <code>null</code> if not read yet */
+	private Map<String, Entry> cached;
+
+	/** The entries of the fragment files requested since the cache was read */
+	private final Map<String, Entry> requested = new LinkedHashMap<>();
+
+	private boolean changed;
+
+	ModelFragmentCache(File file) {
+		this.file = file;
+	}
+
+	/**
+	 * Returns the resource of the fragment file with the given URI in the given
+	 * resource set. The resource is loaded from the cache if the file did not
+	 * change, or parsed like {@link ResourceSet#getResource(URI, boolean)} does
+	 * otherwise.
+	 *
+	 * @throws RuntimeException
+	 *             if the file cannot be parsed
+	 */
+	synchronized Resource getResource(ResourceSet resourceSet, URI uri) {
+		String fingerprint = getFingerprint(uri);
+		if (fingerprint == null || resourceSet.getResource(uri, false) != null) {
+			return resourceSet.getResource(uri, true);
+		}
+
+		String key = uri.toString();
+		Entry entry = getCached().get(key);
+		if (entry != null && entry.fingerprint.equals(fingerprint)) {
+			E4BinaryResource resource = new E4BinaryResource(uri);
+			resourceSet.getResources().add(resource);
+			try {
+				resource.load(new ByteArrayInputStream(entry.bytes), null);
+				requested.put(key, entry);
+				return resource;
+			} catch (IOException | RuntimeException e) {
+				resourceSet.getResources().remove(resource);
+			}
+		}
+
+		Resource resource = resourceSet.getResource(uri, true);
+		changed = true;
+		if (resource instanceof E4XMIResource && resource.getErrors().isEmpty()) {
+			ByteArrayOutputStream out = new ByteArrayOutputStream();
+			try {
+				E4BinaryResource.save((E4XMIResource) resource, out, null);
+				requested.put(key, new Entry(fingerprint, out.toByteArray()));
+			} catch (IOException | RuntimeException e) {
+				// the file is parsed again on the next start
+			}
+		}
+		return resource;
+	}
+
+	/**
+	 * Writes the requested fragment files to the cache file if they differ from
+	 * the cached ones.
+	 *
+	 * @throws IOException
+	 *             if the cache file cannot be written
+	 */
+	synchronized void save() throws IOException {
+		if (!changed && requested.size() == getCached().size()) {
+			return;
+		}
+		File parent = file.getParentFile();
+		if (parent != null) {
+			parent.mkdirs();
+		}
+		File tmp = new File(file.getPath() + ".tmp"); //$NON-NLS-1$
+		try (DataOutputStream out = new DataOutputStream(
+				new BufferedOutputStream(new FileOutputStream(tmp)))) {
+			out.writeInt(MAGIC);
+			out.writeInt(VERSION);
+			out.writeInt(requested.size());
+			for (Map.Entry<String, Entry> e : requested.entrySet()) {
+				out.writeUTF(e.getKey());
+				out.writeUTF(e.getValue().fingerprint);
+				out.writeInt(e.getValue().bytes.length);
+				out.write(e.getValue().bytes);
+			}
+		}
+		try {
+			Files.move(tmp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING,
+					StandardCopyOption.ATOMIC_MOVE);
+		} catch (AtomicMoveNotSupportedException e) {
+			Files.move(tmp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+		}
+		cached = new LinkedHashMap<>(requested);
+		changed = false;
+	}
+
+	private Map<String, Entry> getCached() {
+		if (cached == null) {
+			cached = new LinkedHashMap<>();
+			if (file.isFile()) {
+				try (DataInputStream in = new DataInputStream(
+						new BufferedInputStream(new FileInputStream(file)))) {
+					read(in);
+				} catch (IOException | RuntimeException e) {
+					// a broken cache file is replaced on save
+					cached.clear();
+					changed = true;
+				}
+			}
+		}
+		return cached;
+	}
+
+	private void read(DataInputStream in) throws IOException {
+		if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+			throw new IOException("Unsupported model fragment cache: " + file); //$NON-NLS-1$
+		}
+		int count = in.readInt();
+		for (int i = 0; i < count; i++) {
+			String key = in.readUTF();
+			String fingerprint = in.readUTF();
+			int length = in.readInt();
+			if (length < 0) {
+				throw new IOException("Corrupted model fragment cache: " + file); //$NON-NLS-1$
+			}
+			byte[] bytes = new byte[length];
+			in.readFully(bytes);
+			cached.put(key, new Entry(fingerprint, bytes));
+		}
+	}
+
+	/**
+	 * @return the fingerprint of the given fragment file, or <code>null</code>
+	 *         if the file cannot be cached
+	 */
+	private static String getFingerprint(URI uri) {
+		if (!uri.isPlatformPlugin() || uri.segmentCount() < 3) {
+			return null;
+		}
+		Bundle bundle = Platform.getBundle(URI.decode(uri.segment(1)));
+		if (bundle == null) {
+			return null;
+		}
+		StringBuilder path = new StringBuilder();
+		for (int i = 2; i < uri.segmentCount(); i++) {
+			path.append('/').append(URI.decode(uri.segment(i)));
+		}
+		URL entry = bundle.getEntry(path.toString());
+		if (entry == null) {
+			return null;
+		}
+		long lastModified;
+		try {
+			lastModified = entry.openConnection().getLastModified();
+		} catch (IOException e) {
+			return null;
+		}
+		return bundle.getVersion() + ":" + bundle.getLastModified() + ":" + lastModified; //$NON-NLS-1$ //$NON-NLS-2$
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2010, 2020 IBM Corporation and others.
+ * Copyright (c) 2010, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -27,6 +27,7 @@ import java.util.Hashtable;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 import org.eclipse.core.runtime.Assert;
 import org.eclipse.core.runtime.IExtensionRegistry;
 import org.eclipse.e4.core.contexts.ContextInjectionFactory;
@@ -168,10 +169,16 @@ public class ModelServiceImpl implements EModelService {
 
 	}
 
+	/**
+	 * @param path
+	 *            the elements leading to all possible matches, as determined by
+	 *            the {@link ModelElementIndex}, or <code>null</code> to search
+	 *            all elements
+	 */
 	private <T> void findElementsRecursive(MApplicationElement searchRoot, Class<T> clazz,
-			Selector matcher, LinkedHashSet<T> elements, int searchFlags) {
+			Selector matcher, LinkedHashSet<T> elements, int searchFlags, Set<EObject> path) {
 		Assert.isLegal(searchRoot != null);
-		if (searchFlags == 0) {
+		if (searchFlags == 0 || (path != null && !path.contains(searchRoot))) {
 			return;
 		}
 
@@ -206,21 +213,21 @@ public class ModelServiceImpl implements EModelService {
 			}
 
 			for (MApplicationElement child : children) {
-				findElementsRecursive(child, clazz, matcher, elements, searchFlags);
+				findElementsRecursive(child, clazz, matcher, elements, searchFlags, path);
 			}
 		}
 
 		if (searchRoot instanceof MBindingContext && (searchFlags == ANYWHERE)) {
 			MBindingContext bindingContext = (MBindingContext) searchRoot;
 			for (MBindingContext child : bindingContext.getChildren()) {
-				findElementsRecursive(child, clazz, matcher, elements, searchFlags);
+				findElementsRecursive(child, clazz, matcher, elements, searchFlags, path);
 			}
 		}
 
 		if (searchRoot instanceof MBindingTable) {
 			MBindingTable bindingTable = (MBindingTable) searchRoot;
 			for (MKeyBinding child : bindingTable.getBindings()) {
-				findElementsRecursive(child, clazz, matcher, elements, searchFlags);
+				findElementsRecursive(child, clazz, matcher, elements, searchFlags, path);
 			}
 		}
 
@@ -240,7 +247,7 @@ public class ModelServiceImpl implements EModelService {
 				if((searchFlags & IN_SHARED_ELEMENTS) != 0) {
 					List<MUIElement> sharedElements = ((MWindow) searchRoot).getSharedElements();
 					for (MUIElement muiElement : sharedElements) {
-						findElementsRecursive(muiElement, clazz, matcher, elements, searchFlags);
+						findElementsRecursive(muiElement, clazz, matcher, elements, searchFlags, path);
 					}
 				}
 
@@ -255,19 +262,19 @@ public class ModelServiceImpl implements EModelService {
 					MElementContainer<? extends MUIElement> container = searchContainer;
 					List<? extends MUIElement> children = container.getChildren();
 					for (MUIElement child : children) {
-						findElementsRecursive(child, clazz, matcher, elements, searchFlags);
+						findElementsRecursive(child, clazz, matcher, elements, searchFlags, path);
 					}
 				} else if ((searchFlags & IN_ACTIVE_PERSPECTIVE) != 0) {
 					// Only search the currently active perspective, if any
 					MPerspective active = ((MPerspectiveStack) searchContainer).getSelectedElement();
 					if (active != null) {
-						findElementsRecursive(active, clazz, matcher, elements, searchFlags);
+						findElementsRecursive(active, clazz, matcher, elements, searchFlags, path);
 					}
 				} else if ((searchFlags & IN_SHARED_AREA) != 0) {
 					// Only recurse through the shared areas
 					List<MArea> areas = findElements(searchContainer, null, MArea.class);
 					for (MArea area : areas) {
-						findElementsRecursive(area, clazz, matcher, elements, searchFlags);
+						findElementsRecursive(area, clazz, matcher, elements, searchFlags, path);
 					}
 				}
 			} else {
@@ -275,7 +282,7 @@ public class ModelServiceImpl implements EModelService {
 				MElementContainer<MUIElement> container = (MElementContainer<MUIElement>) searchRoot;
 				List<MUIElement> children = container.getChildren();
 				for (MUIElement child : children) {
-					findElementsRecursive(child, clazz, matcher, elements, searchFlags);
+					findElementsRecursive(child, clazz, matcher, elements, searchFlags, path);
 				}
 			}
 		}
@@ -285,7 +292,7 @@ public class ModelServiceImpl implements EModelService {
 			MTrimmedWindow tw = (MTrimmedWindow) searchRoot;
 			List<MTrimBar> bars = tw.getTrimBars();
 			for (MTrimBar bar : bars) {
-				findElementsRecursive(bar, clazz, matcher, elements, searchFlags);
+				findElementsRecursive(bar, clazz, matcher, elements, searchFlags, path);
 			}
 		}
 
@@ -293,17 +300,17 @@ public class ModelServiceImpl implements EModelService {
 		if (searchRoot instanceof MWindow) {
 			MWindow window = (MWindow) searchRoot;
 			for (MWindow dw : window.getWindows()) {
-				findElementsRecursive(dw, clazz, matcher, elements, searchFlags);
+				findElementsRecursive(dw, clazz, matcher, elements, searchFlags, path);
 			}
 
 			MMenu menu = window.getMainMenu();
 			if (menu != null && (searchFlags & IN_MAIN_MENU) != 0) {
-				findElementsRecursive(menu, clazz, matcher, elements, searchFlags);
+				findElementsRecursive(menu, clazz, matcher, elements, searchFlags, path);
 			}
 			// Check for Handlers
 			if (searchFlags == ANYWHERE && MHandler.class.equals(clazz)) {
 				for (MHandler child : window.getHandlers()) {
-					findElementsRecursive(child, clazz, matcher, elements, searchFlags);
+					findElementsRecursive(child, clazz, matcher, elements, searchFlags, path);
 				}
 			}
 		}
@@ -311,7 +318,7 @@ public class ModelServiceImpl implements EModelService {
 		if (searchRoot instanceof MPerspective) {
 			MPerspective persp = (MPerspective) searchRoot;
 			for (MWindow dw : persp.getWindows()) {
-				findElementsRecursive(dw, clazz, matcher, elements, searchFlags);
+				findElementsRecursive(dw, clazz, matcher, elements, searchFlags, path);
 			}
 		}
 		// Search shared elements
@@ -321,7 +328,7 @@ public class ModelServiceImpl implements EModelService {
 			// Don't search in shared areas unless the flag is set
 			if (ph.getRef() != null
 					&& (!(ph.getRef() instanceof MArea) || (searchFlags & IN_SHARED_AREA) != 0)) {
-				findElementsRecursive(ph.getRef(), clazz, matcher, elements, searchFlags);
+				findElementsRecursive(ph.getRef(), clazz, matcher, elements, searchFlags, path);
 			}
 		}
 
@@ -329,16 +336,16 @@ public class ModelServiceImpl implements EModelService {
 			MPart part = (MPart) searchRoot;
 
 			for (MMenu menu : part.getMenus()) {
-				findElementsRecursive(menu, clazz, matcher, elements, searchFlags);
+				findElementsRecursive(menu, clazz, matcher, elements, searchFlags, path);
 			}
 
 			MToolBar toolBar = part.getToolbar();
 			if (toolBar != null) {
-				findElementsRecursive(toolBar, clazz, matcher, elements, searchFlags);
+				findElementsRecursive(toolBar, clazz, matcher, elements, searchFlags, path);
 			}
 			if (MHandler.class.equals(clazz)) {
 				for (MHandler child : part.getHandlers()) {
-					findElementsRecursive(child, clazz, matcher, elements, searchFlags);
+					findElementsRecursive(child, clazz, matcher, elements, searchFlags, path);
 				}
 			}
 		}
@@ -410,8 +417,7 @@ public class ModelServiceImpl implements EModelService {
 
 	@Override
 	public <T> List<T> findElements(MUIElement searchRoot, String id, Class<T> clazz, List<String> tagsToMatch) {
-		ElementMatcher matcher = new ElementMatcher(id, clazz, tagsToMatch);
-		return findElements(searchRoot, clazz, ANYWHERE, matcher);
+		return findElements(searchRoot, id, clazz, tagsToMatch, ANYWHERE);
 	}
 
 	@Override
@@ -423,14 +429,19 @@ public class ModelServiceImpl implements EModelService {
 	public <T> List<T> findElements(MUIElement searchRoot, String id, Class<T> clazz,
 			List<String> tagsToMatch, int searchFlags) {
 		ElementMatcher matcher = new ElementMatcher(id, clazz, tagsToMatch);
-		return findElements(searchRoot, clazz, searchFlags, matcher);
+		// only walk the parts of the model that lead to the indexed candidates
+		ModelElementIndex index = ModelElementIndex.getIndex(searchRoot);
+		Set<EObject> path = index != null ? index.getSearchPath(id, clazz, tagsToMatch) : null;
+		LinkedHashSet<T> elements = new LinkedHashSet<>();
+		findElementsRecursive(searchRoot, clazz, matcher, elements, searchFlags, path);
+		return new ArrayList<>(elements);
 	}
 
 	@Override
 	public <T> List<T> findElements(MApplicationElement searchRoot, Class<T> clazz,
 			int searchFlags, Selector matcher) {
 		LinkedHashSet<T> elements = new LinkedHashSet<>();
-		findElementsRecursive(searchRoot, clazz, matcher, elements, searchFlags);
+		findElementsRecursive(searchRoot, clazz, matcher, elements, searchFlags, null);
 		return new ArrayList<>(elements);
 	}
 
@@ -439,7 +450,7 @@ public class ModelServiceImpl implements EModelService {
 			List<String> tagsToMatch) {
 		LinkedHashSet<T> elements = new LinkedHashSet<>();
 		ElementMatcher matcher = new ElementMatcher(id, clazz, tagsToMatch);
-		findElementsRecursive(searchRoot, clazz, matcher, elements, PRESENTATION);
+		findElementsRecursive(searchRoot, clazz, matcher, elements, PRESENTATION, null);
 		return elements;
 	}
 
@@ -925,22 +936,25 @@ public class ModelServiceImpl implements EModelService {
 					ph.getParent().getChildren().remove(ph);
 				}
 
-				// Prevent shared stacks ids from clashing with the ones in the perspective
-				List<MPartStack> stacks = findElements(area, null, MPartStack.class, null);
-				for (MPartStack stack : stacks) {
-					String generatedId = "PartStack@" + Integer.toHexString(stack.hashCode()); //$NON-NLS-1$
-					stack.setElementId(generatedId);
-				}
+				// these changes of the model do not depend on each other
+				runBatched(() -> {
+					// Prevent shared stacks ids from clashing with the ones in the perspective
+					List<MPartStack> stacks = findElements(area, null, MPartStack.class, null);
+					for (MPartStack stack : stacks) {
+						String generatedId = "PartStack@" + Integer.toHexString(stack.hashCode()); //$NON-NLS-1$
+						stack.setElementId(generatedId);
+					}
 
-				// Also remove any min/max tags on the area (or its placeholder)
-				MUIElement areaPresentation = area;
-				if (area.getCurSharedRef() != null) {
-					areaPresentation = area.getCurSharedRef();
-				}
+					// Also remove any min/max tags on the area (or its placeholder)
+					MUIElement areaPresentation = area;
+					if (area.getCurSharedRef() != null) {
+						areaPresentation = area.getCurSharedRef();
+					}
 
-				areaPresentation.getTags().remove(IPresentationEngine.MAXIMIZED);
-				areaPresentation.getTags().remove(IPresentationEngine.MINIMIZED);
-				areaPresentation.getTags().remove(IPresentationEngine.MINIMIZED_BY_ZOOM);
+					areaPresentation.getTags().remove(IPresentationEngine.MAXIMIZED);
+					areaPresentation.getTags().remove(IPresentationEngine.MINIMIZED);
+					areaPresentation.getTags().remove(IPresentationEngine.MINIMIZED_BY_ZOOM);
+				});
 			}
 		}
 
@@ -967,6 +981,19 @@ public class ModelServiceImpl implements EModelService {
 		}
 	}
 
+	/**
+	 * Runs the given model changes as a batch of the {@link UIEventPublisher}, if
+	 * there is one.
+	 */
+	private void runBatched(Runnable runnable) {
+		UIEventPublisher publisher = appContext.get(UIEventPublisher.class);
+		if (publisher != null) {
+			publisher.runBatched(runnable);
+		} else {
+			runnable.run();
+		}
+	}
+
 	@Override
 	public void removePerspectiveModel(MPerspective persp, MWindow window) {
 		// pick a new perspective to become active (if any)
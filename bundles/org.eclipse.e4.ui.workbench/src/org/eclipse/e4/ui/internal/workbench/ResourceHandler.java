@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2021 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -28,6 +28,7 @@ import java.io.InputStream;
 import java.net.URISyntaxException;
 import java.net.URL;
 import java.net.URLConnection;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
@@ -90,6 +91,11 @@ public class ResourceHandler implements IModelResourceHandler {
 	@Named(IWorkbench.CLEAR_PERSISTED_STATE)
 	private boolean clearPersistedState;
 
+	@Inject
+	@Optional
+	@Named(E4Workbench.BINARY_MODEL)
+	private boolean binaryModel;
+
 	/**
 	 * Constructor.
 	 */
@@ -140,30 +146,54 @@ public class ResourceHandler implements IModelResourceHandler {
 	@Override
 	public Resource loadMostRecentModel() {
 		File workbenchData = null;
+		File binaryData = null;
 		URI restoreLocation = null;
 
 		if (saveAndRestore) {
 			workbenchData = getWorkbenchSaveLocation();
+			binaryData = getBinarySaveLocation();
 			restoreLocation = URI.createFileURI(workbenchData.getAbsolutePath());
 		}
 
-		if (clearPersistedState && workbenchData != null && workbenchData.exists()) {
-			workbenchData.delete();
+		if (clearPersistedState && workbenchData != null) {
+			if (workbenchData.exists()) {
+				workbenchData.delete();
+			}
+			if (binaryData.exists()) {
+				binaryData.delete();
+			}
 		}
 
 		// last stored time-stamp
 		long restoreLastModified = restoreLocation == null ? 0L : new File(
 				restoreLocation.toFileString()).lastModified();
+		// the binary model is considered even if it is disabled, as it holds the
+		// latest state if it was enabled when the workbench was last saved
+		long binaryLastModified = binaryData != null ? binaryData.lastModified() : 0L;
 
 		// See bug 380663, bug 381219
 		// long lastApplicationModification = getLastApplicationModification();
 		// boolean restore = restoreLastModified > lastApplicationModification;
-		boolean restore = restoreLastModified > 0;
+		boolean restore = restoreLastModified > 0 || binaryLastModified > 0;
 		boolean initialModel;
 
 		resource = null;
 		if (restore && saveAndRestore) {
-			resource = loadResource(restoreLocation);
+			// load the most recently saved model, the other one is the fallback
+			// for a corrupted binary model
+			boolean binaryFirst = binaryModel ? binaryLastModified >= restoreLastModified
+					: binaryLastModified > restoreLastModified;
+			if (binaryLastModified > 0 && binaryFirst) {
+				resource = loadBinaryResource(binaryData);
+			}
+			if (resource == null && restoreLastModified > 0) {
+				resource = loadResource(restoreLocation);
+			}
+			if (resource == null && binaryLastModified > 0 && !binaryFirst) {
+				resource = loadBinaryResource(binaryData);
+			}
+			// save the model in the configured format from now on
+			resource = moveToSaveFormat(resource);
 			// If the saved model does not have any top-level windows, Eclipse will exit
 			// immediately, so throw out the persisted state and reinitialize with the defaults.
 			if (!hasTopLevelWindows(resource)) {
@@ -232,7 +262,44 @@ public class ResourceHandler implements IModelResourceHandler {
 		return res;
 	}
 
+	/**
+	 * Moves the application of the given loaded resource into a new resource of
+	 * the configured format if it was loaded from the other format, so that it is
+	 * saved in the configured format. The ids of the elements are kept.
+	 *
+	 * @param loaded
+	 *            the loaded resource, may be <code>null</code>
+	 * @return the resource to save the application to
+	 */
+	private Resource moveToSaveFormat(Resource loaded) {
+		if (!(loaded instanceof E4XMIResource) || (loaded instanceof E4BinaryResource) == binaryModel) {
+			return loaded;
+		}
+		E4XMIResource source = (E4XMIResource) loaded;
+		Map<EObject, String> ids = new HashMap<>();
+		for (TreeIterator<EObject> it = source.getAllContents(); it.hasNext();) {
+			EObject object = it.next();
+			String id = source.getID(object);
+			if (id != null) {
+				ids.put(object, id);
+			}
+		}
+		Resource target = createResource();
+		target.getContents().addAll(new ArrayList<>(source.getContents()));
+		if (target instanceof E4XMIResource) {
+			ids.forEach(((E4XMIResource) target)::setID);
+		}
+		resourceSet.getResources().remove(source);
+		return target;
+	}
+
 	private Resource createResource() {
+		if (saveAndRestore && binaryModel) {
+			URI saveLocation = URI.createFileURI(getBinarySaveLocation().getAbsolutePath());
+			Resource binaryResource = new E4BinaryResource(saveLocation);
+			resourceSet.getResources().add(binaryResource);
+			return binaryResource;
+		}
 		if (saveAndRestore) {
 			URI saveLocation = URI.createFileURI(getWorkbenchSaveLocation().getAbsolutePath());
 			return resourceSet.createResource(saveLocation);
@@ -244,6 +311,10 @@ public class ResourceHandler implements IModelResourceHandler {
 		return new File(getBaseLocation(), "workbench.xmi"); //$NON-NLS-1$
 	}
 
+	private File getBinarySaveLocation() {
+		return new File(getBaseLocation(), "workbench.bin"); //$NON-NLS-1$
+	}
+
 	private File getBaseLocation() {
 		File baseLocation;
 		try {
@@ -281,6 +352,27 @@ public class ResourceHandler implements IModelResourceHandler {
 		return resource;
 	}
 
+	/**
+	 * Loads the binary model, returns <code>null</code> if it cannot be loaded,
+	 * for example because it was corrupted.
+	 */
+	private Resource loadBinaryResource(File file) {
+		URI uri = URI.createFileURI(file.getAbsolutePath());
+		Resource binaryResource = new E4BinaryResource(uri);
+		resourceSet.getResources().add(binaryResource);
+		try {
+			binaryResource.load(null);
+			return binaryResource;
+		} catch (IOException | RuntimeException e) {
+			if (logger != null) {
+				logger.error(e, "Unable to load binary model " + uri + ", falling back to XMI"); //$NON-NLS-1$ //$NON-NLS-2$
+			}
+			binaryResource.unload();
+			resourceSet.getResources().remove(binaryResource);
+			return null;
+		}
+	}
+
 	private Resource getResource(URI uri) throws Exception {
 		Resource resource;
 		if (saveAndRestore) {
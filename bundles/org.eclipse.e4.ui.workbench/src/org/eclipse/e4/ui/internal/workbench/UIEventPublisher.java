@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2015 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,7 +14,11 @@
  *******************************************************************************/
 package org.eclipse.e4.ui.internal.workbench;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
 import java.util.Map;
 import org.eclipse.core.runtime.ILog;
 import org.eclipse.e4.core.contexts.IEclipseContext;
@@ -33,11 +37,50 @@ import org.eclipse.emf.ecore.util.EContentAdapter;
 
 /**
  * Transforms E4 MPart events into 3.x legacy events.
+ * <p>
+ * The events of bulk model changes can be coalesced by making the changes in
+ * {@link #runBatched(Runnable)}.
+ * </p>
  */
 public class UIEventPublisher extends EContentAdapter {
 
+	/** An event whose publication is deferred until the end of a batch */
+	private static final class PendingEvent {
+		final String topic;
+		final Map<String, Object> argMap;
+		/** The feature of the element if the event can be merged, or <code>null</code> */
+		final EStructuralFeature feature;
+		final int eventType;
+
+		PendingEvent(String topic, Map<String, Object> argMap, EStructuralFeature feature, int eventType) {
+			this.topic = topic;
+			this.argMap = argMap;
+			this.feature = feature;
+			this.eventType = eventType;
+		}
+
+		Object getElement() {
+			return argMap.get(EventTags.ELEMENT);
+		}
+
+		/**
+		 * @return whether the given later event of the same element can be
+		 *         merged with the run of events starting with this one
+		 */
+		boolean canMerge(PendingEvent event) {
+			int kind = getKind(event.eventType);
+			return feature != null && event.feature == feature && kind != Notification.MOVE
+					&& getKind(eventType) == kind;
+		}
+	}
+
 	private IEclipseContext context;
 
+	/** The thread running the outermost batch, or <code>null</code> */
+	private Thread batchThread;
+
+	private List<PendingEvent> pendingEvents;
+
 	public UIEventPublisher(IEclipseContext e4Context) {
 		this.context = e4Context;
 	}
@@ -56,11 +99,176 @@ public class UIEventPublisher extends EContentAdapter {
 		String topic = formatData(notification, argMap);
 
 		if (topic != null) {
+			if (batchThread == Thread.currentThread()) {
+				pendingEvents.add(new PendingEvent(topic, argMap, getMergeableFeature(notification),
+						notification.getEventType()));
+				return;
+			}
 			IEventBroker eventManager = context.get(IEventBroker.class);
 			eventManager.send(topic, argMap);
 		}
 	}
 
+	/**
+	 * Runs the given runnable and publishes the events of the model changes it
+	 * makes when it returns, instead of one event for each change as it is
+	 * made. Successive events of an element and a feature, without any other
+	 * event of the element between them, are coalesced into one event, which is
+	 * published in the place of the first of them. The events of an element are
+	 * therefore published in the order of its changes, and an element added in
+	 * a coalesced event is published before the later changes that refer to it:
+	 * <ul>
+	 * <li>successive {@link EventTypes#SET SET}s are published as one
+	 * {@link EventTypes#SET SET} from the first old value to the last new
+	 * value,</li>
+	 * <li>successive additions to a list are published as one
+	 * {@link EventTypes#ADD_MANY ADD_MANY} with all added elements, and
+	 * successive removals as one {@link EventTypes#REMOVE_MANY REMOVE_MANY}
+	 * with all removed elements. The {@link EventTags#POSITION POSITION} is
+	 * only included if the added elements are adjacent.</li>
+	 * </ul>
+	 * Single changes, {@link EventTypes#MOVE MOVE}s and changes of the
+	 * transient data and persisted state are published unchanged.
+	 * <p>
+	 * Code that reacts to an event while the runnable runs would not see it, so
+	 * this must only be used for changes that do not depend on the reactions
+	 * to earlier changes, like rendering. Batches on the same thread nest; the
+	 * events are published when the outermost batch ends, also if the runnable
+	 * throws an exception. Changes made by other threads are published
+	 * immediately.
+	 * </p>
+	 *
+	 * @param runnable
+	 *            the code making the changes
+	 */
+	public void runBatched(Runnable runnable) {
+		if (batchThread != null) {
+			// nested in a batch, or changing the model outside of its thread
+			runnable.run();
+			return;
+		}
+		batchThread = Thread.currentThread();
+		pendingEvents = new ArrayList<>();
+		try {
+			runnable.run();
+		} finally {
+			List<PendingEvent> events = pendingEvents;
+			pendingEvents = null;
+			batchThread = null;
+			// the changes made before a failure must be published as well
+			IEventBroker eventManager = context.get(IEventBroker.class);
+			for (PendingEvent event : coalesce(events)) {
+				eventManager.send(event.topic, event.argMap);
+			}
+		}
+	}
+
+	/**
+	 * @return the feature of the notification if its events can be merged,
+	 *         which is not the case for map entries
+	 */
+	private EStructuralFeature getMergeableFeature(Notification notification) {
+		if (!(notification.getNotifier() instanceof MApplicationElement)
+				|| !(notification.getFeature() instanceof EStructuralFeature)) {
+			return null;
+		}
+		EStructuralFeature feature = (EStructuralFeature) notification.getFeature();
+		if (feature.getEType().getInstanceClass() == Map.Entry.class) {
+			return null;
+		}
+		return feature;
+	}
+
+	private List<PendingEvent> coalesce(List<PendingEvent> events) {
+		// the current run of events of each element, and all runs keyed by
+		// their first event
+		Map<Object, List<PendingEvent>> currentRuns = new IdentityHashMap<>();
+		Map<PendingEvent, List<PendingEvent>> runsByFirstEvent = new IdentityHashMap<>();
+		for (PendingEvent event : events) {
+			List<PendingEvent> run = currentRuns.get(event.getElement());
+			if (run == null || !run.get(0).canMerge(event)) {
+				run = new ArrayList<>();
+				currentRuns.put(event.getElement(), run);
+				runsByFirstEvent.put(event, run);
+			}
+			run.add(event);
+		}
+		List<PendingEvent> coalesced = new ArrayList<>(runsByFirstEvent.size());
+		for (PendingEvent event : events) {
+			List<PendingEvent> run = runsByFirstEvent.get(event);
+			if (run != null) {
+				coalesced.add(run.size() == 1 ? event : merge(run));
+			}
+		}
+		return coalesced;
+	}
+
+	private static int getKind(int eventType) {
+		switch (eventType) {
+		case Notification.ADD_MANY:
+			return Notification.ADD;
+		case Notification.REMOVE_MANY:
+			return Notification.REMOVE;
+		case Notification.UNSET:
+			return Notification.SET;
+		default:
+			return eventType;
+		}
+	}
+
+	private PendingEvent merge(List<PendingEvent> events) {
+		PendingEvent first = events.get(0);
+		PendingEvent last = events.get(events.size() - 1);
+		Map<String, Object> argMap = new HashMap<>(last.argMap);
+		switch (getKind(first.eventType)) {
+		case Notification.SET:
+			putValue(argMap, EventTags.OLD_VALUE, first.argMap.get(EventTags.OLD_VALUE));
+			return new PendingEvent(last.topic, argMap, last.feature, Notification.SET);
+		case Notification.ADD:
+			List<Object> added = new ArrayList<>();
+			boolean adjacent = true;
+			for (PendingEvent event : events) {
+				Object position = event.argMap.get(EventTags.POSITION);
+				if (adjacent && (!(position instanceof Integer) || event != first
+						&& (Integer) position != (Integer) first.argMap.get(EventTags.POSITION) + added.size())) {
+					adjacent = false;
+				}
+				addValues(added, event.argMap.get(EventTags.NEW_VALUE));
+			}
+			argMap.put(EventTags.TYPE, EventTypes.ADD_MANY);
+			argMap.put(EventTags.NEW_VALUE, added);
+			putValue(argMap, EventTags.POSITION, adjacent ? first.argMap.get(EventTags.POSITION) : null);
+			return new PendingEvent(getTopic(last.feature, EventTypes.ADD_MANY), argMap, last.feature,
+					Notification.ADD_MANY);
+		default:
+			List<Object> removed = new ArrayList<>();
+			for (PendingEvent event : events) {
+				addValues(removed, event.argMap.get(EventTags.OLD_VALUE));
+			}
+			argMap.put(EventTags.TYPE, EventTypes.REMOVE_MANY);
+			argMap.put(EventTags.OLD_VALUE, removed);
+			argMap.remove(EventTags.POSITION);
+			return new PendingEvent(getTopic(last.feature, EventTypes.REMOVE_MANY), argMap, last.feature,
+					Notification.REMOVE_MANY);
+		}
+	}
+
+	private static void addValues(List<Object> values, Object value) {
+		if (value instanceof Collection<?>) {
+			values.addAll((Collection<?>) value);
+		} else if (value != null) {
+			values.add(value);
+		}
+	}
+
+	private static void putValue(Map<String, Object> argMap, String key, Object value) {
+		if (value != null) {
+			argMap.put(key, value);
+		} else {
+			argMap.remove(key);
+		}
+	}
+
 	/**
 	 * Large hack here. Open to better suggestions
 	 *
@@ -0,0 +1,199 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.jface.databinding.viewers;
+
+import java.util.BitSet;
+
+import org.eclipse.core.databinding.observable.list.IListChangeListener;
+import org.eclipse.core.databinding.observable.list.IObservableList;
+import org.eclipse.core.databinding.observable.list.ListChangeEvent;
+import org.eclipse.core.databinding.observable.list.ListDiffEntry;
+import org.eclipse.core.runtime.Assert;
+import org.eclipse.jface.viewers.AbstractTableViewer;
+import org.eclipse.jface.viewers.ILazyContentProvider;
+import org.eclipse.jface.viewers.ILazyTreeContentProvider;
+import org.eclipse.jface.viewers.TreeViewer;
+import org.eclipse.jface.viewers.Viewer;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.widgets.Control;
+
+/**
+ * A lazy content provider for {@link SWT#VIRTUAL virtual}
+ * {@link AbstractTableViewer table viewers} and {@link TreeViewer tree viewers}
+ * that provides the elements of an {@link IObservableList} when set as the
+ * viewer's input. In a tree viewer, the elements are the children of the
+ * input and have no children themselves.
+ * <p>
+ * Unlike {@link ObservableListContentProvider}, the elements are only fetched
+ * from the list when the viewer shows them, so the viewer only creates items
+ * for the visible rows regardless of the size of the list. A list change is
+ * applied by setting the new item count and clearing the created items from
+ * the first changed index on, which the viewer then fetches again when they
+ * are shown.
+ * </p>
+ * <p>
+ * This content provider does not track the known elements of the viewer, so
+ * it cannot be used with label providers that observe attributes of the
+ * known elements, like {@link ObservableMapLabelProvider}.
+ * </p>
+ *
+ * @param <E> type of the elements of the list
+ *
+ * @noextend This class is not intended to be subclassed by clients.
+ * @since 1.16
+ */
+public class ObservableListLazyContentProvider<E> implements ILazyContentProvider, ILazyTreeContentProvider {
+
+	private final IListChangeListener<E> listener = this::handleListChange;
+
+	private Viewer viewer;
+
+	private IObservableList<E> input;
+
+	/**
+	 * The indices of the rows whose elements the table viewer has fetched, the
+	 * only rows with items that are associated with an element.
+	 */
+	private final BitSet fetched = new BitSet();
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public void inputChanged(Viewer viewer, Object oldInput, Object newInput) {
+		Assert.isTrue(viewer instanceof AbstractTableViewer || viewer instanceof TreeViewer,
+				"This content provider only works with an AbstractTableViewer or a TreeViewer"); //$NON-NLS-1$
+		Assert.isTrue(newInput == null || newInput instanceof IObservableList,
+				"This content provider only works with input of type IObservableList"); //$NON-NLS-1$
+		if (input != null) {
+			input.removeListChangeListener(listener);
+		}
+		this.viewer = viewer;
+		input = (IObservableList<E>) newInput;
+		fetched.clear();
+		if (input != null) {
+			input.addListChangeListener(listener);
+		}
+		if (!isViewerDisposed()) {
+			setItemCount(input != null ? input.size() : 0);
+		}
+	}
+
+	private void handleListChange(ListChangeEvent<? extends E> event) {
+		if (isViewerDisposed()) {
+			return;
+		}
+		ListDiffEntry<? extends E>[] differences = event.diff.getDifferences();
+		if (differences.length == 0) {
+			return;
+		}
+		// the rows from the first changed index on may show other elements
+		// now, the rows of replaced elements only if the size is unchanged
+		int first = Integer.MAX_VALUE;
+		int last = -1;
+		int sizeChange = 0;
+		for (ListDiffEntry<? extends E> entry : differences) {
+			int position = entry.getPosition();
+			first = Math.min(first, position);
+			last = Math.max(last, position);
+			sizeChange += entry.isAddition() ? 1 : -1;
+		}
+		int size = input.size();
+		if (sizeChange != 0) {
+			setItemCount(size);
+			fetched.clear(size, Math.max(size, fetched.length()));
+			last = size - 1;
+		}
+		clear(first, Math.min(last, size - 1));
+	}
+
+	private boolean isViewerDisposed() {
+		if (viewer == null) {
+			return true;
+		}
+		Control control = viewer.getControl();
+		return control == null || control.isDisposed();
+	}
+
+	private void setItemCount(int count) {
+		if (viewer instanceof AbstractTableViewer) {
+			((AbstractTableViewer) viewer).setItemCount(count);
+		} else {
+			((TreeViewer) viewer).setChildCount(input, count);
+		}
+	}
+
+	/**
+	 * Clears the items between the given indices, so that the viewer fetches
+	 * their elements again. In a table, only the items of fetched rows are
+	 * cleared, which also disassociates them from their old elements, as
+	 * clearing any other row would create its item.
+	 */
+	private void clear(int first, int last) {
+		if (first > last) {
+			return;
+		}
+		if (viewer instanceof AbstractTableViewer) {
+			AbstractTableViewer tableViewer = (AbstractTableViewer) viewer;
+			for (int i = fetched.nextSetBit(first); i != -1 && i <= last; i = fetched.nextSetBit(i + 1)) {
+				tableViewer.clear(i);
+			}
+			fetched.clear(first, last + 1);
+		} else {
+			// the tree has no range clear, only the created items are cleared
+			((TreeViewer) viewer).getTree().clearAll(false);
+		}
+	}
+
+	@Override
+	public void updateElement(int index) {
+		if (input != null && index < input.size()) {
+			fetched.set(index);
+			((AbstractTableViewer) viewer).replace(input.get(index), index);
+		}
+	}
+
+	@Override
+	public void updateElement(Object parent, int index) {
+		if (input != null && parent == input && index < input.size()) {
+			((TreeViewer) viewer).replace(parent, index, input.get(index));
+		}
+	}
+
+	@Override
+	public void updateChildCount(Object element, int currentChildCount) {
+		int count = input != null && element == input ? input.size() : 0;
+		if (count != currentChildCount) {
+			((TreeViewer) viewer).setChildCount(element, count);
+		}
+	}
+
+	@Override
+	public Object getParent(Object element) {
+		return input;
+	}
+
+	/**
+	 * Disposes of this content provider. This is called by the viewer when a
+	 * content provider is replaced, or when the viewer itself is disposed.
+	 */
+	@Override
+	public void dispose() {
+		if (input != null) {
+			input.removeListChangeListener(listener);
+			input = null;
+		}
+		fetched.clear();
+		viewer = null;
+	}
+}
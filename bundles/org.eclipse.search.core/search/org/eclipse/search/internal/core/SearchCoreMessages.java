@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2023 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -42,6 +42,7 @@ public final class SearchCoreMessages extends NLS {
 	public static String TextSearchVisitor_error;
 	public static String TextSearchVisitor_unsupportedcharset;
 	public static String TextSearchVisitor_illegalcharset;
+	public static String TrigramIndex_job_name;
 	static {
 		NLS.initializeMessages(BUNDLE_NAME, SearchCoreMessages.class);
 	}
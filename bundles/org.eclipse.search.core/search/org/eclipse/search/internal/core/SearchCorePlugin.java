@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2023 Red Hat Inc and others.
+ * Copyright (c) 2023, 2026 Red Hat Inc and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -17,11 +17,16 @@ import org.osgi.framework.BundleContext;
 
 import org.eclipse.core.runtime.Assert;
 import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Platform;
 import org.eclipse.core.runtime.Plugin;
 import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.preferences.IEclipsePreferences;
+import org.eclipse.core.runtime.preferences.IEclipsePreferences.IPreferenceChangeListener;
+import org.eclipse.core.runtime.preferences.InstanceScope;
 
 import org.eclipse.search.internal.core.text.DirtyFileProvider;
 import org.eclipse.search.internal.core.text.TextSearchEngineRegistry;
+import org.eclipse.search.internal.core.text.TrigramIndex;
 
 public class SearchCorePlugin extends Plugin {
 	/**
@@ -36,6 +41,12 @@ public class SearchCorePlugin extends Plugin {
 	private TextSearchEngineRegistry fTextSearchEngineRegistry;
 	private DirtyFileProvider fDirtyFileSearchParticipant;
 	private DirtyFileSearchParticipantServiceTracker fDirtyFileSearchParticipantTracker;
+	private TrigramIndex fTrigramIndex;
+	private final IPreferenceChangeListener fTrigramIndexPreferenceListener = event -> {
+		if (TrigramIndex.PREF_ENABLED.equals(event.getKey())) {
+			getTrigramIndex();
+		}
+	};
 
 	/**
 	 * @return Returns the search plugin instance.
@@ -58,7 +69,9 @@ public class SearchCorePlugin extends Plugin {
 
 	@Override
 	public void stop(BundleContext context) throws Exception {
-		// do nothing
+		synchronized (this) {
+			stopTrigramIndex();
+		}
 	}
 
 	public TextSearchEngineRegistry getTextSearchEngineRegistry() {
@@ -76,6 +89,35 @@ public class SearchCorePlugin extends Plugin {
 		return fDirtyFileSearchParticipant;
 	}
 
+	/**
+	 * Returns the index of the workspace files used to narrow text searches. The index is
+	 * started on first use, and stopped as soon as it is disabled.
+	 *
+	 * @return the index, or <code>null</code> if the index is not enabled, see
+	 *         {@link TrigramIndex#PREF_ENABLED}
+	 */
+	public synchronized TrigramIndex getTrigramIndex() {
+		if (!Platform.getPreferencesService().getBoolean(PLUGIN_ID, TrigramIndex.PREF_ENABLED, false, null)) {
+			stopTrigramIndex();
+			return null;
+		}
+		if (fTrigramIndex == null) {
+			fTrigramIndex = new TrigramIndex(getStateLocation().append("trigram.index").toFile()); //$NON-NLS-1$
+			fTrigramIndex.start();
+			InstanceScope.INSTANCE.getNode(PLUGIN_ID).addPreferenceChangeListener(fTrigramIndexPreferenceListener);
+		}
+		return fTrigramIndex;
+	}
+
+	private void stopTrigramIndex() {
+		if (fTrigramIndex != null) {
+			IEclipsePreferences preferences = InstanceScope.INSTANCE.getNode(PLUGIN_ID);
+			preferences.removePreferenceChangeListener(fTrigramIndexPreferenceListener);
+			fTrigramIndex.stop();
+			fTrigramIndex = null;
+		}
+	}
+
 	/**
 	 * Log status to platform log
 	 * 
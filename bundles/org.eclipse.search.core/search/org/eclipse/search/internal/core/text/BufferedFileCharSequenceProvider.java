@@ -0,0 +1,493 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.search.internal.core.text;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.content.IContentDescription;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IResource;
+
+/**
+ * A {@link FileCharSequenceProvider} that decodes local files completely into a reusable
+ * {@link CharBuffer}. The files are read into a reusable byte buffer, so no intermediate
+ * copies are created and the returned sequence supports random access across the whole
+ * file without re-reading it.
+ * <p>
+ * Local files larger than {@link #MAX_BUFFERED_LENGTH} are decoded on demand in windows by a
+ * {@link WindowedCharSequence}, which also supports random access across the whole file. Only
+ * a few windows of such a file are kept in memory. Files are not memory mapped, as a mapped
+ * file stays open until the buffer is garbage collected, which locks the file on Windows.
+ * Instead, the windows are read from a file channel that is closed when the sequence is
+ * released.
+ * </p>
+ * <p>
+ * Files that are not local, not in sync with the file system or in a charset that can decode
+ * a byte into more than one character are read by the streaming
+ * {@link FileCharSequenceProvider}. So are large files in a charset whose decoder cannot start
+ * in the middle of a file.
+ * </p>
+ * <p>
+ * Like the streaming provider, an instance must only be used by one thread, and a sequence
+ * is only valid until it is released.
+ * </p>
+ */
+public class BufferedFileCharSequenceProvider extends FileCharSequenceProvider {
+
+	/** Larger files in bytes are decoded in windows */
+	private static final int MAX_BUFFERED_LENGTH= 4 << 20;
+	/** Larger buffers are not kept for the next file */
+	private static final int MAX_RETAINED_LENGTH= 1 << 20;
+
+	private ByteBuffer fBytes;
+	private CharBuffer fChars;
+	private CharSequence fCurrent;
+
+	private String fCharsetName;
+	private CharsetDecoder fDecoder;
+
+	@Override
+	public CharSequence newCharSequence(IFile file) throws CoreException, IOException {
+		if (fCurrent == null) {
+			CharSequence chars= decode(file);
+			if (chars != null) {
+				fCurrent= chars;
+				return chars;
+			}
+		}
+		return super.newCharSequence(file);
+	}
+
+	@Override
+	public void releaseCharSequence(CharSequence seq) throws IOException {
+		if (seq != null && seq == fCurrent) {
+			fCurrent= null;
+			if (seq instanceof WindowedCharSequence) {
+				((WindowedCharSequence) seq).close();
+				return;
+			}
+			if (fChars.capacity() > MAX_RETAINED_LENGTH) {
+				fChars= null;
+			}
+			if (fBytes != null && fBytes.capacity() > MAX_RETAINED_LENGTH) {
+				fBytes= null;
+			}
+			return;
+		}
+		super.releaseCharSequence(seq);
+	}
+
+	/**
+	 * Decodes the content of the given file into the reusable character buffer, or opens a
+	 * windowed sequence on it if it is large.
+	 *
+	 * @param file the file
+	 * @return the buffer with the content or the windowed sequence, or <code>null</code> if
+	 *         the file has to be streamed
+	 * @throws CoreException if the charset of the file cannot be determined
+	 */
+	private CharSequence decode(IFile file) throws CoreException {
+		IPath location= file.getLocation();
+		if (location == null) {
+			return null;
+		}
+		CharsetDecoder decoder= getDecoder(file.getCharset());
+		if (decoder == null || !file.isSynchronized(IResource.DEPTH_ZERO)) {
+			return null;
+		}
+		FileChannel channel= null;
+		try {
+			channel= FileChannel.open(location.toPath(), StandardOpenOption.READ);
+			long size= channel.size();
+			if (size > MAX_BUFFERED_LENGTH) {
+				WindowedCharSequence chars= openWindowed(channel, size, decoder);
+				if (chars != null) {
+					// the sequence closes the channel
+					channel= null;
+				}
+				return chars;
+			}
+			ByteBuffer bytes= read(channel, (int) size);
+			if (StandardCharsets.UTF_8.name().equals(fCharsetName)) {
+				skipByteOrderMark(bytes);
+			}
+			CharBuffer chars= getCharBuffer((int) Math.ceil(bytes.remaining() * (double) decoder.maxCharsPerByte()));
+			decoder.reset();
+			CoderResult result= decoder.decode(bytes, chars, true);
+			if (!result.isUnderflow() || !decoder.flush(chars).isUnderflow()) {
+				return null;
+			}
+			chars.flip();
+			return chars;
+		} catch (IOException e) {
+			// let the streaming provider report the problem
+			return null;
+		} finally {
+			if (channel != null) {
+				try {
+					channel.close();
+				} catch (IOException e) {
+					// ignore
+				}
+			}
+		}
+	}
+
+	/**
+	 * Opens a windowed sequence on a large file. Every window is decoded with a reset decoder,
+	 * so the charset must not keep a state across characters. The byte order mark of a UTF-16
+	 * file determines the byte order of the windows.
+	 *
+	 * @param channel the channel of the file
+	 * @param size the size of the file in bytes
+	 * @param decoder the decoder for the charset of the file
+	 * @return the sequence, or <code>null</code> if the file has to be streamed
+	 * @throws IOException if reading the byte order mark fails
+	 */
+	private WindowedCharSequence openWindowed(FileChannel channel, long size, CharsetDecoder decoder) throws IOException {
+		ByteBuffer start= ByteBuffer.allocate(IContentDescription.BOM_UTF_8.length);
+		while (start.hasRemaining() && channel.read(start, start.position()) != -1) {
+			// read until the buffer is full
+		}
+		start.flip();
+		Charset charset= decoder.charset();
+		if (StandardCharsets.UTF_8.equals(charset)) {
+			skipByteOrderMark(start);
+		} else if (StandardCharsets.UTF_16.equals(charset)) {
+			boolean littleEndian= start.remaining() >= 2 && start.get(0) == (byte) 0xFF && start.get(1) == (byte) 0xFE;
+			boolean bigEndian= start.remaining() >= 2 && start.get(0) == (byte) 0xFE && start.get(1) == (byte) 0xFF;
+			if (littleEndian || bigEndian) {
+				start.position(2);
+			}
+			decoder= (littleEndian ? StandardCharsets.UTF_16LE : StandardCharsets.UTF_16BE).newDecoder()
+					.onMalformedInput(CodingErrorAction.REPLACE)
+					.onUnmappableCharacter(CodingErrorAction.REPLACE);
+		} else if (!StandardCharsets.UTF_16BE.equals(charset) && !StandardCharsets.UTF_16LE.equals(charset)
+				&& !isSingleByte(charset)) {
+			return null;
+		}
+		return new WindowedCharSequence(channel, start.position(), size, decoder);
+	}
+
+	private static boolean isSingleByte(Charset charset) {
+		try {
+			return charset.canEncode() && charset.newEncoder().maxBytesPerChar() == 1;
+		} catch (UnsupportedOperationException e) {
+			return false;
+		}
+	}
+
+	/**
+	 * Returns the decoder for the given charset. The decoder replaces malformed input like
+	 * the reader of the streaming provider.
+	 *
+	 * @param charsetName the name of the charset, may be <code>null</code>
+	 * @return the decoder, or <code>null</code> if the charset is unknown or not supported
+	 */
+	private CharsetDecoder getDecoder(String charsetName) {
+		if (charsetName == null) {
+			return null;
+		}
+		if (!charsetName.equals(fCharsetName)) {
+			fCharsetName= null;
+			fDecoder= null;
+			try {
+				CharsetDecoder decoder= Charset.forName(charsetName).newDecoder()
+						.onMalformedInput(CodingErrorAction.REPLACE)
+						.onUnmappableCharacter(CodingErrorAction.REPLACE);
+				if (decoder.maxCharsPerByte() > 1) {
+					return null;
+				}
+				fCharsetName= charsetName;
+				fDecoder= decoder;
+			} catch (IllegalArgumentException e) {
+				// illegal or unsupported, reported by the streaming provider
+				return null;
+			}
+		}
+		return fDecoder;
+	}
+
+	private ByteBuffer read(FileChannel channel, int size) throws IOException {
+		if (fBytes == null || fBytes.capacity() < size) {
+			fBytes= ByteBuffer.allocate(Math.max(size, 1 << 16));
+		}
+		fBytes.clear().limit(size);
+		while (fBytes.hasRemaining() && channel.read(fBytes) != -1) {
+			// read until the buffer is full
+		}
+		return fBytes.flip();
+	}
+
+	private CharBuffer getCharBuffer(int capacity) {
+		if (fChars == null || fChars.capacity() < capacity) {
+			fChars= CharBuffer.allocate(Math.max(capacity, 1 << 16));
+		}
+		fChars.clear();
+		return fChars;
+	}
+
+	private static void skipByteOrderMark(ByteBuffer bytes) {
+		byte[] bom= IContentDescription.BOM_UTF_8;
+		if (bytes.remaining() < bom.length) {
+			return;
+		}
+		for (int i= 0; i < bom.length; i++) {
+			if (bytes.get(bytes.position() + i) != bom[i]) {
+				return;
+			}
+		}
+		bytes.position(bytes.position() + bom.length);
+	}
+
+	/**
+	 * The characters of a large file, decoded on demand in windows of {@link #WINDOW_LENGTH}
+	 * bytes. The byte and character offsets of a window are recorded when it is first decoded,
+	 * so that it can be decoded again for any later access. Only the two most recently used
+	 * windows are kept decoded. The windows are read from the file channel with positional
+	 * reads, and the channel is closed when the sequence is released.
+	 */
+	public static final class WindowedCharSequence implements CharSequence {
+
+		/** The number of bytes decoded at once */
+		private static final int WINDOW_LENGTH= 1 << 16;
+
+		private final FileChannel fChannel;
+		private final long fSize;
+		private final CharsetDecoder fDecoder;
+		private final ByteBuffer fBytes= ByteBuffer.allocate(WINDOW_LENGTH);
+
+		/**
+		 * The byte and character offsets of the windows decoded so far, followed by the offsets
+		 * at which the next window starts. If the sequence is complete, these are the length of
+		 * the file and of the sequence.
+		 */
+		private long[] fByteStarts= new long[16];
+		private int[] fCharStarts= new int[16];
+		private int fWindowCount;
+		private boolean fComplete;
+
+		/** The decoded windows, the most recently used first */
+		private final CharBuffer[] fWindows= { CharBuffer.allocate(WINDOW_LENGTH), CharBuffer.allocate(WINDOW_LENGTH) };
+		private final int[] fWindowIndices= { -1, -1 };
+
+		WindowedCharSequence(FileChannel channel, long start, long size, CharsetDecoder decoder) {
+			fChannel= channel;
+			fSize= size;
+			fDecoder= decoder;
+			fByteStarts[0]= start;
+		}
+
+		@Override
+		public int length() {
+			try {
+				while (!fComplete) {
+					load(1, fWindowCount);
+				}
+			} catch (IOException e) {
+				throw new FileCharSequenceException(e);
+			}
+			return fCharStarts[fWindowCount];
+		}
+
+		@Override
+		public char charAt(int index) {
+			if (index < 0) {
+				throw new IndexOutOfBoundsException("index must be larger than 0"); //$NON-NLS-1$
+			}
+			for (int i= 0; i < fWindows.length; i++) {
+				int window= fWindowIndices[i];
+				if (window >= 0 && index >= fCharStarts[window] && index < fCharStarts[window + 1]) {
+					if (i > 0) {
+						use(i);
+					}
+					return fWindows[0].get(index - fCharStarts[window]);
+				}
+			}
+			try {
+				int window= findWindow(index);
+				if (window < 0) {
+					throw new IndexOutOfBoundsException("index must be smaller than length"); //$NON-NLS-1$
+				}
+				return fWindows[0].get(index - fCharStarts[window]);
+			} catch (IOException e) {
+				throw new FileCharSequenceException(e);
+			}
+		}
+
+		/**
+		 * Decodes the window containing the given index into the least recently used window
+		 * buffer, which becomes the most recently used one.
+		 *
+		 * @param index the index of a character
+		 * @return the window, or -1 if the index is not smaller than the length
+		 * @throws IOException if reading the file fails
+		 */
+		private int findWindow(int index) throws IOException {
+			use(1);
+			if (index < fCharStarts[fWindowCount]) {
+				int window= Arrays.binarySearch(fCharStarts, 0, fWindowCount, index);
+				if (window < 0) {
+					window= -window - 2;
+				}
+				load(0, window);
+				return window;
+			}
+			while (!fComplete) {
+				int window= fWindowCount;
+				load(0, window);
+				if (index < fCharStarts[window + 1]) {
+					return window;
+				}
+			}
+			return -1;
+		}
+
+		/**
+		 * Decodes the given window into the window buffer at the given position.
+		 */
+		private void load(int i, int window) throws IOException {
+			fWindowIndices[i]= -1;
+			decode(window, fWindows[i]);
+			fWindowIndices[i]= window;
+		}
+
+		/**
+		 * Makes the window buffer at the given position the most recently used one.
+		 */
+		private void use(int i) {
+			CharBuffer chars= fWindows[i];
+			int window= fWindowIndices[i];
+			fWindows[i]= fWindows[0];
+			fWindowIndices[i]= fWindowIndices[0];
+			fWindows[0]= chars;
+			fWindowIndices[0]= window;
+		}
+
+		/**
+		 * Decodes the given window. If it is the first window not decoded yet, the offsets of
+		 * the next one are recorded.
+		 */
+		private void decode(int window, CharBuffer chars) throws IOException {
+			long start= fByteStarts[window];
+			int length= (int) Math.min(WINDOW_LENGTH, fSize - start);
+			fBytes.clear().limit(length);
+			while (fBytes.hasRemaining() && fChannel.read(fBytes, start + fBytes.position()) != -1) {
+				// read until the buffer is full
+			}
+			boolean last= fBytes.hasRemaining() || start + length >= fSize;
+			fBytes.flip();
+			chars.clear();
+			fDecoder.reset();
+			fDecoder.decode(fBytes, chars, last);
+			if (last) {
+				fDecoder.flush(chars);
+			}
+			chars.flip();
+			if (window == fWindowCount) {
+				if (fWindowCount + 1 == fByteStarts.length) {
+					fByteStarts= Arrays.copyOf(fByteStarts, 2 * fByteStarts.length);
+					fCharStarts= Arrays.copyOf(fCharStarts, 2 * fCharStarts.length);
+				}
+				fByteStarts[window + 1]= start + fBytes.position();
+				fCharStarts[window + 1]= fCharStarts[window] + chars.remaining();
+				fWindowCount++;
+				fComplete= last;
+			}
+		}
+
+		@Override
+		public CharSequence subSequence(int start, int end) {
+			if (end < start) {
+				throw new IndexOutOfBoundsException("end cannot be smaller than start"); //$NON-NLS-1$
+			}
+			if (start < 0) {
+				throw new IndexOutOfBoundsException("start must be larger than 0"); //$NON-NLS-1$
+			}
+			if (end > length()) {
+				throw new IndexOutOfBoundsException("end must be smaller than length"); //$NON-NLS-1$
+			}
+			return new SubSequence(this, start, end - start);
+		}
+
+		@Override
+		public String toString() {
+			return getSubstring(0, length());
+		}
+
+		String getSubstring(int start, int length) {
+			StringBuilder result= new StringBuilder(length);
+			for (int i= start; i < start + length; i++) {
+				result.append(charAt(i));
+			}
+			return result.toString();
+		}
+
+		void close() throws IOException {
+			fChannel.close();
+		}
+	}
+
+	private static final class SubSequence implements CharSequence {
+
+		private final WindowedCharSequence fParent;
+		private final int fOffset;
+		private final int fLength;
+
+		SubSequence(WindowedCharSequence parent, int offset, int length) {
+			fParent= parent;
+			fOffset= offset;
+			fLength= length;
+		}
+
+		@Override
+		public int length() {
+			return fLength;
+		}
+
+		@Override
+		public char charAt(int index) {
+			if (index < 0 || index >= fLength) {
+				throw new IndexOutOfBoundsException("index must be in the range of the sequence"); //$NON-NLS-1$
+			}
+			return fParent.charAt(fOffset + index);
+		}
+
+		@Override
+		public CharSequence subSequence(int start, int end) {
+			if (start < 0 || end < start || end > fLength) {
+				throw new IndexOutOfBoundsException("start and end must be in the range of the sequence"); //$NON-NLS-1$
+			}
+			return new SubSequence(fParent, fOffset + start, end - start);
+		}
+
+		@Override
+		public String toString() {
+			return fParent.getSubstring(fOffset, fLength);
+		}
+	}
+}
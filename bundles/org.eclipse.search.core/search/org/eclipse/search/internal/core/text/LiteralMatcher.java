@@ -0,0 +1,180 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.search.internal.core.text;
+
+import java.nio.CharBuffer;
+import java.util.Arrays;
+import java.util.regex.Pattern;
+
+/**
+ * Finds the matches of a search pattern that only matches a literal string, with a
+ * Boyer-Moore-Horspool search instead of a {@link java.util.regex.Matcher}. The matches are
+ * the same as the ones of the pattern: leftmost, not overlapping and, for a case insensitive
+ * pattern, with the case folding of {@link Pattern#CASE_INSENSITIVE} and
+ * {@link Pattern#UNICODE_CASE}.
+ */
+public final class LiteralMatcher {
+
+	private static final int SHIFT_TABLE_SIZE= 256;
+	private static final int ALLOWED_FLAGS= Pattern.MULTILINE | Pattern.DOTALL | Pattern.UNIX_LINES | Pattern.LITERAL
+			| Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE;
+	private static final String REGEX_META_CHARACTERS= "\\[](){}.*+?^$|"; //$NON-NLS-1$
+
+	/** The folded literal */
+	private final char[] fLiteral;
+	private final boolean fIgnoreCase;
+	private final boolean fUnicodeCase;
+	/** The shift of the search window, by the hash of the folded last character in the window */
+	private final int[] fShift= new int[SHIFT_TABLE_SIZE];
+
+	private LiteralMatcher(String literal, boolean ignoreCase, boolean unicodeCase) {
+		fIgnoreCase= ignoreCase;
+		fUnicodeCase= unicodeCase;
+		fLiteral= new char[literal.length()];
+		for (int i= 0; i < fLiteral.length; i++) {
+			fLiteral[i]= fold(literal.charAt(i));
+		}
+		int last= fLiteral.length - 1;
+		Arrays.fill(fShift, fLiteral.length);
+		for (int i= 0; i < last; i++) {
+			fShift[fLiteral[i] & (SHIFT_TABLE_SIZE - 1)]= last - i;
+		}
+	}
+
+	/**
+	 * Creates a matcher for the given pattern if it only matches a literal string.
+	 *
+	 * @param pattern the search pattern
+	 * @return the matcher, or <code>null</code> if the pattern is not a literal
+	 */
+	public static LiteralMatcher create(Pattern pattern) {
+		if ((pattern.flags() & ~ALLOWED_FLAGS) != 0) {
+			return null;
+		}
+		String literal= getLiteral(pattern);
+		if (literal == null || literal.isEmpty()) {
+			return null;
+		}
+		boolean ignoreCase= (pattern.flags() & Pattern.CASE_INSENSITIVE) != 0;
+		if (ignoreCase) {
+			for (int i= 0; i < literal.length(); i++) {
+				if (Character.isSurrogate(literal.charAt(i))) {
+					// supplementary characters are folded as code points
+					return null;
+				}
+			}
+		}
+		return new LiteralMatcher(literal, ignoreCase, (pattern.flags() & Pattern.UNICODE_CASE) != 0);
+	}
+
+	/**
+	 * Returns the string matched by the pattern, if the pattern is a quoted string like the
+	 * ones created by {@link PatternConstructor} or a regular expression without meta
+	 * characters.
+	 *
+	 * @param pattern the pattern
+	 * @return the literal, or <code>null</code> if the pattern is not a literal
+	 */
+	private static String getLiteral(Pattern pattern) {
+		String regex= pattern.pattern();
+		if ((pattern.flags() & Pattern.LITERAL) != 0) {
+			return regex;
+		}
+		if (regex.startsWith("\\Q") && regex.endsWith("\\E") && regex.indexOf("\\E") == regex.length() - 2) { //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+			return regex.substring(2, regex.length() - 2);
+		}
+		for (int i= 0; i < regex.length(); i++) {
+			if (REGEX_META_CHARACTERS.indexOf(regex.charAt(i)) != -1) {
+				return null;
+			}
+		}
+		return regex;
+	}
+
+	/**
+	 * Returns the length of the matches.
+	 *
+	 * @return the length of the literal
+	 */
+	public int length() {
+		return fLiteral.length;
+	}
+
+	/**
+	 * Finds the next match.
+	 *
+	 * @param text the text to search
+	 * @param from the offset to start searching at
+	 * @return the offset of the next match, or <code>-1</code> if there is none
+	 */
+	public int find(CharSequence text, int from) {
+		if (text instanceof CharBuffer buffer && buffer.hasArray()) {
+			int offset= buffer.arrayOffset() + buffer.position();
+			int index= find(buffer.array(), offset + from, offset + buffer.length());
+			return index == -1 ? -1 : index - offset;
+		}
+		int last= fLiteral.length - 1;
+		char lastChar= fLiteral[last];
+		int end= text.length() - last;
+		int i= from;
+		while (i < end) {
+			char c= fold(text.charAt(i + last));
+			if (c == lastChar) {
+				int j= last - 1;
+				while (j >= 0 && fold(text.charAt(i + j)) == fLiteral[j]) {
+					j--;
+				}
+				if (j < 0) {
+					return i;
+				}
+			}
+			i+= fShift[c & (SHIFT_TABLE_SIZE - 1)];
+		}
+		return -1;
+	}
+
+	private int find(char[] text, int from, int to) {
+		int last= fLiteral.length - 1;
+		char lastChar= fLiteral[last];
+		int end= to - last;
+		int i= from;
+		while (i < end) {
+			char c= fold(text[i + last]);
+			if (c == lastChar) {
+				int j= last - 1;
+				while (j >= 0 && fold(text[i + j]) == fLiteral[j]) {
+					j--;
+				}
+				if (j < 0) {
+					return i;
+				}
+			}
+			i+= fShift[c & (SHIFT_TABLE_SIZE - 1)];
+		}
+		return -1;
+	}
+
+	private char fold(char c) {
+		if (!fIgnoreCase) {
+			return c;
+		}
+		if (c < 128) {
+			return c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c;
+		}
+		if (fUnicodeCase) {
+			return Character.toLowerCase(Character.toUpperCase(c));
+		}
+		return c;
+	}
+}
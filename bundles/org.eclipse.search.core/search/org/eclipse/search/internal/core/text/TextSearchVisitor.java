@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2023 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -166,7 +166,7 @@ public class TextSearchVisitor {
 					new MultiStatus(SearchCorePlugin.PLUGIN_ID, IStatus.OK,
 							SearchCoreMessages.TextSearchEngine_statusMessage, null);
 			SubMonitor subMonitor = SubMonitor.convert(inner, fileBatches.size() / jobCount); // approximate
-			this.fileCharSequenceProvider= new FileCharSequenceProvider();
+			this.fileCharSequenceProvider= new BufferedFileCharSequenceProvider();
 			List<IFile> sameFiles;
 			while (((sameFiles = fileBatches.poll()) != null) && !fFatalError && !fProgressMonitor.isCanceled()) {
 				IStatus status = processFile(sameFiles, subMonitor.split(1));
@@ -288,6 +288,7 @@ public class TextSearchVisitor {
 
 	private final TextSearchRequestor fCollector;
 	private final Pattern fSearchPattern;
+	private final LiteralMatcher fLiteralMatcher;
 
 	private volatile IProgressMonitor fProgressMonitor;
 
@@ -308,6 +309,7 @@ public class TextSearchVisitor {
 				SearchCoreMessages.TextSearchEngine_statusMessage, null);
 
 		fSearchPattern= searchPattern;
+		fLiteralMatcher= LiteralMatcher.create(searchPattern);
 
 		fIsLightweightAutoRefresh= Platform.getPreferencesService().getBoolean(ResourcesPlugin.PI_RESOURCES, ResourcesPlugin.PREF_LIGHTWEIGHT_AUTO_REFRESH, false, null);
 		fileBatches = new ConcurrentLinkedQueue<>();
@@ -338,6 +340,7 @@ public class TextSearchVisitor {
 				}
 
 				Map<IFile, IDocument> documentsInEditors = findDirtyFiles();
+				files = filterByIndex(files, documentsInEditors);
 
 				// group files with same content together:
 				Map<String, List<IFile>> localFilesByLocation = new LinkedHashMap<>();
@@ -435,6 +438,28 @@ public class TextSearchVisitor {
 		return Collections.emptyMap();
 	}
 
+	/**
+	 * Removes the files that cannot contain a match according to the trigram index, if the
+	 * index is enabled.
+	 *
+	 * @param files the files in scope
+	 * @param documentsInEditors the documents of the dirty files
+	 * @return the files to scan
+	 */
+	private IFile[] filterByIndex(IFile[] files, Map<IFile, IDocument> documentsInEditors) {
+		SearchCorePlugin plugin = SearchCorePlugin.getDefault();
+		TrigramIndex index = plugin == null ? null : plugin.getTrigramIndex();
+		if (index == null) {
+			return files;
+		}
+		IFile[] candidates = index.filter(files, fSearchPattern, documentsInEditors);
+		if (TRACING) {
+			Object[] args = { Integer.valueOf(candidates.length), Integer.valueOf(files.length) };
+			System.out.println(MessageFormat.format("[TextSearch] Index narrowed the search to {0} of {1} files", args)); //$NON-NLS-1$
+		}
+		return candidates;
+	}
+
 	public IStatus search(TextSearchScope scope, IProgressMonitor monitor) {
 		return search(scope.evaluateFilesInScope(fStatus), monitor);
 	}
@@ -478,6 +503,9 @@ public class TextSearchVisitor {
 	}
 
 	private List<TextSearchMatchAccess> locateMatches(IFile file, CharSequence searchInput, Matcher matcher, IProgressMonitor monitor) throws CoreException {
+		if (fLiteralMatcher != null) {
+			return locateLiteralMatches(file, searchInput, monitor);
+		}
 		List<TextSearchMatchAccess> occurences= null;
 		matcher.reset(searchInput);
 		// Check for cancellation before calling matcher.find() since that call
@@ -505,6 +533,29 @@ public class TextSearchVisitor {
 	}
 
 
+	private List<TextSearchMatchAccess> locateLiteralMatches(IFile file, CharSequence searchInput, IProgressMonitor monitor) throws CoreException {
+		List<TextSearchMatchAccess> occurences= null;
+		int length= fLiteralMatcher.length();
+		int start= 0;
+		while (!monitor.isCanceled() && (start= fLiteralMatcher.find(searchInput, start)) != -1) {
+			if (occurences == null) {
+				occurences= new ArrayList<>();
+			}
+			ReusableMatchAccess access= new ReusableMatchAccess();
+			access.initialize(file, start, length, searchInput);
+			occurences.add(access);
+			if (!fCollector.acceptPatternMatch(access)) {
+				return occurences; // no further reporting requested
+			}
+			start+= length;
+		}
+		if (occurences == null) {
+			occurences= Collections.emptyList();
+		}
+		return occurences;
+	}
+
+
 	private String getExceptionMessage(Exception e) {
 		String message= e.getLocalizedMessage();
 		if (message == null) {
@@ -0,0 +1,449 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.search.internal.core.text;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+import org.eclipse.core.filesystem.EFS;
+import org.eclipse.core.filesystem.IFileInfo;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+
+import org.eclipse.core.resources.IContainer;
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IResourceChangeEvent;
+import org.eclipse.core.resources.IResourceChangeListener;
+import org.eclipse.core.resources.IResourceDelta;
+import org.eclipse.core.resources.IWorkspaceRoot;
+import org.eclipse.core.resources.ResourcesPlugin;
+
+import org.eclipse.core.filebuffers.FileBuffers;
+import org.eclipse.core.filebuffers.LocationKind;
+
+import org.eclipse.jface.text.IDocument;
+
+import org.eclipse.search.internal.core.SearchCoreMessages;
+import org.eclipse.search.internal.core.SearchCorePlugin;
+
+/**
+ * An optional index of the character trigrams contained in the files of the workspace. It
+ * lets a text search skip the files that cannot contain a match of the search pattern, see
+ * {@link TrigramQuery}.
+ * <p>
+ * For every file the index holds a bloom filter of its (case folded) trigrams together with
+ * the modification stamp of the file at the time it has been indexed. The filter is sized from
+ * the length of the file; a file with too many distinct trigrams for the largest filter is
+ * marked to be always searched. The index is
+ * updated in the background from resource deltas and saved to the state location of the
+ * plug-in. A file that is not indexed yet, has been changed since it was indexed or is open
+ * in an editor is always a candidate, so the index never hides a match.
+ * </p>
+ * <p>
+ * The index is enabled with the preference {@link #PREF_ENABLED}.
+ * </p>
+ */
+public class TrigramIndex {
+
+	/**
+	 * Preference key of the <code>org.eclipse.search.core</code> preference that enables the
+	 * index (value <code>false</code> by default).
+	 */
+	public static final String PREF_ENABLED= "textSearchIndex"; //$NON-NLS-1$
+
+	private static final int FORMAT_VERSION= 1;
+	/** The maximal size of the bloom filter of a file in words, 512 Kbit */
+	private static final int MAX_WORDS= 1 << 13;
+	/** The filter of a file that has too many distinct trigrams, which is always searched */
+	private static final long[] ALWAYS_SEARCH= new long[0];
+	/** Larger files are not indexed and always searched */
+	private static final long MAX_FILE_LENGTH= 8 * 1024 * 1024;
+	/** Delay in ms before changed files are indexed */
+	private static final long UPDATE_DELAY= 500;
+	/** The delta flags of a changed file that require it to be indexed again */
+	private static final int CONTENT_FLAGS= IResourceDelta.CONTENT | IResourceDelta.REPLACED | IResourceDelta.ENCODING;
+
+	/**
+	 * The indexed state of a file.
+	 */
+	private static final class Entry {
+		final long fStamp;
+		final long[] fBits;
+
+		Entry(long stamp, long[] bits) {
+			fStamp= stamp;
+			fBits= bits;
+		}
+
+		boolean mayContain(long[] trigrams) {
+			if (fBits.length == 0) {
+				return true;
+			}
+			int mask= (fBits.length << 6) - 1;
+			for (long trigram : trigrams) {
+				long hash= hash(trigram);
+				int bit1= (int) (hash >>> 32) & mask;
+				int bit2= (int) hash & mask;
+				if ((fBits[bit1 >>> 6] & (1L << bit1)) == 0 || (fBits[bit2 >>> 6] & (1L << bit2)) == 0) {
+					return false;
+				}
+			}
+			return true;
+		}
+	}
+
+	private final class IndexJob extends Job {
+
+		IndexJob() {
+			super(SearchCoreMessages.TrigramIndex_job_name);
+			setSystem(true);
+			setPriority(DECORATE);
+		}
+
+		@Override
+		protected IStatus run(IProgressMonitor monitor) {
+			if (fNeedsFullUpdate) {
+				fNeedsFullUpdate= false;
+				try {
+					collectOutdatedFiles();
+				} catch (CoreException e) {
+					return e.getStatus();
+				}
+			}
+			FileCharSequenceProvider provider= new BufferedFileCharSequenceProvider();
+			Iterator<IFile> iterator= fPending.iterator();
+			while (iterator.hasNext()) {
+				if (monitor.isCanceled()) {
+					return Status.CANCEL_STATUS;
+				}
+				IFile file= iterator.next();
+				iterator.remove();
+				index(file, provider);
+			}
+			return Status.OK_STATUS;
+		}
+
+		@Override
+		public boolean belongsTo(Object family) {
+			return family == TrigramIndex.this;
+		}
+	}
+
+	private final Map<IPath, Entry> fEntries= new ConcurrentHashMap<>();
+	private final Set<IFile> fPending= ConcurrentHashMap.newKeySet();
+	private final File fStateFile;
+	private final IResourceChangeListener fListener= this::resourceChanged;
+	private final Job fJob= new IndexJob();
+	private volatile boolean fNeedsFullUpdate;
+
+	/**
+	 * Creates an index.
+	 *
+	 * @param stateFile the file to save the index to, or <code>null</code> to not save it
+	 */
+	public TrigramIndex(File stateFile) {
+		fStateFile= stateFile;
+	}
+
+	/**
+	 * Loads the saved index, starts listening to resource changes and schedules the indexing
+	 * of the files that are not up to date.
+	 */
+	public void start() {
+		load();
+		ResourcesPlugin.getWorkspace().addResourceChangeListener(fListener, IResourceChangeEvent.POST_CHANGE);
+		fNeedsFullUpdate= true;
+		fJob.schedule();
+	}
+
+	/**
+	 * Stops updating the index and saves it.
+	 */
+	public void stop() {
+		ResourcesPlugin.getWorkspace().removeResourceChangeListener(fListener);
+		fJob.cancel();
+		try {
+			fJob.join();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		save();
+	}
+
+	/**
+	 * Returns the files that can contain a match of the given pattern.
+	 *
+	 * @param files the files to search
+	 * @param pattern the search pattern
+	 * @param documentsInEditors the documents of the files open in dirty editors, which are
+	 *            always candidates
+	 * @return the candidate files, the given array if all files are candidates
+	 */
+	public IFile[] filter(IFile[] files, Pattern pattern, Map<IFile, IDocument> documentsInEditors) {
+		long[] trigrams= TrigramQuery.getRequiredTrigrams(pattern);
+		if (trigrams.length == 0) {
+			return files;
+		}
+		List<IFile> candidates= new ArrayList<>(files.length);
+		for (IFile file : files) {
+			if (mayContain(file, trigrams, documentsInEditors)) {
+				candidates.add(file);
+			}
+		}
+		if (candidates.size() == files.length) {
+			return files;
+		}
+		return candidates.toArray(new IFile[candidates.size()]);
+	}
+
+	private boolean mayContain(IFile file, long[] trigrams, Map<IFile, IDocument> documentsInEditors) {
+		Entry entry= fEntries.get(file.getFullPath());
+		if (entry == null || entry.fStamp != file.getModificationStamp() || documentsInEditors.containsKey(file)) {
+			return true;
+		}
+		if (FileBuffers.getTextFileBufferManager().getTextFileBuffer(file.getFullPath(), LocationKind.IFILE) != null) {
+			// the search uses the content of the buffer
+			return true;
+		}
+		return entry.mayContain(trigrams);
+	}
+
+	/**
+	 * Indexes a file now.
+	 *
+	 * @param file the file
+	 */
+	public void update(IFile file) {
+		index(file, new BufferedFileCharSequenceProvider());
+	}
+
+	/**
+	 * Blocks until all pending changes are indexed.
+	 *
+	 * @throws InterruptedException if the thread is interrupted while waiting
+	 */
+	public void join() throws InterruptedException {
+		Job.getJobManager().join(this, null);
+	}
+
+	private void index(IFile file, FileCharSequenceProvider provider) {
+		IPath path= file.getFullPath();
+		fEntries.remove(path);
+		long stamp= file.getModificationStamp();
+		if (stamp == IResource.NULL_STAMP || !file.isSynchronized(IResource.DEPTH_ZERO)) {
+			return;
+		}
+		try {
+			if (file.getLocationURI() == null) {
+				return;
+			}
+			IFileInfo info= EFS.getStore(file.getLocationURI()).fetchInfo();
+			if (!info.exists() || info.getLength() > MAX_FILE_LENGTH) {
+				return;
+			}
+			CharSequence content= provider.newCharSequence(file);
+			try {
+				long[] bits= computeBits(content);
+				if (file.getModificationStamp() == stamp) {
+					fEntries.put(path, new Entry(stamp, bits));
+				}
+			} finally {
+				provider.releaseCharSequence(content);
+			}
+		} catch (CoreException | IOException | RuntimeException e) {
+			// not indexed, the file is searched
+		}
+	}
+
+	/**
+	 * Computes the bloom filter of the trigrams of the given content. The filter starts with
+	 * four bits for every character, as each character can start a new trigram that sets two
+	 * bits, and is folded as long as it stays sparse, so that files with few distinct trigrams
+	 * need little memory.
+	 *
+	 * @param content the content of a file
+	 * @return the bits of the filter, or an empty array if the content has too many distinct
+	 *         trigrams for the filter to exclude it from any search
+	 */
+	static long[] computeBits(CharSequence content) {
+		int length= content.length();
+		int words= length <= 16 ? 1 : Math.min(MAX_WORDS, Integer.highestOneBit((length - 1) >> 4) << 1);
+		long[] bits= new long[words];
+		int mask= (words << 6) - 1;
+		if (length >= 3) {
+			char c0= content.charAt(0), c1= content.charAt(1);
+			for (int i= 2; i < length; i++) {
+				char c2= content.charAt(i);
+				long hash= hash(TrigramQuery.trigram(c0, c1, c2));
+				int bit1= (int) (hash >>> 32) & mask;
+				int bit2= (int) hash & mask;
+				bits[bit1 >>> 6]|= 1L << bit1;
+				bits[bit2 >>> 6]|= 1L << bit2;
+				c0= c1;
+				c1= c2;
+			}
+		}
+		if (bitCount(bits, words) > words << 5) {
+			// more than half of the bits are set, most searches would not exclude the file
+			return ALWAYS_SEARCH;
+		}
+		int size= words;
+		while (words > 1 && bitCount(bits, words) <= words << 3) {
+			words>>= 1;
+			for (int i= 0; i < words; i++) {
+				bits[i]|= bits[i + words];
+			}
+		}
+		return words == size ? bits : Arrays.copyOf(bits, words);
+	}
+
+	private static int bitCount(long[] bits, int words) {
+		int count= 0;
+		for (int i= 0; i < words; i++) {
+			count+= Long.bitCount(bits[i]);
+		}
+		return count;
+	}
+
+	private static long hash(long trigram) {
+		long hash= trigram * 0x9E3779B97F4A7C15L;
+		return hash ^ (hash >>> 29);
+	}
+
+	private void collectOutdatedFiles() throws CoreException {
+		IWorkspaceRoot root= ResourcesPlugin.getWorkspace().getRoot();
+		root.accept(proxy -> {
+			if (proxy.getType() == IResource.FILE) {
+				Entry entry= fEntries.get(proxy.requestFullPath());
+				if (entry == null || entry.fStamp != proxy.getModificationStamp()) {
+					fPending.add((IFile) proxy.requestResource());
+				}
+			}
+			return true;
+		}, IResource.NONE);
+		fEntries.keySet().removeIf(path -> !root.getFile(path).exists());
+	}
+
+	private void resourceChanged(IResourceChangeEvent event) {
+		IResourceDelta delta= event.getDelta();
+		if (delta == null) {
+			return;
+		}
+		try {
+			delta.accept(child -> {
+				IResource resource= child.getResource();
+				if (resource.getType() != IResource.FILE) {
+					if (child.getKind() == IResourceDelta.CHANGED && (child.getFlags() & IResourceDelta.ENCODING) != 0) {
+						// the default charset of the container changed, which may change the content of all files below it
+						invalidate((IContainer) resource);
+						return false;
+					}
+					return true;
+				}
+				if (child.getKind() == IResourceDelta.CHANGED && (child.getFlags() & CONTENT_FLAGS) == 0) {
+					// e.g. only the markers changed
+					return false;
+				}
+				fEntries.remove(resource.getFullPath());
+				if (child.getKind() != IResourceDelta.REMOVED) {
+					fPending.add((IFile) resource);
+				}
+				return false;
+			});
+		} catch (CoreException e) {
+			SearchCorePlugin.log(e);
+		}
+		if (!fPending.isEmpty()) {
+			fJob.schedule(UPDATE_DELAY);
+		}
+	}
+
+	private void invalidate(IContainer container) throws CoreException {
+		IPath path= container.getFullPath();
+		fEntries.keySet().removeIf(path::isPrefixOf);
+		container.accept(proxy -> {
+			if (proxy.getType() == IResource.FILE) {
+				fPending.add((IFile) proxy.requestResource());
+			}
+			return true;
+		}, IResource.NONE);
+	}
+
+	private void load() {
+		if (fStateFile == null || !fStateFile.isFile()) {
+			return;
+		}
+		try (DataInputStream in= new DataInputStream(new BufferedInputStream(new FileInputStream(fStateFile)))) {
+			if (in.readInt() != FORMAT_VERSION) {
+				return;
+			}
+			int count= in.readInt();
+			for (int i= 0; i < count; i++) {
+				IPath path= IPath.fromPortableString(in.readUTF());
+				long stamp= in.readLong();
+				long[] bits= new long[in.readInt()];
+				for (int j= 0; j < bits.length; j++) {
+					bits[j]= in.readLong();
+				}
+				fEntries.put(path, new Entry(stamp, bits));
+			}
+		} catch (IOException | RuntimeException e) {
+			// start over
+			fEntries.clear();
+		}
+	}
+
+	private void save() {
+		if (fStateFile == null) {
+			return;
+		}
+		Map<IPath, Entry> entries= Map.copyOf(fEntries);
+		try (DataOutputStream out= new DataOutputStream(new BufferedOutputStream(new FileOutputStream(fStateFile)))) {
+			out.writeInt(FORMAT_VERSION);
+			out.writeInt(entries.size());
+			for (Map.Entry<IPath, Entry> each : entries.entrySet()) {
+				out.writeUTF(each.getKey().toPortableString());
+				out.writeLong(each.getValue().fStamp);
+				long[] bits= each.getValue().fBits;
+				out.writeInt(bits.length);
+				for (long word : bits) {
+					out.writeLong(word);
+				}
+			}
+		} catch (IOException e) {
+			SearchCorePlugin.log(e);
+			fStateFile.delete();
+		}
+	}
+}
@@ -0,0 +1,423 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.search.internal.core.text;
+
+import java.util.Arrays;
+import java.util.regex.Pattern;
+
+/**
+ * Computes the character trigrams that every match of a search pattern contains. The
+ * analysis is conservative: it only considers the literal characters outside of groups,
+ * character classes and optional quantifiers, and gives up on alternations at the top
+ * level. Characters are compared case insensitively, see {@link #fold(char)}.
+ */
+public final class TrigramQuery {
+
+	private static final long[] NONE= new long[0];
+
+	private TrigramQuery() {
+		// don't instantiate
+	}
+
+	/**
+	 * Folds the case of a character like {@link Pattern#CASE_INSENSITIVE} together with
+	 * {@link Pattern#UNICODE_CASE} does.
+	 *
+	 * @param c the character
+	 * @return the folded character
+	 */
+	public static char fold(char c) {
+		return Character.toLowerCase(Character.toUpperCase(c));
+	}
+
+	/**
+	 * Returns the key of a trigram.
+	 *
+	 * @param c0 the first character
+	 * @param c1 the second character
+	 * @param c2 the third character
+	 * @return the key of the trigram of the folded characters
+	 */
+	public static long trigram(char c0, char c1, char c2) {
+		return ((long) fold(c0) << 32) | ((long) fold(c1) << 16) | fold(c2);
+	}
+
+	/**
+	 * Returns the trigrams that every match of the given pattern contains.
+	 *
+	 * @param pattern the search pattern
+	 * @return the sorted trigram keys, empty if the pattern does not require any
+	 */
+	public static long[] getRequiredTrigrams(Pattern pattern) {
+		String regex= pattern.pattern();
+		if (regex.isEmpty() || (pattern.flags() & (Pattern.COMMENTS | Pattern.CANON_EQ)) != 0) {
+			return NONE;
+		}
+		StringBuilder runs= new StringBuilder();
+		if ((pattern.flags() & Pattern.LITERAL) != 0) {
+			for (int i= 0; i < regex.length(); i++) {
+				appendLiteral(runs, regex.charAt(i));
+			}
+		} else if (!collectLiteralRuns(regex, runs)) {
+			return NONE;
+		}
+
+		long[] trigrams= new long[Math.max(runs.length() - 2, 0)];
+		int count= 0;
+		for (int i= 2; i < runs.length(); i++) {
+			char c0= runs.charAt(i - 2), c1= runs.charAt(i - 1), c2= runs.charAt(i);
+			if (c0 != 0 && c1 != 0 && c2 != 0) {
+				trigrams[count++]= trigram(c0, c1, c2);
+			}
+		}
+		if (count == 0) {
+			return NONE;
+		}
+		Arrays.sort(trigrams, 0, count);
+		int unique= 1;
+		for (int i= 1; i < count; i++) {
+			if (trigrams[i] != trigrams[unique - 1]) {
+				trigrams[unique++]= trigrams[i];
+			}
+		}
+		return Arrays.copyOf(trigrams, unique);
+	}
+
+	/**
+	 * Appends the runs of adjacent literal characters that every match of the regular
+	 * expression contains to the given buffer. Runs are separated by a <code>'\0'</code>.
+	 *
+	 * @param regex the regular expression
+	 * @param runs the buffer to append the runs to
+	 * @return <code>false</code> if the expression cannot be analyzed
+	 */
+	private static boolean collectLiteralRuns(String regex, StringBuilder runs) {
+		int length= regex.length();
+		int i= 0;
+		while (i < length) {
+			char c= regex.charAt(i++);
+			switch (c) {
+				case '\\':
+					if (i == length) {
+						return false;
+					}
+					char escaped= regex.charAt(i++);
+					if (escaped == 'Q') {
+						int end= regex.indexOf("\\E", i); //$NON-NLS-1$
+						if (end == -1) {
+							end= length;
+						}
+						for (int j= i; j < end; j++) {
+							appendLiteral(runs, regex.charAt(j));
+						}
+						i= applyQuantifier(regex, Math.min(end + 2, length), runs);
+					} else if (escaped == 'x' || escaped == 'u' || escaped == '0') {
+						int end= skipCharacterCode(regex, i, escaped);
+						if (end < 0) {
+							return false;
+						}
+						int codePoint= decodeCharacterCode(regex, i, end, escaped);
+						if (Character.isBmpCodePoint(codePoint)) {
+							appendLiteral(runs, (char) codePoint);
+						} else {
+							runs.append('\0');
+						}
+						i= applyQuantifier(regex, end, runs);
+					} else if (Character.isLetterOrDigit(escaped)) {
+						// character classes, boundaries, back references and escaped control characters
+						runs.append('\0');
+						if (escaped == 'c') {
+							i++;
+						} else if (escaped == 'k') {
+							int end= regex.indexOf('>', i);
+							if (end == -1) {
+								return false;
+							}
+							i= end + 1;
+						}
+						i= skipQuantifier(regex, Math.min(i, length));
+					} else {
+						appendLiteral(runs, escaped);
+						i= applyQuantifier(regex, i, runs);
+					}
+					break;
+				case '[':
+					i= skipCharacterClass(regex, i);
+					if (i < 0) {
+						return false;
+					}
+					runs.append('\0');
+					i= skipQuantifier(regex, i);
+					break;
+				case '(':
+					i= skipGroup(regex, i);
+					if (i < 0) {
+						return false;
+					}
+					runs.append('\0');
+					i= skipQuantifier(regex, i);
+					break;
+				case '|':
+				case ')':
+					return false;
+				case '.':
+				case '^':
+				case '$':
+					runs.append('\0');
+					i= skipQuantifier(regex, i);
+					break;
+				case '*':
+				case '+':
+				case '?':
+				case '{':
+					runs.append('\0');
+					i= skipQuantifier(regex, i - 1);
+					break;
+				default:
+					appendLiteral(runs, c);
+					i= applyQuantifier(regex, i, runs);
+					break;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Skips the digits of a hexadecimal (<code>\xhh</code>, <code>\x{h...h}</code>,
+	 * <code>\uhhhh</code>) or octal (<code>\0o</code>, <code>\0oo</code>, <code>\0ooo</code>)
+	 * character escape.
+	 *
+	 * @param regex the regular expression
+	 * @param i the index after the escape letter
+	 * @param kind the escape letter, <code>'x'</code>, <code>'u'</code> or <code>'0'</code>
+	 * @return the index after the escape, or <code>-1</code> if the escape is malformed
+	 */
+	private static int skipCharacterCode(String regex, int i, char kind) {
+		int length= regex.length();
+		switch (kind) {
+			case 'x':
+				if (i < length && regex.charAt(i) == '{') {
+					int end= regex.indexOf('}', i);
+					if (end <= i + 1 || !isDigits(regex, i + 1, end, 16)) {
+						return -1;
+					}
+					return end + 1;
+				}
+				return i + 2 <= length && isDigits(regex, i, i + 2, 16) ? i + 2 : -1;
+			case 'u':
+				return i + 4 <= length && isDigits(regex, i, i + 4, 16) ? i + 4 : -1;
+			default:
+				int end= i;
+				int maxLength= i < length && regex.charAt(i) <= '3' ? 3 : 2;
+				while (end < length && end - i < maxLength && isDigits(regex, end, end + 1, 8)) {
+					end++;
+				}
+				return end > i ? end : -1;
+		}
+	}
+
+	/**
+	 * Decodes a character escape skipped by {@link #skipCharacterCode(String, int, char)}.
+	 *
+	 * @param regex the regular expression
+	 * @param i the index after the escape letter
+	 * @param end the index after the escape
+	 * @param kind the escape letter
+	 * @return the code point, or <code>-1</code> if it is not valid
+	 */
+	private static int decodeCharacterCode(String regex, int i, int end, char kind) {
+		String digits= kind == 'x' && regex.charAt(i) == '{' ? regex.substring(i + 1, end - 1) : regex.substring(i, end);
+		try {
+			int codePoint= Integer.parseInt(digits, kind == '0' ? 8 : 16);
+			return Character.isValidCodePoint(codePoint) ? codePoint : -1;
+		} catch (NumberFormatException e) {
+			return -1;
+		}
+	}
+
+	private static boolean isDigits(String regex, int start, int end, int radix) {
+		for (int j= start; j < end; j++) {
+			if (Character.digit(regex.charAt(j), radix) < 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static void appendLiteral(StringBuilder runs, char c) {
+		// supplementary characters are folded as code points by the pattern
+		runs.append(Character.isSurrogate(c) ? '\0' : c);
+	}
+
+	/**
+	 * Applies a quantifier following a literal character to the runs: an optional
+	 * character is removed and a repeated one ends the run.
+	 *
+	 * @param regex the regular expression
+	 * @param i the index after the literal character
+	 * @param runs the runs
+	 * @return the index after the quantifier
+	 */
+	private static int applyQuantifier(String regex, int i, StringBuilder runs) {
+		if (i == regex.length()) {
+			return i;
+		}
+		char c= regex.charAt(i);
+		if (c != '?' && c != '*' && c != '+' && c != '{') {
+			return i;
+		}
+		boolean optional= c == '?' || c == '*' || c == '{' && (i + 1 == regex.length() || regex.charAt(i + 1) == '0');
+		if (optional && runs.length() > 0) {
+			runs.setLength(runs.length() - 1);
+		}
+		runs.append('\0');
+		return skipQuantifier(regex, i);
+	}
+
+	/**
+	 * Skips a quantifier, including a reluctant or possessive suffix.
+	 *
+	 * @param regex the regular expression
+	 * @param i the index of the quantifier, if any
+	 * @return the index after the quantifier
+	 */
+	private static int skipQuantifier(String regex, int i) {
+		int length= regex.length();
+		if (i == length) {
+			return i;
+		}
+		char c= regex.charAt(i);
+		if (c == '{') {
+			int end= regex.indexOf('}', i);
+			i= end == -1 ? length : end + 1;
+		} else if (c == '?' || c == '*' || c == '+') {
+			i++;
+		} else {
+			return i;
+		}
+		if (i < length && (regex.charAt(i) == '?' || regex.charAt(i) == '+')) {
+			i++;
+		}
+		return i;
+	}
+
+	/**
+	 * Skips a character class.
+	 *
+	 * @param regex the regular expression
+	 * @param i the index after the opening bracket
+	 * @return the index after the closing bracket, or <code>-1</code> if the class is not closed
+	 */
+	private static int skipCharacterClass(String regex, int i) {
+		int depth= 1;
+		int length= regex.length();
+		if (i < length && regex.charAt(i) == '^') {
+			i++;
+		}
+		if (i < length && regex.charAt(i) == ']') {
+			i++;
+		}
+		while (i < length) {
+			char c= regex.charAt(i++);
+			if (c == '\\') {
+				if (i < length && regex.charAt(i) == 'Q') {
+					int end= regex.indexOf("\\E", i); //$NON-NLS-1$
+					if (end == -1) {
+						return -1;
+					}
+					i= end + 2;
+				} else {
+					i++;
+				}
+			} else if (c == '[') {
+				depth++;
+			} else if (c == ']' && --depth == 0) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Skips a group including all nested groups and character classes.
+	 *
+	 * @param regex the regular expression
+	 * @param i the index after the opening parenthesis
+	 * @return the index after the closing parenthesis, or <code>-1</code> if the group is
+	 *         not closed or switches on comments
+	 */
+	private static int skipGroup(String regex, int i) {
+		int depth= 1;
+		int length= regex.length();
+		while (i < length) {
+			char c= regex.charAt(i++);
+			switch (c) {
+				case '\\':
+					if (i < length && regex.charAt(i) == 'Q') {
+						int end= regex.indexOf("\\E", i); //$NON-NLS-1$
+						if (end == -1) {
+							return -1;
+						}
+						i= end + 2;
+					} else {
+						i++;
+					}
+					break;
+				case '[':
+					i= skipCharacterClass(regex, i);
+					if (i < 0) {
+						return -1;
+					}
+					break;
+				case '(':
+					depth++;
+					break;
+				case ')':
+					if (--depth == 0) {
+						return i;
+					}
+					break;
+				case '?':
+					if (regex.charAt(i - 2) == '(' && hasCommentsFlag(regex, i)) {
+						return -1;
+					}
+					break;
+				default:
+					break;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Tells whether the flags of a group turn on {@link Pattern#COMMENTS}, which changes the
+	 * meaning of the rest of the expression.
+	 *
+	 * @param regex the regular expression
+	 * @param i the index after the question mark of the group
+	 * @return <code>true</code> if the flags contain <code>'x'</code>
+	 */
+	private static boolean hasCommentsFlag(String regex, int i) {
+		while (i < regex.length()) {
+			char c= regex.charAt(i++);
+			if (c == 'x') {
+				return true;
+			}
+			if (!Character.isLetter(c) && c != '-') {
+				return false;
+			}
+		}
+		return false;
+	}
+}
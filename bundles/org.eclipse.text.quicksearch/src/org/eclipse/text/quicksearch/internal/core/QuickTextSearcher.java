@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2013 Pivotal Software, Inc.
+ * Copyright (c) 2013, 2026 Pivotal Software, Inc.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -16,7 +16,9 @@ import java.io.InputStreamReader;
 import java.io.Reader;
 import java.io.StringReader;
 import java.io.UnsupportedEncodingException;
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BooleanSupplier;
@@ -32,6 +34,7 @@ import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.jobs.ISchedulingRule;
 import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.text.quicksearch.internal.core.ScannedFilesCache.ScannedFile;
 import org.eclipse.text.quicksearch.internal.core.pathmatch.ResourceMatcher;
 import org.eclipse.text.quicksearch.internal.core.pathmatch.ResourceMatchers;
 import org.eclipse.text.quicksearch.internal.core.priority.PriorityFunction;
@@ -55,6 +58,17 @@ public class QuickTextSearcher {
 	 */
 	private ISchedulingRule matchesRule = new LightSchedulingRule("QuickSearchMatchesRule"); //$NON-NLS-1$
 
+	/**
+	 * Upper bound of the memory used to remember scanned files during a session.
+	 */
+	private static final long MAX_CACHE_SIZE = 128 * 1024 * 1024;
+
+	/**
+	 * The files scanned in this session, so that a changed query can be answered without
+	 * reading them from disk again.
+	 */
+	private final ScannedFilesCache scannedFiles = new ScannedFilesCache(Math.min(MAX_CACHE_SIZE, Runtime.getRuntime().maxMemory() / 16));
+
 	private final SearchInFilesWalker walker;
 	private IncrementalUpdateJob incrementalUpdate;
 
@@ -150,17 +164,47 @@ public class QuickTextSearcher {
 		}
 
 		@Override
-		protected boolean searchIn(IFile f, BooleanSupplier canceled) {
+		protected boolean searchIn(IFile f, BooleanSupplier canceled, Consumer<LineItem> results) {
 			currentFile = f;
-			return search(f, canceled, MAX_LINE_LEN, query.pattern, QuickTextSearcher.this::add);
+			QuickTextQuery q = query;
+			long stamp = f.getModificationStamp();
+			String charset = getCharset(f);
+			ScannedFile scanned = scannedFiles.get(f, stamp, charset);
+			if (scanned != null && scanned.query().isSubFilter(q)) {
+				// only the lines matching the broader query can match
+				for (LineItem line : scanned.lines()) {
+					if (canceled.getAsBoolean()) {
+						return false;
+					}
+					if (q.pattern.matcher(line.getText()).find()) {
+						results.accept(line);
+					}
+				}
+				return true;
+			}
+			String content = scanned != null ? scanned.content() : toShortString(f, charset);
+			List<LineItem> lines = new ArrayList<>();
+			boolean searched = search(f, content, canceled, MAX_LINE_LEN, q.pattern, line -> {
+				lines.add(line);
+				results.accept(line);
+			});
+			if (searched) {
+				scannedFiles.put(f, new ScannedFile(stamp, charset, content, q, lines));
+			}
+			return searched;
+		}
+
+		@Override
+		protected void found(LineItem result) {
+			add(result);
 		}
 
-		private static boolean search(IFile f, BooleanSupplier canceled,
+		private static boolean search(IFile f, String content, BooleanSupplier canceled,
 				int maxLineLength, Pattern pattern, Consumer<LineItem> add) {
 			if (canceled.getAsBoolean()) {
 				return false;
 			}
-			try (LineReader lr = new LineReader(getReader(f),
+			try (LineReader lr = new LineReader(getReader(f, content),
 					maxLineLength)) {
 				String line;
 				int lineIndex = 1;
@@ -184,10 +228,9 @@ public class QuickTextSearcher {
 			return true;
 		}
 
-		private static Reader getReader(IFile f) throws UnsupportedEncodingException, CoreException {
-			String shortString = toShortString(f);
-			if (shortString != null) {
-				return new StringReader(shortString);
+		private static Reader getReader(IFile f, String content) throws UnsupportedEncodingException, CoreException {
+			if (content != null) {
+				return new StringReader(content);
 			} else {
 				return new InputStreamReader(f.getContents(true), f.getCharset());
 			}
@@ -202,10 +245,18 @@ public class QuickTextSearcher {
 		}
 
 	}
+	private static String getCharset(IFile file) {
+		try {
+			return file.getCharset();
+		} catch (CoreException e) {
+			return null;
+		}
+	}
+
 	/**
 	 * Try to get a content as String. Avoids Streaming.
 	 */
-	private static String toShortString(IFile file) {
+	private static String toShortString(IFile file, String charset) {
 		/**
 		 * Just any number such that the most source files will fit in. And not too
 		 * big to avoid out of memory.
@@ -216,7 +267,6 @@ public class QuickTextSearcher {
 			if (length >= MAX_BUFFER_LENGTH) {
 				return null;
 			}
-			String charset = file.getCharset();
 			return new String(content, charset);
 		} catch (Exception e) {
 			return null;
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2013 Pivotal Software, Inc.
+ * Copyright (c) 2013, 2026 Pivotal Software, Inc.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -12,7 +12,11 @@
  *******************************************************************************/
 package org.eclipse.text.quicksearch.internal.core;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.PriorityQueue;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
@@ -20,6 +24,7 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
 
 import org.eclipse.core.resources.IContainer;
 import org.eclipse.core.resources.IFile;
@@ -41,6 +46,13 @@ import org.eclipse.text.quicksearch.internal.ui.QuickSearchActivator;
  * to the resources to decide the ordering and completely ignore some resources.
  * <p>
  * The walker can also be paused and resumed.
+ * <p>
+ * Files are searched in parallel by a bounded work-stealing pool. They are handed out to
+ * the workers by priority, and the results of a file are only reported once all files
+ * handed out before it have been reported. So the results arrive in the same order as if
+ * the files were searched one after the other, and suspending the walker from
+ * {@link #found(LineItem)}, e.g. when enough results have been found, stops the reporting
+ * at exactly that point.
  *
  * @author Kris De Volder
  */
@@ -136,35 +148,95 @@ public abstract class ResourceWalker extends Job {
 		this.schedule();
 	}
 
+	/**
+	 * Hands out the files to the workers by priority and reports their results in the same
+	 * order.
+	 */
+	private final class OrderedDispatch {
+
+		private record Done(QItem item, boolean searched, List<LineItem> results) {
+		}
+
+		private final PriorityQueue<QItem> queue = new PriorityQueue<>(filesToSearch);
+		private final BooleanSupplier canceled;
+		/**
+		 * How many files may be searched ahead of the first file whose results have not been
+		 * reported yet. Bounds the memory used by results waiting to be reported.
+		 */
+		private final int window;
+		/** Searched files by their number, waiting for the files before them */
+		private final Map<Integer, Done> done = new HashMap<>();
+		private int dispatched;
+		private int reported;
+		private boolean stopped;
+
+		OrderedDispatch(int workers, BooleanSupplier canceled) {
+			this.window = workers * 8;
+			this.canceled = canceled;
+		}
+
+		void work() {
+			int number;
+			QItem item;
+			while (true) {
+				synchronized (this) {
+					while (!stopped && dispatched - reported >= window && !canceled.getAsBoolean()) {
+						try {
+							wait(100);
+						} catch (InterruptedException e) {
+							return;
+						}
+					}
+					if (stopped || canceled.getAsBoolean() || (item = queue.poll()) == null) {
+						return;
+					}
+					number = dispatched++;
+				}
+				List<LineItem> results = new ArrayList<>();
+				boolean searched = searchIn((IFile) item.resource, canceled, results::add);
+				report(number, new Done(item, searched, results));
+			}
+		}
+
+		private synchronized void report(int number, Done file) {
+			done.put(number, file);
+			Done next;
+			while (!stopped && (next = done.remove(reported)) != null) {
+				if (!next.searched || canceled.getAsBoolean()) {
+					// keep this and all later files for a resume
+					stopped = true;
+					break;
+				}
+				for (LineItem result : next.results) {
+					found(result);
+				}
+				filesToSearch.remove(next.item);
+				reported++;
+			}
+			notifyAll();
+		}
+
+		synchronized void stop() {
+			stopped = true;
+			queue.clear();
+			notifyAll();
+		}
+	}
+
 	@Override
 	public IStatus run(IProgressMonitor monitor) {
 		int workers = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
-		ExecutorService executorService = Executors.newFixedThreadPool(workers);
-		// copy the filesToSearch, to only remove a file after search completed
-		PriorityQueue<QItem> queue = new PriorityQueue<>();
-		queue.addAll(filesToSearch);
+		ExecutorService executorService = Executors.newWorkStealingPool(workers);
+		// the dispatch works on a copy of filesToSearch, to only remove a file after its results are reported
+		OrderedDispatch dispatch = new OrderedDispatch(workers, () -> monitor.isCanceled() || suspend);
 		for (int worker = 0; worker < workers; worker++) {
-			executorService.submit(() -> {
-				QItem item;
-				while ((item = queue.poll()) != null) {
-					if (monitor.isCanceled() || suspend) {
-						break;
-					} else {
-						IResource r = item.resource;
-						IFile f = (IFile) r;
-						boolean searched = searchIn(f, () -> monitor.isCanceled() || suspend);
-						if (searched) {
-							filesToSearch.remove(item);
-						}
-					}
-				}
-			});
+			executorService.submit(dispatch::work);
 		}
 		try {
-			while (!executorService.awaitTermination(1, TimeUnit.MILLISECONDS)) {
-				executorService.shutdown();
+			executorService.shutdown();
+			while (!executorService.awaitTermination(10, TimeUnit.MILLISECONDS)) {
 				if (monitor.isCanceled() || suspend) {
-					queue.clear();
+					dispatch.stop();
 					executorService.shutdownNow();
 				}
 			}
@@ -182,7 +254,29 @@ public abstract class ResourceWalker extends Job {
 		}
 	}
 
-	protected abstract boolean searchIn(IFile f, BooleanSupplier canceled);
+	/**
+	 * Searches a file. Called by several workers at the same time.
+	 *
+	 * @param f
+	 *            the file to search
+	 * @param canceled
+	 *            tells whether the search should stop
+	 * @param results
+	 *            receives the results of the file, which are reported with
+	 *            {@link #found(LineItem)} in order
+	 * @return <code>false</code> if the search was canceled before the file was searched
+	 *         completely
+	 */
+	protected abstract boolean searchIn(IFile f, BooleanSupplier canceled, Consumer<LineItem> results);
+
+	/**
+	 * Reports a result. Results are reported one at a time, in the order of the files they
+	 * were found in.
+	 *
+	 * @param result
+	 *            the result
+	 */
+	protected abstract void found(LineItem result);
 
 	/**
 	 * Assigns a priority to a given resource. This priority will affect the order in which
@@ -0,0 +1,141 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.text.quicksearch.internal.core;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.eclipse.core.resources.IFile;
+
+/**
+ * Remembers the files scanned during a quick search session, so that a changed query does
+ * not have to read them from disk again.
+ * <p>
+ * For every file the cache keeps the lines that matched the query the file was scanned
+ * with. A query that refines that query (see {@link QuickTextQuery#isSubFilter}) only has
+ * to re-check these candidate lines. For smaller files the cache also keeps the content, so
+ * any other query can scan it from memory.
+ * <p>
+ * The cache is bounded by a memory budget and evicts the least recently used files first.
+ * An entry is dropped when the modification stamp or the charset of its file changes.
+ */
+public final class ScannedFilesCache {
+
+	/**
+	 * The cached state of a file.
+	 *
+	 * @param stamp
+	 *            the modification stamp of the file when it was scanned
+	 * @param charset
+	 *            the charset the file was decoded with, or <code>null</code> if it is unknown
+	 * @param content
+	 *            the content of the file, or <code>null</code> if it was too large to keep
+	 * @param query
+	 *            the query the file was scanned with
+	 * @param lines
+	 *            all lines of the file that match the query
+	 */
+	public record ScannedFile(long stamp, String charset, String content, QuickTextQuery query, List<LineItem> lines) {
+
+		/**
+		 * Returns the approximate number of bytes used by this entry.
+		 */
+		long size() {
+			long size = 64;
+			if (content != null) {
+				size += 2L * content.length();
+			}
+			for (LineItem line : lines) {
+				size += 64 + 2L * line.getText().length();
+			}
+			return size;
+		}
+	}
+
+	private record Entry(ScannedFile scanned, long size) {
+	}
+
+	private final Map<IFile, Entry> files = new LinkedHashMap<>(256, 0.75f, true);
+	private final long budget;
+	private long size;
+
+	/**
+	 * Creates a cache.
+	 *
+	 * @param budget
+	 *            the approximate number of bytes the cache may use
+	 */
+	public ScannedFilesCache(long budget) {
+		this.budget = budget;
+	}
+
+	/**
+	 * Returns the cached state of the given file.
+	 *
+	 * @param f
+	 *            the file
+	 * @param stamp
+	 *            the current modification stamp of the file
+	 * @param charset
+	 *            the current charset of the file, or <code>null</code> if it is unknown
+	 * @return the cached state, or <code>null</code> if the file is not cached or has changed
+	 */
+	public synchronized ScannedFile get(IFile f, long stamp, String charset) {
+		Entry entry = files.get(f);
+		if (entry == null) {
+			return null;
+		}
+		if (entry.scanned().stamp() != stamp || !Objects.equals(entry.scanned().charset(), charset)) {
+			files.remove(f);
+			size -= entry.size();
+			return null;
+		}
+		return entry.scanned();
+	}
+
+	/**
+	 * Caches the state of a file that has been scanned completely.
+	 *
+	 * @param f
+	 *            the file
+	 * @param scanned
+	 *            the state of the file
+	 */
+	public synchronized void put(IFile f, ScannedFile scanned) {
+		Entry entry = new Entry(scanned, scanned.size());
+		Entry previous = files.remove(f);
+		if (previous != null) {
+			size -= previous.size();
+		}
+		if (entry.size() > budget) {
+			return;
+		}
+		files.put(f, entry);
+		size += entry.size();
+		Iterator<Entry> eldest = files.values().iterator();
+		while (size > budget) {
+			size -= eldest.next().size();
+			eldest.remove();
+		}
+	}
+
+	/**
+	 * Returns the approximate number of bytes used by the cache.
+	 */
+	public synchronized long size() {
+		return size;
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2016 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -17,6 +17,7 @@ package org.eclipse.jface.text;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
@@ -59,7 +60,7 @@ import org.eclipse.core.runtime.SafeRunner;
  * @see org.eclipse.jface.text.ITextStore
  * @see org.eclipse.jface.text.ILineTracker
  */
-public abstract class AbstractDocument implements IDocument, IDocumentExtension, IDocumentExtension2, IDocumentExtension3, IDocumentExtension4, IRepairableDocument, IRepairableDocumentExtension {
+public abstract class AbstractDocument implements IDocument, IDocumentExtension, IDocumentExtension2, IDocumentExtension3, IDocumentExtension4, IDocumentExtension5, IRepairableDocument, IRepairableDocumentExtension {
 
 	/**
 	 * Tells whether this class is in debug mode.
@@ -105,10 +106,21 @@ public abstract class AbstractDocument implements IDocument, IDocumentExtension,
 	/** All positions managed by the document ordered by their start positions. */
 	private final Map<String, List<Position>> fPositions= new HashMap<>();
 	/**
-	 * All positions managed by the document ordered by their end positions.
+	 * All positions managed by the document ordered by their end positions. Indexed categories
+	 * have no entry.
 	 * @since 3.4
 	 */
 	private final Map<String, List<Position>> fEndPositions= new HashMap<>();
+	/**
+	 * Tells whether the position updaters are being run.
+	 * @since 3.15
+	 */
+	private boolean fUpdatingPositions;
+	/**
+	 * The indexed categories whose positions were handed out to the running position updaters.
+	 * @since 3.15
+	 */
+	private final List<PositionTree> fExposedPositionTrees= new ArrayList<>();
 	/** All registered document position updaters */
 	private final List<IPositionUpdater> fPositionUpdaters= new CopyOnWriteArrayList<>();
 	/**
@@ -346,6 +358,10 @@ public abstract class AbstractDocument implements IDocument, IDocumentExtension,
 		List<Position> list= fPositions.get(category);
 		if (list == null)
 			throw new BadPositionCategoryException();
+		if (list instanceof PositionTree) {
+			((PositionTree) list).insert(position);
+			return;
+		}
 		list.add(computeIndexInPositionList(list, position.offset), position);
 
 		List<Position> endPositions= fEndPositions.get(category);
@@ -414,6 +430,52 @@ public abstract class AbstractDocument implements IDocument, IDocumentExtension,
 		return false;
 	}
 
+	@Override
+	public void setPositionCategoryIndexed(String category, boolean indexed) throws BadPositionCategoryException {
+
+		if (category == null)
+			throw new BadPositionCategoryException();
+
+		List<Position> positions= fPositions.get(category);
+		if (positions == null)
+			throw new BadPositionCategoryException();
+
+		if (indexed == positions instanceof PositionTree)
+			return;
+
+		if (indexed) {
+			fPositions.put(category, new PositionTree(positions));
+			fEndPositions.remove(category);
+		} else {
+			fPositions.put(category, new ArrayList<>(positions));
+			List<Position> endPositions= new ArrayList<>(positions);
+			endPositions.sort(Comparator.comparingInt(p -> getOffset(false, p)));
+			fEndPositions.put(category, endPositions);
+		}
+	}
+
+	@Override
+	public boolean isPositionCategoryIndexed(String category) {
+		return getPositionTree(category) != null;
+	}
+
+	/**
+	 * Returns the positions of the given category if it is indexed.
+	 *
+	 * @param category the position category
+	 * @return the positions of the category or <code>null</code> if the category is undefined or
+	 *         not indexed
+	 * @since 3.15
+	 */
+	PositionTree getPositionTree(String category) {
+		if (category != null) {
+			List<Position> positions= fPositions.get(category);
+			if (positions instanceof PositionTree)
+				return (PositionTree) positions;
+		}
+		return null;
+	}
+
 
 	/**
 	 * Computes the index in the list of positions at which a position with the given
@@ -447,6 +509,9 @@ public abstract class AbstractDocument implements IDocument, IDocumentExtension,
 		if (positions.isEmpty())
 			return 0;
 
+		if (orderedByOffset && positions instanceof PositionTree)
+			return ((PositionTree) positions).computeIndex(offset);
+
 		int left= 0;
 		int right= positions.size() -1;
 		int mid= 0;
@@ -594,6 +659,42 @@ public abstract class AbstractDocument implements IDocument, IDocumentExtension,
 		}
 	}
 
+	/**
+	 * Informs the document partitioning listeners that the given partitioner has changed the
+	 * partitioning of the given region on its own, i.e. not in response to a document change.
+	 * This happens when a partitioner computes its partitioning lazily. If the notification of
+	 * a document change is pending, the region is added to the partitioning change reported
+	 * with it.
+	 *
+	 * @param partitioner the partitioner whose partitioning has changed
+	 * @param region the region in which the partitioning has changed
+	 * @since 3.15
+	 */
+	public void partitioningChanged(IDocumentPartitioner partitioner, IRegion region) {
+		if (fDocumentPartitioners == null)
+			return;
+
+		DocumentPartitioningChangedEvent pending= fDocumentPartitioningChangedEvent;
+		DocumentPartitioningChangedEvent event= pending != null ? pending : new DocumentPartitioningChangedEvent(this);
+		for (Entry<String, IDocumentPartitioner> entry : fDocumentPartitioners.entrySet()) {
+			if (entry.getValue() != partitioner)
+				continue;
+
+			String partitioning= entry.getKey();
+			int offset= region.getOffset();
+			int endOffset= offset + region.getLength();
+			IRegion changed= event.getChangedRegion(partitioning);
+			if (changed != null) {
+				offset= Math.min(offset, changed.getOffset());
+				endOffset= Math.max(endOffset, changed.getOffset() + changed.getLength());
+			}
+			event.setPartitionChange(partitioning, offset, endOffset - offset);
+		}
+
+		if (pending == null && !event.isEmpty())
+			fireDocumentPartitioningChanged(event);
+	}
+
 	/**
 	 * Fires the given document event to all registers document listeners informing them
 	 * about the forthcoming document manipulation. Uses a robust iterator.
@@ -927,6 +1028,12 @@ public abstract class AbstractDocument implements IDocument, IDocumentExtension,
 		if (c == null)
 			throw new BadPositionCategoryException();
 
+		// updaters modify the positions they get in place
+		if (fUpdatingPositions && c instanceof PositionTree) {
+			((PositionTree) c).invalidate();
+			fExposedPositionTrees.add((PositionTree) c);
+		}
+
 		Position[] positions= new Position[c.size()];
 		c.toArray(positions);
 		return positions;
@@ -981,6 +1088,10 @@ public abstract class AbstractDocument implements IDocument, IDocumentExtension,
 		List<Position> c= fPositions.get(category);
 		if (c == null)
 			throw new BadPositionCategoryException();
+		if (c instanceof PositionTree) {
+			((PositionTree) c).removePosition(position);
+			return;
+		}
 		removeFromPositionsList(c, position, true);
 
 		List<Position> endPositions= fEndPositions.get(category);
@@ -1140,8 +1251,16 @@ public abstract class AbstractDocument implements IDocument, IDocumentExtension,
 	 *            the positions
 	 */
 	protected void updatePositions(DocumentEvent event) {
-		for(IPositionUpdater u: fPositionUpdaters) {
-			u.update(event);
+		fUpdatingPositions= true;
+		try {
+			for(IPositionUpdater u: fPositionUpdaters) {
+				u.update(event);
+			}
+		} finally {
+			fUpdatingPositions= false;
+			for (PositionTree tree : fExposedPositionTrees)
+				tree.invalidate();
+			fExposedPositionTrees.clear();
 		}
 	}
 
@@ -1581,10 +1700,14 @@ public abstract class AbstractDocument implements IDocument, IDocumentExtension,
 	 * @throws BadPositionCategoryException if category is undefined in this document
 	 * @since 3.4
 	 */
+	@Override
 	public Position[] getPositions(String category, int offset, int length, boolean canStartBefore, boolean canEndAfter) throws BadPositionCategoryException {
 		if (canStartBefore && canEndAfter || (!canStartBefore && !canEndAfter)) {
 			List<Position> documentPositions;
-			if (canStartBefore && canEndAfter) {
+			PositionTree tree= getPositionTree(category);
+			if (canStartBefore && canEndAfter && tree != null) {
+				documentPositions= tree.getPositionsEndingAfter(tree.computeIndex(offset + length + 1), offset);
+			} else if (canStartBefore && canEndAfter) {
 				if (offset < getLength() / 2) {
 					documentPositions= getStartingPositions(category, 0, offset + length);
 				} else {
@@ -1657,6 +1780,8 @@ public abstract class AbstractDocument implements IDocument, IDocumentExtension,
 		int indexStart= computeIndexInPositionList(positions, offset, true);
 		int indexEnd= computeIndexInPositionList(positions, offset + length, true);
 
+		if (positions instanceof PositionTree)
+			return ((PositionTree) positions).getPositions(indexStart, indexEnd);
 		return positions.subList(indexStart, indexEnd);
 	}
 
@@ -1672,6 +1797,18 @@ public abstract class AbstractDocument implements IDocument, IDocumentExtension,
 	 * @since 3.4
 	 */
 	private List<Position> getEndingPositions(String category, int offset, int length) throws BadPositionCategoryException {
+		PositionTree tree= getPositionTree(category);
+		if (tree != null) {
+			// a position ending in the region starts before its end and ends at or after its start
+			List<Position> list= new ArrayList<>();
+			Position region= new Position(offset, length);
+			for (Position position : tree.getPositionsEndingAfter(tree.computeIndex(offset + length), offset)) {
+				if (region.includes(getOffset(false, position)))
+					list.add(position);
+			}
+			return list;
+		}
+
 		List<Position> positions= fEndPositions.get(category);
 		if (positions == null)
 			throw new BadPositionCategoryException();
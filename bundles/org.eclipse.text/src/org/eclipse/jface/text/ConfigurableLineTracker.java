@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2019 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,6 +14,8 @@
  *******************************************************************************/
 package org.eclipse.jface.text;
 
+import java.lang.ref.WeakReference;
+
 import org.eclipse.core.runtime.Assert;
 
 import org.eclipse.jface.text.MultiStringMatcher.Match;
@@ -34,12 +36,25 @@ import org.eclipse.jface.text.MultiStringMatcher.Match;
  */
 public class ConfigurableLineTracker extends AbstractLineTracker {
 
+	/** The maximal number of characters copied at once from a searched text into the search window */
+	private static final int WINDOW_SIZE= 8192;
+
 	/** The strings which are considered being the line delimiter */
 	private final String[] fDelimiters;
 	/** A predefined delimiter information which is always reused as return value */
 	private final DelimiterInfo fDelimiterInfo= new DelimiterInfo();
 	/** Util to search the configured line delimiters in text. <code>null</code> if only one delimiter is used. */
 	private final MultiStringMatcher fMatcher;
+	/** The length of the longest line delimiter */
+	private final int fMaxDelimiterLength;
+	/** The text the search window was copied from, not kept alive by the tracker */
+	private WeakReference<String> fWindowText= new WeakReference<>(null);
+	/** A copy of a range of the searched text, searched with the bulk mode of the matcher */
+	private char[] fWindow;
+	/** The offset in the searched text the search window starts at */
+	private int fWindowOffset;
+	/** The number of characters in the search window */
+	private int fWindowLength;
 
 	/**
 	 * Creates a standard line tracker for the given line delimiters.
@@ -51,6 +66,11 @@ public class ConfigurableLineTracker extends AbstractLineTracker {
 		Assert.isTrue(legalLineDelimiters != null && legalLineDelimiters.length > 0);
 		fDelimiters= TextUtilities.copy(legalLineDelimiters);
 		fMatcher= legalLineDelimiters.length > 1 ? MultiStringMatcher.create(legalLineDelimiters) : null;
+		int maxDelimiterLength= 0;
+		for (String delimiter : legalLineDelimiters) {
+			maxDelimiterLength= Math.max(maxDelimiterLength, delimiter.length());
+		}
+		fMaxDelimiterLength= maxDelimiterLength;
 	}
 
 	@Override
@@ -61,12 +81,9 @@ public class ConfigurableLineTracker extends AbstractLineTracker {
 	@Override
 	protected DelimiterInfo nextDelimiterInfo(String text, int offset) {
 		if (fMatcher != null) {
-			Match m = fMatcher.indexOf(text, offset);
-			if (m == null) {
+			if (!findDelimiter(text, offset)) {
 				return null;
 			}
-			fDelimiterInfo.delimiterIndex= m.getOffset();
-			fDelimiterInfo.delimiter= m.getText();
 		} else {
 			int index= text.indexOf(fDelimiters[0], offset);
 			if (index == -1)
@@ -78,4 +95,57 @@ public class ConfigurableLineTracker extends AbstractLineTracker {
 		fDelimiterInfo.delimiterLength= fDelimiterInfo.delimiter.length();
 		return fDelimiterInfo;
 	}
+
+	/**
+	 * Finds the next line delimiter with the bulk mode of the matcher. The text is searched in a
+	 * window copied from it, which is reused as long as the same text is searched, e.g. while the
+	 * lines of a new text are computed.
+	 *
+	 * @param text the text to be searched
+	 * @param offset the offset in the given text
+	 * @return <code>true</code> if a delimiter was found and stored in the delimiter information
+	 */
+	private boolean findDelimiter(String text, int offset) {
+		int from= offset;
+		if (fWindowText.get() != text || from < fWindowOffset || from >= fWindowOffset + fWindowLength) {
+			fillWindow(text, from);
+		}
+		while (true) {
+			int end= fWindowOffset + fWindowLength;
+			Match m= fMatcher.indexOf(fWindow, from - fWindowOffset, fWindowLength);
+			// a delimiter starting near the end of the window may continue after it, or a
+			// longer one may start there, so such a match is only taken at the end of the text
+			if (end == text.length() || m != null && fWindowOffset + m.getOffset() + fMaxDelimiterLength <= end) {
+				if (m == null) {
+					return false;
+				}
+				fDelimiterInfo.delimiterIndex= fWindowOffset + m.getOffset();
+				fDelimiterInfo.delimiter= m.getText();
+				return true;
+			}
+			from= Math.max(from, end - fMaxDelimiterLength + 1);
+			fillWindow(text, from);
+		}
+	}
+
+	/**
+	 * Copies the text from the given offset on into the search window.
+	 *
+	 * @param text the searched text
+	 * @param from the offset of the first character to copy
+	 */
+	private void fillWindow(String text, int from) {
+		int capacity= Math.max(WINDOW_SIZE, 2 * fMaxDelimiterLength);
+		int length= Math.min(capacity, text.length() - from);
+		if (fWindow == null || fWindow.length < length) {
+			int oldLength= fWindow == null ? 0 : fWindow.length;
+			fWindow= new char[Math.min(capacity, Math.max(length, 2 * oldLength))];
+		}
+		text.getChars(from, from + length, fWindow, 0);
+		if (fWindowText.get() != text) {
+			fWindowText= new WeakReference<>(text);
+		}
+		fWindowOffset= from;
+		fWindowLength= length;
+	}
 }
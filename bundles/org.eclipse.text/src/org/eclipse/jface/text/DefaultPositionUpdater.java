@@ -13,6 +13,7 @@
  *******************************************************************************/
 package org.eclipse.jface.text;
 
+import java.util.List;
 
 /**
  * Default implementation of {@link org.eclipse.jface.text.IPositionUpdater}.
@@ -212,6 +213,14 @@ public class DefaultPositionUpdater implements IPositionUpdater {
 			fReplaceLength= (event.getText() == null ? 0 : event.getText().length());
 			fDocument= event.getDocument();
 
+			if (getClass() == DefaultPositionUpdater.class && fDocument instanceof AbstractDocument) {
+				PositionTree tree= ((AbstractDocument) fDocument).getPositionTree(fCategory);
+				if (tree != null) {
+					update(tree);
+					return;
+				}
+			}
+
 			Position[] category= fDocument.getPositions(fCategory);
 			for (Position element : category) {
 
@@ -229,4 +238,33 @@ public class DefaultPositionUpdater implements IPositionUpdater {
 			fDocument= null;
 		}
 	}
+
+	/**
+	 * Updates the positions of an indexed category. Positions ending before the replaced text
+	 * are not affected and not visited, positions starting at or after its end are only moved.
+	 * Subclasses may override the adapt methods and are therefore always updated by
+	 * {@link #update(DocumentEvent)}.
+	 *
+	 * @param tree the positions of the category
+	 */
+	private void update(PositionTree tree) {
+		int first= tree.computeIndex(fOffset + fLength);
+		List<Position> affected= tree.removePositionsEndingAfter(first, fOffset);
+		tree.shift(first - affected.size(), fReplaceLength - fLength);
+
+		for (Position element : affected) {
+
+			fPosition= element;
+			fOriginalPosition.offset= fPosition.offset;
+			fOriginalPosition.length= fPosition.length;
+
+			// same as notDeleted(), but the position has already been removed from the tree
+			if (fOffset < fPosition.offset && (fPosition.offset + fPosition.length < fOffset + fLength)) {
+				fPosition.delete();
+			} else {
+				adaptToReplace();
+				tree.append(fPosition);
+			}
+		}
+	}
 }
@@ -37,7 +37,10 @@ package org.eclipse.jface.text;
  * </p>
  * <p>
  * See {@link GapTextStore} and <code>TreeLineTracker</code> for algorithmic behavior of the used
- * document structures.
+ * document structures. Documents of several hundred megabytes should be created with a
+ * {@link PieceTableTextStore} using {@link #Document(ITextStore, String)}, documents with millions
+ * of lines additionally with a {@link ParallelLineTracker} using
+ * {@link #Document(ITextStore, ILineTracker, String)}.
  * </p>
  *
  * @see org.eclipse.jface.text.GapTextStore
@@ -68,6 +71,37 @@ public class Document extends AbstractDocument {
 		completeInitialization();
 	}
 
+	/**
+	 * Creates a new document with the given initial content that uses the given text store
+	 * instead of the default one. Use a {@link PieceTableTextStore} for very large documents.
+	 *
+	 * @param textStore the text store to use, must be empty
+	 * @param initialContent the document's initial content
+	 * @since 3.15
+	 */
+	public Document(ITextStore textStore, String initialContent) {
+		this(textStore, new DefaultLineTracker(), initialContent);
+	}
+
+	/**
+	 * Creates a new document with the given initial content that uses the given text store and
+	 * line tracker instead of the default ones. Use a {@link ParallelLineTracker} for documents
+	 * with a very large number of lines.
+	 *
+	 * @param textStore the document's text store
+	 * @param lineTracker the document's line tracker
+	 * @param initialContent the document's initial content
+	 * @since 3.15
+	 */
+	public Document(ITextStore textStore, ILineTracker lineTracker, String initialContent) {
+		super();
+		setTextStore(textStore);
+		setLineTracker(lineTracker);
+		getStore().set(initialContent);
+		getTracker().set(initialContent);
+		completeInitialization();
+	}
+
 	@Override
 	public boolean isLineInformationRepairNeeded(int offset, int length, String text) throws BadLocationException {
 		if ((0 > offset) || (0 > length) || (offset + length > getLength()))
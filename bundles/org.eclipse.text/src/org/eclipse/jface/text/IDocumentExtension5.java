@@ -0,0 +1,74 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jface.text;
+
+/**
+ * Extension interface for {@link org.eclipse.jface.text.IDocument}. It adds the
+ * following concepts:
+ * <ul>
+ *   <li>Indexed position categories. The positions of an indexed category are kept
+ *       in an interval tree instead of a sorted list. Adding and removing positions,
+ *       finding the positions overlapping a region and updating the positions with a
+ *       {@link DefaultPositionUpdater} then only look at the positions that are
+ *       actually affected. This pays off for categories holding tens of thousands of
+ *       positions, e.g. the positions of an annotation model with many markers.</li>
+ *   <li>Querying the positions of a category that lie in a given region.</li>
+ * </ul>
+ *
+ * @since 3.15
+ */
+public interface IDocumentExtension5 {
+
+	/**
+	 * Sets whether the positions of the given category are kept in an interval tree.
+	 * Changing the storage of a category does not change its positions.
+	 * <p>
+	 * Positions of an indexed category that are modified in place outside of a
+	 * position update, i.e. not by an {@link IPositionUpdater} while the document
+	 * is being changed, must be removed from the document before and added again
+	 * after the modification.
+	 * </p>
+	 *
+	 * @param category the position category
+	 * @param indexed <code>true</code> to keep the positions in an interval tree,
+	 *            <code>false</code> to keep them in a sorted list
+	 * @throws BadPositionCategoryException if category is undefined in this document
+	 */
+	void setPositionCategoryIndexed(String category, boolean indexed) throws BadPositionCategoryException;
+
+	/**
+	 * Tells whether the positions of the given category are kept in an interval tree.
+	 *
+	 * @param category the position category
+	 * @return <code>true</code> if the category is defined and indexed
+	 * @see #setPositionCategoryIndexed(String, boolean)
+	 */
+	boolean isPositionCategoryIndexed(String category);
+
+	/**
+	 * Returns all positions of the given category that are inside the given region.
+	 * The order of the returned positions is unspecified.
+	 *
+	 * @param category the position category
+	 * @param offset the start position of the region, must be &gt;= 0
+	 * @param length the length of the region, must be &gt;= 0
+	 * @param canStartBefore if <code>true</code> then positions are included
+	 *            which start before the region if they end at or after the regions start
+	 * @param canEndAfter if <code>true</code> then positions are included
+	 *            which end after the region if they start at or before the regions end
+	 * @return all positions inside the region of the given category
+	 * @throws BadPositionCategoryException if category is undefined in this document
+	 */
+	Position[] getPositions(String category, int offset, int length, boolean canStartBefore, boolean canEndAfter) throws BadPositionCategoryException;
+}
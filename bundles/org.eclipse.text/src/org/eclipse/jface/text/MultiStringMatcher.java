@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019 Paul Pazderski, Thomas Wolf, and others.
+ * Copyright (c) 2019, 2026 Paul Pazderski, Thomas Wolf, and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,7 +13,10 @@
  *******************************************************************************/
 package org.eclipse.jface.text;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -125,9 +128,20 @@ public class MultiStringMatcher {
 					public Match indexOf(CharSequence text, int offset) {
 						return null;
 					}
+
+					@Override
+					public void find(char[] text, int offset, int end, Consumer<Match> matches) {
+						return;
+					}
+
+					@Override
+					public Match indexOf(char[] text, int offset, int end) {
+						return null;
+					}
 				};
 			}
 			result.buildLinks();
+			result.compile();
 			return result;
 		}
 	}
@@ -234,6 +248,31 @@ public class MultiStringMatcher {
 		}
 	};
 
+	// The trie compiled into arrays for the bulk methods working on char[]. States are numbered
+	// in breadth-first order, state 0 is the root. The children of a state are found by a binary
+	// search in its sorted characters.
+
+	/** The sorted characters of the transitions of each state. */
+	private char[][] chars;
+
+	/** The target states of the transitions of each state, parallel to {@link #chars}. */
+	private int[][] targets;
+
+	/** The fail link of each state. */
+	private int[] fails;
+
+	/** The output link of each state, or -1. */
+	private int[] outputs;
+
+	/** The search string matched by each state, or {@code null}. */
+	private String[] matchedStrings;
+
+	/** The depth of each state. */
+	private int[] depths;
+
+	/** Bitmap of the first characters of all search strings. */
+	private long[] firstChars;
+
 	private MultiStringMatcher() {
 		// Always use a Builder or the static helper methods to create a MultiStringMatcher
 	}
@@ -289,6 +328,202 @@ public class MultiStringMatcher {
 		}
 	}
 
+	private void compile() {
+		List<Node> nodes= new ArrayList<>();
+		Map<Node, Integer> ids= new IdentityHashMap<>();
+		nodes.add(root);
+		ids.put(root, Integer.valueOf(0));
+		for (int i= 0; i < nodes.size(); i++) {
+			Node node= nodes.get(i);
+			if (node.hasChildren()) {
+				List<Character> keys= new ArrayList<>(node.children.keySet());
+				Collections.sort(keys);
+				for (Character c : keys) {
+					Node child= node.children.get(c);
+					ids.put(child, Integer.valueOf(nodes.size()));
+					nodes.add(child);
+				}
+			}
+		}
+		int size= nodes.size();
+		chars= new char[size][];
+		targets= new int[size][];
+		fails= new int[size];
+		outputs= new int[size];
+		matchedStrings= new String[size];
+		depths= new int[size];
+		for (int i= 0; i < size; i++) {
+			Node node= nodes.get(i);
+			List<Character> keys= node.hasChildren() ? new ArrayList<>(node.children.keySet()) : Collections.emptyList();
+			Collections.sort(keys);
+			chars[i]= new char[keys.size()];
+			targets[i]= new int[keys.size()];
+			for (int j= 0; j < keys.size(); j++) {
+				Character c= keys.get(j);
+				chars[i][j]= c.charValue();
+				targets[i][j]= ids.get(node.children.get(c)).intValue();
+			}
+			fails[i]= node.fail == null ? 0 : ids.get(node.fail).intValue();
+			outputs[i]= node.output == null ? -1 : ids.get(node.output).intValue();
+			matchedStrings[i]= node.match;
+			depths[i]= node.depth;
+		}
+		char[] first= chars[0];
+		firstChars= new long[(first[first.length - 1] >> 6) + 1];
+		for (char c : first) {
+			firstChars[c >> 6]|= 1L << c;
+		}
+	}
+
+	/**
+	 * Returns the state reached from the given state with the given character.
+	 *
+	 * @param state the current state
+	 * @param c the next character
+	 * @return the next state, or -1 if there is none; the root stays at the root
+	 */
+	private int next(int state, char c) {
+		char[] keys= chars[state];
+		int low= 0;
+		int high= keys.length - 1;
+		while (low <= high) {
+			int mid= (low + high) >>> 1;
+			char key= keys[mid];
+			if (key < c) {
+				low= mid + 1;
+			} else if (key > c) {
+				high= mid - 1;
+			} else {
+				return targets[state][mid];
+			}
+		}
+		return state == 0 ? 0 : -1;
+	}
+
+	/**
+	 * Returns the index of the first character at or after {@code offset} that starts any of the
+	 * search strings.
+	 *
+	 * @param text to search
+	 * @param offset to start at
+	 * @param end to stop at
+	 * @return the index, or {@code end} if there is no such character
+	 */
+	private int skip(char[] text, int offset, int end) {
+		long[] bitmap= firstChars;
+		int limit= bitmap.length << 6;
+		for (int i= offset; i < end; i++) {
+			char c= text[i];
+			if (c < limit && (bitmap[c >> 6] & (1L << c)) != 0) {
+				return i;
+			}
+		}
+		return end;
+	}
+
+	/**
+	 * Finds all occurrences of any of the search strings of the {@link MultiStringMatcher} in the
+	 * given range of the {@code text}, including overlapping occurrences. Gives the same results
+	 * as {@link #find(CharSequence, int, Consumer)}, but works directly on the characters and skips
+	 * quickly over characters that cannot start a match. Use it for large texts that are available
+	 * as an array, e.g. a segment of a document's text store.
+	 *
+	 * @param text to search (not {@code null})
+	 * @param offset to start searching at
+	 * @param end to stop searching at (exclusive)
+	 * @param matches {@link Consumer} all matches are fed to
+	 *
+	 * @since 3.15
+	 */
+	public void find(char[] text, int offset, int end, Consumer<Match> matches) {
+		int state= 0;
+		for (int i= offset; i < end; i++) {
+			if (state == 0) {
+				i= skip(text, i, end);
+				if (i == end) {
+					return;
+				}
+			}
+			char c= text[i];
+			int next;
+			while ((next= next(state, c)) < 0) {
+				state= fails[state];
+			}
+			state= next;
+			if (matchedStrings[state] != null) {
+				matches.accept(new MatchResult(matchedStrings[state], i - depths[state] + 1));
+			}
+			int out= outputs[state];
+			while (out >= 0) {
+				matches.accept(new MatchResult(matchedStrings[out], i - depths[out] + 1));
+				out= outputs[out];
+			}
+		}
+	}
+
+	/**
+	 * Finds the next occurrence of any of the search strings of the {@link MultiStringMatcher} in
+	 * the given range of the {@code text}. Gives the same result as
+	 * {@link #indexOf(CharSequence, int)}, but works directly on the characters and skips quickly
+	 * over characters that cannot start a match.
+	 *
+	 * @param text to search (not {@code null})
+	 * @param offset to start searching at
+	 * @param end to stop searching at (exclusive)
+	 * @return the leftmost longest match found, or {@code null} if no match was found.
+	 *
+	 * @since 3.15
+	 */
+	public Match indexOf(char[] text, int offset, int end) {
+		// Same algorithm as indexOf(CharSequence, int), see there. While in the root state there
+		// cannot be any pending match, so characters that do not start a search string are skipped.
+		Match primaryMatch= null;
+		Match subMatch= null;
+		int state= 0;
+		for (int i= offset; i < end; i++) {
+			if (state == 0) {
+				i= skip(text, i, end);
+				if (i == end) {
+					break;
+				}
+			}
+			char c= text[i];
+			int next= next(state, c);
+			if (next < 0) {
+				if (primaryMatch != null) {
+					return primaryMatch;
+				}
+				do {
+					state= fails[state];
+				} while ((next= next(state, c)) < 0);
+				if (subMatch != null) {
+					if (next == 0 || subMatch.getOffset() < i - depths[state]) {
+						return subMatch;
+					}
+				}
+			}
+			state= next;
+			if (matchedStrings[state] != null) {
+				primaryMatch= new MatchResult(matchedStrings[state], i - depths[state] + 1);
+				if (chars[state].length == 0) {
+					return primaryMatch;
+				}
+			}
+			if (primaryMatch == null) {
+				int out= outputs[state];
+				if (out >= 0) {
+					int newOffset= i - depths[out] + 1;
+					if (subMatch == null
+							|| newOffset < subMatch.getOffset()
+							|| (newOffset == subMatch.getOffset() && depths[out] > subMatch.getText().length())) {
+						subMatch= new MatchResult(matchedStrings[out], newOffset);
+					}
+				}
+			}
+		}
+		return primaryMatch != null ? primaryMatch : subMatch;
+	}
+
 	/**
 	 * Finds all occurrences of any of the search strings of the {@link MultiStringMatcher} in the
 	 * given {@code text} starting at the given {@code offset}, including overlapping occurrences.
@@ -0,0 +1,630 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jface.text;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+
+/**
+ * A line tracker for large documents that recognizes the same line delimiters as the
+ * {@link DefaultLineTracker}, i.e. "\n", "\r" and "\r\n".
+ * <p>
+ * The line delimiters are stored in <em>chunks</em>, each of which covers a range of the text and
+ * holds the chunk relative end offsets of the delimiters in that range. A delimiter belongs to
+ * the chunk containing its last character. {@link #set(String)} scans fixed-size segments of the
+ * text in parallel on the common fork-join pool; since every character is classified by looking
+ * at its neighbors in the complete text, a "\r\n" spanning two segments is stitched correctly
+ * without a sequential pass.
+ * </p>
+ * <p>
+ * During a {@linkplain #startRewriteSession(DocumentRewriteSession) rewrite session} the
+ * modifications are only recorded together with the range of the text they affected. When the
+ * session is stopped, only the chunks overlapping that range are rebuilt from the final text
+ * instead of the complete line information.
+ * </p>
+ * <p>
+ * <strong>Performance:</strong> The query operations perform in <i>O(log n)</i>, the
+ * modification operations in <i>O(c + l)</i>, where <var>c</var> is the number of chunks and
+ * <var>l</var> the maximum number of lines per chunk.
+ * </p>
+ * <p>
+ * This class is not intended to be subclassed.
+ * </p>
+ *
+ * @since 3.15
+ * @noextend This class is not intended to be subclassed by clients.
+ */
+public class ParallelLineTracker implements ILineTracker, ILineTrackerExtension {
+
+	/** The delimiter types, used as indices into {@link DefaultLineTracker#DELIMITERS} */
+	private static final byte CR= 0;
+	private static final byte LF= 1;
+	private static final byte CRLF= 2;
+
+	/** The number of characters scanned by one parallel task */
+	private static final int SEGMENT_LENGTH= 16 * 1024;
+
+	/** Texts shorter than this are scanned sequentially */
+	private static final int PARALLEL_THRESHOLD= 8 * SEGMENT_LENGTH;
+
+	/** The maximum number of line delimiters per chunk */
+	private static final int MAX_CHUNK_DELIMITERS= 4 * 1024;
+
+	/**
+	 * A range of the text and the line delimiters ending in it.
+	 */
+	private static final class Chunk {
+		/** The number of characters covered by this chunk */
+		int fLength;
+		/** The chunk relative offsets following each delimiter, ascending */
+		int[] fEnds;
+		/** The type of each delimiter */
+		byte[] fTypes;
+		/** The number of delimiters in this chunk */
+		int fCount;
+
+		Chunk(int length, int[] ends, byte[] types, int count) {
+			fLength= length;
+			fEnds= ends;
+			fTypes= types;
+			fCount= count;
+		}
+	}
+
+	/**
+	 * A growable list of delimiters.
+	 */
+	private static final class Delimiters {
+		int[] fEnds= new int[16];
+		byte[] fTypes= new byte[16];
+		int fCount;
+
+		void add(int end, byte type) {
+			if (fCount == fEnds.length) {
+				fEnds= Arrays.copyOf(fEnds, fCount * 2);
+				fTypes= Arrays.copyOf(fTypes, fCount * 2);
+			}
+			fEnds[fCount]= end;
+			fTypes[fCount]= type;
+			fCount++;
+		}
+	}
+
+	/**
+	 * A modification recorded during a rewrite session.
+	 */
+	private static final class Edit {
+		final int fOffset;
+		final int fLength;
+		final String fText;
+
+		Edit(int offset, int length, String text) {
+			fOffset= offset;
+			fLength= length;
+			fText= text;
+		}
+	}
+
+	/** The chunks, never empty */
+	private final List<Chunk> fChunks= new ArrayList<>();
+	/** The offset of each chunk, valid up to and including {@link #fValidPrefix} */
+	private int[] fChunkStart= new int[16];
+	/** The number of delimiters before each chunk, valid up to and including {@link #fValidPrefix} */
+	private int[] fChunkLine= new int[16];
+	/** The last index of the prefix arrays that is valid */
+	private int fValidPrefix;
+
+	/** The active rewrite session, or <code>null</code> */
+	private DocumentRewriteSession fActiveRewriteSession;
+	/** The text set during the active rewrite session, or <code>null</code> */
+	private String fPendingText;
+	/** The modifications recorded during the active rewrite session */
+	private final List<Edit> fPendingEdits= new ArrayList<>();
+	/** The start of the range affected by the recorded modifications, -1 if there is none */
+	private int fDirtyStart= -1;
+	/** The end of the range affected by the recorded modifications */
+	private int fDirtyEnd;
+	/** The change in length caused by the recorded modifications */
+	private int fDirtyDelta;
+
+	/**
+	 * Creates a new line tracker for an empty text.
+	 */
+	public ParallelLineTracker() {
+		fChunks.add(new Chunk(0, new int[0], new byte[0], 0));
+	}
+
+	@Override
+	public String[] getLegalLineDelimiters() {
+		return TextUtilities.copy(DefaultLineTracker.DELIMITERS);
+	}
+
+	@Override
+	public String getLineDelimiter(int line) throws BadLocationException {
+		checkRewriteSession();
+		int delimiters= getDelimiterCount();
+		if (line < 0 || line > delimiters)
+			throw new BadLocationException(Integer.toString(line));
+		if (line == delimiters)
+			return null;
+		int index= chunkOfLine(line + 1);
+		Chunk chunk= fChunks.get(index);
+		return DefaultLineTracker.DELIMITERS[chunk.fTypes[line - fChunkLine[index]]];
+	}
+
+	@Override
+	public int computeNumberOfLines(String text) {
+		int count= 0;
+		int length= text.length();
+		for (int i= 0; i < length; i++) {
+			if (typeAt(text, i) >= 0)
+				count++;
+		}
+		return count;
+	}
+
+	@Override
+	public int getNumberOfLines() {
+		checkRewriteSessionSafely();
+		return getDelimiterCount() + 1;
+	}
+
+	@Override
+	public int getNumberOfLines(int offset, int length) throws BadLocationException {
+		if (length == 0)
+			return 1;
+		return getLineNumberOfOffset(offset + length) - getLineNumberOfOffset(offset) + 1;
+	}
+
+	@Override
+	public int getLineOffset(int line) throws BadLocationException {
+		checkRewriteSession();
+		if (line < 0 || line > getDelimiterCount())
+			throw new BadLocationException(Integer.toString(line));
+		return lineOffset(line);
+	}
+
+	@Override
+	public int getLineLength(int line) throws BadLocationException {
+		checkRewriteSession();
+		if (line < 0 || line > getDelimiterCount())
+			throw new BadLocationException(Integer.toString(line));
+		return lineEnd(line) - lineOffset(line);
+	}
+
+	@Override
+	public int getLineNumberOfOffset(int offset) throws BadLocationException {
+		checkRewriteSession();
+		if (offset < 0 || offset > getTextLength())
+			throw new BadLocationException(Integer.toString(offset));
+		if (offset == 0)
+			return 0;
+		// count the delimiters ending at or before offset
+		int index= floorIndex(fChunkStart, fChunks.size(), offset - 1);
+		Chunk chunk= fChunks.get(index);
+		int position= Arrays.binarySearch(chunk.fEnds, 0, chunk.fCount, offset - fChunkStart[index]);
+		return fChunkLine[index] + (position < 0 ? -position - 1 : position + 1);
+	}
+
+	@Override
+	public IRegion getLineInformationOfOffset(int offset) throws BadLocationException {
+		return getLineInformation(getLineNumberOfOffset(offset));
+	}
+
+	@Override
+	public IRegion getLineInformation(int line) throws BadLocationException {
+		checkRewriteSession();
+		int delimiters= getDelimiterCount();
+		if (line > 0 && line == delimiters + 1) {
+			/*
+			 * FIXME: this really strange behavior is mandated by the previous line tracker
+			 * implementation and included here for compatibility. See
+			 * LineTrackerTest3#testFunnyLastLineCompatibility().
+			 */
+			int offset= lineOffset(line - 1);
+			int length= getTextLength() - offset;
+			if (length > 0)
+				return new Region(offset + length, 0);
+		}
+		if (line < 0 || line > delimiters)
+			throw new BadLocationException(Integer.toString(line));
+		int offset= lineOffset(line);
+		String delimiter= getLineDelimiter(line);
+		int length= lineEnd(line) - offset - (delimiter == null ? 0 : delimiter.length());
+		return new Region(offset, length);
+	}
+
+	@Override
+	public void set(String text) {
+		if (fActiveRewriteSession != null) {
+			fPendingText= text;
+			fPendingEdits.clear();
+			fDirtyStart= -1;
+			fDirtyDelta= 0;
+			return;
+		}
+		fChunks.clear();
+		fChunks.addAll(scan(text, 0, text.length()));
+		invalidatePrefix(0);
+	}
+
+	@Override
+	public void replace(int offset, int length, String text) throws BadLocationException {
+		if (text == null)
+			text= ""; //$NON-NLS-1$
+		if (fActiveRewriteSession != null) {
+			recordEdit(offset, length, text);
+			return;
+		}
+
+		int end= offset + length;
+		if (offset < 0 || length < 0 || end > getTextLength())
+			throw new BadLocationException();
+
+		int delta= text.length() - length;
+		int first= firstChunkEndingAtOrAfter(offset);
+		int last= floorIndex(fChunkStart, fChunks.size(), end);
+		if (first == last && !hasDelimiter(text) && !hasAffectedDelimiter(first, offset, end)) {
+			// fast path: the line structure around the change is unaffected
+			Chunk chunk= fChunks.get(first);
+			int relative= offset - fChunkStart[first];
+			for (int i= chunk.fCount - 1; i >= 0 && chunk.fEnds[i] > relative; i--)
+				chunk.fEnds[i]+= delta;
+			chunk.fLength+= delta;
+			invalidatePrefix(first);
+			return;
+		}
+
+		int regionStart= fChunkStart[first];
+		int regionLength= fChunkStart[last + 1] - regionStart + delta;
+		boolean precededByCR= false;
+		boolean followedByLF= false;
+		Delimiters before= new Delimiters();
+		Delimiters after= new Delimiters();
+		for (int i= first; i <= last; i++) {
+			Chunk chunk= fChunks.get(i);
+			int chunkStart= fChunkStart[i];
+			for (int j= 0; j < chunk.fCount; j++) {
+				int e= chunkStart + chunk.fEnds[j];
+				byte type= chunk.fTypes[j];
+				if (e == offset && type == CR || e == offset + 1 && type == CRLF)
+					precededByCR= offset > 0;
+				if (e == end + 1 && type != CR)
+					followedByLF= true;
+				if (e < offset || e == offset && type != CR)
+					before.add(e - regionStart, type);
+				else if (e > end + 1 || e == end + 1 && type == CR)
+					after.add(e + delta - regionStart, type);
+			}
+		}
+
+		// rescan the inserted text together with the surrounding characters it may join with
+		String context= (precededByCR ? "\r" : "") + text + (followedByLF ? "\n" : ""); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		int contextStart= offset - (precededByCR ? 1 : 0) - regionStart;
+		for (int i= 0; i < context.length(); i++) {
+			byte type= typeAt(context, i);
+			if (type >= 0)
+				before.add(contextStart + i + 1, type);
+		}
+		for (int i= 0; i < after.fCount; i++)
+			before.add(after.fEnds[i], after.fTypes[i]);
+
+		List<Chunk> chunks= new ArrayList<>();
+		addChunks(chunks, before.fEnds, before.fTypes, 0, before.fCount, regionLength);
+		replaceChunks(first, last, chunks);
+	}
+
+	@Override
+	public void startRewriteSession(DocumentRewriteSession session) throws IllegalStateException {
+		if (fActiveRewriteSession != null)
+			throw new IllegalStateException("Rewrite session is already active: " + fActiveRewriteSession); //$NON-NLS-1$
+		fActiveRewriteSession= session;
+		fPendingText= null;
+		fPendingEdits.clear();
+		fDirtyStart= -1;
+		fDirtyDelta= 0;
+	}
+
+	@Override
+	public void stopRewriteSession(DocumentRewriteSession session, String text) {
+		if (fActiveRewriteSession != session)
+			return;
+		fActiveRewriteSession= null;
+		if (fPendingText != null) {
+			set(text);
+		} else if (fDirtyStart != -1) {
+			ensurePrefix();
+			// the chunks before and after the affected range are unchanged, rescan the ones between
+			int first= firstChunkEndingAtOrAfter(fDirtyStart);
+			int last= floorIndex(fChunkStart, fChunks.size(), fDirtyEnd - fDirtyDelta);
+			int regionStart= fChunkStart[first];
+			int regionEnd= fChunkStart[last + 1] + fDirtyDelta;
+			replaceChunks(first, last, scan(text, regionStart, regionEnd));
+		}
+		fPendingText= null;
+		fPendingEdits.clear();
+		fDirtyStart= -1;
+		fDirtyDelta= 0;
+	}
+
+	/**
+	 * Records a modification during a rewrite session and extends the affected range.
+	 *
+	 * @param offset the offset of the modification
+	 * @param length the number of replaced characters
+	 * @param text the new text
+	 */
+	private void recordEdit(int offset, int length, String text) {
+		fPendingEdits.add(new Edit(offset, length, text));
+		if (fPendingText != null)
+			return;
+		int end= offset + length;
+		int delta= text.length() - length;
+		if (fDirtyStart == -1) {
+			fDirtyStart= offset;
+			fDirtyEnd= offset + text.length();
+		} else {
+			int start= fDirtyStart < offset ? fDirtyStart : fDirtyStart >= end ? fDirtyStart + delta : offset;
+			int dirtyEnd= fDirtyEnd <= offset ? fDirtyEnd : fDirtyEnd >= end ? fDirtyEnd + delta : offset + text.length();
+			fDirtyStart= Math.min(start, offset);
+			fDirtyEnd= Math.max(dirtyEnd, offset + text.length());
+		}
+		fDirtyDelta+= delta;
+	}
+
+	/**
+	 * Applies the modifications recorded during the active rewrite session, which stays active.
+	 *
+	 * @throws BadLocationException if a recorded modification cannot be applied
+	 */
+	private void checkRewriteSession() throws BadLocationException {
+		if (fActiveRewriteSession == null || fPendingText == null && fPendingEdits.isEmpty()) {
+			ensurePrefix();
+			return;
+		}
+		DocumentRewriteSession session= fActiveRewriteSession;
+		fActiveRewriteSession= null;
+		try {
+			if (fPendingText != null)
+				set(fPendingText);
+			for (Edit edit : fPendingEdits)
+				replace(edit.fOffset, edit.fLength, edit.fText);
+		} finally {
+			fActiveRewriteSession= session;
+			fPendingText= null;
+			fPendingEdits.clear();
+			fDirtyStart= -1;
+			fDirtyDelta= 0;
+		}
+		ensurePrefix();
+	}
+
+	private void checkRewriteSessionSafely() {
+		try {
+			checkRewriteSession();
+		} catch (BadLocationException x) {
+			// there is no way to communicate that exception back to the document
+			ensurePrefix();
+		}
+	}
+
+	/**
+	 * Tells whether the given change would modify or join any existing line delimiter.
+	 *
+	 * @param index the index of the chunk containing the change
+	 * @param offset the offset of the change
+	 * @param end the end offset of the replaced range
+	 * @return <code>true</code> if a delimiter is affected
+	 */
+	private boolean hasAffectedDelimiter(int index, int offset, int end) {
+		Chunk chunk= fChunks.get(index);
+		int chunkStart= fChunkStart[index];
+		int from= Arrays.binarySearch(chunk.fEnds, 0, chunk.fCount, offset - chunkStart);
+		if (from < 0)
+			from= -from - 1;
+		for (int i= from; i < chunk.fCount; i++) {
+			int e= chunkStart + chunk.fEnds[i];
+			if (e > end + 1)
+				return false;
+			byte type= chunk.fTypes[i];
+			if (!(e == offset && type != CR || e == end + 1 && type == CR))
+				return true;
+		}
+		return false;
+	}
+
+	private static boolean hasDelimiter(String text) {
+		return text.indexOf('\n') != -1 || text.indexOf('\r') != -1;
+	}
+
+	/**
+	 * Returns the type of the delimiter whose last character is at the given index of the text.
+	 *
+	 * @param text the text
+	 * @param index the index
+	 * @return the delimiter type or -1 if no delimiter ends at that index
+	 */
+	private static byte typeAt(String text, int index) {
+		char c= text.charAt(index);
+		if (c == '\n')
+			return index > 0 && text.charAt(index - 1) == '\r' ? CRLF : LF;
+		if (c == '\r' && (index + 1 == text.length() || text.charAt(index + 1) != '\n'))
+			return CR;
+		return -1;
+	}
+
+	/**
+	 * Scans the given range of the text for line delimiters, in parallel for large ranges. The
+	 * complete text is consulted for the characters next to the range.
+	 *
+	 * @param text the text
+	 * @param start the start of the range
+	 * @param end the end of the range
+	 * @return the chunks covering the range, never empty
+	 */
+	private static List<Chunk> scan(String text, int start, int end) {
+		int segments= Math.max(1, (end - start + SEGMENT_LENGTH - 1) / SEGMENT_LENGTH);
+		IntStream indices= IntStream.range(0, segments);
+		if (end - start >= PARALLEL_THRESHOLD)
+			indices= indices.parallel();
+		List<Chunk> chunks= new ArrayList<>();
+		indices.mapToObj(i -> scanSegment(text, start + i * SEGMENT_LENGTH, Math.min(end, start + (i + 1) * SEGMENT_LENGTH)))
+				.forEachOrdered(chunks::addAll);
+		return chunks;
+	}
+
+	private static List<Chunk> scanSegment(String text, int start, int end) {
+		Delimiters delimiters= new Delimiters();
+		for (int i= start; i < end; i++) {
+			byte type= typeAt(text, i);
+			if (type >= 0)
+				delimiters.add(i + 1 - start, type);
+		}
+		List<Chunk> chunks= new ArrayList<>(1);
+		addChunks(chunks, delimiters.fEnds, delimiters.fTypes, 0, delimiters.fCount, end - start);
+		return chunks;
+	}
+
+	/**
+	 * Creates chunks covering a region of the given length from the given delimiters, splitting
+	 * the region after delimiters so that no chunk has more than {@link #MAX_CHUNK_DELIMITERS}.
+	 *
+	 * @param chunks the list to add the chunks to
+	 * @param ends the region relative delimiter end offsets
+	 * @param types the delimiter types
+	 * @param from the index of the first delimiter
+	 * @param to the index after the last delimiter
+	 * @param regionLength the length of the region
+	 */
+	private static void addChunks(List<Chunk> chunks, int[] ends, byte[] types, int from, int to, int regionLength) {
+		int count= to - from;
+		int chunkCount= Math.max(1, (count + MAX_CHUNK_DELIMITERS - 1) / MAX_CHUNK_DELIMITERS);
+		int perChunk= (count + chunkCount - 1) / chunkCount;
+		int chunkStart= 0;
+		for (int c= 0; c < chunkCount; c++) {
+			int first= from + c * perChunk;
+			int last= c == chunkCount - 1 ? to : first + perChunk;
+			int chunkEnd= c == chunkCount - 1 ? regionLength : ends[last - 1];
+			int[] chunkEnds= new int[last - first];
+			for (int i= first; i < last; i++)
+				chunkEnds[i - first]= ends[i] - chunkStart;
+			chunks.add(new Chunk(chunkEnd - chunkStart, chunkEnds, Arrays.copyOfRange(types, first, last), last - first));
+			chunkStart= chunkEnd;
+		}
+	}
+
+	/**
+	 * Replaces the chunks in the given index range.
+	 *
+	 * @param first the index of the first chunk to replace
+	 * @param last the index of the last chunk to replace
+	 * @param chunks the new chunks
+	 */
+	private void replaceChunks(int first, int last, List<Chunk> chunks) {
+		List<Chunk> replaced= fChunks.subList(first, last + 1);
+		replaced.clear();
+		replaced.addAll(chunks);
+		invalidatePrefix(first);
+	}
+
+	private void invalidatePrefix(int index) {
+		fValidPrefix= Math.min(fValidPrefix, index);
+		ensurePrefix();
+	}
+
+	/**
+	 * Recomputes the invalid part of the chunk offsets and line numbers.
+	 */
+	private void ensurePrefix() {
+		int size= fChunks.size();
+		if (fChunkStart.length < size + 1) {
+			int capacity= Math.max(size + 1, fChunkStart.length * 2);
+			fChunkStart= Arrays.copyOf(fChunkStart, capacity);
+			fChunkLine= Arrays.copyOf(fChunkLine, capacity);
+		}
+		for (int i= fValidPrefix; i < size; i++) {
+			Chunk chunk= fChunks.get(i);
+			fChunkStart[i + 1]= fChunkStart[i] + chunk.fLength;
+			fChunkLine[i + 1]= fChunkLine[i] + chunk.fCount;
+		}
+		fValidPrefix= size;
+	}
+
+	private int getTextLength() {
+		return fChunkStart[fChunks.size()];
+	}
+
+	private int getDelimiterCount() {
+		return fChunkLine[fChunks.size()];
+	}
+
+	/**
+	 * Returns the index of the first chunk whose end offset is at or after the given offset.
+	 *
+	 * @param offset the offset
+	 * @return the chunk index
+	 */
+	private int firstChunkEndingAtOrAfter(int offset) {
+		if (offset == 0)
+			return 0;
+		return Math.min(floorIndex(fChunkStart, fChunks.size(), offset - 1), fChunks.size() - 1);
+	}
+
+	/**
+	 * Returns the index of the chunk containing the delimiter that precedes the given line.
+	 *
+	 * @param line the line, &gt; 0
+	 * @return the chunk index
+	 */
+	private int chunkOfLine(int line) {
+		return floorIndex(fChunkLine, fChunks.size(), line - 1);
+	}
+
+	private int lineOffset(int line) {
+		if (line == 0)
+			return 0;
+		int index= chunkOfLine(line);
+		return fChunkStart[index] + fChunks.get(index).fEnds[line - fChunkLine[index] - 1];
+	}
+
+	private int lineEnd(int line) {
+		if (line == getDelimiterCount())
+			return getTextLength();
+		return lineOffset(line + 1);
+	}
+
+	/**
+	 * Returns the largest index <code>i &lt; count</code> with <code>values[i] &lt;= key</code>.
+	 *
+	 * @param values the values, sorted in ascending order
+	 * @param count the number of values to consider
+	 * @param key the key to search for
+	 * @return the index, or 0 if there is none
+	 */
+	private static int floorIndex(int[] values, int count, int key) {
+		int low= 0;
+		int high= count - 1;
+		while (low < high) {
+			int mid= (low + high + 1) >>> 1;
+			if (values[mid] <= key)
+				low= mid;
+			else
+				high= mid - 1;
+		}
+		return low;
+	}
+}
@@ -0,0 +1,401 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jface.text;
+
+
+/**
+ * A piece table text store for very large documents. The content is described by a sequence of
+ * <em>pieces</em>, each of which references a range of an immutable character buffer. Buffers
+ * are either the initial content passed to {@link #set(String)} (or to the constructor), which is
+ * never copied, or fixed-size append-only chunks holding inserted text. The pieces are kept in a
+ * balanced binary tree (a treap) ordered by document offset and augmented with subtree lengths.
+ * <p>
+ * <strong>Performance:</strong> {@link #replace(int, int, String)} and {@link #get(int)} perform
+ * in expected <i>O(log p)</i>, where <var>p</var> is the number of pieces,
+ * {@linkplain #get(int, int) get(int, <var>length</var>)} in <i>O(log p + length)</i>. Sequential
+ * calls to {@link #get(int)} within the same piece perform in <i>O(1)</i>. Consecutive inserts at
+ * the end of the previous insert (typing) extend the previous piece instead of creating new ones.
+ * Unlike {@link GapTextStore}, unchanged regions of the initial content are never copied, so
+ * loading a document does not require a second copy of its content, and no change ever moves
+ * more than the inserted text.
+ * </p>
+ * <p>
+ * This class is not intended to be subclassed.
+ * </p>
+ *
+ * @see GapTextStore
+ * @since 3.15
+ * @noextend This class is not intended to be subclassed by clients.
+ */
+public class PieceTableTextStore implements ITextStore {
+
+	/**
+	 * The size of the chunks that hold inserted text.
+	 */
+	private static final int CHUNK_SIZE= 16 * 1024;
+
+	/**
+	 * Inserted texts longer than this are referenced directly instead of being copied into a
+	 * chunk.
+	 */
+	private static final int COPY_LIMIT= CHUNK_SIZE / 4;
+
+	/**
+	 * A node of the piece tree. Each node describes one piece, i.e. the range
+	 * <code>[fStart, fStart + fLength)</code> of either an immutable character sequence or a
+	 * chunk.
+	 */
+	private static final class Node {
+		/** The referenced immutable character sequence, or <code>null</code> if this piece references a chunk. */
+		final CharSequence fSequence;
+		/** The referenced chunk, or <code>null</code> if this piece references a character sequence. */
+		final char[] fChunk;
+		/** The start of this piece in its buffer. */
+		final int fStart;
+		/** The length of this piece. */
+		int fLength;
+		/** The total length of all pieces in the subtree rooted at this node. */
+		int fTotal;
+		/** The heap priority of this node. */
+		final int fPriority;
+		Node fLeft;
+		Node fRight;
+
+		Node(CharSequence sequence, char[] chunk, int start, int length, int priority) {
+			fSequence= sequence;
+			fChunk= chunk;
+			fStart= start;
+			fLength= length;
+			fTotal= length;
+			fPriority= priority;
+		}
+
+		char charAt(int index) {
+			if (fChunk != null)
+				return fChunk[fStart + index];
+			return fSequence.charAt(fStart + index);
+		}
+
+		void getChars(int from, int to, char[] dest, int destPos) {
+			if (fChunk != null) {
+				System.arraycopy(fChunk, fStart + from, dest, destPos, to - from);
+			} else if (fSequence instanceof String) {
+				((String) fSequence).getChars(fStart + from, fStart + to, dest, destPos);
+			} else {
+				for (int i= fStart + from, end= fStart + to; i < end; i++)
+					dest[destPos++]= fSequence.charAt(i);
+			}
+		}
+
+		void update() {
+			fTotal= fLength + total(fLeft) + total(fRight);
+		}
+	}
+
+	/** The root of the piece tree */
+	private Node fRoot;
+
+	/** The chunk that inserted text is currently appended to */
+	private char[] fChunk= new char[0];
+	/** The number of characters used in {@link #fChunk} */
+	private int fChunkFill= 0;
+
+	/** The state of the priority generator */
+	private int fSeed= 0x2545F491;
+
+	/** The node last returned by {@link #findNode(int)}, may be <code>null</code> */
+	private Node fCachedNode;
+	/** The document offset of {@link #fCachedNode} */
+	private int fCachedStart;
+
+	/** The left result of the last {@link #split(Node, int)} */
+	private Node fSplitLeft;
+	/** The right result of the last {@link #split(Node, int)} */
+	private Node fSplitRight;
+
+	/**
+	 * Creates an empty text store.
+	 */
+	public PieceTableTextStore() {
+	}
+
+	/**
+	 * Creates a text store with the given initial content. The content is referenced, not copied,
+	 * and must therefore not change as long as it is used by this text store.
+	 *
+	 * @param initialContent the initial content, must not change, may be <code>null</code>
+	 */
+	public PieceTableTextStore(CharSequence initialContent) {
+		setContent(initialContent);
+	}
+
+	@Override
+	public char get(int offset) {
+		Node node= fCachedNode;
+		if (node == null || offset < fCachedStart || offset >= fCachedStart + node.fLength) {
+			node= findNode(offset);
+			if (node == null)
+				throw new IndexOutOfBoundsException(offset);
+		}
+		return node.charAt(offset - fCachedStart);
+	}
+
+	@Override
+	public String get(int offset, int length) {
+		if (length == 0)
+			return ""; //$NON-NLS-1$
+		Node node= fCachedNode;
+		if (node != null && offset >= fCachedStart && offset + length <= fCachedStart + node.fLength) {
+			int from= offset - fCachedStart;
+			if (node.fChunk != null)
+				return new String(node.fChunk, node.fStart + from, length);
+			return node.fSequence.subSequence(node.fStart + from, node.fStart + from + length).toString();
+		}
+		char[] result= new char[length];
+		getChars(fRoot, offset, offset + length, result, 0);
+		return new String(result);
+	}
+
+	@Override
+	public int getLength() {
+		return total(fRoot);
+	}
+
+	@Override
+	public void replace(int offset, int length, String text) {
+		fCachedNode= null;
+		int textLength= text == null ? 0 : text.length();
+
+		split(fRoot, offset);
+		Node left= fSplitLeft;
+		Node right= fSplitRight;
+		if (length > 0) {
+			split(right, length);
+			right= fSplitRight;
+		}
+
+		if (textLength > 0) {
+			if (textLength > COPY_LIMIT) {
+				left= merge(left, createNode(text, null, 0, textLength));
+			} else if (!extendLastPiece(left, text)) {
+				left= merge(left, appendToChunk(text));
+			}
+		}
+		fRoot= merge(left, right);
+	}
+
+	@Override
+	public void set(String text) {
+		setContent(text);
+	}
+
+	/**
+	 * Replaces the content of this text store with the given character sequence. The sequence is
+	 * referenced, not copied, and must therefore not change as long as it is used by this text
+	 * store.
+	 *
+	 * @param content the new content, must not change, may be <code>null</code>
+	 */
+	public void setContent(CharSequence content) {
+		fCachedNode= null;
+		fChunk= new char[0];
+		fChunkFill= 0;
+		if (content == null || content.length() == 0)
+			fRoot= null;
+		else
+			fRoot= createNode(content, null, 0, content.length());
+	}
+
+	/**
+	 * Tries to append <code>text</code> to the rightmost piece of the given tree. This is possible
+	 * if that piece ends at the fill mark of the current chunk and the chunk has enough room left.
+	 *
+	 * @param tree the tree whose last piece to extend
+	 * @param text the text to append
+	 * @return <code>true</code> if the last piece was extended, <code>false</code> otherwise
+	 */
+	private boolean extendLastPiece(Node tree, String text) {
+		if (tree == null)
+			return false;
+		int textLength= text.length();
+		if (fChunkFill + textLength > fChunk.length)
+			return false;
+		Node last= tree;
+		while (last.fRight != null)
+			last= last.fRight;
+		if (last.fChunk != fChunk || last.fStart + last.fLength != fChunkFill)
+			return false;
+
+		text.getChars(0, textLength, fChunk, fChunkFill);
+		fChunkFill+= textLength;
+		last.fLength+= textLength;
+		for (Node node= tree; node != null; node= node.fRight)
+			node.fTotal+= textLength;
+		return true;
+	}
+
+	/**
+	 * Copies <code>text</code> into the current chunk, allocating a new chunk if needed, and
+	 * returns a new piece for it.
+	 *
+	 * @param text the text to append, at most {@link #COPY_LIMIT} characters long
+	 * @return a new node referencing the appended text
+	 */
+	private Node appendToChunk(String text) {
+		int textLength= text.length();
+		if (fChunkFill + textLength > fChunk.length) {
+			fChunk= new char[CHUNK_SIZE];
+			fChunkFill= 0;
+		}
+		text.getChars(0, textLength, fChunk, fChunkFill);
+		Node node= createNode(null, fChunk, fChunkFill, textLength);
+		fChunkFill+= textLength;
+		return node;
+	}
+
+	private Node createNode(CharSequence sequence, char[] chunk, int start, int length) {
+		// xorshift, the priorities just need to be well distributed
+		int seed= fSeed;
+		seed^= seed << 13;
+		seed^= seed >>> 17;
+		seed^= seed << 5;
+		fSeed= seed;
+		return new Node(sequence, chunk, start, length, seed);
+	}
+
+	/**
+	 * Returns the node containing <code>offset</code> and caches it together with its start
+	 * offset.
+	 *
+	 * @param offset the document offset
+	 * @return the node containing <code>offset</code>, or <code>null</code> if out of range
+	 */
+	private Node findNode(int offset) {
+		Node node= fRoot;
+		int start= 0;
+		while (node != null) {
+			int leftTotal= total(node.fLeft);
+			if (offset < start + leftTotal) {
+				node= node.fLeft;
+			} else {
+				start+= leftTotal;
+				if (offset < start + node.fLength) {
+					fCachedNode= node;
+					fCachedStart= start;
+					return node;
+				}
+				start+= node.fLength;
+				node= node.fRight;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Copies the characters in <code>[from, to)</code> of the given subtree into
+	 * <code>dest</code>.
+	 *
+	 * @param node the root of the subtree
+	 * @param from the start offset relative to the subtree
+	 * @param to the end offset relative to the subtree
+	 * @param dest the destination array
+	 * @param destPos the position in <code>dest</code> corresponding to <code>from</code>
+	 */
+	private static void getChars(Node node, int from, int to, char[] dest, int destPos) {
+		while (node != null && from < to) {
+			int leftTotal= total(node.fLeft);
+			if (from < leftTotal) {
+				int leftEnd= Math.min(to, leftTotal);
+				getChars(node.fLeft, from, leftEnd, dest, destPos);
+				destPos+= leftEnd - from;
+				from= leftEnd;
+			}
+			int nodeEnd= leftTotal + node.fLength;
+			if (from < nodeEnd && from < to) {
+				int end= Math.min(to, nodeEnd);
+				node.getChars(from - leftTotal, end - leftTotal, dest, destPos);
+				destPos+= end - from;
+				from= end;
+			}
+			// continue in the right subtree
+			from-= nodeEnd;
+			to-= nodeEnd;
+			node= node.fRight;
+		}
+	}
+
+	/**
+	 * Splits the given tree at <code>offset</code> and stores the results in
+	 * {@link #fSplitLeft} and {@link #fSplitRight}. A piece spanning <code>offset</code> is split
+	 * in two.
+	 *
+	 * @param node the tree to split
+	 * @param offset the offset to split at
+	 */
+	private void split(Node node, int offset) {
+		if (node == null) {
+			fSplitLeft= null;
+			fSplitRight= null;
+			return;
+		}
+		int leftTotal= total(node.fLeft);
+		int nodeEnd= leftTotal + node.fLength;
+		if (offset <= leftTotal) {
+			split(node.fLeft, offset);
+			node.fLeft= fSplitRight;
+			node.update();
+			fSplitRight= node;
+		} else if (offset >= nodeEnd) {
+			split(node.fRight, offset - nodeEnd);
+			node.fRight= fSplitLeft;
+			node.update();
+			fSplitLeft= node;
+		} else {
+			int cut= offset - leftTotal;
+			Node tail= createNode(node.fSequence, node.fChunk, node.fStart + cut, node.fLength - cut);
+			Node right= node.fRight;
+			node.fLength= cut;
+			node.fRight= null;
+			node.update();
+			fSplitLeft= node;
+			fSplitRight= merge(tail, right);
+		}
+	}
+
+	/**
+	 * Concatenates two trees.
+	 *
+	 * @param left the left tree, may be <code>null</code>
+	 * @param right the right tree, may be <code>null</code>
+	 * @return the concatenation of both trees
+	 */
+	private static Node merge(Node left, Node right) {
+		if (left == null)
+			return right;
+		if (right == null)
+			return left;
+		if (left.fPriority > right.fPriority) {
+			left.fRight= merge(left.fRight, right);
+			left.update();
+			return left;
+		}
+		right.fLeft= merge(left, right.fLeft);
+		right.update();
+		return right;
+	}
+
+	private static int total(Node node) {
+		return node == null ? 0 : node.fTotal;
+	}
+}
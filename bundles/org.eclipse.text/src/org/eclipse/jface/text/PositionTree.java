@@ -0,0 +1,445 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jface.text;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+
+/**
+ * The positions of an indexed position category of an {@link AbstractDocument}. The positions are
+ * ordered by offset, like in the lists used for the other categories, but kept in a balanced
+ * binary tree (a treap) augmented with subtree sizes and the maximum end offset in each subtree.
+ * This makes it an interval tree: positions overlapping a range are found without looking at
+ * positions that end before it.
+ * <p>
+ * Since {@link Position}s are modified in place by position updaters, both the order and the
+ * augmentation become invalid whenever positions are modified behind the back of this tree. Such
+ * modifications must be reported with {@link #invalidate()}; the tree is sorted again and its
+ * augmentation recomputed when it is next searched. {@link DefaultPositionUpdater} instead takes
+ * the positions it modifies out of the tree with {@link #removePositionsEndingAfter(int, int)},
+ * moves the positions following the change with {@link #shift(int, int)} and inserts the
+ * modified positions again, which keeps the tree valid.
+ * </p>
+ *
+ * @since 3.15
+ */
+final class PositionTree extends AbstractList<Position> {
+
+	/**
+	 * A node of the position tree.
+	 */
+	private static final class Node {
+		Position fPosition;
+		/** The heap priority of this node. */
+		final int fPriority;
+		/** The number of positions in the subtree rooted at this node. */
+		int fSize;
+		/** The maximum end offset of all positions in the subtree rooted at this node. */
+		int fMaxEnd;
+		Node fLeft;
+		Node fRight;
+
+		Node(Position position, int priority) {
+			fPosition= position;
+			fPriority= priority;
+			fSize= 1;
+			fMaxEnd= position.offset + position.length;
+		}
+
+		void update() {
+			fSize= 1 + size(fLeft) + size(fRight);
+			fMaxEnd= fPosition.offset + fPosition.length;
+			if (fLeft != null && fLeft.fMaxEnd > fMaxEnd)
+				fMaxEnd= fLeft.fMaxEnd;
+			if (fRight != null && fRight.fMaxEnd > fMaxEnd)
+				fMaxEnd= fRight.fMaxEnd;
+		}
+	}
+
+	/** The root of the tree */
+	private Node fRoot;
+	/** The state of the priority generator */
+	private int fSeed= 0x2545F491;
+	/** Tells whether the order and the end offsets stored in the nodes must be recomputed */
+	private boolean fInvalid;
+
+	/** The left result of the last {@link #split(Node, int)} */
+	private Node fSplitLeft;
+	/** The right result of the last {@link #split(Node, int)} */
+	private Node fSplitRight;
+
+	/**
+	 * Creates a new tree holding the given positions.
+	 *
+	 * @param positions the positions ordered by offset
+	 */
+	PositionTree(List<Position> positions) {
+		for (Position position : positions)
+			fRoot= merge(fRoot, createNode(position));
+	}
+
+	@Override
+	public int size() {
+		return size(fRoot);
+	}
+
+	@Override
+	public Position get(int index) {
+		if (index < 0 || index >= size())
+			throw new IndexOutOfBoundsException(Integer.toString(index));
+		Node node= fRoot;
+		while (true) {
+			int leftSize= size(node.fLeft);
+			if (index < leftSize) {
+				node= node.fLeft;
+			} else if (index == leftSize) {
+				return node.fPosition;
+			} else {
+				index-= leftSize + 1;
+				node= node.fRight;
+			}
+		}
+	}
+
+	@Override
+	public void add(int index, Position position) {
+		if (index < 0 || index > size())
+			throw new IndexOutOfBoundsException(Integer.toString(index));
+		split(fRoot, index);
+		fRoot= merge(merge(fSplitLeft, createNode(position)), fSplitRight);
+		modCount++;
+	}
+
+	@Override
+	public Position remove(int index) {
+		if (index < 0 || index >= size())
+			throw new IndexOutOfBoundsException(Integer.toString(index));
+		split(fRoot, index);
+		Node left= fSplitLeft;
+		split(fSplitRight, 1);
+		Node removed= fSplitLeft;
+		fRoot= merge(left, fSplitRight);
+		modCount++;
+		return removed.fPosition;
+	}
+
+	@Override
+	public void clear() {
+		fRoot= null;
+		modCount++;
+	}
+
+	@Override
+	public Iterator<Position> iterator() {
+		return new Iterator<>() {
+			private final List<Node> fStack= new ArrayList<>();
+			{
+				pushLeft(fRoot);
+			}
+
+			private void pushLeft(Node node) {
+				for (; node != null; node= node.fLeft)
+					fStack.add(node);
+			}
+
+			@Override
+			public boolean hasNext() {
+				return !fStack.isEmpty();
+			}
+
+			@Override
+			public Position next() {
+				if (fStack.isEmpty())
+					throw new NoSuchElementException();
+				Node node= fStack.remove(fStack.size() - 1);
+				pushLeft(node.fRight);
+				return node.fPosition;
+			}
+		};
+	}
+
+	/**
+	 * Returns the index of the first position whose offset is greater than or equal to the given
+	 * offset.
+	 *
+	 * @param offset the offset
+	 * @return the index at which a position with the given offset would be inserted
+	 */
+	int computeIndex(int offset) {
+		validate();
+		int index= 0;
+		Node node= fRoot;
+		while (node != null) {
+			if (node.fPosition.offset < offset) {
+				index+= size(node.fLeft) + 1;
+				node= node.fRight;
+			} else {
+				node= node.fLeft;
+			}
+		}
+		return index;
+	}
+
+	/**
+	 * Inserts the given position before all positions with the same or a greater offset.
+	 *
+	 * @param position the position to insert
+	 */
+	void insert(Position position) {
+		add(computeIndex(position.offset), position);
+	}
+
+	/**
+	 * Inserts the given position after all positions with the same or a smaller offset.
+	 *
+	 * @param position the position to insert
+	 */
+	void append(Position position) {
+		add(computeIndex(position.offset + 1), position);
+	}
+
+	/**
+	 * Removes the given position, compared by identity.
+	 *
+	 * @param position the position to remove
+	 * @return <code>true</code> if the position was found
+	 */
+	boolean removePosition(Position position) {
+		// assume the position is still ordered by its offset
+		int size= size();
+		for (int index= computeIndex(position.offset); index < size; index++) {
+			Position candidate= get(index);
+			if (candidate == position) {
+				remove(index);
+				return true;
+			}
+			if (candidate.offset != position.offset)
+				break;
+		}
+		int index= 0;
+		for (Position candidate : this) {
+			if (candidate == position) {
+				remove(index);
+				return true;
+			}
+			index++;
+		}
+		return false;
+	}
+
+	/**
+	 * Returns the positions in the given index range.
+	 *
+	 * @param from the index of the first position
+	 * @param to the index after the last position
+	 * @return the positions, in order
+	 */
+	List<Position> getPositions(int from, int to) {
+		List<Position> result= new ArrayList<>(Math.max(0, to - from));
+		collect(fRoot, 0, from, to, Integer.MIN_VALUE, null, result);
+		return result;
+	}
+
+	/**
+	 * Returns the positions before the given index that end at or after the given offset, i.e.
+	 * for which <code>offset + length &gt;= endOffset</code>.
+	 *
+	 * @param limit the index after the last position to consider
+	 * @param endOffset the minimum end offset
+	 * @return the positions, in order
+	 */
+	List<Position> getPositionsEndingAfter(int limit, int endOffset) {
+		validate();
+		List<Position> result= new ArrayList<>();
+		collect(fRoot, 0, 0, limit, endOffset, null, result);
+		return result;
+	}
+
+	/**
+	 * Removes the positions before the given index that end at or after the given offset, i.e.
+	 * for which <code>offset + length &gt;= endOffset</code>.
+	 *
+	 * @param limit the index after the last position to consider
+	 * @param endOffset the minimum end offset
+	 * @return the removed positions, in order
+	 */
+	List<Position> removePositionsEndingAfter(int limit, int endOffset) {
+		validate();
+		List<Integer> indices= new ArrayList<>();
+		List<Position> result= new ArrayList<>();
+		collect(fRoot, 0, 0, limit, endOffset, indices, result);
+		for (int i= indices.size() - 1; i >= 0; i--)
+			remove(indices.get(i).intValue());
+		return result;
+	}
+
+	private static void collect(Node node, int start, int from, int to, int endOffset, List<Integer> indices, List<Position> result) {
+		if (node == null || from >= node.fSize || to <= 0 || node.fMaxEnd < endOffset)
+			return;
+		int leftSize= size(node.fLeft);
+		collect(node.fLeft, start, from, to, endOffset, indices, result);
+		Position position= node.fPosition;
+		if (from <= leftSize && leftSize < to && position.offset + position.length >= endOffset) {
+			if (indices != null)
+				indices.add(Integer.valueOf(start + leftSize));
+			result.add(position);
+		}
+		collect(node.fRight, start + leftSize + 1, from - leftSize - 1, to - leftSize - 1, endOffset, indices, result);
+	}
+
+	/**
+	 * Moves the positions starting at the given index by the given amount.
+	 *
+	 * @param from the index of the first position to move
+	 * @param delta the distance to move
+	 */
+	void shift(int from, int delta) {
+		if (delta != 0)
+			shift(fRoot, from, delta);
+	}
+
+	private static void shift(Node node, int from, int delta) {
+		if (node == null || from >= node.fSize)
+			return;
+		if (from <= 0) {
+			shiftAll(node, delta);
+			return;
+		}
+		int leftSize= size(node.fLeft);
+		if (from <= leftSize) {
+			shift(node.fLeft, from, delta);
+			node.fPosition.offset+= delta;
+			shiftAll(node.fRight, delta);
+		} else {
+			shift(node.fRight, from - leftSize - 1, delta);
+		}
+		node.update();
+	}
+
+	private static void shiftAll(Node node, int delta) {
+		for (; node != null; node= node.fRight) {
+			shiftAll(node.fLeft, delta);
+			node.fPosition.offset+= delta;
+			node.fMaxEnd+= delta;
+		}
+	}
+
+	/**
+	 * Tells the tree that any of its positions may have been modified in place. The end offsets
+	 * stored in the tree are recomputed when they are next needed.
+	 */
+	void invalidate() {
+		fInvalid= true;
+	}
+
+	private void validate() {
+		if (!fInvalid)
+			return;
+		fInvalid= false;
+		Position[] positions= toArray(new Position[size()]);
+		boolean sorted= true;
+		for (int i= 1; i < positions.length && sorted; i++)
+			sorted= positions[i - 1].offset <= positions[i].offset;
+		if (!sorted) {
+			Arrays.sort(positions, Comparator.comparingInt(p -> p.offset));
+			// keep the shape of the tree, only the positions move to other nodes
+			fill(fRoot, positions, 0);
+		}
+		update(fRoot);
+	}
+
+	private static int fill(Node node, Position[] positions, int index) {
+		if (node == null)
+			return index;
+		index= fill(node.fLeft, positions, index);
+		node.fPosition= positions[index++];
+		return fill(node.fRight, positions, index);
+	}
+
+	private static void update(Node node) {
+		if (node != null) {
+			update(node.fLeft);
+			update(node.fRight);
+			node.update();
+		}
+	}
+
+	private Node createNode(Position position) {
+		int seed= fSeed;
+		seed^= seed << 13;
+		seed^= seed >>> 17;
+		seed^= seed << 5;
+		fSeed= seed;
+		return new Node(position, seed);
+	}
+
+	/**
+	 * Splits the given tree into the first <code>index</code> positions and the remaining ones,
+	 * stored in {@link #fSplitLeft} and {@link #fSplitRight}.
+	 *
+	 * @param node the tree to split, may be <code>null</code>
+	 * @param index the number of positions in the left part
+	 */
+	private void split(Node node, int index) {
+		if (node == null) {
+			fSplitLeft= null;
+			fSplitRight= null;
+			return;
+		}
+		int leftSize= size(node.fLeft);
+		if (index <= leftSize) {
+			split(node.fLeft, index);
+			node.fLeft= fSplitRight;
+			node.update();
+			fSplitRight= node;
+		} else {
+			split(node.fRight, index - leftSize - 1);
+			node.fRight= fSplitLeft;
+			node.update();
+			fSplitLeft= node;
+		}
+	}
+
+	/**
+	 * Concatenates two trees.
+	 *
+	 * @param left the left tree, may be <code>null</code>
+	 * @param right the right tree, may be <code>null</code>
+	 * @return the concatenation of both trees
+	 */
+	private static Node merge(Node left, Node right) {
+		if (left == null)
+			return right;
+		if (right == null)
+			return left;
+		if (left.fPriority > right.fPriority) {
+			left.fRight= merge(left.fRight, right);
+			left.update();
+			return left;
+		}
+		right.fLeft= merge(left, right.fLeft);
+		right.update();
+		return right;
+	}
+
+	private static int size(Node node) {
+		return node == null ? 0 : node.fSize;
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2016 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -20,6 +20,7 @@ import java.util.List;
 import org.eclipse.core.runtime.Assert;
 import org.eclipse.core.runtime.Platform;
 
+import org.eclipse.jface.text.AbstractDocument;
 import org.eclipse.jface.text.BadLocationException;
 import org.eclipse.jface.text.BadPositionCategoryException;
 import org.eclipse.jface.text.DefaultPositionUpdater;
@@ -99,6 +100,24 @@ public class FastPartitioner implements IDocumentPartitioner, IDocumentPartition
 	 * someone requests partition information.
 	 */
 	private Position[] fCachedPositions= null;
+	/**
+	 * The maximal number of characters scanned behind a change before the partitioning is
+	 * suspended, or <code>-1</code> if the partitioning is always brought up to date.
+	 */
+	private int fScanLimit= -1;
+	/**
+	 * The checkpoint at which the suspended partitioning resumes, or <code>-1</code> if the
+	 * partitioning is up to date. The positions before it are valid, the ones at or after it
+	 * may be stale.
+	 */
+	private int fResumeOffset= -1;
+	/**
+	 * The offset before which the positions behind the checkpoint must not be used to
+	 * synchronize with, or <code>-1</code>. This covers the changes in the part of the
+	 * document that is not yet repartitioned as well as positions left behind by an
+	 * earlier suspended scan.
+	 */
+	private int fStaleEnd= -1;
 	/** Debug option for cache consistency checking. */
 	private static final boolean CHECK_CACHE_CONSISTENCY= "true".equalsIgnoreCase(Platform.getDebugOption("org.eclipse.jface.text/debug/FastPartitioner/PositionCache"));  //$NON-NLS-1$//$NON-NLS-2$;
 
@@ -116,6 +135,46 @@ public class FastPartitioner implements IDocumentPartitioner, IDocumentPartition
 		fPositionUpdater= new DefaultPositionUpdater(fPositionCategory);
 	}
 
+	/**
+	 * Limits the work done synchronously when the document changes. By default, a change is
+	 * followed by scanning until the partitioning is up to date again, which can mean scanning
+	 * to the end of the document, e.g. when a comment start is inserted at its beginning.
+	 * <p>
+	 * With a limit, scanning is suspended at the end of the first partition that ends more than
+	 * <code>limit</code> characters behind the change. Partition ends serve as checkpoints, as
+	 * the scanner can resume there without any further state. The remaining partitioning is
+	 * computed lazily, in steps of the same size, when {@link #getPartition(int)},
+	 * {@link #getContentType(int)} or {@link #computePartitioning(int, int, boolean)} ask
+	 * for a region behind the checkpoint. The initial partitioning is suspended likewise.
+	 * </p>
+	 * <p>
+	 * {@link #documentChanged2(DocumentEvent)} only reports the partitions changed by the scan
+	 * it performed. The partitions changed when the partitioning is resumed are reported to the
+	 * document's {@link org.eclipse.jface.text.IDocumentPartitioningListener partitioning
+	 * listeners} if the document is an {@link AbstractDocument}. While the partitioning is
+	 * suspended, {@link #getPositions()} may return stale positions behind the checkpoint.
+	 * </p>
+	 *
+	 * @param limit the number of characters to scan behind a change before suspending, or a
+	 *            negative value to always update the complete partitioning
+	 * @since 3.15
+	 */
+	public void setScanLimit(int limit) {
+		fScanLimit= limit < 0 ? -1 : limit;
+	}
+
+	/**
+	 * Returns the number of characters scanned behind a change before the partitioning is
+	 * suspended.
+	 *
+	 * @return the scan limit, or <code>-1</code> if the partitioning is always updated completely
+	 * @see #setScanLimit(int)
+	 * @since 3.15
+	 */
+	public int getScanLimit() {
+		return fScanLimit;
+	}
+
 	@Override
 	public String[] getManagingPositionCategories() {
 		return new String[] { fPositionCategory };
@@ -161,6 +220,8 @@ public class FastPartitioner implements IDocumentPartitioner, IDocumentPartition
 	 */
 	protected void initialize() {
 		fIsInitialized= true;
+		fResumeOffset= -1;
+		fStaleEnd= -1;
 		clearPositionCache();
 		fScanner.setRange(fDocument, 0, fDocument.getLength());
 
@@ -173,6 +234,10 @@ public class FastPartitioner implements IDocumentPartitioner, IDocumentPartition
 				if (isSupportedContentType(contentType)) {
 					TypedPosition p= new TypedPosition(fScanner.getTokenOffset(), fScanner.getTokenLength(), contentType);
 					fDocument.addPosition(fPositionCategory, p);
+					if (fScanLimit >= 0 && p.offset + p.length >= fScanLimit) {
+						fResumeOffset= p.offset + p.length;
+						return;
+					}
 				}
 
 				token= fScanner.nextToken();
@@ -305,6 +370,21 @@ public class FastPartitioner implements IDocumentPartitioner, IDocumentPartition
 			String contentType= null;
 			int newLength= e.getText() == null ? 0 : e.getText().length();
 
+			if (fResumeOffset != -1) {
+				if (reparseStart > fResumeOffset) {
+					// the change is in the part of the document that is not yet repartitioned
+					fPositionUpdater.update(e);
+					fStaleEnd= Math.max(shiftEnd(fStaleEnd, e, newLength), e.getOffset() + newLength);
+					// the partitions there are reported when the partitioning is resumed
+					return null;
+				}
+				if (e.getOffset() + e.getLength() <= fResumeOffset)
+					fResumeOffset+= newLength - e.getLength();
+				else if (e.getOffset() < fResumeOffset)
+					fResumeOffset= e.getOffset();
+				fStaleEnd= shiftEnd(fStaleEnd, e, newLength);
+			}
+
 			int first= fDocument.computeIndexInCategory(fPositionCategory, reparseStart);
 			if (first > 0)	{
 				TypedPosition partition= (TypedPosition) category[first - 1];
@@ -338,80 +418,182 @@ public class FastPartitioner implements IDocumentPartitioner, IDocumentPartition
 			clearPositionCache();
 			category= getPositions();
 
-			fScanner.setPartialRange(fDocument, reparseStart, fDocument.getLength() - reparseStart, contentType, partitionStart);
+			int syncOffset= e.getOffset() + newLength;
+			if (fStaleEnd != -1)
+				syncOffset= Math.max(syncOffset, fStaleEnd);
+			int suspendOffset= fScanLimit < 0 ? -1 : syncOffset + fScanLimit;
+			repartition(reparseStart, contentType, partitionStart, first, syncOffset, suspendOffset);
 
-			int behindLastScannedPosition= reparseStart;
-			IToken token= fScanner.nextToken();
+		} catch (BadPositionCategoryException x) {
+			// should never happen on connected documents
+		} catch (BadLocationException x) {
+		} finally {
+			clearPositionCache();
+		}
 
-			while (!token.isEOF()) {
+		return createRegion();
+	}
 
-				contentType= getTokenContentType(token);
+	/**
+	 * Scans the document starting at the given offset and replaces the positions of all
+	 * partitions whose boundaries have changed. The scan stops as soon as it finds an
+	 * unchanged partition behind the given synchronization offset, or it suspends at the
+	 * end of the first partition behind the given suspend offset.
+	 *
+	 * @param reparseStart the offset at which to start scanning
+	 * @param contentType the content type at the start offset
+	 * @param partitionStart the offset of the partition containing the start offset
+	 * @param first the index of the first position that might be affected
+	 * @param syncOffset the offset behind which the scan may synchronize with the existing
+	 *            positions
+	 * @param suspendOffset the offset behind which the scan is suspended, or <code>-1</code>
+	 * @throws BadLocationException if the document has been changed concurrently
+	 * @throws BadPositionCategoryException if the partitioner is not connected
+	 */
+	private void repartition(int reparseStart, String contentType, int partitionStart, int first, int syncOffset, int suspendOffset) throws BadLocationException, BadPositionCategoryException {
+		Position[] category= getPositions();
+		fScanner.setPartialRange(fDocument, reparseStart, fDocument.getLength() - reparseStart, contentType, partitionStart);
 
-				if (!isSupportedContentType(contentType)) {
-					token= fScanner.nextToken();
-					continue;
-				}
+		int behindLastScannedPosition= reparseStart;
+		IToken token= fScanner.nextToken();
 
-				int start= fScanner.getTokenOffset();
-				int length= fScanner.getTokenLength();
+		while (!token.isEOF()) {
 
-				behindLastScannedPosition= start + length;
-				int lastScannedPosition= behindLastScannedPosition - 1;
+			contentType= getTokenContentType(token);
 
-				// remove all affected positions
-				while (first < category.length) {
-					TypedPosition p= (TypedPosition) category[first];
-					if (lastScannedPosition >= p.offset + p.length ||
-							(p.overlapsWith(start, length) &&
-							 	(!fDocument.containsPosition(fPositionCategory, start, length) ||
-							 	 !contentType.equals(p.getType())))) {
+			if (!isSupportedContentType(contentType)) {
+				token= fScanner.nextToken();
+				continue;
+			}
 
-						rememberRegion(p.offset, p.length);
-						fDocument.removePosition(fPositionCategory, p);
-						++ first;
+			int start= fScanner.getTokenOffset();
+			int length= fScanner.getTokenLength();
 
-					} else
-						break;
-				}
+			behindLastScannedPosition= start + length;
+			int lastScannedPosition= behindLastScannedPosition - 1;
 
-				// if position already exists and we have scanned at least the
-				// area covered by the event, we are done
-				if (fDocument.containsPosition(fPositionCategory, start, length)) {
-					if (lastScannedPosition >= e.getOffset() + newLength)
-						return createRegion();
+			// remove all affected positions
+			while (first < category.length) {
+				TypedPosition p= (TypedPosition) category[first];
+				if (lastScannedPosition >= p.offset + p.length ||
+						(p.overlapsWith(start, length) &&
+						 	(!fDocument.containsPosition(fPositionCategory, start, length) ||
+						 	 !contentType.equals(p.getType())))) {
+
+					rememberRegion(p.offset, p.length);
+					fDocument.removePosition(fPositionCategory, p);
 					++ first;
-				} else {
-					// insert the new type position
-					try {
-						fDocument.addPosition(fPositionCategory, new TypedPosition(start, length, contentType));
-						rememberRegion(start, length);
-					} catch (BadPositionCategoryException x) {
-					} catch (BadLocationException x) {
+
+				} else
+					break;
+			}
+
+			// if position already exists and we have scanned at least the
+			// area covered by the event, we are done
+			if (fDocument.containsPosition(fPositionCategory, start, length)) {
+				if (lastScannedPosition >= syncOffset) {
+					if (fResumeOffset != -1 && start >= fResumeOffset) {
+						// in sync with the positions that were left behind when suspending
+						fResumeOffset= -1;
+						fStaleEnd= -1;
 					}
+					return;
+				}
+				++ first;
+			} else {
+				// insert the new type position
+				try {
+					fDocument.addPosition(fPositionCategory, new TypedPosition(start, length, contentType));
+					rememberRegion(start, length);
+				} catch (BadPositionCategoryException x) {
+				} catch (BadLocationException x) {
 				}
+			}
 
-				token= fScanner.nextToken();
+			if (suspendOffset != -1 && behindLastScannedPosition >= suspendOffset) {
+				// the end of a partition is a checkpoint: scanning can resume there in the default content type
+				if (fResumeOffset > behindLastScannedPosition)
+					// the positions up to the previous checkpoint stem from a different scan than the ones behind it
+					fStaleEnd= Math.max(fStaleEnd, fResumeOffset);
+				else if (fStaleEnd <= behindLastScannedPosition)
+					fStaleEnd= -1;
+				fResumeOffset= behindLastScannedPosition;
+				return;
 			}
 
-			first= fDocument.computeIndexInCategory(fPositionCategory, behindLastScannedPosition);
+			token= fScanner.nextToken();
+		}
 
-			clearPositionCache();
-			category= getPositions();
-			TypedPosition p;
-			while (first < category.length) {
-				p= (TypedPosition) category[first++];
-				fDocument.removePosition(fPositionCategory, p);
-				rememberRegion(p.offset, p.length);
-			}
+		fResumeOffset= -1;
+		fStaleEnd= -1;
+
+		first= fDocument.computeIndexInCategory(fPositionCategory, behindLastScannedPosition);
+
+		clearPositionCache();
+		category= getPositions();
+		TypedPosition p;
+		while (first < category.length) {
+			p= (TypedPosition) category[first++];
+			fDocument.removePosition(fPositionCategory, p);
+			rememberRegion(p.offset, p.length);
+		}
+	}
+
+	/**
+	 * Returns the given end offset adapted to the given document change.
+	 *
+	 * @param endOffset the end offset, or <code>-1</code>
+	 * @param e the document event
+	 * @param newLength the length of the inserted text
+	 * @return the adapted end offset, or <code>-1</code>
+	 */
+	private static int shiftEnd(int endOffset, DocumentEvent e, int newLength) {
+		if (endOffset <= e.getOffset())
+			return endOffset;
+		if (endOffset >= e.getOffset() + e.getLength())
+			return endOffset + newLength - e.getLength();
+		return e.getOffset() + newLength;
+	}
 
+	/**
+	 * Continues the partitioning suspended at {@link #fResumeOffset} until the partitioning
+	 * around the given offset is known. The changed partitions are reported to the document's
+	 * partitioning listeners.
+	 *
+	 * @param offset the offset that is queried
+	 */
+	private void resumePartitioning(int offset) {
+		if (fResumeOffset == -1 || offset < fResumeOffset)
+			return;
+
+		// the region remembered for a document change that is being notified must not be touched
+		int startOffset= fStartOffset;
+		int endOffset= fEndOffset;
+		int deleteOffset= fDeleteOffset;
+		IRegion changed= null;
+		try {
+			fStartOffset= -1;
+			fEndOffset= -1;
+			fDeleteOffset= -1;
+
+			int resumeOffset= fResumeOffset;
+			int first= fDocument.computeIndexInCategory(fPositionCategory, resumeOffset);
+			int syncOffset= Math.max(resumeOffset, fStaleEnd);
+			int suspendOffset= fScanLimit < 0 ? -1 : Math.max(offset + 1, syncOffset) + fScanLimit;
+			repartition(resumeOffset, IDocument.DEFAULT_CONTENT_TYPE, resumeOffset, first, syncOffset, suspendOffset);
+			changed= createRegion();
 		} catch (BadPositionCategoryException x) {
 			// should never happen on connected documents
 		} catch (BadLocationException x) {
 		} finally {
+			fStartOffset= startOffset;
+			fEndOffset= endOffset;
+			fDeleteOffset= deleteOffset;
 			clearPositionCache();
 		}
 
-		return createRegion();
+		if (changed != null && fDocument instanceof AbstractDocument)
+			((AbstractDocument) fDocument).partitioningChanged(this, changed);
 	}
 
 	/**
@@ -463,6 +645,7 @@ public class FastPartitioner implements IDocumentPartitioner, IDocumentPartition
 	@Override
 	public String getContentType(int offset) {
 		checkInitialization();
+		resumePartitioning(offset);
 
 		TypedPosition p= findClosestPosition(offset);
 		if (p != null && p.includes(offset))
@@ -480,6 +663,7 @@ public class FastPartitioner implements IDocumentPartitioner, IDocumentPartition
 	@Override
 	public ITypedRegion getPartition(int offset) {
 		checkInitialization();
+		resumePartitioning(offset);
 
 		try {
 
@@ -620,6 +804,7 @@ public class FastPartitioner implements IDocumentPartitioner, IDocumentPartition
 	@Override
 	public ITypedRegion[] computePartitioning(int offset, int length, boolean includeZeroLengthPartitions) {
 		checkInitialization();
+		resumePartitioning(offset + length);
 		List<TypedRegion> list= new ArrayList<>();
 
 		try {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2008 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -30,6 +30,11 @@ import org.eclipse.jface.text.IDocument;
  * which returns <code>true</code> when calling <code>isOther</code>, unless the end
  * of the file is reached. In this case the token returns <code>true</code> when calling
  * <code>isEOF</code>.
+ * <p>
+ * The scanner only evaluates the rules that can match at the next character. The standard
+ * pattern rules and the {@link NumberRule} are skipped when the next character cannot start
+ * their tokens, while all other rules are evaluated for every token.
+ * </p>
  *
  * Originally since unknown version, but moved to org.eclipse.text in 3.14
  *
@@ -54,6 +59,11 @@ public class RuleBasedScanner implements ICharacterScanner, ITokenScanner {
 	protected int fTokenOffset;
 	/** The cached column of the current scanner position */
 	protected int fColumn;
+	/**
+	 * The rules compiled into a table of the rules to try for each character.
+	 * @since 3.15
+	 */
+	private RuleTable fRuleTable;
 	/** Internal setting for the un-initialized column cache. */
 	protected static final int UNDEFINED= -1;
 
@@ -166,7 +176,11 @@ public class RuleBasedScanner implements ICharacterScanner, ITokenScanner {
 		fColumn= UNDEFINED;
 
 		if (fRules != null) {
-			for (IRule fRule : fRules) {
+			if (fRuleTable == null || !fRuleTable.isCompiledFrom(fRules))
+				fRuleTable= new RuleTable(fRules);
+			int c= read();
+			unread();
+			for (IRule fRule : fRuleTable.getRules(c)) {
 				IToken token= (fRule.evaluate(this));
 				if (!token.isUndefined())
 					return token;
@@ -0,0 +1,181 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jface.text.rules;
+
+import java.util.ArrayList;
+import java.util.List;
+
+
+/**
+ * The compiled form of the rules of a {@link RuleBasedScanner}. For every character the
+ * table holds the rules that can match a token starting with that character, in their
+ * original order. The rules that cannot match are never evaluated.
+ * <p>
+ * A {@link PatternRule}, {@link SingleLineRule}, {@link MultiLineRule},
+ * {@link EndOfLineRule} or {@link WordPatternRule} can only match at the first character
+ * of its start sequence and a {@link NumberRule} only at a digit. Any other rule,
+ * including subclasses of these rules as they may override the evaluation, is a
+ * candidate for every character and for the end of the file.
+ * </p>
+ *
+ * @since 3.15
+ */
+final class RuleTable {
+
+	/** The number of characters that have their own entry in the table. */
+	private static final int TABLE_SIZE= 128;
+
+	/** The rules the table has been compiled from */
+	private final IRule[] fRules;
+	/** The candidate rules for each character below {@link #TABLE_SIZE} */
+	private final IRule[][] fTable= new IRule[TABLE_SIZE][];
+	/** The candidate rules for all other characters */
+	private final IRule[] fOtherRules;
+	/** The candidate rules at the end of the file */
+	private final IRule[] fEOFRules;
+
+	/**
+	 * Compiles the given rules.
+	 *
+	 * @param rules the rules of the scanner
+	 */
+	RuleTable(IRule[] rules) {
+		fRules= rules.clone();
+
+		List<IRule> candidates= new ArrayList<>(rules.length);
+		for (int c= 0; c < TABLE_SIZE; c++) {
+			candidates.clear();
+			for (IRule rule : rules) {
+				if (canStartWith(rule, c))
+					candidates.add(rule);
+			}
+			fTable[c]= share(candidates);
+		}
+
+		candidates.clear();
+		for (IRule rule : rules) {
+			if (getStartCharacter(rule) >= TABLE_SIZE || rule.getClass() == NumberRule.class || !isCompilable(rule))
+				candidates.add(rule);
+		}
+		fOtherRules= candidates.toArray(new IRule[candidates.size()]);
+
+		candidates.clear();
+		for (IRule rule : rules) {
+			if (!isCompilable(rule))
+				candidates.add(rule);
+		}
+		fEOFRules= candidates.toArray(new IRule[candidates.size()]);
+	}
+
+	/**
+	 * Returns the candidate rules already in the table that are equal to the given ones, or
+	 * a new array. Most characters share the same candidates.
+	 *
+	 * @param candidates the candidate rules
+	 * @return the candidate rules as an array
+	 */
+	private IRule[] share(List<IRule> candidates) {
+		for (IRule[] rules : fTable) {
+			if (rules != null && isSame(rules, candidates))
+				return rules;
+		}
+		return candidates.toArray(new IRule[candidates.size()]);
+	}
+
+	/**
+	 * Tells whether the given array and list hold the identical rules.
+	 *
+	 * @param rules the rules
+	 * @param others the other rules
+	 * @return <code>true</code> if both hold the identical rules in the same order
+	 */
+	private static boolean isSame(IRule[] rules, List<IRule> others) {
+		if (rules.length != others.size())
+			return false;
+		for (int i= 0; i < rules.length; i++) {
+			if (rules[i] != others.get(i))
+				return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Tells whether the given rules are the ones this table has been compiled from.
+	 *
+	 * @param rules the rules of the scanner
+	 * @return <code>true</code> if the table is up to date
+	 */
+	boolean isCompiledFrom(IRule[] rules) {
+		if (rules.length != fRules.length)
+			return false;
+		for (int i= 0; i < rules.length; i++) {
+			if (rules[i] != fRules[i])
+				return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Returns the rules that can match a token starting with the given character.
+	 *
+	 * @param c the next character, or {@link ICharacterScanner#EOF}
+	 * @return the candidate rules in their original order
+	 */
+	IRule[] getRules(int c) {
+		if (c == ICharacterScanner.EOF)
+			return fEOFRules;
+		if (c < TABLE_SIZE)
+			return fTable[c];
+		return fOtherRules;
+	}
+
+	/**
+	 * Tells whether the given rule can match a token starting with the given character.
+	 *
+	 * @param rule the rule
+	 * @param c the character
+	 * @return <code>false</code> if the rule cannot match
+	 */
+	private static boolean canStartWith(IRule rule, int c) {
+		if (!isCompilable(rule))
+			return true;
+		if (rule.getClass() == NumberRule.class)
+			return Character.isDigit((char) c);
+		return getStartCharacter(rule) == c;
+	}
+
+	/**
+	 * Returns the first character of the start sequence of a compilable pattern rule.
+	 *
+	 * @param rule the rule
+	 * @return the first character, or <code>-1</code> if the rule is not such a rule
+	 */
+	private static int getStartCharacter(IRule rule) {
+		if (rule instanceof PatternRule && isCompilable(rule))
+			return ((PatternRule) rule).fStartSequence[0];
+		return -1;
+	}
+
+	/**
+	 * Tells whether the characters at which the given rule can match are known.
+	 *
+	 * @param rule the rule
+	 * @return <code>true</code> if the rule is one of the standard rules
+	 */
+	private static boolean isCompilable(IRule rule) {
+		Class<?> clazz= rule.getClass();
+		return clazz == PatternRule.class || clazz == SingleLineRule.class || clazz == MultiLineRule.class
+				|| clazz == EndOfLineRule.class || clazz == WordPatternRule.class || clazz == NumberRule.class;
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -1261,7 +1261,9 @@ public class TextFileDocumentProvider implements IDocumentProvider, IDocumentPro
 
 	/**
 	 * Returns whether the system file denoted by
-	 * the given info is read-only.
+	 * the given info is read-only. An existing file
+	 * whose file buffer cannot be committed, for example
+	 * because it is too large to be edited, is read-only too.
 	 *
 	 * @param info the element's file info object
 	 * @return <code>true</code> iff read-only
@@ -1271,7 +1273,9 @@ public class TextFileDocumentProvider implements IDocumentProvider, IDocumentPro
 		if (fileStore == null)
 			return false;
 		IFileInfo fileInfo= fileStore.fetchInfo();
-		return fileInfo.exists() && fileInfo.getAttribute(EFS.ATTRIBUTE_READ_ONLY);
+		if (!fileInfo.exists())
+			return false;
+		return fileInfo.getAttribute(EFS.ATTRIBUTE_READ_ONLY) || info.fTextFileBuffer != null && !info.fTextFileBuffer.isCommitable();
 	}
 
 	/**
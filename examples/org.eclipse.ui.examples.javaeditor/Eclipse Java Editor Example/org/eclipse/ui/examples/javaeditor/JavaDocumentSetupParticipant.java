@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2008 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -17,11 +17,16 @@ import org.eclipse.core.filebuffers.IDocumentSetupParticipant;
 
 import org.eclipse.jface.text.IDocument;
 import org.eclipse.jface.text.IDocumentExtension3;
-import org.eclipse.jface.text.IDocumentPartitioner;
 import org.eclipse.jface.text.rules.FastPartitioner;
 
 public class JavaDocumentSetupParticipant implements IDocumentSetupParticipant {
 
+	/**
+	 * The number of characters the partitioner scans behind a change before it continues
+	 * lazily, e.g. when a comment start is typed at the beginning of a long file.
+	 */
+	private static final int PARTITIONING_SCAN_LIMIT= 10000;
+
 	public JavaDocumentSetupParticipant() {
 	}
 
@@ -29,7 +34,8 @@ public class JavaDocumentSetupParticipant implements IDocumentSetupParticipant {
 	public void setup(IDocument document) {
 		if (document instanceof IDocumentExtension3) {
 			IDocumentExtension3 extension3= (IDocumentExtension3) document;
-			IDocumentPartitioner partitioner= new FastPartitioner(JavaEditorExamplePlugin.getDefault().getJavaPartitionScanner(), JavaPartitionScanner.JAVA_PARTITION_TYPES);
+			FastPartitioner partitioner= new FastPartitioner(JavaEditorExamplePlugin.getDefault().getJavaPartitionScanner(), JavaPartitionScanner.JAVA_PARTITION_TYPES);
+			partitioner.setScanLimit(PARTITIONING_SCAN_LIMIT);
 			extension3.setDocumentPartitioner(JavaEditorExamplePlugin.JAVA_PARTITIONING, partitioner);
 			partitioner.connect(document);
 		}
@@ -0,0 +1,207 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.core.filebuffers.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Random;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.eclipse.core.runtime.IPath;
+
+import org.eclipse.core.filebuffers.FileBuffers;
+import org.eclipse.core.filebuffers.ITextFileBufferManager;
+import org.eclipse.core.filebuffers.LocationKind;
+
+import org.eclipse.core.internal.filebuffers.MappedFileDocument;
+
+import org.eclipse.jface.text.Document;
+import org.eclipse.jface.text.DocumentEvent;
+import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.IDocumentListener;
+import org.eclipse.jface.text.Position;
+
+public class MappedFileDocumentTest {
+
+	private static final String[] PARTS= { "a", "bc", "\n", "\r", "\r\n", "\t", "\u00e4", "\u20ac", "\uD83D\uDE00" };
+
+	private Path fFile;
+
+	@Before
+	public void setUp() throws Exception {
+		fFile= Files.createTempFile("MappedFileDocumentTest", ".txt");
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		Files.deleteIfExists(fFile);
+	}
+
+	@Test
+	public void testEmpty() throws Exception {
+		assertSameContent("", StandardCharsets.UTF_8);
+	}
+
+	@Test
+	public void testUTF8() throws Exception {
+		assertSameContent(createContent(300000, true), StandardCharsets.UTF_8);
+	}
+
+	@Test
+	public void testSingleByte() throws Exception {
+		assertSameContent(createContent(300000, false), StandardCharsets.ISO_8859_1);
+	}
+
+	@Test
+	public void testBOM() throws Exception {
+		byte[] content= "\uFEFFline1\nline2".getBytes(StandardCharsets.UTF_8);
+		Files.write(fFile, content);
+		IDocument document= new MappedFileDocument(fFile, StandardCharsets.UTF_8, 3);
+		assertEquals("line1\nline2", document.get());
+		assertEquals(2, document.getNumberOfLines());
+	}
+
+	@Test
+	public void testReadOnly() throws Exception {
+		Files.writeString(fFile, "content");
+		IDocument document= new MappedFileDocument(fFile, StandardCharsets.UTF_8, 0);
+		assertThrows(UnsupportedOperationException.class, () -> document.replace(0, 1, "x"));
+		assertThrows(UnsupportedOperationException.class, () -> document.set("x"));
+		assertEquals("content", document.get());
+	}
+
+	@Test
+	public void testRemap() throws Exception {
+		Files.writeString(fFile, "line1\nline2");
+		MappedFileDocument document= new MappedFileDocument(fFile, StandardCharsets.UTF_8, 0);
+		Position whole= new Position(0, 11);
+		Position part= new Position(6, 5);
+		document.addPosition(whole);
+		document.addPosition(part);
+		DocumentEvent[] events= new DocumentEvent[2];
+		document.addDocumentListener(new IDocumentListener() {
+			@Override
+			public void documentAboutToBeChanged(DocumentEvent event) {
+				assertEquals("line1\nline2", event.getDocument().get());
+				events[0]= event;
+			}
+
+			@Override
+			public void documentChanged(DocumentEvent event) {
+				// the positions have been updated without reading the content
+				assertNull(event.fText);
+				events[1]= event;
+			}
+		});
+
+		// the file is not truncated, which is not possible while it is mapped on some platforms
+		Files.writeString(fFile, "line1\nline2\r\nline3\n", StandardOpenOption.WRITE);
+		document.remap(42);
+
+		assertEquals("line1\nline2\r\nline3\n", document.get());
+		assertEquals(4, document.getNumberOfLines());
+		assertEquals("\r\n", document.getLineDelimiter(1));
+		assertEquals(42, document.getModificationStamp());
+		assertSame(events[0], events[1]);
+		assertEquals(0, events[1].getOffset());
+		assertEquals(11, events[1].getLength());
+		assertEquals(document.get(), events[1].getText());
+		assertEquals(new Position(0, 19), whole);
+		assertFalse(whole.isDeleted());
+		assertTrue(part.isDeleted());
+		assertEquals(1, document.getPositions(IDocument.DEFAULT_CATEGORY).length);
+	}
+
+	@Test
+	public void testMappedDocumentThreshold() throws Exception {
+		Files.writeString(fFile, "line1\nline2");
+		String property= "org.eclipse.core.filebuffers.mappedDocumentThreshold";
+		String oldThreshold= System.getProperty(property);
+		try {
+			System.setProperty(property, "10");
+			IDocument document= connect();
+			assertTrue(document instanceof MappedFileDocument);
+			assertEquals("line1\nline2", document.get());
+
+			System.setProperty(property, "11");
+			document= connect();
+			assertFalse(document instanceof MappedFileDocument);
+			assertEquals("line1\nline2", document.get());
+		} finally {
+			if (oldThreshold == null)
+				System.clearProperty(property);
+			else
+				System.setProperty(property, oldThreshold);
+		}
+	}
+
+	/**
+	 * Connects a file buffer for the file, returns its document and disconnects it again.
+	 */
+	private IDocument connect() throws Exception {
+		ITextFileBufferManager manager= FileBuffers.getTextFileBufferManager();
+		IPath location= IPath.fromOSString(fFile.toString());
+		manager.connect(location, LocationKind.LOCATION, null);
+		try {
+			return manager.getTextFileBuffer(location, LocationKind.LOCATION).getDocument();
+		} finally {
+			manager.disconnect(location, LocationKind.LOCATION, null);
+		}
+	}
+
+	private static String createContent(int parts, boolean multiByte) {
+		Random random= new Random(42);
+		StringBuilder buffer= new StringBuilder();
+		for (int i= 0; i < parts; i++) {
+			String part= PARTS[random.nextInt(multiByte ? PARTS.length : PARTS.length - 2)];
+			buffer.append(part);
+		}
+		return buffer.toString();
+	}
+
+	private void assertSameContent(String content, Charset charset) throws Exception {
+		Files.write(fFile, content.getBytes(charset));
+		IDocument expected= new Document(content);
+		IDocument actual= new MappedFileDocument(fFile, charset, 0);
+
+		assertEquals(expected.getLength(), actual.getLength());
+		assertEquals(expected.get(), actual.get());
+		assertEquals(expected.getNumberOfLines(), actual.getNumberOfLines());
+		for (int line= 0; line < expected.getNumberOfLines(); line+= 7) {
+			assertEquals(expected.getLineInformation(line).getOffset(), actual.getLineInformation(line).getOffset());
+			assertEquals(expected.getLineInformation(line).getLength(), actual.getLineInformation(line).getLength());
+			assertEquals(expected.getLineLength(line), actual.getLineLength(line));
+			assertEquals(expected.getLineDelimiter(line), actual.getLineDelimiter(line));
+		}
+		for (int offset= 0; offset <= expected.getLength(); offset+= 13) {
+			assertEquals(expected.getLineOfOffset(offset), actual.getLineOfOffset(offset));
+			if (offset < expected.getLength())
+				assertEquals(expected.getChar(offset), actual.getChar(offset));
+		}
+		assertEquals(expected.getLineOfOffset(expected.getLength()), actual.getLineOfOffset(actual.getLength()));
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2013, 2023 IBM Corporation and others.
+ * Copyright (c) 2013, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -19,6 +19,7 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
 import java.util.ArrayList;
@@ -366,6 +367,73 @@ public class BindingTableTests {
 		assertEquals(about, it.next());
 	}
 
+	@Test
+	public void testManagerMatchAfterTableChange() throws Exception {
+		BindingTableManager manager = createManager();
+		Binding about = getTestBinding(ABOUT_ID);
+		ContextSet javaSet = createJavaSet(manager);
+		KeySequence ctrl7A = KeySequence.getInstance("CTRL+7 A");
+		KeySequence ctrl7 = KeySequence.getInstance("CTRL+7");
+		assertNull(manager.getPerfectMatch(javaSet, ctrl7A));
+		assertFalse(manager.isPartialMatch(javaSet, ctrl7));
+
+		Binding aboutCtrl7 = new KeyBinding(ctrl7A, about.getParameterizedCommand(),
+				"org.eclipse.ui.defaultAcceleratorConfiguration", ID_JAVA, null, null, null, Binding.SYSTEM);
+		BindingTable table = manager.getTable(ID_JAVA);
+		table.addBinding(aboutCtrl7);
+		try {
+			assertEquals(aboutCtrl7, manager.getPerfectMatch(javaSet, ctrl7A));
+			assertTrue(manager.isPartialMatch(javaSet, ctrl7));
+		} finally {
+			table.removeBinding(aboutCtrl7);
+		}
+
+		assertNull(manager.getPerfectMatch(javaSet, ctrl7A));
+		assertFalse(manager.isPartialMatch(javaSet, ctrl7));
+	}
+
+	@Test
+	public void testManagerMatchAfterSchemeChange() throws Exception {
+		BindingTableManager manager = createManager();
+		Binding about = getTestBinding(ABOUT_ID);
+		KeySequence ctrl7A = KeySequence.getInstance("CTRL+7 A");
+		Binding windowBinding = new KeyBinding(ctrl7A, about.getParameterizedCommand(),
+				"org.eclipse.ui.defaultAcceleratorConfiguration", ID_WINDOW, null, null, null, Binding.SYSTEM);
+		Binding javaBinding = new KeyBinding(ctrl7A, about.getParameterizedCommand(),
+				"org.eclipse.ui.emacsAcceleratorConfiguration", ID_JAVA, null, null, null, Binding.SYSTEM);
+		manager.getTable(ID_WINDOW).addBinding(windowBinding);
+		manager.getTable(ID_JAVA).addBinding(javaBinding);
+		try {
+			manager.setActiveSchemes(new String[] { "org.eclipse.ui.defaultAcceleratorConfiguration",
+					"org.eclipse.ui.emacsAcceleratorConfiguration" });
+			assertEquals(windowBinding, manager.getPerfectMatch(createJavaSet(manager), ctrl7A));
+
+			manager.setActiveSchemes(new String[] { "org.eclipse.ui.emacsAcceleratorConfiguration",
+					"org.eclipse.ui.defaultAcceleratorConfiguration" });
+			assertEquals(javaBinding, manager.getPerfectMatch(createJavaSet(manager), ctrl7A));
+		} finally {
+			manager.setActiveSchemes(null);
+			manager.getTable(ID_WINDOW).removeBinding(windowBinding);
+			manager.getTable(ID_JAVA).removeBinding(javaBinding);
+		}
+	}
+
+	@Test
+	public void testManagerMatchAfterTableRemoval() throws Exception {
+		BindingTableManager manager = createManager();
+		Binding correctIndent = getTestBinding(CORR_INDENT_ID);
+		KeySequence ctrlI = KeySequence.getInstance("CTRL+I");
+		assertEquals(correctIndent, manager.getPerfectMatch(createJavaSet(manager), ctrlI));
+
+		// the active contexts create a new context set on every change
+		BindingTable table = manager.getTable(ID_JAVA);
+		manager.removeTable(table);
+		assertNull(manager.getPerfectMatch(createJavaSet(manager), ctrlI));
+
+		manager.addTable(table);
+		assertEquals(correctIndent, manager.getPerfectMatch(createJavaSet(manager), ctrlI));
+	}
+
 	private BindingTable loadTable(String contextId) {
 		Context context = contextManager.getContext(contextId);
 		BindingTable table = new BindingTable(context);
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2018 EclipseSource and others.
+ * Copyright (c) 2009, 2026 EclipseSource and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -17,6 +17,7 @@
 package org.eclipse.e4.ui.tests.css.core.parser;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
@@ -169,6 +170,101 @@ public class ViewCSSTest {
 		assertTrue(cssRules2.size() > cssRules.size());
 	}
 
+	@Test
+	void testIndexedSelectors() throws Exception {
+		String css = """
+			#main { color: green; }
+			.primary { color: red; }
+			Button.primary.large { font-weight: bold; }
+			Composite > .large { font-style: italic; }
+			* { background-color: white; }
+			Label { color: black; }
+			""";
+		ViewCSS viewCSS = createViewCss(css);
+
+		final TestElement composite = new TestElement("Composite", engine);
+		final TestElement button = new TestElement("Button", composite, engine);
+		button.setClass("large  primary");
+		CSSStyleDeclaration buttonStyle = viewCSS.getComputedStyle(button, null);
+		assertNotNull(buttonStyle);
+		assertEquals(4, buttonStyle.getLength());
+		assertEquals("red", buttonStyle.getPropertyCSSValue("color").getCssText());
+
+		button.setId("main");
+		buttonStyle = viewCSS.getComputedStyle(button, null);
+		assertEquals("green", buttonStyle.getPropertyCSSValue("color").getCssText());
+
+		final TestElement label = new TestElement("Label", engine);
+		label.setClass("large");
+		CSSStyleDeclaration labelStyle = viewCSS.getComputedStyle(label, null);
+		assertEquals(2, labelStyle.getLength());
+		assertEquals("black", labelStyle.getPropertyCSSValue("color").getCssText());
+		assertNull(labelStyle.getPropertyCSSValue("font-style"));
+	}
+
+	@Test
+	void testIndexedSelectorsKeepRuleOrder() throws Exception {
+		String css = """
+			.primary { color: red; }
+			Button { color: blue; }
+			""";
+		ViewCSS viewCSS = createViewCss(css);
+
+		final TestElement button = new TestElement("Button", engine);
+		button.setClass("primary");
+		// the class selector is more specific
+		assertEquals("red", viewCSS.getComputedStyle(button, null).getPropertyCSSValue("color").getCssText());
+
+		css = """
+			Button.primary { color: red; }
+			Button[flat] { color: green; }
+			""";
+		viewCSS = createViewCss(css);
+		button.setAttribute("flat", "true");
+		// same specificity, the last rule wins
+		assertEquals("green", viewCSS.getComputedStyle(button, null).getPropertyCSSValue("color").getCssText());
+	}
+
+	@Test
+	void testContextDependencies() throws Exception {
+		String css = """
+			.active CTabFolder { color: red; }
+			#main > Composite.inner Label { color: blue; }
+			.first + Button { color: green; }
+			Button.toggle { color: black; }
+			""";
+		CSSStyleSheet styleSheet = ParserTestUtil.parseCss(css);
+		DocumentCSSImpl docCss = new DocumentCSSImpl();
+		docCss.addStyleSheet(styleSheet);
+		ViewCSSImpl viewCSS = new ViewCSSImpl(docCss);
+
+		assertTrue(viewCSS.affectsDescendants(List.of("active"), List.of()));
+		assertTrue(viewCSS.affectsDescendants(List.of("inner"), List.of()));
+		assertTrue(viewCSS.affectsDescendants(List.of(), List.of("main")));
+		assertFalse(viewCSS.affectsDescendants(List.of("toggle", "first"), List.of()));
+		assertFalse(viewCSS.affectsDescendants(List.of(), List.of()));
+
+		assertTrue(viewCSS.affectsSiblings(List.of("first"), List.of()));
+		assertFalse(viewCSS.affectsSiblings(List.of("active", "toggle"), List.of("main")));
+	}
+
+	@Test
+	void testInheritedValueAffectsDescendants() throws Exception {
+		String css = """
+			Composite.active { background-color: red; }
+			Label { background-color: inherit; }
+			""";
+		CSSStyleSheet styleSheet = ParserTestUtil.parseCss(css);
+		DocumentCSSImpl docCss = new DocumentCSSImpl();
+		docCss.addStyleSheet(styleSheet);
+		ViewCSSImpl viewCSS = new ViewCSSImpl(docCss);
+
+		assertTrue(viewCSS.affectsDescendants(List.of("active"), List.of()));
+		assertTrue(viewCSS.affectsDescendants(List.of(), List.of("main")));
+		assertFalse(viewCSS.affectsDescendants(List.of(), List.of()));
+		assertFalse(viewCSS.affectsSiblings(List.of("active"), List.of()));
+	}
+
 	private static ViewCSS createViewCss(String css) throws IOException {
 		CSSStyleSheet styleSheet = ParserTestUtil.parseCss(css);
 		DocumentCSSImpl docCss = new DocumentCSSImpl();
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2019 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -27,6 +27,7 @@ import org.eclipse.e4.ui.tests.application.StartupTestSuite;
 import org.eclipse.e4.ui.tests.application.UIEventTypesTest;
 import org.eclipse.e4.ui.tests.workbench.AreaRendererTest;
 import org.eclipse.e4.ui.tests.workbench.Bug308317Test;
+import org.eclipse.e4.ui.tests.workbench.CSSRestyleSchedulerTest;
 import org.eclipse.e4.ui.tests.workbench.CompositePartClosingTest;
 import org.eclipse.e4.ui.tests.workbench.ContextTest;
 import org.eclipse.e4.ui.tests.workbench.ContributionsAnalyzerTest;
@@ -94,6 +95,7 @@ import org.junit.runners.Suite;
 		StackRendererTest.class,
 		TabStateHandlerTest.class,
 		ThemeDefinitionChangedHandlerTest.class,
+		CSSRestyleSchedulerTest.class,
 		ToolBarManagerRendererTest.class,
 		TopoSortTests.class,
 		ExtensionsSortTests.class,
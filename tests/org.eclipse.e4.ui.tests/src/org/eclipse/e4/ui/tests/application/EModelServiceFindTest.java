@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2018 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -21,6 +21,7 @@ import static org.junit.Assert.assertSame;
 import static org.junit.Assert.fail;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import org.eclipse.e4.core.contexts.IEclipseContext;
 import org.eclipse.e4.ui.internal.workbench.swt.E4Application;
@@ -431,4 +432,44 @@ public class EModelServiceFindTest {
 		assertEquals(1, elements.size());
 		assertEquals(part, elements.get(0));
 	}
+
+	@Test
+	public void testFindElementsAfterModelChange() {
+		MApplication application = createApplication();
+		EModelService modelService = application.getContext().get(EModelService.class);
+		MWindow window = (MWindow) modelService.find("singleValidId", application);
+		MPart part = modelService.findElements(application, null, MPart.class, List.of("secondTag")).get(0);
+
+		part.setElementId("changedId");
+		assertSame(part, modelService.find("changedId", application));
+		part.setElementId(null);
+		assertNull(modelService.find("changedId", application));
+
+		part.getTags().add("addedTag");
+		assertEquals(List.of(part), modelService.findElements(application, null, null, List.of("addedTag")));
+		part.getTags().removeAll(Arrays.asList("addedTag", "secondTag"));
+		assertEquals(0, modelService.findElements(application, null, null, List.of("addedTag")).size());
+		assertEquals(0, modelService.findElements(application, null, null, List.of("secondTag")).size());
+
+		// elements in a removed subtree are not found anymore
+		MPartSashContainer psc = (MPartSashContainer) window.getChildren().get(0);
+		window.getChildren().remove(psc);
+		assertEquals(0, modelService.findElements(application, "twoValidIds", null).size());
+		window.getChildren().add(psc);
+		assertEquals(2, modelService.findElements(application, "twoValidIds", null).size());
+
+		// shared elements are found through the placeholders referencing them
+		MPartStack sharedStack = modelService.createModelElement(MPartStack.class);
+		MPart sharedPart = modelService.createModelElement(MPart.class);
+		sharedPart.setElementId("sharedPartId");
+		sharedStack.getChildren().add(sharedPart);
+		window.getSharedElements().add(sharedStack);
+		MPlaceholder placeholder = modelService.createModelElement(MPlaceholder.class);
+		psc.getChildren().add(placeholder);
+		assertNull(modelService.find("sharedPartId", psc));
+		placeholder.setRef(sharedStack);
+		assertSame(sharedPart, modelService.find("sharedPartId", psc));
+		placeholder.setRef(null);
+		assertNull(modelService.find("sharedPartId", psc));
+	}
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2010, 2017 IBM Corporation and others.
+ * Copyright (c) 2010, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -16,16 +16,22 @@
 package org.eclipse.e4.ui.tests.application;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertThrows;
 import static org.junit.Assert.assertTrue;
 
+import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
+import java.util.Map;
 import org.eclipse.e4.core.contexts.ContextInjectionFactory;
 import org.eclipse.e4.core.contexts.IEclipseContext;
 import org.eclipse.e4.ui.di.UISynchronize;
+import org.eclipse.e4.ui.internal.workbench.E4BinaryResource;
 import org.eclipse.e4.ui.internal.workbench.E4Workbench;
 import org.eclipse.e4.ui.internal.workbench.E4XMIResource;
 import org.eclipse.e4.ui.internal.workbench.ResourceHandler;
@@ -78,11 +84,16 @@ public class ResourceHandlerTest {
 	}
 
 	private ResourceHandler createHandler(URI uri) {
+		return createHandler(uri, true, false);
+	}
+
+	private ResourceHandler createHandler(URI uri, boolean clearPersistedState, boolean binaryModel) {
 		IEclipseContext appContext = E4Application.createDefaultContext();
 		IEclipseContext localContext = appContext.createChild();
 		localContext.set(E4Workbench.INSTANCE_LOCATION, getInstanceLocation());
 		localContext.set(IWorkbench.PERSIST_STATE, Boolean.TRUE);
-		localContext.set(IWorkbench.CLEAR_PERSISTED_STATE, Boolean.TRUE);
+		localContext.set(IWorkbench.CLEAR_PERSISTED_STATE, Boolean.valueOf(clearPersistedState));
+		localContext.set(E4Workbench.BINARY_MODEL, Boolean.valueOf(binaryModel));
 
 		localContext.set(E4Workbench.INITIAL_WORKBENCH_MODEL_URI, uri);
 
@@ -233,4 +244,84 @@ public class ResourceHandlerTest {
 		MApplication unchangedApplication = (MApplication) verifyResource.getContents().get(0);
 		assertEquals(2, unchangedApplication.getChildren().size());
 	}
+
+	@Test
+	public void testBinaryModel() throws IOException {
+		MWindow window = application.getChildren().get(0);
+		MWindow dynamicWindow = MBasicFactory.INSTANCE.createWindow();
+		dynamicWindow.getPersistedState().put(IWorkbench.PERSIST_STATE, "false");
+		application.getChildren().add(dynamicWindow);
+
+		Path output = Files.createTempFile(null, null);
+		output.toFile().deleteOnExit();
+		URI binaryUri = URI.createFileURI(output.toString());
+		E4BinaryResource binaryResource = new E4BinaryResource(binaryUri);
+		binaryResource.getContents().add((EObject) application);
+		String windowId = binaryResource.getID((EObject) window);
+		binaryResource.save(Map.of(E4XMIResource.OPTION_FILTER_PERSIST_STATE, Boolean.TRUE));
+
+		// the model is not changed by filtering the dynamic window
+		assertEquals(3, application.getChildren().size());
+
+		E4BinaryResource loadedResource = new E4BinaryResource(binaryUri);
+		loadedResource.load(null);
+		MApplication loadedApplication = (MApplication) loadedResource.getContents().get(0);
+		assertEquals(2, loadedApplication.getChildren().size());
+		MWindow loadedWindow = loadedApplication.getChildren().get(0);
+		assertEquals(window.getElementId(), loadedWindow.getElementId());
+		assertEquals(windowId, loadedResource.getID((EObject) loadedWindow));
+
+		// a corrupted model fails to load, so that the XMI model is loaded
+		byte[] bytes = Files.readAllBytes(output);
+		bytes[bytes.length - 1] ^= 1;
+		Files.write(output, bytes);
+		assertThrows(IOException.class, () -> new E4BinaryResource(binaryUri).load(null));
+	}
+
+	@Test
+	public void testLoadMostRecentModel() throws IOException {
+		URI uri = URI.createPlatformPluginURI("org.eclipse.e4.ui.tests/xmi/modelprocessor/base.e4xmi", true);
+
+		// save the XMI model
+		ResourceHandler handler = createHandler(uri, true, false);
+		Resource xmiResource = handler.loadMostRecentModel();
+		handler.save();
+		File xmiFile = new File(xmiResource.getURI().toFileString());
+		assertTrue(xmiFile.exists());
+
+		// the XMI model is moved to the binary model if it is enabled
+		handler = createHandler(uri, false, true);
+		Resource binaryResource = handler.loadMostRecentModel();
+		assertTrue(binaryResource instanceof E4BinaryResource);
+		MApplication application = (MApplication) binaryResource.getContents().get(0);
+		MWindow window = application.getChildren().get(1);
+		assertEquals("_w4fQ8HVHEd-aXt9fFntEtw", ((E4XMIResource) binaryResource).getID((EObject) window));
+		application.getChildren().get(0).setLabel("binary");
+		handler.save();
+		File binaryFile = new File(binaryResource.getURI().toFileString());
+		assertTrue(binaryFile.exists());
+
+		// a newer binary model is loaded even if it is disabled
+		assertTrue(xmiFile.setLastModified(binaryFile.lastModified() - 10000));
+		handler = createHandler(uri, false, false);
+		xmiResource = handler.loadMostRecentModel();
+		assertFalse(xmiResource instanceof E4BinaryResource);
+		assertEquals(xmiFile, new File(xmiResource.getURI().toFileString()));
+		application = (MApplication) xmiResource.getContents().get(0);
+		assertEquals("binary", application.getChildren().get(0).getLabel());
+
+		// a corrupted binary model falls back to the XMI model
+		byte[] bytes = Files.readAllBytes(binaryFile.toPath());
+		bytes[bytes.length - 1] ^= 1;
+		Files.write(binaryFile.toPath(), bytes);
+		assertTrue(binaryFile.setLastModified(xmiFile.lastModified() + 10000));
+		handler = createHandler(uri, false, true);
+		binaryResource = handler.loadMostRecentModel();
+		assertTrue(binaryResource instanceof E4BinaryResource);
+		application = (MApplication) binaryResource.getContents().get(0);
+		assertNotEquals("binary", application.getChildren().get(0).getLabel());
+
+		// clear the persisted models
+		createHandler(uri, true, false).loadMostRecentModel();
+	}
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2015 IBM Corporation and others.
+ * Copyright (c) 2012, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -17,12 +17,19 @@ package org.eclipse.e4.ui.tests.application;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import org.eclipse.e4.core.contexts.IEclipseContext;
 import org.eclipse.e4.core.services.events.IEventBroker;
+import org.eclipse.e4.ui.internal.workbench.UIEventPublisher;
+import org.eclipse.e4.ui.model.application.MApplication;
 import org.eclipse.e4.ui.model.application.MApplicationElement;
 import org.eclipse.e4.ui.model.application.MApplicationFactory;
+import org.eclipse.e4.ui.model.application.ui.basic.MBasicFactory;
+import org.eclipse.e4.ui.model.application.ui.basic.MWindow;
 import org.eclipse.e4.ui.workbench.UIEvents;
 import org.eclipse.emf.common.util.EList;
 import org.junit.Before;
@@ -36,6 +43,7 @@ import org.osgi.service.event.Event;
 public class UIEventTypesTest extends HeadlessApplicationElementTest {
 	private Event event;
 	private int eventCount;
+	private final List<Event> events = new ArrayList<>();
 
 	@Override
 	protected MApplicationElement createApplicationElement(IEclipseContext appContext) throws Exception {
@@ -51,10 +59,12 @@ public class UIEventTypesTest extends HeadlessApplicationElementTest {
 		eventCount = 0;
 		appEB.subscribe(UIEvents.ApplicationElement.TOPIC_TAGS, event -> {
 			eventCount++;
+			events.add(event);
 			UIEventTypesTest.this.event = event;
 		});
 		appEB.subscribe(UIEvents.ApplicationElement.TOPIC_ELEMENTID, event -> {
 			eventCount++;
+			events.add(event);
 			UIEventTypesTest.this.event = event;
 		});
 
@@ -200,4 +210,115 @@ public class UIEventTypesTest extends HeadlessApplicationElementTest {
 		assertEquals(null, event.getProperty(UIEvents.EventTags.NEW_VALUE));
 	}
 
+	@Test
+	public void testBatchedAdd() {
+		UIEventPublisher publisher = rule.getApplicationContext().get(UIEventPublisher.class);
+		publisher.runBatched(() -> {
+			applicationElement.getTags().add("0");
+			applicationElement.getTags().addAll(Arrays.asList("1", "2"));
+			applicationElement.getTags().add("3");
+			assertEquals(0, eventCount);
+		});
+		assertEquals(1, eventCount);
+		assertEquals(applicationElement, event.getProperty(UIEvents.EventTags.ELEMENT));
+		assertEquals(UIEvents.EventTypes.ADD_MANY, event.getProperty(UIEvents.EventTags.TYPE));
+		assertEquals(Arrays.asList("0", "1", "2", "3"), event.getProperty(UIEvents.EventTags.NEW_VALUE));
+		assertEquals(0, event.getProperty(UIEvents.EventTags.POSITION));
+	}
+
+	@Test
+	public void testBatchedRemove() {
+		applicationElement.getTags().addAll(Arrays.asList("0", "1", "2"));
+		assertEquals(1, eventCount);
+
+		UIEventPublisher publisher = rule.getApplicationContext().get(UIEventPublisher.class);
+		publisher.runBatched(() -> {
+			applicationElement.getTags().remove("1");
+			applicationElement.getTags().remove("0");
+		});
+		assertEquals(2, eventCount);
+		assertEquals(UIEvents.EventTypes.REMOVE_MANY, event.getProperty(UIEvents.EventTags.TYPE));
+		assertEquals(Arrays.asList("1", "0"), event.getProperty(UIEvents.EventTags.OLD_VALUE));
+		assertEquals(null, event.getProperty(UIEvents.EventTags.POSITION));
+	}
+
+	@Test
+	public void testBatchedSet() {
+		UIEventPublisher publisher = rule.getApplicationContext().get(UIEventPublisher.class);
+		publisher.runBatched(() -> {
+			applicationElement.setElementId("aaa");
+			// nested batches are published with the outermost one
+			publisher.runBatched(() -> applicationElement.setElementId("bbb"));
+			applicationElement.setElementId("ccc");
+		});
+		assertEquals(1, eventCount);
+		assertEquals(UIEvents.EventTypes.SET, event.getProperty(UIEvents.EventTags.TYPE));
+		assertEquals(null, event.getProperty(UIEvents.EventTags.OLD_VALUE));
+		assertEquals("ccc", event.getProperty(UIEvents.EventTags.NEW_VALUE));
+	}
+
+	@Test
+	public void testBatchedMixed() {
+		UIEventPublisher publisher = rule.getApplicationContext().get(UIEventPublisher.class);
+		publisher.runBatched(() -> {
+			applicationElement.getTags().add("0");
+			applicationElement.setElementId("aaa");
+			applicationElement.getTags().add("1");
+			applicationElement.getTags().remove("0");
+		});
+		// the tag additions are not merged across the change of the id of the
+		// same element, nor with the removal after them
+		assertEquals(4, eventCount);
+		assertEquals(UIEvents.EventTypes.ADD, events.get(0).getProperty(UIEvents.EventTags.TYPE));
+		assertEquals("0", events.get(0).getProperty(UIEvents.EventTags.NEW_VALUE));
+		assertEquals(UIEvents.ApplicationElement.ELEMENTID, events.get(1).getProperty(UIEvents.EventTags.ATTNAME));
+		assertEquals("aaa", events.get(1).getProperty(UIEvents.EventTags.NEW_VALUE));
+		assertEquals(UIEvents.EventTypes.ADD, events.get(2).getProperty(UIEvents.EventTags.TYPE));
+		assertEquals("1", events.get(2).getProperty(UIEvents.EventTags.NEW_VALUE));
+		assertEquals(UIEvents.EventTypes.REMOVE, events.get(3).getProperty(UIEvents.EventTags.TYPE));
+		assertEquals("0", events.get(3).getProperty(UIEvents.EventTags.OLD_VALUE));
+	}
+
+	@Test
+	public void testBatchedOtherElement() {
+		MWindow window = MBasicFactory.INSTANCE.createWindow();
+		((MApplication) applicationElement).getChildren().add(window);
+
+		UIEventPublisher publisher = rule.getApplicationContext().get(UIEventPublisher.class);
+		publisher.runBatched(() -> {
+			applicationElement.getTags().add("0");
+			window.setElementId("aaa");
+			applicationElement.getTags().add("1");
+		});
+		// the change of another element does not end the merged additions,
+		// which are published in the place of the first one
+		assertEquals(2, eventCount);
+		assertEquals(applicationElement, events.get(0).getProperty(UIEvents.EventTags.ELEMENT));
+		assertEquals(UIEvents.EventTypes.ADD_MANY, events.get(0).getProperty(UIEvents.EventTags.TYPE));
+		assertEquals(Arrays.asList("0", "1"), events.get(0).getProperty(UIEvents.EventTags.NEW_VALUE));
+		assertEquals(window, events.get(1).getProperty(UIEvents.EventTags.ELEMENT));
+		assertEquals("aaa", events.get(1).getProperty(UIEvents.EventTags.NEW_VALUE));
+	}
+
+	@Test
+	public void testBatchedException() {
+		UIEventPublisher publisher = rule.getApplicationContext().get(UIEventPublisher.class);
+		try {
+			publisher.runBatched(() -> {
+				applicationElement.getTags().add("0");
+				throw new IllegalStateException();
+			});
+			fail("The exception must be rethrown");
+		} catch (IllegalStateException e) {
+			// expected
+		}
+		// the change made before the failure is still published
+		assertEquals(1, eventCount);
+		assertEquals(UIEvents.EventTypes.ADD, event.getProperty(UIEvents.EventTags.TYPE));
+		assertEquals("0", event.getProperty(UIEvents.EventTags.NEW_VALUE));
+
+		// and the publisher is not left in batch mode
+		applicationElement.setElementId("aaa");
+		assertEquals(2, eventCount);
+	}
 }
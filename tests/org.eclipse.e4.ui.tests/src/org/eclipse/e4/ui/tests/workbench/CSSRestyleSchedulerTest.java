@@ -0,0 +1,140 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.e4.ui.tests.workbench;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.eclipse.e4.core.contexts.EclipseContextFactory;
+import org.eclipse.e4.core.contexts.IEclipseContext;
+import org.eclipse.e4.ui.css.core.engine.CSSEngine;
+import org.eclipse.e4.ui.css.swt.dom.WidgetElement;
+import org.eclipse.e4.ui.internal.workbench.swt.PartRenderingEngine;
+import org.eclipse.e4.ui.services.IStylingEngine;
+import org.eclipse.e4.ui.workbench.IWorkbench;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.graphics.RGB;
+import org.eclipse.swt.widgets.Composite;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Label;
+import org.eclipse.swt.widgets.Shell;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the re-styling of widgets whose CSS class or id is changed through the
+ * {@link IStylingEngine} of the rendering engine.
+ */
+public class CSSRestyleSchedulerTest {
+
+	private static final RGB RED = new RGB(255, 0, 0);
+	private static final RGB GREEN = new RGB(0, 255, 0);
+	private static final RGB BLUE = new RGB(0, 0, 255);
+
+	private static final String CSS = """
+			Composite { background-color: #00FF00; }
+			Composite.active { background-color: #FF0000; }
+			Label { background-color: inherit; color: #00FF00; }
+			Label.marked { color: #0000FF; }
+			.highlighted Label { color: #FF0000; }
+			""";
+
+	private Display display;
+	private CSSEngine oldEngine;
+	private Object oldContext;
+	private Path cssFile;
+	private Shell shell;
+	private Composite composite;
+	private Label label;
+	private IStylingEngine stylingEngine;
+
+	@Before
+	public void setUp() throws IOException {
+		display = Display.getDefault();
+		oldEngine = WidgetElement.getEngine(display);
+		oldContext = display.getData("org.eclipse.e4.ui.css.context");
+		cssFile = Files.createTempFile("restyle", ".css");
+		Files.writeString(cssFile, CSS);
+
+		IEclipseContext appContext = EclipseContextFactory.create();
+		appContext.set(IWorkbench.CSS_URI_ARG, cssFile.toUri().toString());
+		PartRenderingEngine.initializeStyling(display, appContext);
+		stylingEngine = appContext.get(IStylingEngine.class);
+
+		shell = new Shell(display);
+		composite = new Composite(shell, SWT.NONE);
+		label = new Label(composite, SWT.NONE);
+		stylingEngine.setClassname(shell, "main");
+		stylingEngine.setClassname(composite, "view");
+		stylingEngine.setClassname(label, "text");
+	}
+
+	@After
+	public void tearDown() throws IOException {
+		shell.dispose();
+		WidgetElement.getEngine(display).dispose();
+		display.setData("org.eclipse.e4.ui.css.context", oldContext);
+		WidgetElement.setEngine(display, oldEngine);
+		Files.delete(cssFile);
+	}
+
+	@Test
+	public void testFirstClassIsStyledImmediately() {
+		assertEquals(GREEN, composite.getBackground().getRGB());
+		assertEquals(GREEN, label.getBackground().getRGB());
+		assertEquals(GREEN, label.getForeground().getRGB());
+	}
+
+	@Test
+	public void testRestyleIsDeferred() {
+		stylingEngine.setClassname(label, "text marked");
+		assertEquals(GREEN, label.getForeground().getRGB());
+
+		processEvents();
+		assertEquals(BLUE, label.getForeground().getRGB());
+	}
+
+	@Test
+	public void testRestyleDescendants() {
+		stylingEngine.setClassname(shell, "main highlighted");
+		processEvents();
+		assertEquals(RED, label.getForeground().getRGB());
+	}
+
+	@Test
+	public void testRestyleInheritingDescendants() {
+		stylingEngine.setClassname(composite, "view active");
+		processEvents();
+		assertEquals(RED, composite.getBackground().getRGB());
+		assertEquals(RED, label.getBackground().getRGB());
+	}
+
+	@Test
+	public void testDisposedWidgetIsSkipped() {
+		stylingEngine.setClassname(label, "text marked");
+		label.dispose();
+		processEvents();
+		assertEquals(GREEN, composite.getBackground().getRGB());
+	}
+
+	private void processEvents() {
+		while (display.readAndDispatch()) {
+			// process the scheduled re-styling
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2016, 2021 EclipseSource Muenchen GmbH and others.
+ * Copyright (c) 2016, 2026 EclipseSource Muenchen GmbH and others.
  *
  *
  * This program and the accompanying materials
@@ -17,6 +17,7 @@
 package org.eclipse.e4.ui.tests.workbench;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 
 import jakarta.annotation.PostConstruct;
@@ -37,6 +38,7 @@ import org.eclipse.core.runtime.RegistryFactory;
 import org.eclipse.e4.core.contexts.ContextInjectionFactory;
 import org.eclipse.e4.core.contexts.IEclipseContext;
 import org.eclipse.e4.ui.di.UISynchronize;
+import org.eclipse.e4.ui.internal.workbench.E4BinaryResource;
 import org.eclipse.e4.ui.internal.workbench.E4XMIResource;
 import org.eclipse.e4.ui.internal.workbench.E4XMIResourceFactory;
 import org.eclipse.e4.ui.internal.workbench.ExtensionsSort;
@@ -386,6 +388,48 @@ public class ModelAssemblerTests {
 		assertEquals(0, logMessages.size());
 	}
 
+	/**
+	 * Tests that a fragment file is read from the cache when the model is
+	 * processed again, with the same ids and resolved imports.
+	 */
+	@Test
+	public void testFragments_cached() throws Exception {
+		for (int i = 0; i < 2; i++) {
+			if (i > 0) {
+				// start over with a new application model
+				tearDown();
+				setup();
+			}
+			MTrimmedWindow trimmedWindow = modelService.createModelElement(MTrimmedWindow.class);
+			application.getChildren().add(trimmedWindow);
+			MPart part = modelService.createModelElement(MPart.class);
+			part.setElementId("testModelProcessingOrder-part");
+			trimmedWindow.getChildren().add(part);
+			MArea area = modelService.createModelElement(MArea.class);
+			area.setElementId("testModelProcessingOrder-area");
+			trimmedWindow.getChildren().add(area);
+
+			IContributor contributor = ContributorFactorySimple.createContributor(BUNDLE_SYMBOLIC_NAME);
+			IExtensionRegistry registry = createTestExtensionRegistry();
+			assembler.setExtensionRegistry(registry);
+			String dataFilePath = "org.eclipse.e4.ui.tests/data/ModelAssembler/modelProcessingOrder.xml";
+			registry.addContribution(getContentsAsInputStream(dataFilePath), contributor, false, null, null, null);
+
+			assembler.processModel(true);
+
+			MPlaceholder placeholder = (MPlaceholder) modelService.find("testModelProcessingOrder-placeholder",
+					application);
+			assertNotNull(placeholder);
+			assertEquals(part, placeholder.getRef());
+			assertEquals("_ltfLANscEeWEUpR9iKVK6Q", appResource.getID((EObject) placeholder));
+			assertEquals(0, logMessages.size());
+		}
+
+		URI fragmentURI = URI.createPlatformPluginURI(
+				BUNDLE_SYMBOLIC_NAME + "/data/ModelAssembler/modelProcessingOrder-fragment.e4xmi", false);
+		assertTrue(resourceSet.getResource(fragmentURI, false) instanceof E4BinaryResource);
+	}
+
 	/**
 	 * Tests that pre-processors running from a non-persisted state that are
 	 * marked as "always" are executed.
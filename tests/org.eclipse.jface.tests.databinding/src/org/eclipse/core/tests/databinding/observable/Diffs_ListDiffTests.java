@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2008 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -20,6 +20,7 @@ import static org.junit.Assert.assertEquals;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Random;
 
 import org.eclipse.core.databinding.observable.Diffs;
 import org.eclipse.core.databinding.observable.list.ListDiff;
@@ -268,9 +269,59 @@ public class Diffs_ListDiffTests {
 		checkComputedListDiff(List.of("a", "b", "c"), List.of("c", "a", "b"));
 	}
 
+	@Test
+	public void testComputeMinimalListDiff() {
+		checkMinimalListDiff(List.of(), List.of(), 0);
+		checkMinimalListDiff(List.of("a", "b"), List.of(), 2);
+		checkMinimalListDiff(List.of(), List.of("a", "b"), 2);
+		checkMinimalListDiff(List.of("a", "b", "c", "d"), List.of("a", "x", "c", "d"), 2);
+		checkMinimalListDiff(List.of("a", "b", "c"), List.of("c", "b", "a"), 4);
+		checkMinimalListDiff(List.of("a", "b", "c", "a", "b", "b", "a"), List.of("c", "b", "a", "b", "a", "c"), 5);
+		checkMinimalListDiff(Arrays.asList("a", null, "b"), Arrays.asList(null, "b", null), 2);
+	}
+
+	@Test
+	public void testComputeMinimalListDiff_Random() {
+		Random random = new Random(42);
+		for (int i = 0; i < 500; i++) {
+			List<Object> oldList = randomList(random);
+			List<Object> newList = randomList(random);
+			checkMinimalListDiff(oldList, newList,
+					oldList.size() + newList.size() - 2 * longestCommonSubsequence(oldList, newList));
+		}
+	}
+
+	private static List<Object> randomList(Random random) {
+		int size = random.nextInt(30);
+		List<Object> list = new ArrayList<>(size);
+		for (int i = 0; i < size; i++) {
+			list.add(String.valueOf((char) ('a' + random.nextInt(5))));
+		}
+		return list;
+	}
+
+	private static int longestCommonSubsequence(List<Object> a, List<Object> b) {
+		int[][] lengths = new int[a.size() + 1][b.size() + 1];
+		for (int i = 1; i <= a.size(); i++) {
+			for (int j = 1; j <= b.size(); j++) {
+				lengths[i][j] = a.get(i - 1).equals(b.get(j - 1)) ? lengths[i - 1][j - 1] + 1
+						: Math.max(lengths[i - 1][j], lengths[i][j - 1]);
+			}
+		}
+		return lengths[a.size()][b.size()];
+	}
+
+	private static void checkMinimalListDiff(List<Object> oldList, List<Object> newList, int changes) {
+		ListDiff<?> diff = Diffs.computeMinimalListDiff(oldList, newList);
+		assertEquals("number of changes", changes, diff.getDifferences().length);
+		applyListDiff(diff, oldList, newList);
+	}
+
 	private static void checkComputedListDiff(List<Object> oldList, List<Object> newList) {
-		ListDiff<?> diff = Diffs.computeListDiff(oldList, newList);
+		applyListDiff(Diffs.computeListDiff(oldList, newList), oldList, newList);
+	}
 
+	private static void applyListDiff(ListDiff<?> diff, List<Object> oldList, List<Object> newList) {
 		final List<Object> list = new ArrayList<>(oldList);
 		ListDiffVisitor<Object> listDiffVisitor = new ListDiffVisitor<>() {
 			@Override
@@ -0,0 +1,241 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.core.tests.databinding.observable;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.core.databinding.observable.ExecutorRealm;
+import org.eclipse.core.databinding.observable.Observables;
+import org.eclipse.core.databinding.observable.Realm;
+import org.eclipse.core.databinding.observable.list.IObservableList;
+import org.eclipse.core.databinding.observable.list.WritableList;
+import org.eclipse.core.databinding.observable.value.IObservableValue;
+import org.eclipse.core.databinding.observable.value.WritableValue;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for {@link ExecutorRealm} and the bridges of
+ * {@link Observables#bridgeValue(Realm, IObservableValue)} and
+ * {@link Observables#bridgeList(Realm, IObservableList)}.
+ */
+public class ExecutorRealmTest {
+
+	private ExecutorRealm worker;
+	/** Stands in for the display realm */
+	private ExecutorRealm ui;
+
+	@Before
+	public void setUp() throws Exception {
+		worker = new ExecutorRealm("worker");
+		ui = new ExecutorRealm("ui");
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		worker.dispose();
+		ui.dispose();
+	}
+
+	@Test
+	public void testRunsInRealmThread() throws Exception {
+		boolean[] current = new boolean[1];
+		Realm[] defaultRealm = new Realm[1];
+		run(worker, () -> {
+			current[0] = worker.isCurrent();
+			defaultRealm[0] = Realm.getDefault();
+		});
+
+		assertTrue(current[0]);
+		assertSame(worker, defaultRealm[0]);
+		assertFalse(worker.isCurrent());
+	}
+
+	@Test
+	public void testTimerExec() throws Exception {
+		CountDownLatch latch = new CountDownLatch(1);
+		worker.timerExec(10, latch::countDown);
+
+		assertTrue(latch.await(5, TimeUnit.SECONDS));
+	}
+
+	@Test
+	public void testExecAfterDispose() throws Exception {
+		worker.dispose();
+
+		assertTrue(worker.isDisposed());
+		worker.asyncExec(() -> {
+		});
+		worker.timerExec(10, () -> {
+		});
+	}
+
+	@Test
+	public void testBridgeValueBatchesChanges() throws Exception {
+		List<WritableValue<Integer>> source = new ArrayList<>();
+		run(worker, () -> source.add(new WritableValue<>(Integer.valueOf(0), Integer.class)));
+		List<Object> events = new ArrayList<>();
+		List<IObservableValue<Integer>> bridge = new ArrayList<>();
+		run(ui, () -> {
+			IObservableValue<Integer> value = Observables.bridgeValue(ui, source.get(0));
+			value.addValueChangeListener(event -> events.add(event.diff.getNewValue()));
+			bridge.add(value);
+		});
+		settle();
+
+		CountDownLatch busy = block(ui);
+		run(worker, () -> {
+			for (int i = 1; i <= 100; i++) {
+				source.get(0).setValue(Integer.valueOf(i));
+			}
+		});
+		busy.countDown();
+		settle();
+
+		List<Object> values = new ArrayList<>();
+		boolean[] stale = new boolean[1];
+		run(ui, () -> {
+			values.add(bridge.get(0).getValue());
+			stale[0] = bridge.get(0).isStale();
+			bridge.get(0).dispose();
+		});
+		assertEquals(Arrays.asList(0, 100), events);
+		assertEquals(Arrays.asList(100), values);
+		assertFalse(stale[0]);
+	}
+
+	@Test
+	public void testBridgeValueSetValue() throws Exception {
+		List<WritableValue<String>> source = new ArrayList<>();
+		run(worker, () -> source.add(new WritableValue<>("a", String.class)));
+		List<IObservableValue<String>> bridge = new ArrayList<>();
+		run(ui, () -> bridge.add(Observables.bridgeValue(ui, source.get(0))));
+		settle();
+
+		run(ui, () -> bridge.get(0).setValue("b"));
+		settle();
+
+		List<Object> values = new ArrayList<>();
+		run(worker, () -> values.add(source.get(0).getValue()));
+		run(ui, () -> values.add(bridge.get(0).getValue()));
+		assertEquals(Arrays.asList("b", "b"), values);
+	}
+
+	@Test
+	public void testBridgeDisposeInSourceRealm() throws Exception {
+		List<Boolean> removedInRealm = new ArrayList<>();
+		List<WritableValue<String>> source = new ArrayList<>();
+		run(worker, () -> source.add(new WritableValue<>("a", String.class) {
+			@Override
+			protected void lastListenerRemoved() {
+				removedInRealm.add(Boolean.valueOf(worker.isCurrent()));
+			}
+		}));
+		List<IObservableValue<String>> bridge = new ArrayList<>();
+		run(ui, () -> bridge.add(Observables.bridgeValue(ui, source.get(0))));
+		settle();
+
+		run(ui, () -> bridge.get(0).dispose());
+		settle();
+
+		assertEquals(Arrays.asList(Boolean.TRUE), removedInRealm);
+	}
+
+	@Test
+	public void testBridgeListBatchesChanges() throws Exception {
+		List<WritableList<String>> source = new ArrayList<>();
+		run(worker, () -> {
+			WritableList<String> list = new WritableList<>();
+			list.add("a");
+			source.add(list);
+		});
+		List<Integer> eventSizes = new ArrayList<>();
+		List<IObservableList<String>> bridge = new ArrayList<>();
+		List<String> copy = new ArrayList<>();
+		run(ui, () -> {
+			IObservableList<String> list = Observables.bridgeList(ui, source.get(0));
+			list.addListChangeListener(event -> {
+				eventSizes.add(Integer.valueOf(event.diff.getDifferences().length));
+				event.diff.applyTo(copy);
+			});
+			bridge.add(list);
+		});
+		settle();
+
+		CountDownLatch busy = block(ui);
+		run(worker, () -> {
+			WritableList<String> list = source.get(0);
+			list.add("b");
+			list.add(0, "c");
+			list.remove("a");
+			list.add("d");
+		});
+		busy.countDown();
+		settle();
+
+		List<Object> contents = new ArrayList<>();
+		run(ui, () -> contents.addAll(bridge.get(0)));
+		assertEquals(Arrays.asList(1, 4), eventSizes);
+		assertEquals(Arrays.asList("c", "b", "d"), contents);
+		assertEquals(contents, copy);
+	}
+
+	/**
+	 * Waits until the runnables posted between the realms have run.
+	 */
+	private void settle() throws InterruptedException {
+		run(worker, () -> {
+		});
+		run(ui, () -> {
+		});
+	}
+
+	/**
+	 * Keeps the given realm busy until the returned latch is counted down.
+	 */
+	private static CountDownLatch block(Realm realm) {
+		CountDownLatch latch = new CountDownLatch(1);
+		realm.asyncExec(() -> {
+			try {
+				latch.await(5, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		});
+		return latch;
+	}
+
+	private static void run(Realm realm, Runnable runnable) throws InterruptedException {
+		CountDownLatch latch = new CountDownLatch(1);
+		realm.asyncExec(() -> {
+			try {
+				runnable.run();
+			} finally {
+				latch.countDown();
+			}
+		});
+		assertTrue(latch.await(5, TimeUnit.SECONDS));
+	}
+}
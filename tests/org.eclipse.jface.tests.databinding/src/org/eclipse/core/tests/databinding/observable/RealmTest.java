@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2018 Brad Reynolds and others.
+ * Copyright (c) 2006, 2026 Brad Reynolds and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,10 +15,26 @@
 package org.eclipse.core.tests.databinding.observable;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Collections;
+import java.util.Set;
 
 import org.eclipse.core.databinding.observable.Realm;
+import org.eclipse.core.databinding.observable.list.WritableList;
+import org.eclipse.core.databinding.observable.map.WritableMap;
+import org.eclipse.core.databinding.observable.set.WritableSet;
+import org.eclipse.core.databinding.observable.value.ComputedValue;
+import org.eclipse.core.databinding.observable.value.IObservableValue;
+import org.eclipse.core.databinding.observable.value.WritableValue;
+import org.eclipse.jface.databinding.conformance.util.ChangeEventTracker;
 import org.eclipse.jface.databinding.conformance.util.CurrentRealm;
+import org.eclipse.jface.databinding.conformance.util.ListChangeEventTracker;
+import org.eclipse.jface.databinding.conformance.util.MapChangeEventTracker;
 import org.eclipse.jface.databinding.conformance.util.RealmTester;
+import org.eclipse.jface.databinding.conformance.util.SetChangeEventTracker;
+import org.eclipse.jface.databinding.conformance.util.StaleEventTracker;
+import org.eclipse.jface.databinding.conformance.util.ValueChangeEventTracker;
 import org.junit.Test;
 
 /**
@@ -35,4 +51,152 @@ public class RealmTest {
 
 		assertEquals("old realm should have been restored", oldRealm, Realm.getDefault());
 	}
+
+	@Test
+	public void testRunTransaction_MergesListChanges() {
+		Realm realm = new CurrentRealm(true);
+		WritableList<String> list = new WritableList<>(realm);
+		ListChangeEventTracker<String> tracker = ListChangeEventTracker.observe(list);
+
+		realm.runTransaction(() -> {
+			list.add("a");
+			list.add("b");
+			list.remove(0);
+			assertEquals(0, tracker.count);
+		});
+
+		assertEquals(1, tracker.count);
+		assertEquals(3, tracker.event.diff.getDifferences().length);
+	}
+
+	@Test
+	public void testRunTransaction_CancelledChangesAreNotFired() {
+		Realm realm = new CurrentRealm(true);
+		WritableSet<String> set = new WritableSet<>(realm);
+		WritableValue<String> value = new WritableValue<>(realm, "a", String.class);
+		SetChangeEventTracker setTracker = SetChangeEventTracker.observe(set);
+		ValueChangeEventTracker<String> valueTracker = ValueChangeEventTracker.observe(value);
+		ChangeEventTracker setChangeTracker = ChangeEventTracker.observe(set);
+		ChangeEventTracker valueChangeTracker = ChangeEventTracker.observe(value);
+
+		realm.runTransaction(() -> {
+			set.add("a");
+			set.remove("a");
+			value.setValue("b");
+			value.setValue("a");
+		});
+
+		assertEquals(0, setTracker.count);
+		assertEquals(0, valueTracker.count);
+		assertEquals(0, setChangeTracker.count);
+		assertEquals(0, valueChangeTracker.count);
+	}
+
+	@Test
+	public void testRunTransaction_StaleEventOfCancelledChanges() {
+		Realm realm = new CurrentRealm(true);
+		WritableSet<String> set = new WritableSet<>(realm);
+		WritableSet<String> staleSet = new WritableSet<>(realm);
+		StaleEventTracker staleTracker = StaleEventTracker.observe(set);
+		StaleEventTracker stillStaleTracker = StaleEventTracker.observe(staleSet);
+		ChangeEventTracker stillStaleChangeTracker = ChangeEventTracker.observe(staleSet);
+
+		realm.runTransaction(() -> {
+			set.setStale(true);
+			set.add("a");
+			set.remove("a");
+			set.setStale(false);
+			staleSet.setStale(true);
+			staleSet.add("a");
+			staleSet.remove("a");
+		});
+
+		assertEquals(0, staleTracker.count);
+		assertEquals(1, stillStaleTracker.count);
+		assertEquals(0, stillStaleChangeTracker.count);
+	}
+
+	@Test
+	public void testRunTransaction_MergesSetAndValueChanges() {
+		Realm realm = new CurrentRealm(true);
+		WritableSet<String> set = new WritableSet<>(realm, Collections.singleton("a"), String.class);
+		WritableValue<String> value = new WritableValue<>(realm, "a", String.class);
+		SetChangeEventTracker setTracker = SetChangeEventTracker.observe(set);
+		ValueChangeEventTracker<String> valueTracker = ValueChangeEventTracker.observe(value);
+		ChangeEventTracker setChangeTracker = ChangeEventTracker.observe(set);
+
+		realm.runTransaction(() -> {
+			set.remove("a");
+			set.add("b");
+			set.add("a");
+			value.setValue("b");
+			value.setValue("c");
+		});
+
+		assertEquals(1, setTracker.count);
+		assertEquals(1, setChangeTracker.count);
+		assertEquals(Set.of("b"), setTracker.event.diff.getAdditions());
+		assertTrue(setTracker.event.diff.getRemovals().isEmpty());
+		assertEquals(1, valueTracker.count);
+		assertEquals("a", valueTracker.event.diff.getOldValue());
+		assertEquals("c", valueTracker.event.diff.getNewValue());
+	}
+
+	@Test
+	public void testRunTransaction_MergesMapChanges() {
+		Realm realm = new CurrentRealm(true);
+		WritableMap<String, String> map = new WritableMap<>(realm);
+		map.put("a", "1");
+		MapChangeEventTracker<String, String> tracker = MapChangeEventTracker.observe(map);
+
+		realm.runTransaction(() -> {
+			map.put("a", "2");
+			map.put("b", "1");
+			map.remove("b");
+			map.put("a", "3");
+		});
+
+		assertEquals(1, tracker.count);
+		assertEquals(Set.of("a"), tracker.event.diff.getChangedKeys());
+		assertEquals("1", tracker.event.diff.getOldValue("a"));
+		assertEquals("3", tracker.event.diff.getNewValue("a"));
+		assertTrue(tracker.event.diff.getAddedKeys().isEmpty());
+	}
+
+	@Test
+	public void testRunTransaction_DependentsAreNotifiedOnce() {
+		Realm realm = new CurrentRealm(true);
+		RealmTester.setDefault(realm);
+		try {
+			WritableValue<Integer> a = new WritableValue<>(realm, 1, Integer.class);
+			WritableValue<Integer> b = new WritableValue<>(realm, 2, Integer.class);
+			IObservableValue<Integer> sum = ComputedValue.create(() -> a.getValue() + b.getValue());
+			ValueChangeEventTracker<Integer> tracker = ValueChangeEventTracker.observe(sum);
+
+			realm.runTransaction(() -> {
+				a.setValue(10);
+				b.setValue(20);
+			});
+
+			assertEquals(1, tracker.count);
+			assertEquals(Integer.valueOf(30), sum.getValue());
+		} finally {
+			RealmTester.setDefault(null);
+		}
+	}
+
+	@Test
+	public void testRunTransaction_Nested() {
+		Realm realm = new CurrentRealm(true);
+		WritableList<String> list = new WritableList<>(realm);
+		ListChangeEventTracker<String> tracker = ListChangeEventTracker.observe(list);
+
+		realm.runTransaction(() -> {
+			list.add("a");
+			realm.runTransaction(() -> list.add("b"));
+			assertEquals(0, tracker.count);
+		});
+
+		assertEquals(1, tracker.count);
+	}
 }
@@ -0,0 +1,134 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.core.tests.databinding.observable.list;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.core.databinding.observable.Realm;
+import org.eclipse.core.databinding.observable.list.WritableBooleanList;
+import org.eclipse.jface.databinding.conformance.util.CurrentRealm;
+import org.eclipse.jface.databinding.conformance.util.ListChangeEventTracker;
+import org.eclipse.jface.databinding.conformance.util.RealmTester;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for {@link WritableBooleanList}.
+ */
+public class WritableBooleanListTest {
+
+	private WritableBooleanList list;
+	private ListChangeEventTracker<Boolean> tracker;
+
+	@Before
+	public void setUp() throws Exception {
+		RealmTester.setDefault(new CurrentRealm(true));
+		list = new WritableBooleanList(Realm.getDefault(), new boolean[] { true, false, false });
+		tracker = ListChangeEventTracker.observe(list);
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		RealmTester.setDefault(null);
+	}
+
+	@Test
+	public void testElementType() {
+		assertEquals(Boolean.TYPE, list.getElementType());
+	}
+
+	@Test
+	public void testAddBoolean() {
+		list.addBoolean(1, true);
+		list.addBoolean(true);
+
+		assertArrayEquals(new boolean[] { true, true, false, false, true }, list.toBooleanArray());
+		assertEquals(2, tracker.count);
+		assertEquals(Boolean.valueOf(true), list.get(4));
+	}
+
+	@Test
+	public void testSetBoolean() {
+		List<Boolean> old = new ArrayList<>(list);
+		assertEquals(false, list.setBoolean(1, true));
+
+		assertArrayEquals(new boolean[] { true, true, false }, list.toBooleanArray());
+		assertDiffApplies(old);
+	}
+
+	@Test
+	public void testRemoveBoolean() {
+		List<Boolean> old = new ArrayList<>(list);
+		assertEquals(true, list.removeBoolean(0));
+
+		assertArrayEquals(new boolean[] { false, false }, list.toBooleanArray());
+		assertDiffApplies(old);
+	}
+
+	@Test
+	public void testAddAll() {
+		List<Boolean> old = new ArrayList<>(list);
+		list.addAll(1, Arrays.asList(true, true));
+
+		assertArrayEquals(new boolean[] { true, true, true, false, false }, list.toBooleanArray());
+		assertEquals(1, tracker.count);
+		assertDiffApplies(old);
+	}
+
+	@Test
+	public void testMove() {
+		List<Boolean> old = new ArrayList<>(list);
+		assertEquals(Boolean.valueOf(true), list.move(0, 2));
+
+		assertArrayEquals(new boolean[] { false, false, true }, list.toBooleanArray());
+		assertDiffApplies(old);
+	}
+
+	@Test
+	public void testClear() {
+		List<Boolean> old = new ArrayList<>(list);
+		list.clear();
+
+		assertEquals(0, list.size());
+		assertEquals(1, tracker.count);
+		assertDiffApplies(old);
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void testGetBooleanOutOfBounds() {
+		list.getBoolean(3);
+	}
+
+	@Test
+	public void testRealmChecks() {
+		RealmTester.exerciseCurrent(() -> {
+			WritableBooleanList list = new WritableBooleanList();
+			list.addBoolean(true);
+			list.setBoolean(0, true);
+			list.removeBoolean(0);
+		});
+	}
+
+	private void assertDiffApplies(List<Boolean> old) {
+		tracker.event.diff.applyTo(old);
+		assertEquals(list, old);
+	}
+}
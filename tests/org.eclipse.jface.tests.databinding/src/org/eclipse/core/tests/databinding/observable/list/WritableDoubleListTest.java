@@ -0,0 +1,134 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.core.tests.databinding.observable.list;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.core.databinding.observable.Realm;
+import org.eclipse.core.databinding.observable.list.WritableDoubleList;
+import org.eclipse.jface.databinding.conformance.util.CurrentRealm;
+import org.eclipse.jface.databinding.conformance.util.ListChangeEventTracker;
+import org.eclipse.jface.databinding.conformance.util.RealmTester;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for {@link WritableDoubleList}.
+ */
+public class WritableDoubleListTest {
+
+	private WritableDoubleList list;
+	private ListChangeEventTracker<Double> tracker;
+
+	@Before
+	public void setUp() throws Exception {
+		RealmTester.setDefault(new CurrentRealm(true));
+		list = new WritableDoubleList(Realm.getDefault(), new double[] { 1.5, Double.NaN, -0.0 });
+		tracker = ListChangeEventTracker.observe(list);
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		RealmTester.setDefault(null);
+	}
+
+	@Test
+	public void testElementType() {
+		assertEquals(Double.TYPE, list.getElementType());
+	}
+
+	@Test
+	public void testAddDouble() {
+		list.addDouble(1, Double.MAX_VALUE);
+		list.addDouble(1.5);
+
+		assertArrayEquals(new double[] { 1.5, Double.MAX_VALUE, Double.NaN, -0.0, 1.5 }, list.toDoubleArray(), 0);
+		assertEquals(2, tracker.count);
+		assertEquals(Double.valueOf(1.5), list.get(4));
+	}
+
+	@Test
+	public void testSetDouble() {
+		List<Double> old = new ArrayList<>(list);
+		assertEquals(Double.NaN, list.setDouble(1, Double.MAX_VALUE), 0);
+
+		assertArrayEquals(new double[] { 1.5, Double.MAX_VALUE, -0.0 }, list.toDoubleArray(), 0);
+		assertDiffApplies(old);
+	}
+
+	@Test
+	public void testRemoveDouble() {
+		List<Double> old = new ArrayList<>(list);
+		assertEquals(1.5, list.removeDouble(0), 0);
+
+		assertArrayEquals(new double[] { Double.NaN, -0.0 }, list.toDoubleArray(), 0);
+		assertDiffApplies(old);
+	}
+
+	@Test
+	public void testAddAll() {
+		List<Double> old = new ArrayList<>(list);
+		list.addAll(1, Arrays.asList(Double.MAX_VALUE, 1.5));
+
+		assertArrayEquals(new double[] { 1.5, Double.MAX_VALUE, 1.5, Double.NaN, -0.0 }, list.toDoubleArray(), 0);
+		assertEquals(1, tracker.count);
+		assertDiffApplies(old);
+	}
+
+	@Test
+	public void testMove() {
+		List<Double> old = new ArrayList<>(list);
+		assertEquals(Double.valueOf(1.5), list.move(0, 2));
+
+		assertArrayEquals(new double[] { Double.NaN, -0.0, 1.5 }, list.toDoubleArray(), 0);
+		assertDiffApplies(old);
+	}
+
+	@Test
+	public void testClear() {
+		List<Double> old = new ArrayList<>(list);
+		list.clear();
+
+		assertEquals(0, list.size());
+		assertEquals(1, tracker.count);
+		assertDiffApplies(old);
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void testGetDoubleOutOfBounds() {
+		list.getDouble(3);
+	}
+
+	@Test
+	public void testRealmChecks() {
+		RealmTester.exerciseCurrent(() -> {
+			WritableDoubleList list = new WritableDoubleList();
+			list.addDouble(1.5);
+			list.setDouble(0, Double.MAX_VALUE);
+			list.removeDouble(0);
+		});
+	}
+
+	private void assertDiffApplies(List<Double> old) {
+		tracker.event.diff.applyTo(old);
+		assertEquals(list, old);
+	}
+}
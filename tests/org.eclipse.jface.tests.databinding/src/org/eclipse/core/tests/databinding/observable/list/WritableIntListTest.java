@@ -0,0 +1,161 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.core.tests.databinding.observable.list;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.core.databinding.observable.Realm;
+import org.eclipse.core.databinding.observable.list.WritableIntList;
+import org.eclipse.jface.databinding.conformance.util.CurrentRealm;
+import org.eclipse.jface.databinding.conformance.util.ListChangeEventTracker;
+import org.eclipse.jface.databinding.conformance.util.RealmTester;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for {@link WritableIntList}.
+ */
+public class WritableIntListTest {
+
+	private WritableIntList list;
+	private ListChangeEventTracker<Integer> tracker;
+
+	@Before
+	public void setUp() throws Exception {
+		RealmTester.setDefault(new CurrentRealm(true));
+		list = new WritableIntList(Realm.getDefault(), new int[] { 1, 2, 3 });
+		tracker = ListChangeEventTracker.observe(list);
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		RealmTester.setDefault(null);
+	}
+
+	@Test
+	public void testElementType() {
+		assertEquals(Integer.TYPE, list.getElementType());
+	}
+
+	@Test
+	public void testAddInt() {
+		for (int i = 4; i <= 100; i++) {
+			list.addInt(i);
+		}
+
+		assertEquals(100, list.size());
+		assertEquals(100, list.getInt(99));
+		assertEquals(97, tracker.count);
+	}
+
+	@Test
+	public void testAddIntAtIndex() {
+		List<Integer> old = new ArrayList<>(list);
+		list.addInt(1, 9);
+
+		assertArrayEquals(new int[] { 1, 9, 2, 3 }, list.toIntArray());
+		assertEquals(1, tracker.count);
+		assertDiffApplies(old);
+	}
+
+	@Test
+	public void testSetInt() {
+		List<Integer> old = new ArrayList<>(list);
+		assertEquals(2, list.setInt(1, 5));
+
+		assertArrayEquals(new int[] { 1, 5, 3 }, list.toIntArray());
+		assertDiffApplies(old);
+	}
+
+	@Test
+	public void testRemoveInt() {
+		List<Integer> old = new ArrayList<>(list);
+		assertEquals(1, list.removeInt(0));
+
+		assertArrayEquals(new int[] { 2, 3 }, list.toIntArray());
+		assertDiffApplies(old);
+	}
+
+	@Test
+	public void testRemoveObject() {
+		List<Integer> old = new ArrayList<>(list);
+		assertTrue(list.remove(Integer.valueOf(2)));
+
+		assertArrayEquals(new int[] { 1, 3 }, list.toIntArray());
+		assertDiffApplies(old);
+	}
+
+	@Test
+	public void testAddAll() {
+		List<Integer> old = new ArrayList<>(list);
+		list.addAll(1, Arrays.asList(7, 8));
+
+		assertArrayEquals(new int[] { 1, 7, 8, 2, 3 }, list.toIntArray());
+		assertEquals(1, tracker.count);
+		assertDiffApplies(old);
+	}
+
+	@Test
+	public void testMove() {
+		List<Integer> old = new ArrayList<>(list);
+		assertEquals(Integer.valueOf(1), list.move(0, 2));
+
+		assertArrayEquals(new int[] { 2, 3, 1 }, list.toIntArray());
+		assertEquals(1, tracker.count);
+		assertDiffApplies(old);
+	}
+
+	@Test
+	public void testClear() {
+		List<Integer> old = new ArrayList<>(list);
+		list.clear();
+
+		assertEquals(0, list.size());
+		assertEquals(1, tracker.count);
+		assertDiffApplies(old);
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void testGetIntOutOfBounds() {
+		list.getInt(3);
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void testAddIntOutOfBounds() {
+		list.addInt(4, 0);
+	}
+
+	@Test
+	public void testRealmChecks() {
+		RealmTester.exerciseCurrent(() -> {
+			WritableIntList list = new WritableIntList();
+			list.addInt(0);
+			list.setInt(0, 1);
+			list.removeInt(0);
+		});
+	}
+
+	private void assertDiffApplies(List<Integer> old) {
+		tracker.event.diff.applyTo(old);
+		assertEquals(list, old);
+	}
+}
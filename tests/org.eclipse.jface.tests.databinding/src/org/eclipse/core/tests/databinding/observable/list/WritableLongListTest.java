@@ -0,0 +1,134 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.core.tests.databinding.observable.list;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.core.databinding.observable.Realm;
+import org.eclipse.core.databinding.observable.list.WritableLongList;
+import org.eclipse.jface.databinding.conformance.util.CurrentRealm;
+import org.eclipse.jface.databinding.conformance.util.ListChangeEventTracker;
+import org.eclipse.jface.databinding.conformance.util.RealmTester;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for {@link WritableLongList}.
+ */
+public class WritableLongListTest {
+
+	private WritableLongList list;
+	private ListChangeEventTracker<Long> tracker;
+
+	@Before
+	public void setUp() throws Exception {
+		RealmTester.setDefault(new CurrentRealm(true));
+		list = new WritableLongList(Realm.getDefault(), new long[] { 1L, Long.MAX_VALUE, 3L });
+		tracker = ListChangeEventTracker.observe(list);
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		RealmTester.setDefault(null);
+	}
+
+	@Test
+	public void testElementType() {
+		assertEquals(Long.TYPE, list.getElementType());
+	}
+
+	@Test
+	public void testAddLong() {
+		list.addLong(1, -5000000000L);
+		list.addLong(1L);
+
+		assertArrayEquals(new long[] { 1L, -5000000000L, Long.MAX_VALUE, 3L, 1L }, list.toLongArray());
+		assertEquals(2, tracker.count);
+		assertEquals(Long.valueOf(1L), list.get(4));
+	}
+
+	@Test
+	public void testSetLong() {
+		List<Long> old = new ArrayList<>(list);
+		assertEquals(Long.MAX_VALUE, list.setLong(1, -5000000000L));
+
+		assertArrayEquals(new long[] { 1L, -5000000000L, 3L }, list.toLongArray());
+		assertDiffApplies(old);
+	}
+
+	@Test
+	public void testRemoveLong() {
+		List<Long> old = new ArrayList<>(list);
+		assertEquals(1L, list.removeLong(0));
+
+		assertArrayEquals(new long[] { Long.MAX_VALUE, 3L }, list.toLongArray());
+		assertDiffApplies(old);
+	}
+
+	@Test
+	public void testAddAll() {
+		List<Long> old = new ArrayList<>(list);
+		list.addAll(1, Arrays.asList(-5000000000L, 1L));
+
+		assertArrayEquals(new long[] { 1L, -5000000000L, 1L, Long.MAX_VALUE, 3L }, list.toLongArray());
+		assertEquals(1, tracker.count);
+		assertDiffApplies(old);
+	}
+
+	@Test
+	public void testMove() {
+		List<Long> old = new ArrayList<>(list);
+		assertEquals(Long.valueOf(1L), list.move(0, 2));
+
+		assertArrayEquals(new long[] { Long.MAX_VALUE, 3L, 1L }, list.toLongArray());
+		assertDiffApplies(old);
+	}
+
+	@Test
+	public void testClear() {
+		List<Long> old = new ArrayList<>(list);
+		list.clear();
+
+		assertEquals(0, list.size());
+		assertEquals(1, tracker.count);
+		assertDiffApplies(old);
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void testGetLongOutOfBounds() {
+		list.getLong(3);
+	}
+
+	@Test
+	public void testRealmChecks() {
+		RealmTester.exerciseCurrent(() -> {
+			WritableLongList list = new WritableLongList();
+			list.addLong(1L);
+			list.setLong(0, -5000000000L);
+			list.removeLong(0);
+		});
+	}
+
+	private void assertDiffApplies(List<Long> old) {
+		tracker.event.diff.applyTo(old);
+		assertEquals(list, old);
+	}
+}
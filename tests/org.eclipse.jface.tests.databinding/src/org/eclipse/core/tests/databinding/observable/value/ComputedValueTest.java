@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2007 IBM Corporation and others.
+ * Copyright (c) 2006, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -95,6 +95,45 @@ public class ComputedValueTest extends AbstractDefaultRealmTestCase {
 		assertEquals(value.getValue(), cv.getValue());
 	}
 
+	@Test
+	public void testDiamondIsGlitchFree() throws Exception {
+		WritableValue<Integer> a = new WritableValue<>(1, null);
+		IObservableValue<Integer> b = ComputedValue.create(() -> a.getValue() + 1);
+		IObservableValue<Integer> c = ComputedValue.create(() -> a.getValue() * 2);
+		int[] calculations = new int[1];
+		IObservableValue<Integer> d = ComputedValue.create(() -> {
+			calculations[0]++;
+			return b.getValue() + c.getValue();
+		});
+		List<Integer> seen = new ArrayList<>();
+		// reading d while b notifies its listeners must not see the old c
+		b.addValueChangeListener(event -> seen.add(d.getValue()));
+		d.addValueChangeListener(event -> seen.add(event.diff.getNewValue()));
+		assertEquals(Integer.valueOf(4), d.getValue());
+		calculations[0] = 0;
+
+		a.setValue(2);
+
+		assertEquals(List.of(7, 7), seen);
+		assertEquals(1, calculations[0]);
+	}
+
+	@Test
+	public void testNotifiedOnceForPathsOfDifferentLength() throws Exception {
+		WritableValue<Integer> a = new WritableValue<>(1, null);
+		IObservableValue<Integer> b = ComputedValue.create(() -> a.getValue() + 1);
+		IObservableValue<Integer> c = ComputedValue.create(() -> b.getValue() + 1);
+		IObservableValue<Integer> d = ComputedValue.create(() -> a.getValue() + c.getValue());
+		List<Integer> seen = new ArrayList<>();
+		d.addValueChangeListener(event -> seen.add(event.diff.getNewValue()));
+
+		a.setValue(2);
+		seen.clear();
+		a.setValue(3);
+
+		assertEquals(List.of(8), seen);
+	}
+
 	private static class WritableValueExt<E> extends WritableValue<E> {
 		public WritableValueExt(Object valueType, E initialValue) {
 			super(initialValue, valueType);
@@ -0,0 +1,150 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.core.tests.databinding.observable.value;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.eclipse.core.databinding.Binding;
+import org.eclipse.core.databinding.DataBindingContext;
+import org.eclipse.core.databinding.observable.value.WritableBooleanValue;
+import org.eclipse.core.databinding.observable.value.WritableDoubleValue;
+import org.eclipse.core.databinding.observable.value.WritableIntValue;
+import org.eclipse.core.databinding.observable.value.WritableLongValue;
+import org.eclipse.core.databinding.observable.value.WritableValue;
+import org.eclipse.jface.databinding.conformance.util.CurrentRealm;
+import org.eclipse.jface.databinding.conformance.util.RealmTester;
+import org.eclipse.jface.databinding.conformance.util.ValueChangeEventTracker;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for the primitive specialized writable values.
+ */
+public class WritableIntValueTest {
+
+	@Before
+	public void setUp() throws Exception {
+		RealmTester.setDefault(new CurrentRealm(true));
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		RealmTester.setDefault(null);
+	}
+
+	@Test
+	public void testSetIntValue() {
+		WritableIntValue value = new WritableIntValue(1);
+		ValueChangeEventTracker<Integer> tracker = ValueChangeEventTracker.observe(value);
+
+		value.setIntValue(2);
+
+		assertEquals(2, value.getIntValue());
+		assertEquals(Integer.valueOf(2), value.getValue());
+		assertEquals(1, tracker.count);
+		assertEquals(Integer.valueOf(1), tracker.event.diff.getOldValue());
+		assertEquals(Integer.valueOf(2), tracker.event.diff.getNewValue());
+	}
+
+	@Test
+	public void testSetSameIntValueDoesNotFire() {
+		WritableIntValue value = new WritableIntValue(1000);
+		ValueChangeEventTracker<Integer> tracker = ValueChangeEventTracker.observe(value);
+
+		value.setIntValue(1000);
+
+		assertEquals(0, tracker.count);
+	}
+
+	@Test
+	public void testSetValue() {
+		WritableIntValue value = new WritableIntValue();
+		ValueChangeEventTracker<Integer> tracker = ValueChangeEventTracker.observe(value);
+
+		value.setValue(Integer.valueOf(3));
+
+		assertEquals(3, value.getIntValue());
+		assertEquals(1, tracker.count);
+	}
+
+	@Test
+	public void testValueType() {
+		assertEquals(Integer.TYPE, new WritableIntValue().getValueType());
+		assertEquals(Long.TYPE, new WritableLongValue().getValueType());
+		assertEquals(Double.TYPE, new WritableDoubleValue().getValueType());
+		assertEquals(Boolean.TYPE, new WritableBooleanValue().getValueType());
+	}
+
+	@Test
+	public void testSetLongValue() {
+		WritableLongValue value = new WritableLongValue(Long.MAX_VALUE);
+		ValueChangeEventTracker<Long> tracker = ValueChangeEventTracker.observe(value);
+
+		value.setLongValue(Long.MIN_VALUE);
+
+		assertEquals(Long.MIN_VALUE, value.getLongValue());
+		assertEquals(Long.valueOf(Long.MAX_VALUE), tracker.event.diff.getOldValue());
+	}
+
+	@Test
+	public void testSetDoubleValueNaN() {
+		WritableDoubleValue value = new WritableDoubleValue(Double.NaN);
+		ValueChangeEventTracker<Double> tracker = ValueChangeEventTracker.observe(value);
+
+		value.setDoubleValue(Double.NaN);
+		assertEquals(0, tracker.count);
+
+		value.setDoubleValue(0.5);
+		assertEquals(0.5, value.getDoubleValue(), 0);
+		assertEquals(1, tracker.count);
+	}
+
+	@Test
+	public void testSetBooleanValue() {
+		WritableBooleanValue value = new WritableBooleanValue();
+		ValueChangeEventTracker<Boolean> tracker = ValueChangeEventTracker.observe(value);
+
+		value.setBooleanValue(true);
+
+		assertTrue(value.getBooleanValue());
+		assertEquals(Boolean.TRUE, value.getValue());
+		assertEquals(1, tracker.count);
+	}
+
+	@Test
+	public void testBindToString() {
+		DataBindingContext dbc = new DataBindingContext();
+		WritableValue<String> text = WritableValue.withValueType(String.class);
+		WritableIntValue number = new WritableIntValue(5);
+		Binding binding = dbc.bindValue(text, number);
+
+		assertEquals("5", text.getValue());
+
+		text.setValue("42");
+		assertEquals(42, number.getIntValue());
+
+		number.setIntValue(7);
+		assertEquals("7", text.getValue());
+
+		text.setValue("");
+		assertEquals(7, number.getIntValue());
+		assertFalse(binding.getValidationStatus().getValue().isOK());
+
+		dbc.dispose();
+	}
+}
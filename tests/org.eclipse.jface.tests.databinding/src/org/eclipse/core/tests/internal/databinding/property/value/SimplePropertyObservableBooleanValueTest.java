@@ -0,0 +1,133 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.core.tests.internal.databinding.property.value;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.eclipse.core.databinding.observable.value.IObservableBooleanValue;
+import org.eclipse.core.databinding.observable.value.ValueDiff;
+import org.eclipse.core.databinding.property.INativePropertyListener;
+import org.eclipse.core.databinding.property.ISimplePropertyListener;
+import org.eclipse.core.databinding.property.NativePropertyListener;
+import org.eclipse.core.databinding.property.value.SimpleBooleanValueProperty;
+import org.eclipse.jface.databinding.conformance.util.CurrentRealm;
+import org.eclipse.jface.databinding.conformance.util.RealmTester;
+import org.eclipse.jface.databinding.conformance.util.ValueChangeEventTracker;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class SimplePropertyObservableBooleanValueTest {
+
+	private static class Counter {
+		boolean count;
+		final List<Consumer<Counter>> listeners = new ArrayList<>();
+
+		void setCount(boolean count) {
+			this.count = count;
+			listeners.forEach(listener -> listener.accept(this));
+		}
+	}
+
+	private static class CountProperty extends SimpleBooleanValueProperty<Counter> {
+		@Override
+		protected boolean doGetBooleanValue(Counter source) {
+			return source.count;
+		}
+
+		@Override
+		protected void doSetBooleanValue(Counter source, boolean value) {
+			source.setCount(value);
+		}
+
+		@Override
+		public INativePropertyListener<Counter> adaptListener(
+				ISimplePropertyListener<Counter, ValueDiff<? extends Boolean>> listener) {
+			return new NativePropertyListener<>(this, listener) {
+				private final Consumer<Counter> consumer = source -> fireChange(source, null);
+
+				@Override
+				protected void doAddTo(Counter source) {
+					source.listeners.add(consumer);
+				}
+
+				@Override
+				protected void doRemoveFrom(Counter source) {
+					source.listeners.remove(consumer);
+				}
+			};
+		}
+	}
+
+	private Counter counter;
+	private IObservableBooleanValue observable;
+
+	@Before
+	public void setUp() throws Exception {
+		RealmTester.setDefault(new CurrentRealm(true));
+		counter = new Counter();
+		observable = new CountProperty().observe(counter);
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		observable.dispose();
+		RealmTester.setDefault(null);
+	}
+
+	@Test
+	public void testGetBooleanValue() {
+		counter.setCount(true);
+
+		assertEquals(true, observable.getBooleanValue());
+		assertEquals(Boolean.valueOf(true), observable.getValue());
+		assertEquals(Boolean.TYPE, observable.getValueType());
+	}
+
+	@Test
+	public void testSetBooleanValue() {
+		ValueChangeEventTracker<Boolean> tracker = ValueChangeEventTracker.observe(observable);
+
+		observable.setBooleanValue(true);
+
+		assertEquals(true, counter.count);
+		assertEquals(1, tracker.count);
+		assertEquals(Boolean.valueOf(false), tracker.event.diff.getOldValue());
+		assertEquals(Boolean.valueOf(true), tracker.event.diff.getNewValue());
+	}
+
+	@Test
+	public void testSourceChange() {
+		ValueChangeEventTracker<Boolean> tracker = ValueChangeEventTracker.observe(observable);
+
+		counter.setCount(true);
+		counter.setCount(true);
+
+		assertEquals(1, tracker.count);
+		assertEquals(Boolean.valueOf(true), tracker.event.diff.getNewValue());
+	}
+
+	@Test
+	public void testNullSource() {
+		CountProperty property = new CountProperty();
+
+		assertEquals(false, property.getBooleanValue(null));
+		assertEquals(Boolean.valueOf(false), property.getValue(null));
+	}
+}
@@ -0,0 +1,133 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.core.tests.internal.databinding.property.value;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.eclipse.core.databinding.observable.value.IObservableDoubleValue;
+import org.eclipse.core.databinding.observable.value.ValueDiff;
+import org.eclipse.core.databinding.property.INativePropertyListener;
+import org.eclipse.core.databinding.property.ISimplePropertyListener;
+import org.eclipse.core.databinding.property.NativePropertyListener;
+import org.eclipse.core.databinding.property.value.SimpleDoubleValueProperty;
+import org.eclipse.jface.databinding.conformance.util.CurrentRealm;
+import org.eclipse.jface.databinding.conformance.util.RealmTester;
+import org.eclipse.jface.databinding.conformance.util.ValueChangeEventTracker;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class SimplePropertyObservableDoubleValueTest {
+
+	private static class Counter {
+		double count;
+		final List<Consumer<Counter>> listeners = new ArrayList<>();
+
+		void setCount(double count) {
+			this.count = count;
+			listeners.forEach(listener -> listener.accept(this));
+		}
+	}
+
+	private static class CountProperty extends SimpleDoubleValueProperty<Counter> {
+		@Override
+		protected double doGetDoubleValue(Counter source) {
+			return source.count;
+		}
+
+		@Override
+		protected void doSetDoubleValue(Counter source, double value) {
+			source.setCount(value);
+		}
+
+		@Override
+		public INativePropertyListener<Counter> adaptListener(
+				ISimplePropertyListener<Counter, ValueDiff<? extends Double>> listener) {
+			return new NativePropertyListener<>(this, listener) {
+				private final Consumer<Counter> consumer = source -> fireChange(source, null);
+
+				@Override
+				protected void doAddTo(Counter source) {
+					source.listeners.add(consumer);
+				}
+
+				@Override
+				protected void doRemoveFrom(Counter source) {
+					source.listeners.remove(consumer);
+				}
+			};
+		}
+	}
+
+	private Counter counter;
+	private IObservableDoubleValue observable;
+
+	@Before
+	public void setUp() throws Exception {
+		RealmTester.setDefault(new CurrentRealm(true));
+		counter = new Counter();
+		observable = new CountProperty().observe(counter);
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		observable.dispose();
+		RealmTester.setDefault(null);
+	}
+
+	@Test
+	public void testGetDoubleValue() {
+		counter.setCount(3.5);
+
+		assertEquals(3.5, observable.getDoubleValue(), 0);
+		assertEquals(Double.valueOf(3.5), observable.getValue());
+		assertEquals(Double.TYPE, observable.getValueType());
+	}
+
+	@Test
+	public void testSetDoubleValue() {
+		ValueChangeEventTracker<Double> tracker = ValueChangeEventTracker.observe(observable);
+
+		observable.setDoubleValue(Double.NaN);
+
+		assertEquals(Double.NaN, counter.count, 0);
+		assertEquals(1, tracker.count);
+		assertEquals(Double.valueOf(0.0), tracker.event.diff.getOldValue());
+		assertEquals(Double.valueOf(Double.NaN), tracker.event.diff.getNewValue());
+	}
+
+	@Test
+	public void testSourceChange() {
+		ValueChangeEventTracker<Double> tracker = ValueChangeEventTracker.observe(observable);
+
+		counter.setCount(-0.0);
+		counter.setCount(-0.0);
+
+		assertEquals(1, tracker.count);
+		assertEquals(Double.valueOf(-0.0), tracker.event.diff.getNewValue());
+	}
+
+	@Test
+	public void testNullSource() {
+		CountProperty property = new CountProperty();
+
+		assertEquals(0.0, property.getDoubleValue(null), 0);
+		assertEquals(Double.valueOf(0.0), property.getValue(null));
+	}
+}
@@ -0,0 +1,133 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.core.tests.internal.databinding.property.value;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.eclipse.core.databinding.observable.value.IObservableLongValue;
+import org.eclipse.core.databinding.observable.value.ValueDiff;
+import org.eclipse.core.databinding.property.INativePropertyListener;
+import org.eclipse.core.databinding.property.ISimplePropertyListener;
+import org.eclipse.core.databinding.property.NativePropertyListener;
+import org.eclipse.core.databinding.property.value.SimpleLongValueProperty;
+import org.eclipse.jface.databinding.conformance.util.CurrentRealm;
+import org.eclipse.jface.databinding.conformance.util.RealmTester;
+import org.eclipse.jface.databinding.conformance.util.ValueChangeEventTracker;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class SimplePropertyObservableLongValueTest {
+
+	private static class Counter {
+		long count;
+		final List<Consumer<Counter>> listeners = new ArrayList<>();
+
+		void setCount(long count) {
+			this.count = count;
+			listeners.forEach(listener -> listener.accept(this));
+		}
+	}
+
+	private static class CountProperty extends SimpleLongValueProperty<Counter> {
+		@Override
+		protected long doGetLongValue(Counter source) {
+			return source.count;
+		}
+
+		@Override
+		protected void doSetLongValue(Counter source, long value) {
+			source.setCount(value);
+		}
+
+		@Override
+		public INativePropertyListener<Counter> adaptListener(
+				ISimplePropertyListener<Counter, ValueDiff<? extends Long>> listener) {
+			return new NativePropertyListener<>(this, listener) {
+				private final Consumer<Counter> consumer = source -> fireChange(source, null);
+
+				@Override
+				protected void doAddTo(Counter source) {
+					source.listeners.add(consumer);
+				}
+
+				@Override
+				protected void doRemoveFrom(Counter source) {
+					source.listeners.remove(consumer);
+				}
+			};
+		}
+	}
+
+	private Counter counter;
+	private IObservableLongValue observable;
+
+	@Before
+	public void setUp() throws Exception {
+		RealmTester.setDefault(new CurrentRealm(true));
+		counter = new Counter();
+		observable = new CountProperty().observe(counter);
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		observable.dispose();
+		RealmTester.setDefault(null);
+	}
+
+	@Test
+	public void testGetLongValue() {
+		counter.setCount(3000000000L);
+
+		assertEquals(3000000000L, observable.getLongValue());
+		assertEquals(Long.valueOf(3000000000L), observable.getValue());
+		assertEquals(Long.TYPE, observable.getValueType());
+	}
+
+	@Test
+	public void testSetLongValue() {
+		ValueChangeEventTracker<Long> tracker = ValueChangeEventTracker.observe(observable);
+
+		observable.setLongValue(4000000000L);
+
+		assertEquals(4000000000L, counter.count);
+		assertEquals(1, tracker.count);
+		assertEquals(Long.valueOf(0L), tracker.event.diff.getOldValue());
+		assertEquals(Long.valueOf(4000000000L), tracker.event.diff.getNewValue());
+	}
+
+	@Test
+	public void testSourceChange() {
+		ValueChangeEventTracker<Long> tracker = ValueChangeEventTracker.observe(observable);
+
+		counter.setCount(5000000000L);
+		counter.setCount(5000000000L);
+
+		assertEquals(1, tracker.count);
+		assertEquals(Long.valueOf(5000000000L), tracker.event.diff.getNewValue());
+	}
+
+	@Test
+	public void testNullSource() {
+		CountProperty property = new CountProperty();
+
+		assertEquals(0L, property.getLongValue(null));
+		assertEquals(Long.valueOf(0L), property.getValue(null));
+	}
+}
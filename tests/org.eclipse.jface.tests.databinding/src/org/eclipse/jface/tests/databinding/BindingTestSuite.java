@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2016 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -50,6 +50,7 @@ import org.eclipse.core.tests.databinding.observable.ChangeSupportTest;
 import org.eclipse.core.tests.databinding.observable.DecoratingObservableTest;
 import org.eclipse.core.tests.databinding.observable.DiffsTest;
 import org.eclipse.core.tests.databinding.observable.Diffs_ListDiffTests;
+import org.eclipse.core.tests.databinding.observable.ExecutorRealmTest;
 import org.eclipse.core.tests.databinding.observable.ObservableTrackerTest;
 import org.eclipse.core.tests.databinding.observable.ObservablesTest;
 import org.eclipse.core.tests.databinding.observable.RealmTest;
@@ -59,7 +60,11 @@ import org.eclipse.core.tests.databinding.observable.list.ListDiffTest;
 import org.eclipse.core.tests.databinding.observable.list.ListDiffVisitorTest;
 import org.eclipse.core.tests.databinding.observable.list.MultiListTest;
 import org.eclipse.core.tests.databinding.observable.list.ObservableListTest;
+import org.eclipse.core.tests.databinding.observable.list.WritableBooleanListTest;
+import org.eclipse.core.tests.databinding.observable.list.WritableDoubleListTest;
+import org.eclipse.core.tests.databinding.observable.list.WritableIntListTest;
 import org.eclipse.core.tests.databinding.observable.list.WritableListTest;
+import org.eclipse.core.tests.databinding.observable.list.WritableLongListTest;
 import org.eclipse.core.tests.databinding.observable.map.AbstractObservableMapTest;
 import org.eclipse.core.tests.databinding.observable.map.BidiObservableMapTest;
 import org.eclipse.core.tests.databinding.observable.map.CompositeMapTest;
@@ -74,6 +79,7 @@ import org.eclipse.core.tests.databinding.observable.value.ComputedValueTest;
 import org.eclipse.core.tests.databinding.observable.value.DateAndTimeObservableValueTest;
 import org.eclipse.core.tests.databinding.observable.value.DuplexingObservableValueTest;
 import org.eclipse.core.tests.databinding.observable.value.LocalDateTimeObservableValueTest;
+import org.eclipse.core.tests.databinding.observable.value.WritableIntValueTest;
 import org.eclipse.core.tests.databinding.observable.value.WritableValueTest;
 import org.eclipse.core.tests.databinding.util.PolicyTest;
 import org.eclipse.core.tests.databinding.validation.MultiValidatorTest;
@@ -127,6 +133,10 @@ import org.eclipse.core.tests.internal.databinding.observable.masterdetail.Detai
 import org.eclipse.core.tests.internal.databinding.property.value.ListSimpleValueObservableListTest;
 import org.eclipse.core.tests.internal.databinding.property.value.MapSimpleValueObservableMapTest;
 import org.eclipse.core.tests.internal.databinding.property.value.SetSimpleValueObservableMapTest;
+import org.eclipse.core.tests.internal.databinding.property.value.SimplePropertyObservableBooleanValueTest;
+import org.eclipse.core.tests.internal.databinding.property.value.SimplePropertyObservableDoubleValueTest;
+import org.eclipse.core.tests.internal.databinding.property.value.SimplePropertyObservableIntValueTest;
+import org.eclipse.core.tests.internal.databinding.property.value.SimplePropertyObservableLongValueTest;
 import org.eclipse.core.tests.internal.databinding.validation.AbstractStringToNumberValidatorTest;
 import org.eclipse.core.tests.internal.databinding.validation.NumberToByteValidatorTest;
 import org.eclipse.core.tests.internal.databinding.validation.NumberToDoubleValidatorTest;
@@ -147,6 +157,7 @@ import org.eclipse.jface.tests.databinding.scenarios.BindingScenariosTestSuite;
 import org.eclipse.jface.tests.databinding.swt.WidgetObservableThreadTest;
 import org.eclipse.jface.tests.databinding.swt.WidgetPropertiesTest;
 import org.eclipse.jface.tests.databinding.viewers.ObservableListContentProviderTest;
+import org.eclipse.jface.tests.databinding.viewers.ObservableListLazyContentProviderTest;
 import org.eclipse.jface.tests.databinding.viewers.ObservableListTreeContentProviderTest;
 import org.eclipse.jface.tests.databinding.viewers.ObservableMapLabelProviderTest;
 import org.eclipse.jface.tests.databinding.viewers.ObservableSetContentProviderTest;
@@ -215,8 +226,8 @@ import org.junit.runners.Suite.SuiteClasses;
 		DelayedObservableValueTest.class, DetailObservableListTest.class, DetailObservableMapTest.class,
 		DetailObservableSetTest.class, DetailObservableValueTest.class, DifferentRealmsBindingTest.class,
 		Diffs_ListDiffTests.class, DiffsTest.class, DuplexingObservableValueTest.class, EditMaskLexerAndTokenTest.class,
-		EditMaskParserTest.class, GroupObservableValueTest.class, IdentityConverterTest.class, IdentityMapTest.class,
-		IdentitySetTest.class, IntegerToStringConverterTest.class, LabelObservableValueTest.class,
+		EditMaskParserTest.class, ExecutorRealmTest.class, GroupObservableValueTest.class, IdentityConverterTest.class,
+		IdentityMapTest.class, IdentitySetTest.class, IntegerToStringConverterTest.class, LabelObservableValueTest.class,
 		ListBindingTest.class,
 		ListDiffTest.class, ListDiffVisitorTest.class, ListSimpleValueObservableListTest.class,
 		MapEntryObservableValueTest.class, MapSimpleValueObservableMapTest.class, MultiListTest.class,
@@ -228,13 +239,16 @@ import org.junit.runners.Suite.SuiteClasses;
 		NumberToStringConverterTest.class, NumberToUnboundedNumberValidatorTest.class,
 		ObjectToPrimitiveValidatorTest.class, ObservableCollectionContentProviderTest.class,
 		ObservableCollectionTreeContentProviderTest.class, ObservableListContentProviderTest.class,
-		ObservableListTest.class, ObservableListTreeContentProviderTest.class, ObservableMapLabelProviderTest.class,
+		ObservableListLazyContentProviderTest.class, ObservableListTest.class,
+		ObservableListTreeContentProviderTest.class, ObservableMapLabelProviderTest.class,
 		ObservableMapTest.class, ObservableSetContentProviderTest.class, ObservableSetTreeContentProviderTest.class,
 		ObservablesManagerTest.class, ObservablesTest.class, ObservableTrackerTest.class,
 		ObservableValueEditingSupportTest.class, PojoPropertiesTest.class, PolicyTest.class,
 		PreferencePageSupportTest.class, QueueTest.class, RealmTest.class, ScaleObservableValueMaxTest.class,
 		ScaleObservableValueMinTest.class, ScaleObservableValueSelectionTest.class,
-		SetOnlyJavaBeanTest.class, SetSimpleValueObservableMapTest.class,
+		SetOnlyJavaBeanTest.class, SetSimpleValueObservableMapTest.class, SimplePropertyObservableBooleanValueTest.class,
+		SimplePropertyObservableDoubleValueTest.class, SimplePropertyObservableIntValueTest.class,
+		SimplePropertyObservableLongValueTest.class,
 		SideEffectTest.class, SpinnerObservableValueMaxTest.class, SpinnerObservableValueMinTest.class,
 		SpinnerObservableValueSelectionTest.class, StatusToStringConverterTest.class,
 		StringToBooleanConverterTest.class, StringToByteConverterTest.class, StringToByteValidatorTest.class,
@@ -252,7 +266,8 @@ import org.junit.runners.Suite.SuiteClasses;
 		ValidationStatusTest.class, ValueBindingTest.class, ViewerElementMapTest.class, ViewerElementSetTest.class,
 		ViewerElementWrapperTest.class, ViewersObservablesTest.class,
 		ViewerSupportTest.class, WidgetObservableThreadTest.class, WidgetPropertiesTest.class,
-		WizardPageSupportTest.class, WritableListTest.class, WritableMapTest.class, WritableSetTest.class,
-		WritableValueTest.class })
+		WizardPageSupportTest.class, WritableBooleanListTest.class, WritableDoubleListTest.class,
+		WritableIntListTest.class, WritableLongListTest.class, WritableIntValueTest.class, WritableListTest.class,
+		WritableMapTest.class, WritableSetTest.class, WritableValueTest.class })
 public class BindingTestSuite {
 }
\ No newline at end of file
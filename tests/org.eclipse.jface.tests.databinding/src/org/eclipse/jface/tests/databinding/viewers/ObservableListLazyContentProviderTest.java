@@ -0,0 +1,168 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.jface.tests.databinding.viewers;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.BitSet;
+
+import org.eclipse.core.databinding.observable.list.WritableList;
+import org.eclipse.jface.databinding.viewers.ObservableListLazyContentProvider;
+import org.eclipse.jface.tests.databinding.AbstractDefaultRealmTestCase;
+import org.eclipse.jface.viewers.TableViewer;
+import org.eclipse.jface.viewers.TreeViewer;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.widgets.Item;
+import org.eclipse.swt.widgets.Shell;
+import org.eclipse.swt.widgets.Table;
+import org.eclipse.swt.widgets.TableItem;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ObservableListLazyContentProviderTest extends AbstractDefaultRealmTestCase {
+	private Shell shell;
+	private TableViewer viewer;
+	private WritableList<Object> input;
+
+	@Override
+	@Before
+	public void setUp() throws Exception {
+		super.setUp();
+		shell = new Shell();
+		viewer = new TableViewer(shell, SWT.VIRTUAL);
+		viewer.setContentProvider(new ObservableListLazyContentProvider<>());
+
+		input = new WritableList<>();
+		for (int i = 0; i < 10000; i++) {
+			input.add("element " + i);
+		}
+		viewer.setInput(input);
+	}
+
+	@Override
+	@After
+	public void tearDown() throws Exception {
+		shell.dispose();
+		viewer = null;
+		input = null;
+		super.tearDown();
+	}
+
+	@Test
+	public void testItemCount() {
+		assertEquals(10000, viewer.getTable().getItemCount());
+	}
+
+	@Test
+	public void testItemCountAfterChange() {
+		input.add("new");
+		assertEquals(10001, viewer.getTable().getItemCount());
+
+		input.subList(0, 5000).clear();
+		assertEquals(5001, viewer.getTable().getItemCount());
+
+		input.clear();
+		assertEquals(0, viewer.getTable().getItemCount());
+	}
+
+	@Test
+	public void testElementAt() {
+		assertEquals("element 42", viewer.getElementAt(42));
+
+		input.set(42, "replaced");
+		assertEquals("replaced", viewer.getElementAt(42));
+
+		input.add(0, "first");
+		assertEquals("first", viewer.getElementAt(0));
+		assertEquals("replaced", viewer.getElementAt(43));
+	}
+
+	@Test
+	public void testChangeClearsItems() {
+		Table table = viewer.getTable();
+		assertEquals("element 1", table.getItem(1).getText());
+		TableItem item = table.getItem(1);
+
+		input.add(0, "first");
+
+		assertFalse(item.isDisposed());
+		assertEquals(10001, table.getItemCount());
+		// the cleared item fetches its new element when it is accessed
+		assertEquals("element 0", item.getText());
+	}
+
+	@Test
+	public void testChangeDisassociatesItems() {
+		assertEquals("element 1", viewer.getTable().getItem(1).getText());
+		assertEquals(viewer.getTable().getItem(1), viewer.testFindItem("element 1"));
+
+		input.remove(1);
+
+		assertNull(viewer.testFindItem("element 1"));
+		assertEquals("element 2", viewer.getTable().getItem(1).getText());
+	}
+
+	@Test
+	public void testChangeOnlyAccessesFetchedItems() {
+		BitSet accessed = new BitSet();
+		TableViewer countingViewer = new TableViewer(shell, SWT.VIRTUAL) {
+			@Override
+			protected Item doGetItem(int index) {
+				accessed.set(index);
+				return super.doGetItem(index);
+			}
+		};
+		countingViewer.setContentProvider(new ObservableListLazyContentProvider<>());
+		countingViewer.setInput(input);
+		for (int i = 0; i < 3; i++) {
+			assertEquals("element " + i, countingViewer.getTable().getItem(i).getText());
+		}
+		accessed.clear();
+
+		input.add(0, "first");
+		input.set(9000, "replaced");
+
+		// only the items of the rows shown above are touched, no other item is created
+		assertTrue(accessed.toString(), accessed.length() <= 3);
+		assertEquals("first", countingViewer.getTable().getItem(0).getText());
+	}
+
+	@Test
+	public void testSetInput() {
+		WritableList<Object> newInput = new WritableList<>();
+		newInput.add("one");
+		viewer.setInput(newInput);
+		assertEquals(1, viewer.getTable().getItemCount());
+
+		input.add("ignored");
+		assertEquals(1, viewer.getTable().getItemCount());
+	}
+
+	@Test
+	public void testTreeViewer() {
+		TreeViewer treeViewer = new TreeViewer(shell, SWT.VIRTUAL);
+		treeViewer.setContentProvider(new ObservableListLazyContentProvider<>());
+		treeViewer.setUseHashlookup(true);
+		treeViewer.setInput(input);
+		assertEquals(10000, treeViewer.getTree().getItemCount());
+
+		input.remove(0);
+		assertEquals(9999, treeViewer.getTree().getItemCount());
+		assertEquals("element 1", treeViewer.getTree().getItem(0).getText());
+	}
+}
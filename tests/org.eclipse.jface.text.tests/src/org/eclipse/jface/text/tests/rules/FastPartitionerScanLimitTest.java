@@ -0,0 +1,189 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jface.text.tests.rules;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.eclipse.jface.text.BadLocationException;
+import org.eclipse.jface.text.Document;
+import org.eclipse.jface.text.DocumentPartitioningChangedEvent;
+import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.IDocumentExtension3;
+import org.eclipse.jface.text.IDocumentPartitioningListener;
+import org.eclipse.jface.text.IDocumentPartitioningListenerExtension2;
+import org.eclipse.jface.text.IRegion;
+import org.eclipse.jface.text.ITypedRegion;
+import org.eclipse.jface.text.rules.FastPartitioner;
+import org.eclipse.jface.text.rules.IPredicateRule;
+import org.eclipse.jface.text.rules.IToken;
+import org.eclipse.jface.text.rules.MultiLineRule;
+import org.eclipse.jface.text.rules.RuleBasedPartitionScanner;
+import org.eclipse.jface.text.rules.SingleLineRule;
+import org.eclipse.jface.text.rules.Token;
+
+public class FastPartitionerScanLimitTest {
+
+	private static final String COMMENT= "comment";
+	private static final String STRING= "string";
+	private static final String DEFAULT= IDocument.DEFAULT_CONTENT_TYPE;
+	private static final int LIMIT= 1000;
+
+	private static class CountingScanner extends RuleBasedPartitionScanner {
+		int fCount;
+
+		CountingScanner() {
+			IPredicateRule[] rules= new IPredicateRule[] {
+					new MultiLineRule("/*", "*/", new Token(COMMENT)),
+					new MultiLineRule("'", "'", new Token(STRING)),
+					new SingleLineRule("\"", "\"", new Token(STRING), '\\')
+			};
+			setPredicateRules(rules);
+		}
+
+		@Override
+		public int read() {
+			fCount++;
+			return super.read();
+		}
+	}
+
+	private static class PartitioningListener implements IDocumentPartitioningListener, IDocumentPartitioningListenerExtension2 {
+		final List<IRegion> fChanges= new ArrayList<>();
+
+		@Override
+		public void documentPartitioningChanged(IDocument document) {
+		}
+
+		@Override
+		public void documentPartitioningChanged(DocumentPartitioningChangedEvent event) {
+			fChanges.add(event.getChangedRegion(IDocumentExtension3.DEFAULT_PARTITIONING));
+		}
+	}
+
+	private IDocument fDoc;
+	private IDocument fReference;
+	private CountingScanner fScanner;
+	private FastPartitioner fPartitioner;
+
+	@Before
+	public void setUp() {
+		StringBuilder buffer= new StringBuilder();
+		for (int i= 0; i < 5000; i++)
+			buffer.append(i % 3 == 0 ? "code(); /* comment */\n" : i % 3 == 1 ? "s= \"string\";\n" : "x */ y /* z\n");
+		fDoc= new Document(buffer.toString());
+		fReference= new Document(buffer.toString());
+
+		fScanner= new CountingScanner();
+		fPartitioner= new FastPartitioner(fScanner, new String[] { DEFAULT, COMMENT, STRING });
+		fPartitioner.setScanLimit(LIMIT);
+		fDoc.setDocumentPartitioner(fPartitioner);
+		fPartitioner.connect(fDoc);
+
+		FastPartitioner reference= new FastPartitioner(new CountingScanner(), new String[] { DEFAULT, COMMENT, STRING });
+		fReference.setDocumentPartitioner(reference);
+		reference.connect(fReference);
+	}
+
+	@Test
+	public void testBoundedScan() throws BadLocationException {
+		assertTrue(fScanner.fCount < 2 * LIMIT);
+
+		fScanner.fCount= 0;
+		replace(0, 0, "/*");
+		assertTrue(fScanner.fCount < 2 * LIMIT);
+
+		fScanner.fCount= 0;
+		assertEquals(fReference.getContentType(200), fDoc.getContentType(200));
+		assertTrue(fScanner.fCount < 2 * LIMIT);
+
+		assertPartitioning(0, fDoc.getLength());
+	}
+
+	@Test
+	public void testRandomEdits() throws BadLocationException {
+		Random random= new Random(42);
+		String[] texts= new String[] { "/*", "*/", "\"", "\n", "a", "" };
+		for (int i= 0; i < 500; i++) {
+			int offset= random.nextInt(fDoc.getLength() + 1);
+			int length= random.nextInt(Math.min(5, fDoc.getLength() - offset) + 1);
+			replace(offset, length, texts[random.nextInt(texts.length)]);
+
+			if (i % 10 == 0) {
+				offset= random.nextInt(fDoc.getLength() + 1);
+				assertEquals(fReference.getPartition(offset), fDoc.getPartition(offset));
+				assertPartitioning(offset, random.nextInt(fDoc.getLength() - offset + 1));
+			}
+		}
+		assertPartitioning(0, fDoc.getLength());
+	}
+
+	@Test
+	public void testPartitioningEvents() throws BadLocationException {
+		StringBuilder buffer= new StringBuilder();
+		for (int i= 0; i < 5000; i++)
+			buffer.append("a 'b' c\n");
+		fDoc.set(buffer.toString());
+		fReference.set(buffer.toString());
+		assertPartitioning(0, fDoc.getLength());
+
+		PartitioningListener listener= new PartitioningListener();
+		fDoc.addDocumentPartitioningListener(listener);
+
+		// the quote swaps all strings, but only the scanned part is reported
+		replace(0, 0, "'");
+		assertEquals(1, listener.fChanges.size());
+		IRegion change= listener.fChanges.get(0);
+		assertEquals(0, change.getOffset());
+		assertTrue(change.getLength() < 2 * LIMIT);
+
+		// changes in the part that is not yet repartitioned are reported when resuming
+		listener.fChanges.clear();
+		replace(fDoc.getLength() - 1, 0, "x");
+		assertTrue(listener.fChanges.isEmpty());
+
+		int offset= fDoc.getLength() / 2;
+		assertEquals(fReference.getPartition(offset), fDoc.getPartition(offset));
+		assertFalse(listener.fChanges.isEmpty());
+		// all strings changed, so the reported regions must not leave a gap
+		int end= change.getOffset() + change.getLength();
+		for (IRegion region : listener.fChanges) {
+			assertTrue(region.getOffset() <= end);
+			end= Math.max(end, region.getOffset() + region.getLength());
+		}
+		assertTrue(end > offset);
+
+		assertPartitioning(0, fDoc.getLength());
+	}
+
+	private void replace(int offset, int length, String text) throws BadLocationException {
+		fDoc.replace(offset, length, text);
+		fReference.replace(offset, length, text);
+	}
+
+	private void assertPartitioning(int offset, int length) throws BadLocationException {
+		ITypedRegion[] expected= fReference.computePartitioning(offset, length);
+		ITypedRegion[] actual= fDoc.computePartitioning(offset, length);
+		assertEquals(Arrays.asList(expected), Arrays.asList(actual));
+	}
+}
@@ -0,0 +1,169 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jface.text.tests.rules;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import org.eclipse.jface.text.Document;
+import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.rules.EndOfLineRule;
+import org.eclipse.jface.text.rules.ICharacterScanner;
+import org.eclipse.jface.text.rules.IRule;
+import org.eclipse.jface.text.rules.IToken;
+import org.eclipse.jface.text.rules.IWhitespaceDetector;
+import org.eclipse.jface.text.rules.IWordDetector;
+import org.eclipse.jface.text.rules.MultiLineRule;
+import org.eclipse.jface.text.rules.NumberRule;
+import org.eclipse.jface.text.rules.PatternRule;
+import org.eclipse.jface.text.rules.RuleBasedScanner;
+import org.eclipse.jface.text.rules.SingleLineRule;
+import org.eclipse.jface.text.rules.Token;
+import org.eclipse.jface.text.rules.WhitespaceRule;
+import org.eclipse.jface.text.rules.WordPatternRule;
+import org.eclipse.jface.text.rules.WordRule;
+
+public class RuleBasedScannerTest {
+
+	private static final IWordDetector WORD_DETECTOR= new IWordDetector() {
+		@Override
+		public boolean isWordStart(char c) {
+			return Character.isLetter(c);
+		}
+
+		@Override
+		public boolean isWordPart(char c) {
+			return Character.isLetterOrDigit(c);
+		}
+	};
+
+	/**
+	 * Evaluates all rules for every token, like the scanner did before it compiled its rules.
+	 */
+	private static class ReferenceScanner extends RuleBasedScanner {
+		@Override
+		public IToken nextToken() {
+			fTokenOffset= fOffset;
+			fColumn= UNDEFINED;
+			for (IRule rule : fRules) {
+				IToken token= rule.evaluate(this);
+				if (!token.isUndefined())
+					return token;
+			}
+			if (read() == EOF)
+				return Token.EOF;
+			return fDefaultReturnToken;
+		}
+	}
+
+	private static IRule[] createRules() {
+		WordRule words= new WordRule(WORD_DETECTOR, new Token("word"));
+		words.addWord("if", new Token("keyword"));
+		return new IRule[] {
+				new EndOfLineRule("//", new Token("line comment")),
+				new MultiLineRule("/*", "*/", new Token("comment"), (char) 0, true),
+				new SingleLineRule("\"", "\"", new Token("string"), '\\'),
+				new PatternRule("\u00AB", "\u00BB", new Token("guillemets"), (char) 0, false),
+				new SingleLineRule("#", null, new Token("directive")) {
+					{
+						setColumnConstraint(0);
+					}
+				},
+				new WordPatternRule(WORD_DETECTOR, "$", "$", new Token("variable")),
+				new NumberRule(new Token("number")),
+				new WhitespaceRule(new IWhitespaceDetector() {
+					@Override
+					public boolean isWhitespace(char c) {
+						return Character.isWhitespace(c);
+					}
+				}),
+				new SingleLineRule("'", "'", new Token("character")),
+				words
+		};
+	}
+
+	@Test
+	public void testSameTokens() {
+		String[] fragments= new String[] { "//", "/*", "*/", "\"", "\\", "'", "\n", " ", "#", "$a$", "$", "if", "abc", "42", "\u0663", "\u00AB", "\u00BB", "\u00E9", "x" };
+		Random random= new Random(42);
+		StringBuilder buffer= new StringBuilder();
+		for (int i= 0; i < 10000; i++)
+			buffer.append(fragments[random.nextInt(fragments.length)]);
+		IDocument document= new Document(buffer.toString());
+
+		IRule[] rules= createRules();
+		IToken defaultToken= new Token("default");
+		RuleBasedScanner scanner= new RuleBasedScanner();
+		scanner.setRules(rules);
+		scanner.setDefaultReturnToken(defaultToken);
+		RuleBasedScanner reference= new ReferenceScanner();
+		reference.setRules(rules);
+		reference.setDefaultReturnToken(defaultToken);
+
+		for (int offset= 0; offset < document.getLength(); offset+= 997) {
+			scanner.setRange(document, offset, document.getLength() - offset);
+			reference.setRange(document, offset, document.getLength() - offset);
+			IToken expected;
+			do {
+				expected= reference.nextToken();
+				IToken actual= scanner.nextToken();
+				assertSame(expected, actual);
+				assertEquals(reference.getTokenOffset(), scanner.getTokenOffset());
+				assertEquals(reference.getTokenLength(), scanner.getTokenLength());
+			} while (!expected.isEOF());
+		}
+	}
+
+	@Test
+	public void testChangedRules() {
+		IDocument document= new Document("/* 42 */");
+		RuleBasedScanner scanner= new RuleBasedScanner();
+		IToken comment= new Token("comment");
+		IRule[] rules= new IRule[] { new MultiLineRule("/*", "*/", comment) };
+		scanner.setRules(rules);
+		scanner.setRange(document, 0, document.getLength());
+		assertSame(comment, scanner.nextToken());
+
+		IToken number= new Token("number");
+		scanner.setRules(new NumberRule(number));
+		scanner.setRange(document, 3, 2);
+		assertSame(number, scanner.nextToken());
+		assertEquals(2, scanner.getTokenLength());
+	}
+
+	@Test
+	public void testCustomRule() {
+		IDocument document= new Document("a/b");
+		IToken slash= new Token("slash");
+		RuleBasedScanner scanner= new RuleBasedScanner();
+		scanner.setRules(new MultiLineRule("/*", "*/", new Token("comment")), new IRule() {
+			@Override
+			public IToken evaluate(ICharacterScanner characterScanner) {
+				if (characterScanner.read() == '/')
+					return slash;
+				characterScanner.unread();
+				return Token.UNDEFINED;
+			}
+		});
+		scanner.setRange(document, 0, document.getLength());
+		assertTrue(scanner.nextToken().isOther());
+		assertSame(slash, scanner.nextToken());
+		assertEquals(1, scanner.getTokenOffset());
+	}
+}
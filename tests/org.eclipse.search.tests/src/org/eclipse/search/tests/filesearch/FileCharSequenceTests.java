@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2013 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -16,6 +16,7 @@ package org.eclipse.search.tests.filesearch;
 import static org.junit.Assert.assertFalse;
 
 import java.io.IOException;
+import java.nio.CharBuffer;
 import java.nio.charset.StandardCharsets;
 
 import org.junit.After;
@@ -30,6 +31,8 @@ import org.eclipse.core.resources.IFolder;
 import org.eclipse.core.resources.IProject;
 
 import org.eclipse.search.internal.core.text.FileCharSequenceProvider;
+import org.eclipse.search.internal.core.text.BufferedFileCharSequenceProvider;
+import org.eclipse.search.internal.core.text.BufferedFileCharSequenceProvider.WindowedCharSequence;
 import org.eclipse.search.tests.ResourceHelper;
 
 public class FileCharSequenceTests {
@@ -54,7 +57,7 @@ public class FileCharSequenceTests {
 		for (int i= 0; i < 500; i++) {
 			buf.append(TEST_CONTENT);
 		}
-		testForEncoding(buf, StandardCharsets.ISO_8859_1.name());
+		testForEncoding(buf, StandardCharsets.ISO_8859_1.name(), new FileCharSequenceProvider(), CharSequence.class);
 	}
 
 	@Test
@@ -63,7 +66,7 @@ public class FileCharSequenceTests {
 		for (int i= 0; i < 2000; i++) {
 			buf.append(TEST_CONTENT);
 		}
-		testForEncoding(buf, StandardCharsets.UTF_8.name());
+		testForEncoding(buf, StandardCharsets.UTF_8.name(), new FileCharSequenceProvider(), CharSequence.class);
 	}
 
 	@Test
@@ -72,17 +75,67 @@ public class FileCharSequenceTests {
 		for (int i= 0; i < FileCharSequenceProvider.BUFFER_SIZE * 2; i++) {
 			buf.append(TEST_CONTENT);
 		}
-		testForEncoding(buf, StandardCharsets.UTF_16.name());
+		testForEncoding(buf, StandardCharsets.UTF_16.name(), new FileCharSequenceProvider(), CharSequence.class);
 	}
 
-	private void testForEncoding(CharSequence buf, String encoding) throws CoreException, IOException {
+	@Test
+	public void testBufferedFileCharSequence() throws Exception {
+		StringBuilder buf= new StringBuilder();
+		for (int i= 0; i < 500; i++) {
+			buf.append(TEST_CONTENT);
+		}
+		testForEncoding(buf, StandardCharsets.ISO_8859_1.name(), new BufferedFileCharSequenceProvider(), CharBuffer.class);
+	}
+
+	@Test
+	public void testBufferedFileCharSequence2() throws Exception {
+		// larger than the retained buffers
+		StringBuilder buf= new StringBuilder();
+		for (int i= 0; i < 20000; i++) {
+			buf.append(TEST_CONTENT);
+		}
+		testForEncoding(buf, StandardCharsets.UTF_8.name(), new BufferedFileCharSequenceProvider(), CharBuffer.class);
+	}
+
+	@Test
+	public void testBufferedFileCharSequence3() throws Exception {
+		StringBuilder buf= new StringBuilder();
+		for (int i= 0; i < 20000; i++) {
+			buf.append(TEST_CONTENT);
+		}
+		testForEncoding(buf, StandardCharsets.UTF_16.name(), new BufferedFileCharSequenceProvider(), CharBuffer.class);
+	}
+
+	@Test
+	public void testBufferedFileCharSequenceLargeFile() throws Exception {
+		// larger than the buffered files, so it is decoded in windows
+		StringBuilder buf= new StringBuilder();
+		for (int i= 0; i < 60000; i++) {
+			buf.append(TEST_CONTENT);
+		}
+		testForEncoding(buf, StandardCharsets.UTF_8.name(), new BufferedFileCharSequenceProvider(), WindowedCharSequence.class);
+		testForEncoding(buf, StandardCharsets.ISO_8859_1.name(), new BufferedFileCharSequenceProvider(), WindowedCharSequence.class);
+	}
+
+	@Test
+	public void testBufferedFileCharSequenceLargeFileUTF16() throws Exception {
+		StringBuilder buf= new StringBuilder();
+		for (int i= 0; i < 60000; i++) {
+			buf.append(TEST_CONTENT);
+		}
+		// with a byte order mark
+		testForEncoding(buf, StandardCharsets.UTF_16.name(), new BufferedFileCharSequenceProvider(), WindowedCharSequence.class);
+		testForEncoding(buf, StandardCharsets.UTF_16LE.name(), new BufferedFileCharSequenceProvider(), WindowedCharSequence.class);
+	}
+
+	private void testForEncoding(CharSequence buf, String encoding, FileCharSequenceProvider provider, Class<?> expectedType) throws CoreException, IOException {
 		IFolder folder= ResourceHelper.createFolder(fProject.getFolder("folder1"));
 		IFile file1= ResourceHelper.createFile(folder, "file1", buf.toString(), encoding);
 
-		FileCharSequenceProvider provider= new FileCharSequenceProvider();
 		CharSequence cs= null;
 		try {
 			cs= provider.newCharSequence(file1);
+			Assert.assertTrue(encoding + " - " + cs.getClass(), expectedType.isInstance(cs));
 
 			assertEquals(encoding, cs, buf);
 
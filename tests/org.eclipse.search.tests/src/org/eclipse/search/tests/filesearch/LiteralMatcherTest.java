@@ -0,0 +1,83 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.search.tests.filesearch;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import java.nio.CharBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.junit.Test;
+
+import org.eclipse.search.internal.core.text.LiteralMatcher;
+import org.eclipse.search.internal.core.text.PatternConstructor;
+
+public class LiteralMatcherTest {
+
+	@Test
+	public void testCreate() {
+		assertNotNull(LiteralMatcher.create(PatternConstructor.createPattern("hello", true, false)));
+		assertNotNull(LiteralMatcher.create(PatternConstructor.createPattern("hello", false, false)));
+		assertNotNull(LiteralMatcher.create(PatternConstructor.createPattern("hello", true, true)));
+		assertNull(LiteralMatcher.create(PatternConstructor.createPattern("hel*o", true, false)));
+		assertNull(LiteralMatcher.create(PatternConstructor.createPattern("hel.o", true, true)));
+		assertNull(LiteralMatcher.create(PatternConstructor.createPattern("hello", false, true, true, true)));
+		assertNull(LiteralMatcher.create(PatternConstructor.createPattern("", true, false)));
+	}
+
+	@Test
+	public void testSameMatches() {
+		// includes characters with special case folding: Kelvin sign, long s, dotted and dotless i
+		String alphabet= "aAbBkKKsſ SéÉİiıI";
+		Random random= new Random(42);
+		for (int i= 0; i < 20000; i++) {
+			String text= randomString(random, alphabet, random.nextInt(40));
+			String literal= randomString(random, alphabet, 1 + random.nextInt(4));
+			Pattern pattern= PatternConstructor.createPattern(literal, random.nextBoolean(), false);
+			LiteralMatcher matcher= LiteralMatcher.create(pattern);
+
+			List<Integer> expected= new ArrayList<>();
+			Matcher regexMatcher= pattern.matcher(text);
+			while (regexMatcher.find()) {
+				expected.add(Integer.valueOf(regexMatcher.start()));
+			}
+			assertEquals(pattern + " in " + text, expected, find(matcher, text));
+			assertEquals(pattern + " in " + text, expected, find(matcher, CharBuffer.wrap(text.toCharArray())));
+		}
+	}
+
+	private static List<Integer> find(LiteralMatcher matcher, CharSequence text) {
+		List<Integer> matches= new ArrayList<>();
+		int start= 0;
+		while ((start= matcher.find(text, start)) != -1) {
+			matches.add(Integer.valueOf(start));
+			start+= matcher.length();
+		}
+		return matches;
+	}
+
+	private static String randomString(Random random, String alphabet, int length) {
+		StringBuilder buffer= new StringBuilder(length);
+		for (int i= 0; i < length; i++) {
+			buffer.append(alphabet.charAt(random.nextInt(alphabet.length())));
+		}
+		return buffer.toString();
+	}
+}
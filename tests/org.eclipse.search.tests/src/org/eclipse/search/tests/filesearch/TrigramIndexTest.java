@@ -0,0 +1,170 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.search.tests.filesearch;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Random;
+import java.util.regex.Pattern;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IFolder;
+import org.eclipse.core.resources.IProject;
+
+import org.eclipse.search.internal.core.text.PatternConstructor;
+import org.eclipse.search.internal.core.text.TrigramIndex;
+import org.eclipse.search.internal.core.text.TrigramQuery;
+import org.eclipse.search.tests.ResourceHelper;
+
+public class TrigramIndexTest {
+
+	private IProject fProject;
+
+	@Before
+	public void setUp() throws Exception {
+		fProject= ResourceHelper.createProject("my-project"); //$NON-NLS-1$
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		ResourceHelper.deleteProject("my-project"); //$NON-NLS-1$
+	}
+
+	@Test
+	public void testRequiredTrigrams() {
+		assertEquals(3, trigrams("hello", false).length);
+		assertEquals(0, trigrams("he", false).length);
+		assertEquals(2, trigrams("foo*bar", false).length);
+		assertEquals(0, trigrams("a?c", false).length);
+		assertEquals(2, trigrams("foo.*bar", true).length);
+		assertEquals(1, trigrams("abc?def", true).length);
+		assertEquals(1, trigrams("x(abc)+def", true).length);
+		assertEquals(0, trigrams("abc|def", true).length);
+		assertEquals(1, trigrams("[xyz]abc\\d", true).length);
+		assertEquals(0, trigrams("(?x)a b c", true).length);
+		assertArrayEquals(trigrams("Hello", false), trigrams("hELLO", false));
+	}
+
+	@Test
+	public void testCharacterEscapes() throws Exception {
+		long[] expected= trigrams("foo bar", true);
+		assertArrayEquals(expected, trigrams("foo\\x20bar", true));
+		assertArrayEquals(expected, trigrams("foo\\x{20}bar", true));
+		assertArrayEquals(expected, trigrams("foo\\u0020bar", true));
+		assertArrayEquals(expected, trigrams("foo\\040bar", true));
+		assertArrayEquals(expected, trigrams("foo\\0040bar", true));
+		assertArrayEquals(trigrams("fooAbar", true), trigrams("foo\\0101bar", true));
+		// the escaped character is optional
+		assertArrayEquals(trigrams("foo.bar", true), trigrams("foo\\x20?bar", true));
+
+		IFile file= ResourceHelper.createFile(ResourceHelper.createFolder(fProject.getFolder("folder1")), "foo.txt", "foo bar\n");
+		TrigramIndex index= new TrigramIndex(null);
+		index.update(file);
+		IFile[] files= { file };
+		assertArrayEquals(files, filter(index, files, "foo\\x20bar", true));
+		assertArrayEquals(files, filter(index, files, "foo\\x{20}bar", true));
+		assertArrayEquals(files, filter(index, files, "foo\\u0020bar", true));
+		assertArrayEquals(files, filter(index, files, "foo\\0040bar", true));
+		assertArrayEquals(new IFile[0], filter(index, files, "foo\\0101bar", true));
+	}
+
+	@Test
+	public void testFilter() throws Exception {
+		IFolder folder= ResourceHelper.createFolder(fProject.getFolder("folder1"));
+		IFile hello= ResourceHelper.createFile(folder, "hello.txt", "Hello World\n");
+		IFile bye= ResourceHelper.createFile(folder, "bye.txt", "Goodbye\n");
+		IFile notIndexed= ResourceHelper.createFile(folder, "other.txt", "other\n");
+		IFile[] files= { hello, bye, notIndexed };
+
+		TrigramIndex index= new TrigramIndex(null);
+		index.update(hello);
+		index.update(bye);
+
+		assertArrayEquals(new IFile[] { hello, notIndexed }, filter(index, files, "hello", false));
+		assertArrayEquals(new IFile[] { bye, notIndexed }, filter(index, files, "good.*bye", true));
+		assertArrayEquals(files, filter(index, files, "o", false));
+
+		// a changed file is searched until it is indexed again
+		bye.setContents(new ByteArrayInputStream("Hello\n".getBytes(StandardCharsets.UTF_8)), true, false, null);
+		assertArrayEquals(new IFile[] { hello, bye, notIndexed }, filter(index, files, "hello", false));
+		index.update(bye);
+		assertArrayEquals(new IFile[] { hello, bye, notIndexed }, filter(index, files, "hello", false));
+		assertArrayEquals(new IFile[] { notIndexed }, filter(index, files, "goodbye", false));
+	}
+
+	@Test
+	public void testFileWithManyTrigrams() throws Exception {
+		// more distinct trigrams than bits in a filter of a fixed size of 8192 bits
+		Random random= new Random(42);
+		StringBuilder content= new StringBuilder();
+		for (int i= 0; i < 100000; i++) {
+			content.append((char) ('\u4e00' + random.nextInt(20000)));
+		}
+		IFolder folder= ResourceHelper.createFolder(fProject.getFolder("folder1"));
+		IFile file= ResourceHelper.createFile(folder, "large.txt", content.toString(), StandardCharsets.UTF_8.name());
+
+		TrigramIndex index= new TrigramIndex(null);
+		index.update(file);
+		IFile[] files= { file };
+		assertArrayEquals(files, filter(index, files, content.substring(500, 510), false));
+		assertArrayEquals(new IFile[0], filter(index, files, "hello", false));
+	}
+
+	@Test
+	public void testEncodingChangeOfFolder() throws Exception {
+		IFolder folder= ResourceHelper.createFolder(fProject.getFolder("folder1"));
+		folder.setDefaultCharset(StandardCharsets.UTF_8.name(), null);
+		IFile file= folder.getFile("cafe.txt");
+		file.create(new ByteArrayInputStream("caf\u00e9 au lait\n".getBytes(StandardCharsets.UTF_8)), true, null);
+		IFile[] files= { file };
+
+		TrigramIndex index= new TrigramIndex(null);
+		index.start();
+		try {
+			index.join();
+			assertArrayEquals(files, filter(index, files, "caf\u00e9", false));
+			assertArrayEquals(new IFile[0], filter(index, files, "caf\u00c3\u00a9", false));
+
+			// the file has no charset of its own and is decoded with the new charset of the folder
+			folder.setDefaultCharset(StandardCharsets.ISO_8859_1.name(), null);
+			long deadline= System.currentTimeMillis() + 10_000;
+			while (filter(index, files, "caf\u00c3\u00a9", false).length == 0) {
+				assertTrue("Encoding change not indexed", System.currentTimeMillis() < deadline);
+				Thread.sleep(10);
+			}
+			index.join();
+			assertArrayEquals(files, filter(index, files, "caf\u00c3\u00a9", false));
+		} finally {
+			index.stop();
+		}
+	}
+
+	private static long[] trigrams(String pattern, boolean isRegex) {
+		return TrigramQuery.getRequiredTrigrams(PatternConstructor.createPattern(pattern, false, isRegex));
+	}
+
+	private static IFile[] filter(TrigramIndex index, IFile[] files, String pattern, boolean isRegex) {
+		Pattern searchPattern= PatternConstructor.createPattern(pattern, false, isRegex);
+		return index.filter(files, searchPattern, Collections.emptyMap());
+	}
+}
@@ -0,0 +1,145 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.text.quicksearch.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.text.quicksearch.internal.core.LineItem;
+import org.eclipse.text.quicksearch.internal.core.QuickTextQuery;
+import org.eclipse.text.quicksearch.internal.core.QuickTextSearchRequestor;
+import org.eclipse.text.quicksearch.internal.core.QuickTextSearcher;
+import org.eclipse.text.quicksearch.internal.core.priority.DefaultPriorityFunction;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class QuickTextSearcherTest {
+
+	private static final String PROJECT = "QuickTextSearcherTest";
+
+	private static class Requestor extends QuickTextSearchRequestor {
+		final List<LineItem> found = new ArrayList<>();
+		int clears;
+
+		@Override
+		public synchronized void add(LineItem match) {
+			found.add(match);
+		}
+
+		@Override
+		public synchronized void revoke(LineItem line) {
+			found.remove(line);
+		}
+
+		@Override
+		public synchronized void clear() {
+			found.clear();
+			clears++;
+		}
+
+		synchronized List<LineItem> getFound(int minClears) {
+			if (clears < minClears) {
+				return List.of();
+			}
+			List<LineItem> lines = new ArrayList<>(found);
+			lines.sort(Comparator.comparingInt(LineItem::getLineNumber));
+			return lines;
+		}
+	}
+
+	private IProject project;
+	private IFile file;
+	private Requestor requestor;
+	private QuickTextSearcher searcher;
+
+	@Before
+	public void setUp() throws Exception {
+		project = ResourcesPlugin.getWorkspace().getRoot().getProject(PROJECT);
+		project.create(null);
+		project.open(null);
+		file = project.getFile("file.txt");
+		byte[] content = "foo bar\nfoo baz\nqux\n".getBytes(StandardCharsets.UTF_8);
+		file.create(new ByteArrayInputStream(content), true, null);
+		file.setCharset(StandardCharsets.UTF_8.name(), null);
+		requestor = new Requestor();
+		searcher = new QuickTextSearcher(new QuickTextQuery("foo", false), new DefaultPriorityFunction() {
+			@Override
+			public double priority(IResource r) {
+				if (r.getType() == IResource.FILE && !r.getProject().getName().equals(PROJECT)) {
+					return PRIORITY_IGNORE;
+				}
+				return super.priority(r);
+			}
+		}, 1000, requestor);
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		searcher.cancel();
+		project.delete(true, null);
+	}
+
+	@Test
+	public void testRefinedQueryUsesScannedLines() throws Exception {
+		List<LineItem> scanned = waitForLines(0, 2);
+
+		// a forced refinement searches the file again
+		searcher.setQuery(new QuickTextQuery("foo ba", false), true);
+		List<LineItem> refined = waitForLines(1, 2);
+		assertSame(scanned.get(0), refined.get(0));
+		assertSame(scanned.get(1), refined.get(1));
+
+		searcher.setQuery(new QuickTextQuery("foo baz", false), true);
+		refined = waitForLines(2, 1);
+		assertSame(scanned.get(1), refined.get(0));
+	}
+
+	@Test
+	public void testCharsetChangeScansAgain() throws Exception {
+		List<LineItem> scanned = waitForLines(0, 2);
+
+		file.setCharset(StandardCharsets.ISO_8859_1.name(), null);
+		searcher.setQuery(new QuickTextQuery("foo ba", false), true);
+		List<LineItem> rescanned = waitForLines(1, 2);
+		assertNotSame(scanned.get(0), rescanned.get(0));
+		assertEquals(scanned.get(0).getText(), rescanned.get(0).getText());
+	}
+
+	/**
+	 * Waits until the search has been restarted the given number of times, is done and has
+	 * found the given number of lines.
+	 */
+	private List<LineItem> waitForLines(int restarts, int count) throws InterruptedException {
+		long deadline = System.currentTimeMillis() + 10_000;
+		List<LineItem> lines = requestor.getFound(restarts);
+		while (lines.size() != count || !searcher.isDone()) {
+			assertTrue("Search did not finish", System.currentTimeMillis() < deadline);
+			Thread.sleep(10);
+			lines = requestor.getFound(restarts);
+		}
+		return lines;
+	}
+}
@@ -0,0 +1,131 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.text.quicksearch.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.text.quicksearch.internal.core.LineItem;
+import org.eclipse.text.quicksearch.internal.core.ResourceWalker;
+import org.eclipse.text.quicksearch.internal.core.priority.DefaultPriorityFunction;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ResourceWalkerTest {
+
+	private static final String PROJECT = "ResourceWalkerTest";
+	private static final int FILES = 200;
+
+	/**
+	 * Reports every file with the number in its name as priority, after a random delay, and
+	 * suspends after a number of results like the quick search does.
+	 */
+	private static class TestWalker extends ResourceWalker {
+		final List<String> found = new ArrayList<>();
+		final Random random = new Random(42);
+		int maxResults;
+
+		TestWalker() {
+			setPriorityFun(new DefaultPriorityFunction() {
+				@Override
+				public double priority(IResource r) {
+					if (r.getType() == IResource.FILE) {
+						return r.getProject().getName().equals(PROJECT) ? FILES - Integer.parseInt(r.getName()) : PRIORITY_IGNORE;
+					}
+					return super.priority(r);
+				}
+			});
+			init();
+		}
+
+		@Override
+		protected boolean searchIn(IFile f, BooleanSupplier canceled, Consumer<LineItem> results) {
+			int delay;
+			synchronized (random) {
+				delay = random.nextInt(3);
+			}
+			try {
+				Thread.sleep(delay);
+			} catch (InterruptedException e) {
+				return false;
+			}
+			if (canceled.getAsBoolean()) {
+				return false;
+			}
+			results.accept(new LineItem(f, f.getName(), 1, 0));
+			return true;
+		}
+
+		@Override
+		protected void found(LineItem result) {
+			if (found.size() >= maxResults) {
+				suspend();
+			} else {
+				found.add(result.getText());
+			}
+		}
+	}
+
+	private IProject project;
+
+	@Before
+	public void setUp() throws Exception {
+		project = ResourcesPlugin.getWorkspace().getRoot().getProject(PROJECT);
+		project.create(null);
+		project.open(null);
+		for (int i = 0; i < FILES; i++) {
+			project.getFile(String.format("%03d", i)).create(new ByteArrayInputStream(new byte[0]), true, null); //$NON-NLS-1$
+		}
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		project.delete(true, null);
+	}
+
+	@Test
+	public void testOrderAndCutoff() throws Exception {
+		TestWalker walker = new TestWalker();
+		walker.maxResults = 50;
+		walker.schedule();
+		walker.join();
+		assertEquals(50, walker.found.size());
+		for (int i = 0; i < 50; i++) {
+			assertEquals(String.format("%03d", i), walker.found.get(i)); //$NON-NLS-1$
+		}
+		assertFalse(walker.isDone());
+
+		walker.maxResults = FILES;
+		walker.resume();
+		walker.join();
+		assertTrue(walker.isDone());
+		// the result that hit the limit is dropped, like in the quick search
+		assertEquals(FILES - 1, walker.found.size());
+		for (int i = 51; i < FILES; i++) {
+			assertEquals(String.format("%03d", i), walker.found.get(i - 1)); //$NON-NLS-1$
+		}
+	}
+}
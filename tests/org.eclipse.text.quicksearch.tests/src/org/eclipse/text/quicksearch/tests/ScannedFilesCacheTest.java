@@ -0,0 +1,83 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.text.quicksearch.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.text.quicksearch.internal.core.QuickTextQuery;
+import org.eclipse.text.quicksearch.internal.core.ScannedFilesCache;
+import org.eclipse.text.quicksearch.internal.core.ScannedFilesCache.ScannedFile;
+import org.junit.Test;
+
+public class ScannedFilesCacheTest {
+
+	private static final QuickTextQuery QUERY = new QuickTextQuery("foo", false);
+	private static final String UTF_8 = "UTF-8";
+
+	@Test
+	public void testStamp() {
+		ScannedFilesCache cache = new ScannedFilesCache(10_000);
+		IFile file = file("/p/a");
+		ScannedFile scanned = new ScannedFile(1, UTF_8, "foo", QUERY, List.of());
+		cache.put(file, scanned);
+		assertSame(scanned, cache.get(file, 1, UTF_8));
+		assertNull(cache.get(file, 2, UTF_8));
+		assertNull(cache.get(file, 1, UTF_8));
+		assertEquals(0, cache.size());
+	}
+
+	@Test
+	public void testCharset() {
+		ScannedFilesCache cache = new ScannedFilesCache(10_000);
+		IFile file = file("/p/a");
+		ScannedFile scanned = new ScannedFile(1, UTF_8, "foo", QUERY, List.of());
+		cache.put(file, scanned);
+		assertSame(scanned, cache.get(file, 1, UTF_8));
+		assertNull(cache.get(file, 1, "ISO-8859-1"));
+		assertNull(cache.get(file, 1, UTF_8));
+		assertEquals(0, cache.size());
+	}
+
+	@Test
+	public void testLeastRecentlyUsedEviction() {
+		ScannedFilesCache cache = new ScannedFilesCache(1000);
+		String content = "x".repeat(200);
+		IFile a = file("/p/a");
+		IFile b = file("/p/b");
+		IFile c = file("/p/c");
+		cache.put(a, new ScannedFile(1, UTF_8, content, QUERY, List.of()));
+		cache.put(b, new ScannedFile(1, UTF_8, content, QUERY, List.of()));
+		assertNotNull(cache.get(a, 1, UTF_8));
+		cache.put(c, new ScannedFile(1, UTF_8, content, QUERY, List.of()));
+		assertNotNull(cache.get(a, 1, UTF_8));
+		assertNull(cache.get(b, 1, UTF_8));
+		assertNotNull(cache.get(c, 1, UTF_8));
+		assertTrue(cache.size() <= 1000);
+
+		cache.put(b, new ScannedFile(1, UTF_8, "x".repeat(1000), QUERY, List.of()));
+		assertNull(cache.get(b, 1, UTF_8));
+	}
+
+	private static IFile file(String path) {
+		return ResourcesPlugin.getWorkspace().getRoot().getFile(IPath.fromPortableString(path));
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019 Thomas Wolf and others.
+ * Copyright (c) 2019, 2026 Thomas Wolf and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -93,4 +93,28 @@ public class ConfigurableLineTrackerTest extends AbstractLineTrackerTest {
 		lineEndLengths = new int[] { 9 };
 		checkLines(new int[] { 6, 44 });
 	}
+
+	@Test
+	public void testDelimitersAcrossSearchWindows() throws Exception {
+		setLegalDelimiters(DefaultLineTracker.DELIMITERS);
+		// lines around the size of the tracker's search window put the
+		// delimiters at, before and after the window boundaries
+		for (int lineLength= 8188; lineLength < 8195; lineLength++) {
+			String line= "x".repeat(lineLength);
+			set(line + "\r\n" + line + "\r" + line + "\n" + line + "\r\n" + line);
+			lineEndLengths = new int[] { 2, 1, 1, 2 };
+			checkLines(new int[] { lineLength, lineLength, lineLength, lineLength, lineLength });
+		}
+	}
+
+	@Test
+	public void testLongDelimitersAcrossSearchWindows() throws Exception {
+		setLegalDelimiters("{NewLine}", "[NewLine]", "{NewLine}[NewLine]");
+		for (int lineLength= 8180; lineLength < 8195; lineLength++) {
+			String line= "x".repeat(lineLength);
+			set(line + "{NewLine}[NewLine]" + line + "[NewLine]" + line);
+			lineEndLengths = new int[] { 18, 9 };
+			checkLines(new int[] { lineLength, lineLength, lineLength });
+		}
+	}
 }
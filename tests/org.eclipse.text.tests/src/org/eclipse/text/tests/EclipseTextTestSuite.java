@@ -34,13 +34,16 @@ import org.eclipse.text.tests.templates.TemplatesTestSuite;
 		LineTrackerTest4.class,
 		DocumentExtensionTest.class,
 		LineTrackerTest3.class,
+		ParallelLineTrackerTest.class,
 		DocumentTest.class,
 		FindReplaceDocumentAdapterTest.class,
 		PositionUpdatingCornerCasesTest.class,
+		IndexedPositionCategoryTest.class,
 		ExclusivePositionUpdaterTest.class,
 		TextEditTests.class,
 		GapTextTest.class,
 		GapTextStoreTest.class,
+		PieceTableTextStoreTest.class,
 		ChildDocumentTest.class,
 		ProjectionTestSuite.class,
 		LinkTestSuite.class,
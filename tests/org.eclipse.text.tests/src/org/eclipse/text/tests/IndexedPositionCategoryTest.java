@@ -0,0 +1,158 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.text.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.eclipse.jface.text.BadPositionCategoryException;
+import org.eclipse.jface.text.DefaultPositionUpdater;
+import org.eclipse.jface.text.Document;
+import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.Position;
+
+public class IndexedPositionCategoryTest {
+
+	private static final String CATEGORY= "category"; //$NON-NLS-1$
+
+	private Document fDocument;
+
+	@Before
+	public void setUp() throws Exception {
+		fDocument= new Document("x-x-x-x-x-x-x-x-x-x-x");
+		fDocument.setPositionCategoryIndexed(IDocument.DEFAULT_CATEGORY, true);
+	}
+
+	@Test
+	public void testIndexed() throws Exception {
+		assertTrue(fDocument.isPositionCategoryIndexed(IDocument.DEFAULT_CATEGORY));
+		assertFalse(fDocument.isPositionCategoryIndexed(CATEGORY));
+
+		fDocument.addPosition(new Position(4, 2));
+		fDocument.addPosition(new Position(0, 1));
+		fDocument.setPositionCategoryIndexed(IDocument.DEFAULT_CATEGORY, false);
+		assertFalse(fDocument.isPositionCategoryIndexed(IDocument.DEFAULT_CATEGORY));
+		assertEquals(Arrays.asList(new Position(0, 1), new Position(4, 2)), Arrays.asList(fDocument.getPositions(IDocument.DEFAULT_CATEGORY)));
+	}
+
+	@Test(expected= BadPositionCategoryException.class)
+	public void testUndefinedCategory() throws Exception {
+		fDocument.setPositionCategoryIndexed(CATEGORY, true);
+	}
+
+	@Test
+	public void testInsert() throws Exception {
+		fDocument.addPosition(new Position(0, 0));
+		fDocument.addPosition(new Position(0, 1));
+		fDocument.addPosition(new Position(5, 0));
+		fDocument.addPosition(new Position(5, 3));
+
+		fDocument.replace(0, 0, "yy");
+
+		Position[] expected= new Position[] {
+				new Position(2, 1),
+				new Position(2, 0),
+				new Position(7, 3),
+				new Position(7, 0)
+		};
+		assertEquals(Arrays.asList(expected), Arrays.asList(fDocument.getPositions(IDocument.DEFAULT_CATEGORY)));
+	}
+
+	@Test
+	public void testDelete() throws Exception {
+		Position deleted= new Position(3, 2);
+		fDocument.addPosition(new Position(0, 4));
+		fDocument.addPosition(deleted);
+		fDocument.addPosition(new Position(8, 2));
+
+		fDocument.replace(2, 5, "");
+
+		assertTrue(deleted.isDeleted());
+		Position[] expected= new Position[] {
+				new Position(0, 2),
+				new Position(3, 2)
+		};
+		assertEquals(Arrays.asList(expected), Arrays.asList(fDocument.getPositions(IDocument.DEFAULT_CATEGORY)));
+	}
+
+	@Test
+	public void testRandomEdits() throws Exception {
+		Random random= new Random(42);
+		Document reference= new Document(fDocument.get());
+		reference.addPositionCategory(CATEGORY);
+		reference.addPositionUpdater(new DefaultPositionUpdater(CATEGORY) {
+			// a subclass is updated like a custom position updater
+		});
+		fDocument.addPositionCategory(CATEGORY);
+		fDocument.addPositionUpdater(new DefaultPositionUpdater(CATEGORY) {
+			// a subclass is updated like a custom position updater
+		});
+		fDocument.setPositionCategoryIndexed(CATEGORY, true);
+
+		List<Position> expected= new ArrayList<>();
+		List<Position> actual= new ArrayList<>();
+		for (int i= 0; i < 2000; i++) {
+			int length= fDocument.getLength();
+			int offset= random.nextInt(length + 1);
+			if (random.nextInt(3) == 0) {
+				int positionLength= random.nextInt(Math.min(20, length - offset) + 1);
+				String category= random.nextBoolean() ? CATEGORY : IDocument.DEFAULT_CATEGORY;
+				Position position= new Position(offset, positionLength);
+				reference.addPosition(category, position);
+				expected.add(position);
+				position= new Position(offset, positionLength);
+				fDocument.addPosition(category, position);
+				actual.add(position);
+			} else {
+				int replaced= random.nextInt(Math.min(10, length - offset) + 1);
+				String text= "abc".substring(random.nextInt(4)); //$NON-NLS-1$
+				reference.replace(offset, replaced, text);
+				fDocument.replace(offset, replaced, text);
+			}
+
+			for (int j= 0; j < expected.size(); j++) {
+				assertEquals(expected.get(j), actual.get(j));
+				assertEquals(expected.get(j).isDeleted(), actual.get(j).isDeleted());
+			}
+			assertOverlapping(IDocument.DEFAULT_CATEGORY, random);
+			assertOverlapping(CATEGORY, random);
+		}
+	}
+
+	private void assertOverlapping(String category, Random random) throws BadPositionCategoryException {
+		int offset= random.nextInt(fDocument.getLength() + 1);
+		int length= random.nextInt(fDocument.getLength() - offset + 1);
+		Position region= new Position(offset, length);
+		Set<Position> expected= Collections.newSetFromMap(new IdentityHashMap<>());
+		for (Position position : fDocument.getPositions(category)) {
+			if (region.overlapsWith(position.offset, position.length))
+				expected.add(position);
+		}
+		Set<Position> actual= Collections.newSetFromMap(new IdentityHashMap<>());
+		actual.addAll(Arrays.asList(fDocument.getPositions(category, offset, length, true, true)));
+		assertEquals(expected, actual);
+	}
+}
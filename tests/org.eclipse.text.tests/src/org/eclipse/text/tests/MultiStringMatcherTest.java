@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2020 Thomas Wolf and others.
+ * Copyright (c) 2019, 2026 Thomas Wolf and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,8 +15,10 @@ import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThrows;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Random;
 
 import org.junit.Test;
 
@@ -36,6 +38,8 @@ public class MultiStringMatcherTest {
 	private static Match run(TestCharSequence text, int offset, String... needles) {
 		Match result = MultiStringMatcher.indexOf(text, offset, needles);
 		assertEquals("Algorithm backtracked", 0, text.getBackTrack());
+		char[] chars = text.value.toCharArray();
+		assertEquals("Bulk mode differs", result, MultiStringMatcher.create(needles).indexOf(chars, offset, chars.length));
 		return result;
 	}
 
@@ -474,6 +478,46 @@ public class MultiStringMatcherTest {
 		assertEquals("Scanned too far", 5, text.getLastIndex());
 	}
 
+	@Test
+	public void bulk001() throws Exception {
+		char[] text = "xxabcxxabxx".toCharArray();
+		MultiStringMatcher matcher = MultiStringMatcher.create("abc", "ab");
+		test(matcher.indexOf(text, 0, text.length), "abc", 2);
+		test(matcher.indexOf(text, 0, 4), "ab", 2);
+		test(matcher.indexOf(text, 3, text.length), "ab", 7);
+		assertNull(matcher.indexOf(text, 3, 8));
+		List<Match> matches = new ArrayList<>();
+		matcher.find(text, 1, 8, matches::add);
+		testList(matches, "[[ab, 2], [abc, 2]]");
+	}
+
+	@Test
+	public void bulkRandom() throws Exception {
+		Random random = new Random(42);
+		for (int i = 0; i < 500; i++) {
+			String[] needles = new String[1 + random.nextInt(5)];
+			for (int j = 0; j < needles.length; j++) {
+				needles[j] = randomString(random, 1 + random.nextInt(4));
+			}
+			MultiStringMatcher matcher = MultiStringMatcher.create(needles);
+			String text = randomString(random, 200);
+			char[] chars = text.toCharArray();
+			int offset = random.nextInt(text.length());
+			assertEquals(matcher.indexOf(text, offset), matcher.indexOf(chars, offset, chars.length));
+			List<Match> matches = new ArrayList<>();
+			matcher.find(chars, offset, chars.length, matches::add);
+			assertEquals(matcher.find(text, offset), matches);
+		}
+	}
+
+	private static String randomString(Random random, int length) {
+		StringBuilder buffer = new StringBuilder(length);
+		for (int i = 0; i < length; i++) {
+			buffer.append("abc\u00E4".charAt(random.nextInt(4)));
+		}
+		return buffer.toString();
+	}
+
 	private static class TestCharSequence implements CharSequence {
 
 		private final String value;
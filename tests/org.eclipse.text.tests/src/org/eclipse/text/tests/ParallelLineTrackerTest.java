@@ -0,0 +1,163 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.text.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.util.Random;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.eclipse.jface.text.BadLocationException;
+import org.eclipse.jface.text.DefaultLineTracker;
+import org.eclipse.jface.text.Document;
+import org.eclipse.jface.text.DocumentRewriteSession;
+import org.eclipse.jface.text.DocumentRewriteSessionType;
+import org.eclipse.jface.text.GapTextStore;
+import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.IRegion;
+import org.eclipse.jface.text.ParallelLineTracker;
+
+public class ParallelLineTrackerTest {
+
+	private GapTextStore fText;
+	private ParallelLineTracker fTracker;
+
+	@Before
+	public void setUp() {
+		fText= new GapTextStore();
+		fTracker= new ParallelLineTracker();
+		set("x\nx\r\nx\rx\nx\n");
+	}
+
+	@Test
+	public void testSet() throws Exception {
+		assertTrackerEquals(get());
+		assertEquals(6, fTracker.getNumberOfLines());
+		assertEquals("\r\n", fTracker.getLineDelimiter(1));
+		assertEquals("\r", fTracker.getLineDelimiter(2));
+		assertNull(fTracker.getLineDelimiter(5));
+	}
+
+	@Test
+	public void testJoinDelimiters() throws Exception {
+		set("a\rb\nc");
+		assertEquals(3, fTracker.getNumberOfLines());
+
+		replace(2, 1, null);
+		assertEquals(2, fTracker.getNumberOfLines());
+		assertEquals("\r\n", fTracker.getLineDelimiter(0));
+
+		replace(2, 0, "x");
+		assertEquals(3, fTracker.getNumberOfLines());
+		assertEquals("\r", fTracker.getLineDelimiter(0));
+		assertEquals("\n", fTracker.getLineDelimiter(1));
+	}
+
+	@Test
+	public void testLargeText() throws Exception {
+		StringBuilder buffer= new StringBuilder();
+		for (int i= 0; i < 100000; i++)
+			buffer.append(i % 3 == 0 ? "line\r\n" : i % 3 == 1 ? "\r" : "text\n");
+		String text= buffer.toString();
+		set(text);
+		assertTrackerEquals(text);
+
+		replace(text.length() / 2, 1000, "\n\r\n");
+		assertTrackerEquals(get());
+	}
+
+	@Test
+	public void testRandomEdits() throws Exception {
+		Random random= new Random(42);
+		set(randomText(random, 50000));
+		for (int i= 0; i < 500; i++) {
+			int offset= random.nextInt(fText.getLength() + 1);
+			int length= random.nextInt(Math.min(10, fText.getLength() - offset) + 1);
+			replace(offset, length, randomText(random, random.nextInt(5)));
+		}
+		assertTrackerEquals(get());
+	}
+
+	@Test
+	public void testRewriteSession() throws Exception {
+		Random random= new Random(42);
+		set(randomText(random, 50000));
+		for (int i= 0; i < 20; i++) {
+			DocumentRewriteSession session= new DocumentRewriteSession(DocumentRewriteSessionType.SEQUENTIAL) {
+				// subclass to access the constructor
+			};
+			fTracker.startRewriteSession(session);
+			for (int j= 0; j < 50; j++) {
+				int offset= random.nextInt(fText.getLength() + 1);
+				int length= random.nextInt(Math.min(10, fText.getLength() - offset) + 1);
+				replace(offset, length, randomText(random, random.nextInt(5)));
+			}
+			if (i % 5 == 0)
+				assertTrackerEquals(get());
+			fTracker.stopRewriteSession(session, get());
+			assertTrackerEquals(get());
+		}
+	}
+
+	@Test
+	public void testDocument() throws BadLocationException {
+		IDocument document= new Document(new GapTextStore(), new ParallelLineTracker(), "abc\r\n123\r\nxyz");
+		assertEquals(3, document.getNumberOfLines());
+		assertEquals("\r\n", document.getLineDelimiter(1));
+
+		document.replace(4, 0, "\n\r");
+		assertEquals(4, document.getNumberOfLines());
+		assertEquals("\r\n", document.getLineDelimiter(1));
+		assertEquals(2, document.getLineOfOffset(10));
+	}
+
+	private void replace(int offset, int length, String text) throws BadLocationException {
+		fTracker.replace(offset, length, text);
+		fText.replace(offset, length, text);
+	}
+
+	private void set(String text) {
+		fText.set(text);
+		fTracker.set(text);
+	}
+
+	private String get() {
+		return fText.get(0, fText.getLength());
+	}
+
+	private void assertTrackerEquals(String text) throws BadLocationException {
+		DefaultLineTracker expected= new DefaultLineTracker();
+		expected.set(text);
+		assertEquals(expected.getNumberOfLines(), fTracker.getNumberOfLines());
+		for (int line= 0; line < expected.getNumberOfLines(); line++) {
+			IRegion region= expected.getLineInformation(line);
+			IRegion actual= fTracker.getLineInformation(line);
+			assertEquals(region.getOffset(), actual.getOffset());
+			assertEquals(region.getLength(), actual.getLength());
+			assertEquals(expected.getLineDelimiter(line), fTracker.getLineDelimiter(line));
+		}
+		for (int offset= 0; offset <= text.length(); offset+= 7)
+			assertEquals(expected.getLineNumberOfOffset(offset), fTracker.getLineNumberOfOffset(offset));
+	}
+
+	private static String randomText(Random random, int length) {
+		StringBuilder buffer= new StringBuilder(length);
+		for (int i= 0; i < length; i++)
+			buffer.append("ab\r\n".charAt(random.nextInt(4)));
+		return buffer.toString();
+	}
+}
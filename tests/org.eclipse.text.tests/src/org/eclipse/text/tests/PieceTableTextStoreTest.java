@@ -0,0 +1,67 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.text.tests;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import org.eclipse.jface.text.ITextStore;
+import org.eclipse.jface.text.PieceTableTextStore;
+
+public class PieceTableTextStoreTest extends TextStoreTest {
+
+	@Override
+	protected ITextStore createTextStore() {
+		return new PieceTableTextStore();
+	}
+
+	@Test
+	public void testRandomEdits() {
+		Random random= new Random(4711);
+		StringBuilder expected= new StringBuilder("initial content\nof the store\n");
+		PieceTableTextStore store= new PieceTableTextStore(expected.toString());
+		for (int i= 0; i < 5000; i++) {
+			int offset= random.nextInt(expected.length() + 1);
+			int length= random.nextInt(Math.min(10, expected.length() - offset) + 1);
+			String text= random.nextInt(50) == 0 ? "x".repeat(10000) : "abcdef".substring(random.nextInt(6));
+			expected.replace(offset, offset + length, text);
+			store.replace(offset, length, text);
+			if (i % 100 == 0 && expected.length() > 0) {
+				int pos= random.nextInt(expected.length());
+				assertEquals(expected.charAt(pos), store.get(pos));
+			}
+		}
+		assertEquals(expected.length(), store.getLength());
+		assertEquals(expected.toString(), store.get(0, store.getLength()));
+		for (int i= 0; i < expected.length(); i+= 97)
+			assertEquals(expected.charAt(i), store.get(i));
+	}
+
+	@Test
+	public void testTypingAtEnd() {
+		PieceTableTextStore store= new PieceTableTextStore("abc");
+		StringBuilder expected= new StringBuilder("abc");
+		for (int i= 0; i < 100000; i++) {
+			String c= String.valueOf((char) ('a' + i % 26));
+			store.replace(store.getLength(), 0, c);
+			expected.append(c);
+		}
+		assertEquals(expected.toString(), store.get(0, store.getLength()));
+		assertEquals(expected.substring(5000, 70000), store.get(5000, 65000));
+	}
+
+}
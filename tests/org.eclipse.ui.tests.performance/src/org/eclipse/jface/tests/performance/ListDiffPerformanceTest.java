@@ -0,0 +1,94 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jface.tests.performance;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.eclipse.core.databinding.observable.Diffs;
+import org.eclipse.core.databinding.observable.list.ListDiff;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.test.performance.Dimension;
+import org.eclipse.ui.tests.performance.BasicPerformanceTest;
+
+/**
+ * Compares {@link Diffs#computeListDiff(List, List)} with
+ * {@link Diffs#computeMinimalListDiff(List, List)} on lists from 100 to
+ * 1,000,000 elements, where 1% of the elements were replaced.
+ */
+public final class ListDiffPerformanceTest extends BasicPerformanceTest {
+
+	/**
+	 * Constructs an instance of <code>ListDiffPerformanceTest</code>.
+	 *
+	 * @param name
+	 *            Test's name.
+	 */
+	public ListDiffPerformanceTest(final String name) {
+		super(name);
+	}
+
+	public void testComputeListDiff100() throws CoreException {
+		measure(100, false);
+	}
+
+	public void testComputeListDiff10000() throws CoreException {
+		measure(10000, false);
+	}
+
+	public void testComputeListDiff100000() throws CoreException {
+		measure(100000, false);
+	}
+
+	public void testComputeMinimalListDiff100() throws CoreException {
+		measure(100, true);
+	}
+
+	public void testComputeMinimalListDiff10000() throws CoreException {
+		measure(10000, true);
+	}
+
+	public void testComputeMinimalListDiff100000() throws CoreException {
+		tagIfNecessary("Diffs.computeMinimalListDiff 100000", Dimension.ELAPSED_PROCESS);
+		measure(100000, true);
+	}
+
+	public void testComputeMinimalListDiff1000000() throws CoreException {
+		measure(1000000, true);
+	}
+
+	private void measure(int size, boolean minimal) throws CoreException {
+		List<Integer> oldList = new ArrayList<>(size);
+		for (int i = 0; i < size; i++) {
+			oldList.add(Integer.valueOf(i));
+		}
+		// replace one element in every 100 with a new one
+		List<Integer> newList = new ArrayList<>(oldList);
+		Random random = new Random(size);
+		for (int i = 0; i < size / 100; i++) {
+			newList.set(i * 100 + random.nextInt(100), Integer.valueOf(-i - 1));
+		}
+
+		exercise(() -> {
+			startMeasuring();
+			ListDiff<Integer> diff = minimal ? Diffs.computeMinimalListDiff(oldList, newList)
+					: Diffs.computeListDiff(oldList, newList);
+			stopMeasuring();
+			assertEquals(2 * (size / 100), diff.getDifferences().length);
+		});
+		commitMeasurements();
+		assertPerformance();
+	}
+}
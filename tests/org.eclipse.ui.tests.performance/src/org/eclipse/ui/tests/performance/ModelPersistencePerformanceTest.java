@@ -0,0 +1,168 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.ui.tests.performance;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Map;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.e4.ui.internal.workbench.E4BinaryResource;
+import org.eclipse.e4.ui.internal.workbench.E4XMIResource;
+import org.eclipse.e4.ui.internal.workbench.E4XMIResourceFactory;
+import org.eclipse.e4.ui.model.application.MApplication;
+import org.eclipse.e4.ui.model.application.MApplicationFactory;
+import org.eclipse.e4.ui.model.application.ui.advanced.MAdvancedFactory;
+import org.eclipse.e4.ui.model.application.ui.advanced.MPerspective;
+import org.eclipse.e4.ui.model.application.ui.advanced.MPerspectiveStack;
+import org.eclipse.e4.ui.model.application.ui.basic.MBasicFactory;
+import org.eclipse.e4.ui.model.application.ui.basic.MPart;
+import org.eclipse.e4.ui.model.application.ui.basic.MPartSashContainer;
+import org.eclipse.e4.ui.model.application.ui.basic.MPartStack;
+import org.eclipse.e4.ui.model.application.ui.basic.MTrimmedWindow;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.test.performance.Dimension;
+
+/**
+ * Compares loading and saving a large workbench model as XMI with the binary
+ * format of {@link E4BinaryResource}. The model has 10 windows with 10
+ * perspectives of 40 parts each, 4000 parts with persisted state in total.
+ */
+@SuppressWarnings("restriction")
+public final class ModelPersistencePerformanceTest extends BasicPerformanceTest {
+
+	private static final int WINDOWS = 10;
+
+	private static final Map<String, Object> SAVE_OPTIONS = Map.of(E4XMIResource.OPTION_FILTER_PERSIST_STATE,
+			Boolean.TRUE);
+
+	/**
+	 * Constructs an instance of <code>ModelPersistencePerformanceTest</code>.
+	 *
+	 * @param name
+	 *            Test's name.
+	 */
+	public ModelPersistencePerformanceTest(final String name) {
+		super(name);
+	}
+
+	public void testLoadXMI() throws CoreException {
+		measureLoad(false);
+	}
+
+	public void testLoadBinary() throws CoreException {
+		tagIfNecessary("Binary workbench model load", Dimension.ELAPSED_PROCESS);
+		measureLoad(true);
+	}
+
+	public void testSaveXMI() throws CoreException {
+		measureSave(false);
+	}
+
+	public void testSaveBinary() throws CoreException {
+		measureSave(true);
+	}
+
+	private void measureLoad(boolean binary) throws CoreException {
+		Resource source = createResource(binary);
+		source.getContents().add((EObject) createModel());
+		byte[] bytes = save(source).toByteArray();
+
+		exercise(() -> {
+			Resource resource = createResource(binary);
+			startMeasuring();
+			try {
+				resource.load(new ByteArrayInputStream(bytes), null);
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+			stopMeasuring();
+			assertEquals(WINDOWS, ((MApplication) resource.getContents().get(0)).getChildren().size());
+		});
+		commitMeasurements();
+		assertPerformance();
+	}
+
+	private void measureSave(boolean binary) throws CoreException {
+		Resource resource = createResource(binary);
+		resource.getContents().add((EObject) createModel());
+
+		exercise(() -> {
+			startMeasuring();
+			ByteArrayOutputStream out = save(resource);
+			stopMeasuring();
+			assertTrue(out.size() > 0);
+		});
+		commitMeasurements();
+		assertPerformance();
+	}
+
+	private static Resource createResource(boolean binary) {
+		if (binary) {
+			return new E4BinaryResource(URI.createURI("workbench.bin"));
+		}
+		return new E4XMIResourceFactory().createResource(URI.createURI("workbench.xmi"));
+	}
+
+	private static ByteArrayOutputStream save(Resource resource) {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		try {
+			resource.save(out, SAVE_OPTIONS);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		return out;
+	}
+
+	private static MApplication createModel() {
+		MApplication application = MApplicationFactory.INSTANCE.createApplication();
+		application.setElementId("application");
+		for (int w = 0; w < WINDOWS; w++) {
+			MTrimmedWindow window = MBasicFactory.INSTANCE.createTrimmedWindow();
+			window.setElementId("window" + w);
+			application.getChildren().add(window);
+			MPerspectiveStack perspectives = MAdvancedFactory.INSTANCE.createPerspectiveStack();
+			window.getChildren().add(perspectives);
+			for (int p = 0; p < 10; p++) {
+				MPerspective perspective = MAdvancedFactory.INSTANCE.createPerspective();
+				perspective.setElementId("perspective" + p);
+				perspectives.getChildren().add(perspective);
+				MPartSashContainer sash = MBasicFactory.INSTANCE.createPartSashContainer();
+				perspective.getChildren().add(sash);
+				for (int s = 0; s < 4; s++) {
+					MPartStack stack = MBasicFactory.INSTANCE.createPartStack();
+					stack.setContainerData("25");
+					sash.getChildren().add(stack);
+					for (int i = 0; i < 10; i++) {
+						MPart part = MBasicFactory.INSTANCE.createPart();
+						part.setElementId("part" + i);
+						part.setLabel("Part " + i);
+						part.setContributionURI(
+								"bundleclass://org.eclipse.ui.workbench/org.eclipse.ui.internal.e4.compatibility.CompatibilityView");
+						part.getTags().add("View");
+						part.getPersistedState().put("memento", "<?xml version=\"1.0\"?><memento index=\"" + i + "\"/>");
+						stack.getChildren().add(part);
+					}
+					stack.setSelectedElement(stack.getChildren().get(0));
+				}
+			}
+			perspectives.setSelectedElement(perspectives.getChildren().get(0));
+		}
+		return application;
+	}
+}
@@ -0,0 +1,128 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.ui.tests.performance;
+
+import java.util.List;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.e4.ui.model.application.MApplication;
+import org.eclipse.e4.ui.model.application.MApplicationFactory;
+import org.eclipse.e4.ui.model.application.ui.MUIElement;
+import org.eclipse.e4.ui.model.application.ui.advanced.MAdvancedFactory;
+import org.eclipse.e4.ui.model.application.ui.advanced.MPerspective;
+import org.eclipse.e4.ui.model.application.ui.advanced.MPerspectiveStack;
+import org.eclipse.e4.ui.model.application.ui.advanced.MPlaceholder;
+import org.eclipse.e4.ui.model.application.ui.basic.MBasicFactory;
+import org.eclipse.e4.ui.model.application.ui.basic.MPart;
+import org.eclipse.e4.ui.model.application.ui.basic.MPartSashContainer;
+import org.eclipse.e4.ui.model.application.ui.basic.MPartStack;
+import org.eclipse.e4.ui.model.application.ui.basic.MTrimmedWindow;
+import org.eclipse.e4.ui.workbench.modeling.EModelService;
+import org.eclipse.test.performance.Dimension;
+import org.eclipse.ui.PlatformUI;
+
+/**
+ * Compares finding elements with the {@link EModelService} in a window of an
+ * application model, where the search uses the index of the model, with
+ * finding them in the same window outside of an application model, where the
+ * whole window is walked. The window has 20 perspectives with 100 placeholders
+ * each, which reference 200 shared parts, and 1000 parts of its own.
+ */
+public final class ModelServiceFindPerformanceTest extends BasicPerformanceTest {
+
+	private static final int SHARED_PARTS = 200;
+
+	private static final int LOOKUPS = 1000;
+
+	/**
+	 * Constructs an instance of <code>ModelServiceFindPerformanceTest</code>.
+	 *
+	 * @param name
+	 *            Test's name.
+	 */
+	public ModelServiceFindPerformanceTest(final String name) {
+		super(name);
+	}
+
+	public void testFindIndexed() throws CoreException {
+		tagIfNecessary("Indexed model element lookup", Dimension.ELAPSED_PROCESS);
+		MApplication application = MApplicationFactory.INSTANCE.createApplication();
+		MTrimmedWindow window = createWindow();
+		application.getChildren().add(window);
+		measureFind(window);
+	}
+
+	public void testFindWalking() throws CoreException {
+		measureFind(createWindow());
+	}
+
+	private void measureFind(MTrimmedWindow window) throws CoreException {
+		EModelService modelService = PlatformUI.getWorkbench().getService(EModelService.class);
+		List<String> tags = List.of("tag7");
+
+		exercise(() -> {
+			startMeasuring();
+			for (int i = 0; i < LOOKUPS; i++) {
+				MUIElement found = modelService.find("shared" + (i % SHARED_PARTS), window);
+				assertNotNull(found);
+				List<MPart> parts = modelService.findElements(window, "part" + (i % 5 * 10 + 7), MPart.class,
+						tags);
+				assertFalse(parts.isEmpty());
+			}
+			stopMeasuring();
+		});
+		commitMeasurements();
+		assertPerformance();
+	}
+
+	private static MTrimmedWindow createWindow() {
+		MTrimmedWindow window = MBasicFactory.INSTANCE.createTrimmedWindow();
+		window.setElementId("window");
+		MPart[] shared = new MPart[SHARED_PARTS];
+		for (int i = 0; i < SHARED_PARTS; i++) {
+			shared[i] = MBasicFactory.INSTANCE.createPart();
+			shared[i].setElementId("shared" + i);
+			window.getSharedElements().add(shared[i]);
+		}
+		MPerspectiveStack perspectives = MAdvancedFactory.INSTANCE.createPerspectiveStack();
+		window.getChildren().add(perspectives);
+		for (int p = 0; p < 20; p++) {
+			MPerspective perspective = MAdvancedFactory.INSTANCE.createPerspective();
+			perspective.setElementId("perspective" + p);
+			perspectives.getChildren().add(perspective);
+			MPartSashContainer sash = MBasicFactory.INSTANCE.createPartSashContainer();
+			perspective.getChildren().add(sash);
+			for (int s = 0; s < 5; s++) {
+				MPartStack stack = MBasicFactory.INSTANCE.createPartStack();
+				sash.getChildren().add(stack);
+				for (int i = 0; i < 20; i++) {
+					MPlaceholder placeholder = MAdvancedFactory.INSTANCE.createPlaceholder();
+					placeholder.setElementId(shared[(p * 100 + s * 20 + i) % SHARED_PARTS].getElementId());
+					placeholder.setRef(shared[(p * 100 + s * 20 + i) % SHARED_PARTS]);
+					stack.getChildren().add(placeholder);
+				}
+				if (p < 10) {
+					for (int i = 0; i < 20; i++) {
+						MPart part = MBasicFactory.INSTANCE.createPart();
+						part.setElementId("part" + (s * 20 + i) % 50);
+						part.getTags().add("tag" + i % 10);
+						stack.getChildren().add(part);
+					}
+				}
+			}
+		}
+		perspectives.setSelectedElement(perspectives.getChildren().get(0));
+		return window;
+	}
+}
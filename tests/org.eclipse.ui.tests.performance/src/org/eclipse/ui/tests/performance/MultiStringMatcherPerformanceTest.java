@@ -0,0 +1,154 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.ui.tests.performance;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.jface.text.ConfigurableLineTracker;
+import org.eclipse.jface.text.DefaultLineTracker;
+import org.eclipse.jface.text.MultiStringMatcher;
+import org.eclipse.jface.text.MultiStringMatcher.Match;
+import org.eclipse.test.performance.Dimension;
+
+/**
+ * Compares searching a large document with a {@link MultiStringMatcher} on a
+ * {@link CharSequence} with the bulk mode working directly on a
+ * <code>char[]</code>, and measures the {@link ConfigurableLineTracker} that
+ * searches the line delimiters with the bulk mode.
+ */
+public final class MultiStringMatcherPerformanceTest extends BasicPerformanceTest {
+
+	/**
+	 * The number of lines of the searched document.
+	 */
+	private static final int LINES = 200000;
+
+	private static final String[] SEARCH_STRINGS = { "\r\n", "\n", "\r", "TODO", "FIXME" };
+
+	private String text;
+
+	private char[] chars;
+
+	private MultiStringMatcher matcher;
+
+	/**
+	 * Constructs an instance of <code>MultiStringMatcherPerformanceTest</code>.
+	 *
+	 * @param name
+	 *            Test's name.
+	 */
+	public MultiStringMatcherPerformanceTest(final String name) {
+		super(name);
+	}
+
+	@Override
+	protected void doSetUp() throws Exception {
+		super.doSetUp();
+		StringBuilder buffer = new StringBuilder();
+		for (int i = 0; i < LINES; i++) {
+			buffer.append("\tint value").append(i).append(" = compute(value, ").append(i % 97).append(");");
+			buffer.append(i % 1000 == 0 ? " // TODO check\r\n" : "\n");
+		}
+		text = buffer.toString();
+		chars = text.toCharArray();
+		matcher = MultiStringMatcher.create(SEARCH_STRINGS);
+	}
+
+	/**
+	 * Finds all matches one after the other on a {@link CharSequence}, like
+	 * the line delimiter searches do.
+	 */
+	public void testIndexOfCharSequence() throws CoreException {
+		tagIfNecessary("MultiStringMatcher.indexOf(CharSequence)", Dimension.ELAPSED_PROCESS);
+		exercise(() -> {
+			startMeasuring();
+			int count = 0;
+			Match match = matcher.indexOf(text, 0);
+			while (match != null) {
+				count++;
+				match = matcher.indexOf(text, match.getOffset() + match.getText().length());
+			}
+			stopMeasuring();
+			assertEquals(LINES + LINES / 1000, count);
+		});
+		commitMeasurements();
+		assertPerformance();
+	}
+
+	/**
+	 * Finds all matches one after the other with the bulk mode.
+	 */
+	public void testIndexOfCharArray() throws CoreException {
+		tagIfNecessary("MultiStringMatcher.indexOf(char[])", Dimension.ELAPSED_PROCESS);
+		exercise(() -> {
+			startMeasuring();
+			int count = 0;
+			Match match = matcher.indexOf(chars, 0, chars.length);
+			while (match != null) {
+				count++;
+				match = matcher.indexOf(chars, match.getOffset() + match.getText().length(), chars.length);
+			}
+			stopMeasuring();
+			assertEquals(LINES + LINES / 1000, count);
+		});
+		commitMeasurements();
+		assertPerformance();
+	}
+
+	/**
+	 * Finds all, possibly overlapping, matches on a {@link CharSequence}.
+	 */
+	public void testFindCharSequence() throws CoreException {
+		exercise(() -> {
+			int[] count = new int[1];
+			startMeasuring();
+			matcher.find(text, 0, m -> count[0]++);
+			stopMeasuring();
+			assertEquals(LINES + 3 * (LINES / 1000), count[0]);
+		});
+		commitMeasurements();
+		assertPerformance();
+	}
+
+	/**
+	 * Finds all, possibly overlapping, matches with the bulk mode.
+	 */
+	public void testFindCharArray() throws CoreException {
+		exercise(() -> {
+			int[] count = new int[1];
+			startMeasuring();
+			matcher.find(chars, 0, chars.length, m -> count[0]++);
+			stopMeasuring();
+			assertEquals(LINES + 3 * (LINES / 1000), count[0]);
+		});
+		commitMeasurements();
+		assertPerformance();
+	}
+
+	/**
+	 * Computes the lines of the document with a {@link ConfigurableLineTracker},
+	 * which searches the line delimiters with the bulk mode.
+	 */
+	public void testConfigurableLineTracker() throws CoreException {
+		tagIfNecessary("ConfigurableLineTracker.set(String)", Dimension.ELAPSED_PROCESS);
+		exercise(() -> {
+			ConfigurableLineTracker tracker = new ConfigurableLineTracker(DefaultLineTracker.DELIMITERS);
+			startMeasuring();
+			tracker.set(text);
+			stopMeasuring();
+			assertEquals(LINES + 1, tracker.getNumberOfLines());
+		});
+		commitMeasurements();
+		assertPerformance();
+	}
+}